@@ -17,11 +17,9 @@ import static org.openhab.core.automation.RulePredicates.*;
 import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Collection;
-import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
@@ -40,6 +38,7 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.CacheControl;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
@@ -73,7 +72,6 @@ import org.openhab.core.automation.rest.internal.dto.EnrichedRuleDTO;
 import org.openhab.core.automation.rest.internal.dto.EnrichedRuleDTOMapper;
 import org.openhab.core.automation.util.ModuleBuilder;
 import org.openhab.core.automation.util.RuleBuilder;
-import org.openhab.core.common.registry.RegistryChangedRunnableListener;
 import org.openhab.core.config.core.ConfigUtil;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.events.Event;
@@ -81,11 +79,12 @@ import org.openhab.core.io.rest.DTOMapper;
 import org.openhab.core.io.rest.JSONResponse;
 import org.openhab.core.io.rest.RESTConstants;
 import org.openhab.core.io.rest.RESTResource;
-import org.openhab.core.io.rest.Stream2JSONInputStream;
+import org.openhab.core.io.rest.RegistryChangesDTO;
+import org.openhab.core.io.rest.RegistryRevisions;
+import org.openhab.core.io.rest.Stream2JSONOutput;
 import org.openhab.core.library.types.DateTimeType;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
-import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.jaxrs.whiteboard.JaxrsWhiteboardConstants;
 import org.osgi.service.jaxrs.whiteboard.propertytypes.JSONRequired;
@@ -112,6 +111,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
  * @author Markus Rathgeb - Use DTOs
  * @author Markus Rathgeb - Migrated to JAX-RS Whiteboard Specification
  * @author Wouter Born - Migrated to OpenAPI annotations
+ * @author openHAB Core Team - Use registry revisions for conditional requests
  */
 @Component
 @JaxrsResource
@@ -128,17 +128,16 @@ public class RuleResource implements RESTResource {
     /** The URI path to this resource */
     public static final String PATH_RULES = "rules";
 
+    private static final String SUMMARY_FIELDS = "uid,templateUID,name,visibility,description,status,tags,editable";
+
     private final Logger logger = LoggerFactory.getLogger(RuleResource.class);
 
     private final DTOMapper dtoMapper;
     private final RuleManager ruleManager;
     private final RuleRegistry ruleRegistry;
     private final ManagedRuleProvider managedRuleProvider;
-    private final RegistryChangedRunnableListener<Rule> resetLastModifiedChangeListener = new RegistryChangedRunnableListener<>(
-            () -> cacheableListLastModified = null);
 
     private @Context @NonNullByDefault({}) UriInfo uriInfo;
-    private @Nullable Date cacheableListLastModified = null;
 
     @Activate
     public RuleResource( //
@@ -150,13 +149,6 @@ public class RuleResource implements RESTResource {
         this.ruleManager = ruleManager;
         this.ruleRegistry = ruleRegistry;
         this.managedRuleProvider = managedRuleProvider;
-
-        this.ruleRegistry.addRegistryChangeListener(resetLastModifiedChangeListener);
-    }
-
-    @Deactivate
-    void deactivate() {
-        this.ruleRegistry.removeRegistryChangeListener(resetLastModifiedChangeListener);
     }
 
     @GET
@@ -167,21 +159,18 @@ public class RuleResource implements RESTResource {
     public Response get(@Context SecurityContext securityContext, @Context Request request,
             @QueryParam("prefix") final @Nullable String prefix, @QueryParam("tags") final @Nullable List<String> tags,
             @QueryParam("summary") @Parameter(description = "summary fields only") @Nullable Boolean summary,
-            @DefaultValue("false") @QueryParam("staticDataOnly") @Parameter(description = "provides a cacheable list of values not expected to change regularly and honors the If-Modified-Since header, all other parameters are ignored") boolean staticDataOnly) {
+            @DefaultValue("false") @QueryParam("staticDataOnly") @Parameter(description = "provides a cacheable list of values not expected to change regularly and honors the If-None-Match header, all other parameters are ignored") boolean staticDataOnly) {
         if ((summary == null || !summary) && !securityContext.isUserInRole(Role.ADMIN)) {
             // users may only access the summary
             return JSONResponse.createErrorResponse(Status.UNAUTHORIZED, "Authentication required");
         }
 
         if (staticDataOnly) {
-            if (cacheableListLastModified != null) {
-                Response.ResponseBuilder responseBuilder = request.evaluatePreconditions(cacheableListLastModified);
-                if (responseBuilder != null) {
-                    // send 304 Not Modified
-                    return responseBuilder.build();
-                }
-            } else {
-                cacheableListLastModified = Date.from(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+            EntityTag entityTag = RegistryRevisions.createEntityTag(null, ruleRegistry);
+            Response.ResponseBuilder responseBuilder = RegistryRevisions.evaluatePreconditions(request, entityTag);
+            if (responseBuilder != null) {
+                // send 304 Not Modified
+                return responseBuilder.build();
             }
 
             Stream<EnrichedRuleDTO> rules = ruleRegistry.stream()
@@ -192,8 +181,7 @@ public class RuleResource implements RESTResource {
             cc.setMustRevalidate(true);
             cc.setPrivate(true);
             rules = dtoMapper.limitToFields(rules, "uid,templateUID,name,visibility,description,tags,editable");
-            return Response.ok(new Stream2JSONInputStream(rules)).lastModified(cacheableListLastModified)
-                    .cacheControl(cc).build();
+            return Response.ok(new Stream2JSONOutput(rules)).tag(entityTag).cacheControl(cc).build();
         }
 
         // match all
@@ -212,10 +200,27 @@ public class RuleResource implements RESTResource {
         Stream<EnrichedRuleDTO> rules = ruleRegistry.stream().filter(p) // filter according to Predicates
                 .map(rule -> EnrichedRuleDTOMapper.map(rule, ruleManager, managedRuleProvider)); // map matching rules
         if (summary != null && summary) {
-            rules = dtoMapper.limitToFields(rules, "uid,templateUID,name,visibility,description,status,tags,editable");
+            rules = dtoMapper.limitToFields(rules, SUMMARY_FIELDS);
         }
 
-        return Response.ok(new Stream2JSONInputStream(rules)).build();
+        return Response.ok(new Stream2JSONOutput(rules)).build();
+    }
+
+    @GET
+    @RolesAllowed({ Role.USER, Role.ADMIN })
+    @Path("/changes/{revision: [0-9]+}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "getRuleChanges", summary = "Get the rules changed since the given revision of the rule registry.", responses = {
+            @ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = RegistryChangesDTO.class))),
+            @ApiResponse(responseCode = "410", description = "Changes are not available, all rules have to be reloaded.") })
+    public Response getChanges(@Context SecurityContext securityContext,
+            @PathParam("revision") @Parameter(description = "revision of the rule registry") long revision) {
+        // users may only access the summary, like in the list of rules
+        String fields = securityContext.isUserInRole(Role.ADMIN) ? null : SUMMARY_FIELDS;
+        return RegistryRevisions.createChangesResponse(ruleRegistry, revision,
+                rule -> dtoMapper.limitToFields(
+                        Stream.of(EnrichedRuleDTOMapper.map(rule, ruleManager, managedRuleProvider)), fields)
+                        .findFirst().orElseThrow());
     }
 
     @POST
@@ -49,7 +49,7 @@ import org.openhab.core.config.core.Configuration;
 import org.openhab.core.io.rest.LocaleService;
 import org.openhab.core.io.rest.RESTConstants;
 import org.openhab.core.io.rest.RESTResource;
-import org.openhab.core.io.rest.Stream2JSONInputStream;
+import org.openhab.core.io.rest.Stream2JSONOutput;
 import org.openhab.core.thing.ThingUID;
 import org.openhab.core.thing.binding.ThingActions;
 import org.openhab.core.thing.binding.ThingActionsScope;
@@ -181,7 +181,7 @@ public class ThingActionsResource implements RESTResource {
             }
         }
 
-        return Response.ok().entity(new Stream2JSONInputStream(actions.stream())).build();
+        return Response.ok().entity(new Stream2JSONOutput(actions.stream())).build();
     }
 
     @POST
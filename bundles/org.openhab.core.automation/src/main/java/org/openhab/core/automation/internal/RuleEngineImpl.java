@@ -72,6 +72,8 @@ import org.openhab.core.automation.type.ModuleTypeRegistry;
 import org.openhab.core.automation.type.Output;
 import org.openhab.core.automation.type.TriggerType;
 import org.openhab.core.automation.util.ReferenceResolver;
+import org.openhab.core.common.LatencyRecorder;
+import org.openhab.core.common.LatencyRecorder.Operation;
 import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.events.Event;
@@ -110,6 +112,7 @@ import org.slf4j.LoggerFactory;
  * @author Benedikt Niehues - change behavior for unregistering ModuleHandler
  * @author Markus Rathgeb - use a managed rule
  * @author Ana Dimova - new reference syntax: list[index], map["key"], bean.field
+ * @author openHAB Core Team - Record the run time with an optional {@link LatencyRecorder}
  */
 @Component(immediate = true, service = { RuleManager.class })
 @NonNullByDefault
@@ -215,6 +218,8 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
      */
     private @Nullable EventPublisher eventPublisher;
 
+    private volatile @Nullable LatencyRecorder latencyRecorder;
+
     private static final String SOURCE = RuleEngineImpl.class.getSimpleName();
 
     private final ModuleHandlerCallback moduleHandlerCallback = new ModuleHandlerCallback() {
@@ -519,6 +524,17 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
         this.eventPublisher = null;
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setLatencyRecorder(LatencyRecorder latencyRecorder) {
+        this.latencyRecorder = latencyRecorder;
+    }
+
+    protected void unsetLatencyRecorder(LatencyRecorder latencyRecorder) {
+        if (this.latencyRecorder == latencyRecorder) {
+            this.latencyRecorder = null;
+        }
+    }
+
     /**
      * This method can be used in order to post events through the openHAB events bus. A common
      * use case is to notify event subscribers about the {@link Rule}'s status change.
@@ -986,6 +1002,8 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
             // change state to RUNNING
             setStatus(ruleUID, new RuleStatusInfo(RuleStatus.RUNNING));
         }
+        LatencyRecorder latencyRecorder = this.latencyRecorder;
+        long start = latencyRecorder == null ? 0 : System.nanoTime();
         try {
             clearContext(ruleUID);
 
@@ -1004,6 +1022,9 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
             logger.error("Failed to execute rule '{}': {}", ruleUID, t.getMessage());
             logger.debug("", t);
         }
+        if (latencyRecorder != null) {
+            latencyRecorder.record(Operation.RULE_RUN, ruleUID, System.nanoTime() - start);
+        }
         // change state to IDLE only if the rule has not been DISABLED.
         synchronized (this) {
             if (getRuleStatus(ruleUID) == RuleStatus.RUNNING) {
@@ -1030,6 +1051,8 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
             // change state to RUNNING
             setStatus(ruleUID, new RuleStatusInfo(RuleStatus.RUNNING));
         }
+        LatencyRecorder latencyRecorder = this.latencyRecorder;
+        long start = latencyRecorder == null ? 0 : System.nanoTime();
         try {
             clearContext(ruleUID);
             if (context != null && !context.isEmpty()) {
@@ -1043,6 +1066,9 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
         } catch (Throwable t) {
             logger.error("Failed to execute rule '{}': ", ruleUID, t);
         }
+        if (latencyRecorder != null) {
+            latencyRecorder.record(Operation.RULE_RUN, ruleUID, System.nanoTime() - start);
+        }
         // change state to IDLE only if the rule has not been DISABLED.
         synchronized (this) {
             if (getRuleStatus(ruleUID) == RuleStatus.RUNNING) {
@@ -13,6 +13,7 @@
 package org.openhab.core.automation.internal;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
@@ -20,6 +21,7 @@ import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 
@@ -101,6 +103,7 @@ import org.slf4j.LoggerFactory;
  * @author Kai Kreuzer - refactored (managed) provider and registry implementation and other fixes
  * @author Benedikt Niehues - added events for rules
  * @author Victor Toni - return only copies of {@link Rule}s
+ * @author openHAB Core Team - Resolve rule templates of rules changed in bulk
  */
 @NonNullByDefault
 @Component(service = RuleRegistry.class, immediate = true)
@@ -421,6 +424,29 @@ public class RuleRegistryImpl extends AbstractRegistry<Rule, String, RuleProvide
         }
     }
 
+    @Override
+    public void addedAll(Provider<Rule> provider, Collection<Rule> elements) {
+        List<Entry<Rule, Rule>> resolvedRules = new ArrayList<>();
+        for (Rule element : elements) {
+            try {
+                Rule resolvedRule = resolveRuleByTemplate(element);
+                if (element != resolvedRule) {
+                    resolvedRules.add(Map.entry(element, resolvedRule));
+                }
+            } catch (IllegalArgumentException e) {
+                logger.debug("Added rule '{}' is invalid", element.getUID(), e);
+            }
+        }
+        super.addedAll(provider, elements);
+        if (!resolvedRules.isEmpty()) {
+            if (provider instanceof ManagedRuleProvider) {
+                resolvedRules.forEach(rules -> update(rules.getValue()));
+            } else {
+                super.updatedAll(provider, resolvedRules);
+            }
+        }
+    }
+
     @Override
     public void updated(Provider<Rule> provider, Rule oldElement, Rule element) {
         String uid = element.getUID();
@@ -442,6 +468,33 @@ public class RuleRegistryImpl extends AbstractRegistry<Rule, String, RuleProvide
         }
     }
 
+    @Override
+    public void updatedAll(Provider<Rule> provider, Collection<Entry<Rule, Rule>> elements) {
+        List<Entry<Rule, Rule>> updatedRules = new ArrayList<>(elements.size());
+        List<Rule> managedRules = new ArrayList<>();
+        for (Entry<Rule, Rule> entry : elements) {
+            Rule element = entry.getValue();
+            String uid = element.getUID();
+            if (!uid.equals(entry.getKey().getUID())) {
+                throw new IllegalArgumentException(
+                        String.format("The rule '%s' is not updated, not matching with any existing rule", uid));
+            }
+            Rule resolvedRule = element;
+            try {
+                resolvedRule = resolveRuleByTemplate(element);
+            } catch (IllegalArgumentException e) {
+                logger.error("The rule '{}' is not updated, the new version is invalid", uid, e);
+            }
+            if (element != resolvedRule && provider instanceof ManagedRuleProvider) {
+                managedRules.add(resolvedRule);
+            } else {
+                updatedRules.add(Map.entry(entry.getKey(), resolvedRule));
+            }
+        }
+        super.updatedAll(provider, updatedRules);
+        managedRules.forEach(this::update);
+    }
+
     @Override
     protected void onAddElement(Rule element) throws IllegalArgumentException {
         String uid = element.getUID();
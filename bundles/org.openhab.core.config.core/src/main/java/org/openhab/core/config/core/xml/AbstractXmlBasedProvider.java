@@ -13,13 +13,13 @@
 package org.openhab.core.config.core.xml;
 
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -27,13 +27,13 @@ import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.registry.Identifiable;
-import org.openhab.core.i18n.LocalizedKey;
 import org.osgi.framework.Bundle;
 
 /**
  * Common base class for XML based providers.
  *
  * @author Simon Kaufmann - Initial contribution, factored out of subclasses
+ * @author openHAB Core Team - Index objects by key and cache localized objects per locale
  *
  * @param <T_ID> the key type, e.g. ThingTypeUID, ChannelUID, URI,...
  * @param <T_OBJECT> the object type, e.g. ThingType, ChannelType, ConfigDescription,...
@@ -41,9 +41,17 @@ import org.osgi.framework.Bundle;
 @NonNullByDefault
 public abstract class AbstractXmlBasedProvider<@NonNull T_ID, @NonNull T_OBJECT extends Identifiable<@NonNull T_ID>> {
 
+    private static final String NO_LOCALE = "";
+
+    private record BundleObject<T>(Bundle bundle, T object) {
+    }
+
     private final Map<Bundle, List<T_OBJECT>> bundleObjectMap = new ConcurrentHashMap<>();
 
-    private final Map<LocalizedKey, T_OBJECT> localizedObjectCache = new ConcurrentHashMap<>();
+    private final Map<T_ID, BundleObject<T_OBJECT>> objectsByKey = new ConcurrentHashMap<>();
+
+    // localized objects by language tag and key
+    private final Map<String, Map<T_ID, T_OBJECT>> localizedObjectCache = new ConcurrentHashMap<>();
 
     /**
      * Create a translated/localized copy of the given object.
@@ -83,6 +91,7 @@ public abstract class AbstractXmlBasedProvider<@NonNull T_ID, @NonNull T_OBJECT
                 .requireNonNull(bundleObjectMap.computeIfAbsent(bundle, k -> new CopyOnWriteArrayList<>()));
         objects.addAll(objectList);
         for (T_OBJECT object : objectList) {
+            objectsByKey.putIfAbsent(object.getUID(), new BundleObject<>(bundle, object));
             // just make sure no old entry remains in the cache
             removeCachedEntries(object);
         }
@@ -96,14 +105,9 @@ public abstract class AbstractXmlBasedProvider<@NonNull T_ID, @NonNull T_OBJECT
      * @return the object if found, <code>null</code> otherwise
      */
     protected final @Nullable T_OBJECT get(T_ID key, @Nullable Locale locale) {
-        for (Entry<Bundle, List<T_OBJECT>> objects : bundleObjectMap.entrySet()) {
-            for (T_OBJECT object : objects.getValue()) {
-                if (key.equals(object.getUID())) {
-                    return acquireLocalizedObject(objects.getKey(), object, locale);
-                }
-            }
-        }
-        return null;
+        BundleObject<T_OBJECT> bundleObject = objectsByKey.get(key);
+        return bundleObject != null ? acquireLocalizedObject(bundleObject.bundle(), bundleObject.object(), locale)
+                : null;
     }
 
     /**
@@ -133,29 +137,41 @@ public abstract class AbstractXmlBasedProvider<@NonNull T_ID, @NonNull T_OBJECT
     public final synchronized void removeAll(Bundle bundle) {
         List<T_OBJECT> objects = bundleObjectMap.remove(bundle);
         if (objects != null) {
-            removeCachedEntries(objects);
+            for (T_OBJECT object : objects) {
+                T_ID key = object.getUID();
+                BundleObject<T_OBJECT> bundleObject = objectsByKey.get(key);
+                if (bundleObject != null && bundleObject.bundle().equals(bundle)) {
+                    objectsByKey.remove(key);
+                    // another module might provide an object with the same key
+                    findObject(key).ifPresent(other -> objectsByKey.put(key, other));
+                }
+                removeCachedEntries(object);
+            }
         }
     }
 
-    private void removeCachedEntries(List<T_OBJECT> objects) {
-        for (T_OBJECT object : objects) {
-            removeCachedEntries(object);
+    private Optional<BundleObject<T_OBJECT>> findObject(T_ID key) {
+        for (Entry<Bundle, List<T_OBJECT>> objects : bundleObjectMap.entrySet()) {
+            for (T_OBJECT object : objects.getValue()) {
+                if (key.equals(object.getUID())) {
+                    return Optional.of(new BundleObject<>(objects.getKey(), object));
+                }
+            }
         }
+        return Optional.empty();
     }
 
     private void removeCachedEntries(T_OBJECT object) {
-        for (Iterator<Entry<LocalizedKey, T_OBJECT>> it = localizedObjectCache.entrySet().iterator(); it.hasNext();) {
-            Entry<LocalizedKey, T_OBJECT> entry = it.next();
-            if (entry.getKey().getKey().equals(object.getUID())) {
-                it.remove();
-            }
+        for (Map<T_ID, T_OBJECT> localizedObjects : localizedObjectCache.values()) {
+            localizedObjects.remove(object.getUID());
         }
     }
 
     private T_OBJECT acquireLocalizedObject(Bundle bundle, T_OBJECT object, @Nullable Locale locale) {
-        final LocalizedKey localizedKey = getLocalizedKey(object, locale);
+        final Map<T_ID, T_OBJECT> localizedObjects = localizedObjectCache
+                .computeIfAbsent(locale != null ? locale.toLanguageTag() : NO_LOCALE, k -> new ConcurrentHashMap<>());
 
-        final @Nullable T_OBJECT cacheEntry = localizedObjectCache.get(localizedKey);
+        final @Nullable T_OBJECT cacheEntry = localizedObjects.get(object.getUID());
         if (cacheEntry != null) {
             return cacheEntry;
         }
@@ -163,14 +179,10 @@ public abstract class AbstractXmlBasedProvider<@NonNull T_ID, @NonNull T_OBJECT
         final @Nullable T_OBJECT localizedObject = localize(bundle, object, locale);
         if (localizedObject != null) {
             T_OBJECT nonNullLocalizedObject = localizedObject;
-            localizedObjectCache.put(localizedKey, nonNullLocalizedObject);
+            localizedObjects.put(object.getUID(), nonNullLocalizedObject);
             return localizedObject;
         } else {
             return object;
         }
     }
-
-    private LocalizedKey getLocalizedKey(T_OBJECT object, @Nullable Locale locale) {
-        return new LocalizedKey(object.getUID(), locale != null ? locale.toLanguageTag() : null);
-    }
 }
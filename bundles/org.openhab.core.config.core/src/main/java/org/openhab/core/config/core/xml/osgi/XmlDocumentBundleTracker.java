@@ -22,8 +22,11 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -53,12 +56,16 @@ import org.slf4j.LoggerFactory;
  * according bundle and added to an {@link XmlDocumentProvider} for further
  * processing. For each module an own {@link XmlDocumentProvider} is created by
  * using the specified {@link XmlDocumentProviderFactory}.
+ * <p>
+ * Bundles containing several XML files are parsed in parallel on a bounded thread pool. The parsed objects are still
+ * added to the {@link XmlDocumentProvider} in the order of the files.
  *
  * @author Michael Grammling - Initial contribution
  * @author Benedikt Niehues - Changed resource handling so that resources can be
  *         patched by fragments.
  * @author Simon Kaufmann - Tracking of remaining bundles
  * @author Markus Rathgeb - Harden the usage
+ * @author openHAB Core Team - Parse documents in parallel
  *
  * @param <T> the result type of the conversion
  */
@@ -95,9 +102,13 @@ public class XmlDocumentBundleTracker<@NonNull T> extends BundleTracker<Bundle>
     }
 
     public static final String THREAD_POOL_NAME = "file-processing";
+    public static final String PARSER_THREAD_POOL_NAME = "file-parsing";
+
+    private static final int MAX_PARSER_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
 
     private final Logger logger = LoggerFactory.getLogger(XmlDocumentBundleTracker.class);
     private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(THREAD_POOL_NAME);
+    private final ExecutorService parser = ThreadPoolManager.getPool(PARSER_THREAD_POOL_NAME);
     private final String xmlDirectory;
     private final XmlDocumentReader<T> xmlDocumentTypeReader;
     private final XmlDocumentProviderFactory<T> xmlDocumentProviderFactory;
@@ -384,25 +395,30 @@ public class XmlDocumentBundleTracker<@NonNull T> extends BundleTracker<Bundle>
     }
 
     private void parseDocuments(Bundle bundle, Collection<URL> filteredPaths) {
+        List<URL> xmlDocumentURLs = new ArrayList<>(filteredPaths);
+        ParseResult<T>[] results = readDocuments(bundle, xmlDocumentURLs);
+        if (results == null) {
+            return;
+        }
+
         int numberOfParsedXmlDocuments = 0;
-        for (URL xmlDocumentURL : filteredPaths) {
-            String moduleName = ReadyMarkerUtils.getIdentifier(bundle);
-            String xmlDocumentFile = xmlDocumentURL.getFile();
-            logger.debug("Reading the XML document '{}' in module '{}'...", xmlDocumentFile, moduleName);
-            try {
-                @Nullable
-                T object = xmlDocumentTypeReader.readFromXML(xmlDocumentURL);
-                if (object != null) {
-                    addingObject(bundle, object);
-                }
-                numberOfParsedXmlDocuments++;
-            } catch (Exception ex) {
+        for (int i = 0; i < results.length; i++) {
+            ParseResult<T> result = results[i];
+            Throwable ex = result.exception();
+            if (ex != null) {
                 // If we are not open, we can stop here.
                 if (withLock(lockOpenState.readLock(), () -> openState != OpenState.OPENED)) {
                     return;
                 }
-                logger.warn("The XML document '{}' in module '{}' could not be parsed: {}", xmlDocumentFile, moduleName,
+                logger.warn("The XML document '{}' in module '{}' could not be parsed: {}",
+                        xmlDocumentURLs.get(i).getFile(), ReadyMarkerUtils.getIdentifier(bundle),
                         ex.getLocalizedMessage(), ex);
+            } else {
+                T object = result.object();
+                if (object != null) {
+                    addingObject(bundle, object);
+                }
+                numberOfParsedXmlDocuments++;
             }
         }
         if (numberOfParsedXmlDocuments > 0) {
@@ -410,6 +426,63 @@ public class XmlDocumentBundleTracker<@NonNull T> extends BundleTracker<Bundle>
         }
     }
 
+    /**
+     * Reads the given documents. The calling thread reads documents itself, while idle threads of the parser pool
+     * help with the remaining documents. So even if the pool is busy, the documents are read without delay.
+     *
+     * @return the results in the order of the given URLs, or <code>null</code> if interrupted
+     */
+    @SuppressWarnings("unchecked")
+    private ParseResult<T> @Nullable [] readDocuments(Bundle bundle, List<URL> xmlDocumentURLs) {
+        ParseResult<T>[] results = new ParseResult[xmlDocumentURLs.size()];
+        AtomicInteger nextIndex = new AtomicInteger();
+        CountDownLatch remaining = new CountDownLatch(results.length);
+        Runnable reader = () -> {
+            int index;
+            while ((index = nextIndex.getAndIncrement()) < results.length) {
+                try {
+                    results[index] = readDocument(bundle, xmlDocumentURLs.get(index));
+                } catch (Error e) {
+                    // keep the slot filled, the error still ends this reader
+                    results[index] = new ParseResult<>(null, e);
+                    throw e;
+                } finally {
+                    remaining.countDown();
+                }
+            }
+        };
+
+        List<Future<?>> helpers = new ArrayList<>();
+        for (int i = 0; i < Math.min(results.length - 1, MAX_PARSER_THREADS); i++) {
+            helpers.add(parser.submit(reader));
+        }
+        try {
+            reader.run();
+            remaining.await();
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            // helpers which did not start yet are not needed anymore
+            helpers.forEach(helper -> helper.cancel(false));
+        }
+    }
+
+    private ParseResult<T> readDocument(Bundle bundle, URL xmlDocumentURL) {
+        logger.debug("Reading the XML document '{}' in module '{}'...", xmlDocumentURL.getFile(),
+                ReadyMarkerUtils.getIdentifier(bundle));
+        try {
+            return new ParseResult<>(xmlDocumentTypeReader.readFromXML(xmlDocumentURL), null);
+        } catch (Exception | LinkageError ex) {
+            // a class used by the document which cannot be loaded only fails this document
+            return new ParseResult<>(null, ex);
+        }
+    }
+
+    private record ParseResult<T>(@Nullable T object, @Nullable Throwable exception) {
+    }
+
     private void registerReadyMarker(Bundle bundle) {
         final String identifier = ReadyMarkerUtils.getIdentifier(bundle);
         if (!bundleReadyMarkerRegistrations.containsKey(identifier)) {
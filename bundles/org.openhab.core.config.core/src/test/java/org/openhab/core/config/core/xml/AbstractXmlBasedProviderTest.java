@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.config.core.xml;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.common.registry.Identifiable;
+import org.osgi.framework.Bundle;
+
+/**
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+public class AbstractXmlBasedProviderTest {
+
+    private record TestObject(String uid, String label) implements Identifiable<String> {
+        @Override
+        public String getUID() {
+            return uid;
+        }
+    }
+
+    private static class TestProvider extends AbstractXmlBasedProvider<String, TestObject> {
+        int localizations;
+
+        @Override
+        protected @Nullable TestObject localize(Bundle bundle, TestObject object, @Nullable Locale locale) {
+            localizations++;
+            return new TestObject(object.uid(), object.label() + "@" + locale);
+        }
+
+        @Nullable
+        TestObject getObject(String uid, @Nullable Locale locale) {
+            return get(uid, locale);
+        }
+    }
+
+    private final Bundle bundle1 = mock(Bundle.class);
+    private final Bundle bundle2 = mock(Bundle.class);
+
+    @Test
+    public void testLocalizedObjectsAreCachedPerLocale() {
+        TestProvider provider = new TestProvider();
+        provider.addAll(bundle1, List.of(new TestObject("a", "A"), new TestObject("b", "B")));
+
+        TestObject german = provider.getObject("a", Locale.GERMAN);
+        assertNotNull(german);
+        assertEquals("A@de", german.label());
+        assertSame(german, provider.getObject("a", Locale.GERMAN));
+        assertEquals(1, provider.localizations);
+
+        TestObject english = provider.getObject("a", Locale.ENGLISH);
+        assertNotNull(english);
+        assertEquals("A@en", english.label());
+        TestObject noLocale = provider.getObject("a", null);
+        assertNotNull(noLocale);
+        assertEquals("A@null", noLocale.label());
+        assertEquals(3, provider.localizations);
+        assertNull(provider.getObject("c", Locale.GERMAN));
+    }
+
+    @Test
+    public void testCacheIsInvalidatedWhenBundleIsRemoved() {
+        TestProvider provider = new TestProvider();
+        provider.addAll(bundle1, List.of(new TestObject("a", "A")));
+        assertNotNull(provider.getObject("a", Locale.GERMAN));
+
+        provider.removeAll(bundle1);
+        assertNull(provider.getObject("a", Locale.GERMAN));
+
+        provider.addAll(bundle1, List.of(new TestObject("a", "Updated")));
+        TestObject updated = provider.getObject("a", Locale.GERMAN);
+        assertNotNull(updated);
+        assertEquals("Updated@de", updated.label());
+    }
+
+    @Test
+    public void testObjectOfOtherBundleIsUsedAfterRemoval() {
+        TestProvider provider = new TestProvider();
+        provider.addAll(bundle1, List.of(new TestObject("a", "First")));
+        provider.addAll(bundle2, List.of(new TestObject("a", "Second")));
+        TestObject first = provider.getObject("a", Locale.GERMAN);
+        assertNotNull(first);
+        assertEquals("First@de", first.label());
+
+        provider.removeAll(bundle1);
+        TestObject second = provider.getObject("a", Locale.GERMAN);
+        assertNotNull(second);
+        assertEquals("Second@de", second.label());
+        assertEquals(1, provider.getAll(Locale.GERMAN).size());
+    }
+}
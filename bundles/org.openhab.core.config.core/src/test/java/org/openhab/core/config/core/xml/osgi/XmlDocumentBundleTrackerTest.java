@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.config.core.xml.osgi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.config.core.xml.util.XmlDocumentReader;
+import org.openhab.core.service.ReadyMarker;
+import org.openhab.core.service.ReadyService;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.converters.ConversionException;
+
+/**
+ * Tests the parallel parsing of the {@link XmlDocumentBundleTracker}.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class XmlDocumentBundleTrackerTest {
+
+    private static final String XML_DIRECTORY = "/OH-INF/thing";
+    private static final String BROKEN_DOCUMENT = "broken";
+    private static final String UNLOADABLE_DOCUMENT = "unloadable";
+
+    private @Mock @NonNullByDefault({}) BundleContext bundleContext;
+    private @Mock @NonNullByDefault({}) Bundle bundle;
+    private @Mock @NonNullByDefault({}) ReadyService readyService;
+    private @Mock @NonNullByDefault({}) XmlDocumentProvider<String> xmlDocumentProvider;
+
+    private final List<String> addedObjects = Collections.synchronizedList(new ArrayList<>());
+    private @NonNullByDefault({}) XmlDocumentBundleTracker<String> tracker;
+
+    private static class TestDocumentReader extends XmlDocumentReader<String> {
+        @Override
+        protected void registerConverters(XStream xstream) {
+        }
+
+        @Override
+        protected void registerAliases(XStream xstream) {
+        }
+
+        @Override
+        public @Nullable String readFromXML(URL xmlURL) throws ConversionException {
+            // vary the parse durations, so that the documents are not finished in their order
+            try {
+                Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            String name = xmlURL.getPath().substring(XML_DIRECTORY.length() + 1);
+            if (name.startsWith(BROKEN_DOCUMENT)) {
+                throw new ConversionException("invalid content in " + name);
+            }
+            if (name.startsWith(UNLOADABLE_DOCUMENT)) {
+                throw new NoClassDefFoundError("org/openhab/binding/test/Missing");
+            }
+            return name;
+        }
+    }
+
+    @BeforeEach
+    public void setup() {
+        when(bundle.getHeaders()).thenReturn(new Hashtable<>());
+        when(bundle.getSymbolicName()).thenReturn("org.openhab.binding.test");
+        when(bundle.getEntry(anyString())).thenAnswer(invocation -> new URL("file:" + invocation.getArgument(0)));
+        doAnswer(invocation -> addedObjects.add(invocation.getArgument(0))).when(xmlDocumentProvider)
+                .addingObject(anyString());
+
+        tracker = new XmlDocumentBundleTracker<>(bundleContext, XML_DIRECTORY, new TestDocumentReader(),
+                b -> xmlDocumentProvider, "test", readyService);
+        tracker.open();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        tracker.close();
+    }
+
+    private void setDocuments(List<String> names) throws MalformedURLException {
+        List<URL> urls = new ArrayList<>();
+        for (String name : names) {
+            urls.add(new URL("file:" + XML_DIRECTORY + "/" + name));
+        }
+        when(bundle.findEntries(XML_DIRECTORY, "*.xml", true)).thenReturn(Collections.enumeration(urls));
+    }
+
+    @Test
+    public void testObjectsAreAddedInTheOrderOfTheDocuments() throws MalformedURLException {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            names.add(String.format("document%03d.xml", i));
+        }
+        setDocuments(names);
+
+        tracker.addingBundle(bundle, null);
+
+        verify(xmlDocumentProvider, timeout(TimeUnit.SECONDS.toMillis(10))).addingFinished();
+        verify(readyService, timeout(TimeUnit.SECONDS.toMillis(10))).markReady(any(ReadyMarker.class));
+        assertEquals(names, addedObjects);
+    }
+
+    @Test
+    public void testDocumentsWhichCannotBeParsedAreSkipped() throws MalformedURLException {
+        setDocuments(List.of("document1.xml", BROKEN_DOCUMENT + "1.xml", "document2.xml", BROKEN_DOCUMENT + "2.xml",
+                "document3.xml"));
+
+        tracker.addingBundle(bundle, null);
+
+        verify(xmlDocumentProvider, timeout(TimeUnit.SECONDS.toMillis(10))).addingFinished();
+        verify(readyService, timeout(TimeUnit.SECONDS.toMillis(10))).markReady(any(ReadyMarker.class));
+        assertEquals(List.of("document1.xml", "document2.xml", "document3.xml"), addedObjects);
+    }
+
+    @Test
+    public void testDocumentsWhichCannotBeLoadedAreSkipped() throws MalformedURLException {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            names.add(String.format("document%02d.xml", i));
+            names.add(String.format(UNLOADABLE_DOCUMENT + "%02d.xml", i));
+        }
+        setDocuments(names);
+
+        tracker.addingBundle(bundle, null);
+
+        verify(xmlDocumentProvider, timeout(TimeUnit.SECONDS.toMillis(10))).addingFinished();
+        verify(readyService, timeout(TimeUnit.SECONDS.toMillis(10))).markReady(any(ReadyMarker.class));
+        assertEquals(names.stream().filter(name -> name.startsWith("document")).toList(), addedObjects);
+    }
+
+    @Test
+    public void testBundleWithOnlyBrokenDocumentsIsMarkedReady() throws MalformedURLException {
+        setDocuments(List.of(BROKEN_DOCUMENT + "1.xml", BROKEN_DOCUMENT + "2.xml"));
+
+        tracker.addingBundle(bundle, null);
+
+        verify(readyService, timeout(TimeUnit.SECONDS.toMillis(10))).markReady(any(ReadyMarker.class));
+        verify(xmlDocumentProvider, never()).addingObject(anyString());
+        verify(xmlDocumentProvider, never()).addingFinished();
+    }
+}
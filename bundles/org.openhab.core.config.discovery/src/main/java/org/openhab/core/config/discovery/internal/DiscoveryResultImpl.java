@@ -12,7 +12,9 @@
  */
 package org.openhab.core.config.discovery.internal;
 
+import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +31,7 @@ import org.openhab.core.thing.ThingUID;
 /**
  *
  * @author Kai Kreuzer - Initial contribution
+ * @author openHAB Core Team - Normalized the property value types
  */
 @NonNullByDefault
 public class DiscoveryResultImpl implements DiscoveryResult {
@@ -163,11 +166,35 @@ public class DiscoveryResultImpl implements DiscoveryResult {
             if (!configurationParameters.contains(e.getKey())) {
                 return Map.entry(e.getKey(), String.valueOf(e.getValue()));
             } else {
-                return e;
+                return Map.entry(e.getKey(), normalizeType(e.getValue()));
             }
         }).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
+    /**
+     * Normalizes the types of the property values of a result which has been restored from the storage.
+     * <p>
+     * The storage restores numbers as {@link Double}, so they are converted to the same {@link BigDecimal} values as
+     * the configuration parameters of a result which has been added at runtime.
+     */
+    void normalizePropertyTypes() {
+        properties = properties.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> normalizeType(e.getValue())));
+    }
+
+    private static Object normalizeType(Object value) {
+        if (value instanceof Number number) {
+            BigDecimal decimal = new BigDecimal(number.toString());
+            if (decimal.scale() > 0) {
+                decimal = decimal.stripTrailingZeros();
+            }
+            return decimal.scale() < 0 ? decimal.setScale(0) : decimal;
+        } else if (value instanceof Collection<?> collection) {
+            return collection.stream().map(DiscoveryResultImpl::normalizeType).toList();
+        }
+        return value;
+    }
+
     /**
      * Sets the flag of this result object.<br>
      * The flag signals e.g. if the result is {@link DiscoveryResultFlag#NEW} or has been marked as
@@ -12,8 +12,6 @@
  */
 package org.openhab.core.config.discovery.internal;
 
-import static org.openhab.core.config.discovery.inbox.InboxPredicates.forThingUID;
-
 import java.net.URI;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -32,6 +30,8 @@ import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -80,8 +80,11 @@ import org.slf4j.LoggerFactory;
  * This implementation uses the {@link DiscoveryServiceRegistry} to register itself as {@link DiscoveryListener} to
  * receive {@link DiscoveryResult} objects automatically from {@link DiscoveryService}s.
  * <p>
- * This implementation does neither handle memory leaks (orphaned listener instances) nor blocked listeners. No
- * performance optimizations have been done (synchronization).
+ * The results are kept in memory and indexed by {@link ThingTypeUID} and bridge, the storage is only read on
+ * activation. Changes are written to the storage in the background, so that several changes of a result (e.g. while
+ * a discovery scan is running) are only serialized once.
+ * <p>
+ * This implementation does neither handle memory leaks (orphaned listener instances) nor blocked listeners.
  *
  * @author Michael Grammling - Initial contribution
  * @author Dennis Nobel - Added automated removing of entries
@@ -90,6 +93,8 @@ import org.slf4j.LoggerFactory;
  * @author Andre Fuechsel - Added removeOlderResults
  * @author Christoph Knauf - Added removeThingsForBridge and getPropsAndConfigParams
  * @author Laurent Garnier - Added parameter newThingId to method approve
+ * @author openHAB Core Team - Added in-memory index and deferred storage writes
+ * @author openHAB Core Team - Update results and index atomically
  */
 @Component(immediate = true, service = Inbox.class)
 @NonNullByDefault
@@ -113,8 +118,11 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
         @Override
         public void run() {
             Instant now = Instant.now();
-            for (DiscoveryResult result : inbox.getAll()) {
-                if (isResultExpired(result, now)) {
+            for (ThingUID thingUID : inbox.expiringResults) {
+                DiscoveryResult result = inbox.get(thingUID);
+                if (result == null || result.getTimeToLive() == DiscoveryResult.TTL_UNLIMITED) {
+                    inbox.removeIfNotExpiring(thingUID);
+                } else if (isResultExpired(result, now)) {
                     logger.debug("Inbox entry for thing '{}' is expired and will be removed.", result.getThingUID());
                     remove(result.getThingUID());
                 }
@@ -130,6 +138,8 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
         }
     }
 
+    private static final long STORAGE_WRITE_DELAY_MS = 1000;
+
     private final Logger logger = LoggerFactory.getLogger(PersistentInbox.class);
 
     private final Set<InboxListener> listeners = new CopyOnWriteArraySet<>();
@@ -140,6 +150,17 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
     private final ConfigDescriptionRegistry configDescRegistry;
     private final Storage<DiscoveryResult> discoveryResultStorage;
     private final Map<DiscoveryResult, Class<?>> resultDiscovererMap = new ConcurrentHashMap<>();
+
+    // the index maps may contain UIDs of removed results, which are skipped on lookup
+    // the index entries of a result are only changed within a compute operation on its map entry
+    private final Map<ThingUID, DiscoveryResult> results = new ConcurrentHashMap<>();
+    private final Map<ThingTypeUID, Set<ThingUID>> resultsByThingType = new ConcurrentHashMap<>();
+    private final Map<ThingUID, Set<ThingUID>> resultsByBridge = new ConcurrentHashMap<>();
+    private final Set<ThingUID> expiringResults = ConcurrentHashMap.newKeySet();
+
+    private final Set<ThingUID> pendingWrites = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean storageWriteScheduled = new AtomicBoolean();
+    private @Nullable ScheduledFuture<?> storageWriter;
     private @NonNullByDefault({}) ScheduledFuture<?> timeToLiveChecker;
     private @NonNullByDefault({}) ScheduledFuture<?> delayedDiscoveryResultProcessor;
 
@@ -164,6 +185,7 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
 
     @Activate
     protected void activate() {
+        loadResults();
         discoveryServiceRegistry.addDiscoveryListener(this);
         thingRegistry.addRegistryChangeListener(this);
         ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("discovery");
@@ -181,18 +203,22 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
         timeToLiveChecker.cancel(true);
         delayedDiscoveryResultProcessor.cancel(true);
         delayedDiscoveryResults.values().forEach(dr -> dr.future.complete(false));
+        ScheduledFuture<?> storageWriter = this.storageWriter;
+        if (storageWriter != null) {
+            storageWriter.cancel(false);
+        }
+        writePendingResults();
     }
 
     @Override
     public @Nullable Thing approve(ThingUID thingUID, @Nullable String label, @Nullable String newThingId) {
-        List<DiscoveryResult> results = stream().filter(forThingUID(thingUID)).toList();
-        if (results.isEmpty()) {
+        DiscoveryResult result = get(thingUID);
+        if (result == null) {
             throw new IllegalArgumentException("No Thing with UID " + thingUID.getAsString() + " in inbox");
         }
         if (newThingId != null && newThingId.contains(AbstractUID.SEPARATOR)) {
             throw new IllegalArgumentException("New Thing ID " + newThingId + " must not contain multiple segments");
         }
-        DiscoveryResult result = results.get(0);
         final Map<String, String> properties = new HashMap<>();
         final Map<String, Object> configParams = new HashMap<>();
         getPropsAndConfigParams(result, properties, configParams);
@@ -227,7 +253,7 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
     private Map<ThingUID, DiscoveryResultWrapper> delayedDiscoveryResults = new ConcurrentHashMap<>();
 
     @Override
-    public synchronized CompletableFuture<Boolean> add(final @Nullable DiscoveryResult discoveryResult)
+    public CompletableFuture<Boolean> add(final @Nullable DiscoveryResult discoveryResult)
             throws IllegalStateException {
         if (discoveryResult == null) {
             return CompletableFuture.completedFuture(false);
@@ -272,17 +298,28 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
         Thing thing = thingRegistry.get(thingUID);
 
         if (thing == null) {
-            DiscoveryResult inboxResult = get(thingUID);
+            AtomicBoolean added = new AtomicBoolean(false);
+            DiscoveryResult inboxResult = results.compute(thingUID, (uid, existingResult) -> {
+                if (existingResult == null) {
+                    index(discoveryResult);
+                    added.set(true);
+                    return discoveryResult;
+                }
+                if (existingResult instanceof DiscoveryResultImpl resultImpl) {
+                    resultImpl.synchronize(discoveryResult);
+                    updateExpiring(resultImpl);
+                }
+                return existingResult;
+            });
 
-            if (inboxResult == null) {
-                discoveryResultStorage.put(discoveryResult.getThingUID().toString(), discoveryResult);
+            if (added.get()) {
+                scheduleWrite(thingUID);
                 notifyListeners(discoveryResult, EventType.ADDED);
                 logger.info("Added new thing '{}' to inbox.", thingUID);
                 discoveryResultWrapper.future.complete(true);
             } else {
                 if (inboxResult instanceof DiscoveryResultImpl resultImpl) {
-                    resultImpl.synchronize(discoveryResult);
-                    discoveryResultStorage.put(discoveryResult.getThingUID().toString(), resultImpl);
+                    scheduleWrite(thingUID);
                     notifyListeners(resultImpl, EventType.UPDATED);
                     logger.debug("Updated discovery result for '{}'.", thingUID);
                     discoveryResultWrapper.future.complete(true);
@@ -365,24 +402,24 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
 
     @Override
     public List<DiscoveryResult> getAll() {
-        return stream().toList();
+        return List.copyOf(results.values());
     }
 
     @Override
     public Stream<DiscoveryResult> stream() {
-        return (Stream<DiscoveryResult>) discoveryResultStorage.getValues().stream().filter(Objects::nonNull);
+        return results.values().stream();
     }
 
     @Override
-    public synchronized boolean remove(@Nullable ThingUID thingUID) throws IllegalStateException {
+    public boolean remove(@Nullable ThingUID thingUID) throws IllegalStateException {
         if (thingUID != null) {
-            DiscoveryResult discoveryResult = get(thingUID);
+            DiscoveryResult discoveryResult = removeResult(thingUID);
             if (discoveryResult != null) {
                 if (!isInRegistry(thingUID)) {
                     removeResultsForBridge(thingUID);
                 }
                 resultDiscovererMap.remove(discoveryResult);
-                discoveryResultStorage.remove(thingUID.toString());
+                scheduleWrite(thingUID);
                 notifyListeners(discoveryResult, EventType.REMOVED);
                 return true;
             }
@@ -415,10 +452,12 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
     public @Nullable Collection<ThingUID> removeOlderResults(DiscoveryService source, long timestamp,
             @Nullable Collection<ThingTypeUID> thingTypeUIDs, @Nullable ThingUID bridgeUID) {
         Set<ThingUID> removedThings = new HashSet<>();
-        for (DiscoveryResult discoveryResult : getAll()) {
+        if (thingTypeUIDs == null) {
+            return removedThings;
+        }
+        for (DiscoveryResult discoveryResult : getResults(resultsByThingType, thingTypeUIDs)) {
             Class<?> discoverer = resultDiscovererMap.get(discoveryResult);
-            if (thingTypeUIDs != null && thingTypeUIDs.contains(discoveryResult.getThingTypeUID())
-                    && discoveryResult.getTimestamp() < timestamp
+            if (discoveryResult.getTimestamp() < timestamp
                     && (discoverer == null || source.getClass() == discoverer)) {
                 ThingUID thingUID = discoveryResult.getThingUID();
                 if (bridgeUID == null || bridgeUID.equals(discoveryResult.getBridgeUID())) {
@@ -457,10 +496,14 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
 
     @Override
     public void setFlag(ThingUID thingUID, @Nullable DiscoveryResultFlag flag) {
-        DiscoveryResult result = get(thingUID);
+        DiscoveryResult result = results.computeIfPresent(thingUID, (uid, existingResult) -> {
+            if (existingResult instanceof DiscoveryResultImpl resultImpl) {
+                resultImpl.setFlag((flag == null) ? DiscoveryResultFlag.NEW : flag);
+            }
+            return existingResult;
+        });
         if (result instanceof DiscoveryResultImpl resultImpl) {
-            resultImpl.setFlag((flag == null) ? DiscoveryResultFlag.NEW : flag);
-            discoveryResultStorage.put(resultImpl.getThingUID().toString(), resultImpl);
+            scheduleWrite(thingUID);
             notifyListeners(resultImpl, EventType.UPDATED);
         } else if (result == null) {
             logger.warn("Cannot set flag for result '{}' because it can't be found in storage", thingUID);
@@ -479,7 +522,129 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
      *         null, if no discovery result could be found
      */
     private @Nullable DiscoveryResult get(ThingUID thingUID) {
-        return discoveryResultStorage.get(thingUID.toString());
+        return results.get(thingUID);
+    }
+
+    private void loadResults() {
+        results.clear();
+        resultsByThingType.clear();
+        resultsByBridge.clear();
+        expiringResults.clear();
+        for (DiscoveryResult result : discoveryResultStorage.getValues()) {
+            if (result != null) {
+                if (result instanceof DiscoveryResultImpl resultImpl) {
+                    resultImpl.normalizePropertyTypes();
+                }
+                results.put(result.getThingUID(), result);
+                index(result);
+            }
+        }
+    }
+
+    /**
+     * Removes the result for the given {@link ThingUID} together with its index entries.
+     * <p>
+     * The index is updated while the map entry is locked, so that a concurrent {@link #add(DiscoveryResult)} of the
+     * same {@link ThingUID} cannot interleave with it and lose the index entries of the new result.
+     *
+     * @return the removed result or null if there was no result
+     */
+    private @Nullable DiscoveryResult removeResult(ThingUID thingUID) {
+        AtomicReference<@Nullable DiscoveryResult> removedResult = new AtomicReference<>();
+        results.computeIfPresent(thingUID, (uid, result) -> {
+            unindex(result);
+            removedResult.set(result);
+            return null;
+        });
+        return removedResult.get();
+    }
+
+    /**
+     * Removes the given {@link ThingUID} from the expiring results, if there is no result for it or its result does
+     * not expire.
+     */
+    private void removeIfNotExpiring(ThingUID thingUID) {
+        results.compute(thingUID, (uid, result) -> {
+            if (result == null || result.getTimeToLive() == DiscoveryResult.TTL_UNLIMITED) {
+                expiringResults.remove(uid);
+            }
+            return result;
+        });
+    }
+
+    private void index(DiscoveryResult result) {
+        ThingUID thingUID = result.getThingUID();
+        resultsByThingType.computeIfAbsent(result.getThingTypeUID(), k -> ConcurrentHashMap.newKeySet()).add(thingUID);
+        ThingUID bridgeUID = result.getBridgeUID();
+        if (bridgeUID != null) {
+            resultsByBridge.computeIfAbsent(bridgeUID, k -> ConcurrentHashMap.newKeySet()).add(thingUID);
+        }
+        updateExpiring(result);
+    }
+
+    private void unindex(DiscoveryResult result) {
+        ThingUID thingUID = result.getThingUID();
+        unindex(resultsByThingType, result.getThingTypeUID(), thingUID);
+        ThingUID bridgeUID = result.getBridgeUID();
+        if (bridgeUID != null) {
+            unindex(resultsByBridge, bridgeUID, thingUID);
+        }
+        expiringResults.remove(thingUID);
+    }
+
+    private <K> void unindex(Map<K, Set<ThingUID>> index, K key, ThingUID thingUID) {
+        index.computeIfPresent(key, (k, thingUIDs) -> {
+            thingUIDs.remove(thingUID);
+            return thingUIDs.isEmpty() ? null : thingUIDs;
+        });
+    }
+
+    private void updateExpiring(DiscoveryResult result) {
+        if (result.getTimeToLive() == DiscoveryResult.TTL_UNLIMITED) {
+            expiringResults.remove(result.getThingUID());
+        } else {
+            expiringResults.add(result.getThingUID());
+        }
+    }
+
+    private <K> List<DiscoveryResult> getResults(Map<K, Set<ThingUID>> index, Collection<K> keys) {
+        List<DiscoveryResult> indexedResults = new ArrayList<>();
+        for (K key : keys) {
+            for (ThingUID thingUID : index.getOrDefault(key, Set.of())) {
+                DiscoveryResult result = results.get(thingUID);
+                if (result != null) {
+                    indexedResults.add(result);
+                }
+            }
+        }
+        return indexedResults;
+    }
+
+    /**
+     * Marks the result for the given {@link ThingUID} to be written to (or removed from) the storage.
+     * <p>
+     * The storage is updated with a short delay with the state of the result at that time, so that repeated changes
+     * of the same result are only written once.
+     */
+    private void scheduleWrite(ThingUID thingUID) {
+        pendingWrites.add(thingUID);
+        if (storageWriteScheduled.compareAndSet(false, true)) {
+            storageWriter = ThreadPoolManager.getScheduledPool("discovery").schedule(this::writePendingResults,
+                    STORAGE_WRITE_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void writePendingResults() {
+        storageWriteScheduled.set(false);
+        for (ThingUID thingUID : pendingWrites) {
+            pendingWrites.remove(thingUID);
+            DiscoveryResult result = results.get(thingUID);
+            if (result == null) {
+                discoveryResultStorage.remove(thingUID.toString());
+            } else {
+                discoveryResultStorage.put(thingUID.toString(), result);
+            }
+        }
     }
 
     private void notifyListeners(DiscoveryResult result, EventType type) {
@@ -502,7 +667,7 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
             }
         }
 
-        // in case of EventType added/updated the listeners might have modified the result in the discoveryResultStorage
+        // in case of EventType added/updated the listeners might have modified the live result, so emit the current one
         final DiscoveryResult resultForEvent;
         if (type == EventType.REMOVED) {
             resultForEvent = result;
@@ -543,25 +708,16 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
     }
 
     private void removeResultsForBridge(ThingUID bridgeUID) {
-        for (ThingUID thingUID : getResultsForBridge(bridgeUID)) {
-            DiscoveryResult discoveryResult = get(thingUID);
+        for (DiscoveryResult result : getResults(resultsByBridge, List.of(bridgeUID))) {
+            ThingUID thingUID = result.getThingUID();
+            DiscoveryResult discoveryResult = removeResult(thingUID);
             if (discoveryResult != null) {
-                discoveryResultStorage.remove(thingUID.toString());
+                scheduleWrite(thingUID);
                 notifyListeners(discoveryResult, EventType.REMOVED);
             }
         }
     }
 
-    private List<ThingUID> getResultsForBridge(ThingUID bridgeUID) {
-        List<ThingUID> thingsForBridge = new ArrayList<>();
-        for (DiscoveryResult result : discoveryResultStorage.getValues()) {
-            if (result != null && bridgeUID.equals(result.getBridgeUID())) {
-                thingsForBridge.add(result.getThingUID());
-            }
-        }
-        return thingsForBridge;
-    }
-
     /**
      * Get the properties and configuration parameters for the thing with the given {@link DiscoveryResult}.
      *
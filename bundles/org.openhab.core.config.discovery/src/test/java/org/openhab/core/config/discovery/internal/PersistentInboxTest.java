@@ -18,10 +18,18 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.math.BigDecimal;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -41,9 +49,13 @@ import org.openhab.core.config.core.ConfigDescriptionRegistry;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.config.discovery.DiscoveryResult;
 import org.openhab.core.config.discovery.DiscoveryResultBuilder;
+import org.openhab.core.config.discovery.DiscoveryResultFlag;
+import org.openhab.core.config.discovery.DiscoveryService;
 import org.openhab.core.config.discovery.DiscoveryServiceRegistry;
+import org.openhab.core.config.discovery.inbox.InboxListener;
 import org.openhab.core.config.discovery.inbox.events.InboxAddedEvent;
 import org.openhab.core.config.discovery.inbox.events.InboxUpdatedEvent;
+import org.openhab.core.events.Event;
 import org.openhab.core.events.EventPublisher;
 import org.openhab.core.storage.Storage;
 import org.openhab.core.storage.StorageService;
@@ -61,6 +73,9 @@ import org.openhab.core.thing.type.ThingTypeRegistry;
 /**
  * @author Simon Kaufmann - Initial contribution
  * @author Laurent Garnier - Added tests testApproveWithThingId and testApproveWithInvalidThingId
+ * @author openHAB Core Team - Added tests for the in-memory index and deferred storage writes
+ * @author openHAB Core Team - Added test for concurrent changes of the same result
+ * @author openHAB Core Team - Added test for the property types of restored results
  */
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -192,51 +207,161 @@ public class PersistentInboxTest {
     }
 
     @Test
-    public void testEmittedAddedResultIsReadFromStorage() {
+    public void testEmittedAddedResultContainsChangesOfListeners() {
         DiscoveryResult result = DiscoveryResultBuilder.create(THING_UID).withProperty("foo", 3).build();
 
         EventPublisher eventPublisher = mock(EventPublisher.class);
         inbox.setEventPublisher(eventPublisher);
-
-        when(storageMock.get(THING_UID.toString())) //
-                .thenReturn(null) //
-                .thenReturn(DiscoveryResultBuilder.create(THING_UID).withProperty("foo", "bar").build());
+        InboxListener listener = mock(InboxListener.class);
+        doAnswer(invocation -> {
+            inbox.setFlag(THING_UID, DiscoveryResultFlag.IGNORED);
+            return null;
+        }).when(listener).thingAdded(any(), any());
+        inbox.addInboxListener(listener);
 
         inbox.activate();
         inbox.add(result);
 
-        // 1st call checks existence of the result in the storage (returns null)
-        // 2nd call retrieves the stored instance before the event gets emitted
-        // (modified due to storage mock configuration)
-        verify(storageMock, times(2)).get(THING_UID.toString());
+        ArgumentCaptor<Event> eventCaptor = ArgumentCaptor.forClass(Event.class);
+        verify(eventPublisher, times(2)).post(eventCaptor.capture());
+        InboxAddedEvent addedEvent = (InboxAddedEvent) eventCaptor.getAllValues().get(1);
+        assertEquals(DiscoveryResultFlag.IGNORED, addedEvent.getDiscoveryResult().flag);
+    }
+
+    @Test
+    public void testEmittedUpdatedResultContainsUpdatedProperties() {
+        EventPublisher eventPublisher = mock(EventPublisher.class);
+        inbox.setEventPublisher(eventPublisher);
+        when(storageMock.getValues()).thenReturn(
+                List.of(DiscoveryResultBuilder.create(THING_UID).withProperty("foo", 3).withTTL(60).build()));
+
+        inbox.activate();
+        inbox.add(DiscoveryResultBuilder.create(THING_UID).withProperty("foo", "bar").build());
 
-        ArgumentCaptor<InboxAddedEvent> eventCaptor = ArgumentCaptor.forClass(InboxAddedEvent.class);
+        ArgumentCaptor<InboxUpdatedEvent> eventCaptor = ArgumentCaptor.forClass(InboxUpdatedEvent.class);
         verify(eventPublisher).post(eventCaptor.capture());
         assertThat(eventCaptor.getValue().getDiscoveryResult().properties, hasEntry("foo", "bar"));
+        assertEquals(1, inbox.getAll().size());
     }
 
     @Test
-    public void testEmittedUpdatedResultIsReadFromStorage() {
+    public void testStorageIsOnlyReadOnActivation() {
         DiscoveryResult result = DiscoveryResultBuilder.create(THING_UID).withProperty("foo", 3).build();
+        configureConfigDescriptionRegistryMock("foo", Type.TEXT);
+        when(storageMock.getValues()).thenReturn(List.of(result));
 
-        EventPublisher eventPublisher = mock(EventPublisher.class);
-        inbox.setEventPublisher(eventPublisher);
+        inbox.activate();
+        inbox.getAll();
+        inbox.stream().toList();
+        inbox.setFlag(THING_UID, DiscoveryResultFlag.IGNORED);
+        inbox.approve(THING_UID, "Test", null);
 
-        when(storageMock.get(THING_UID.toString())) //
-                .thenReturn(result) //
-                .thenReturn(DiscoveryResultBuilder.create(THING_UID).withProperty("foo", "bar").build());
+        verify(storageMock, times(1)).getValues();
+        verify(storageMock, never()).get(any());
+    }
+
+    @Test
+    public void testRestoredAndAddedResultsHaveTheSamePropertyTypes() {
+        // the storage restores numbers as Double
+        when(storageMock.getValues()).thenReturn(List.of(DiscoveryResultBuilder.create(THING_UID)
+                .withProperty("port", 8080.0).withProperty("ratio", 0.5).withProperty("ids", List.of(1.0)).build()));
+        configureConfigDescriptionRegistryMock("port", Type.INTEGER);
 
         inbox.activate();
-        inbox.add(result);
+        inbox.add(DiscoveryResultBuilder.create(THING_OTHER_UID).withProperty("port", 8080).build());
+
+        Map<String, Object> restoredProperties = inbox.stream().filter(r -> THING_UID.equals(r.getThingUID()))
+                .findFirst().orElseThrow().getProperties();
+        Map<String, Object> addedProperties = inbox.stream().filter(r -> THING_OTHER_UID.equals(r.getThingUID()))
+                .findFirst().orElseThrow().getProperties();
+        assertEquals(new BigDecimal(8080), restoredProperties.get("port"));
+        assertEquals(restoredProperties.get("port"), addedProperties.get("port"));
+        assertEquals(new BigDecimal("0.5"), restoredProperties.get("ratio"));
+        assertEquals(List.of(BigDecimal.ONE), restoredProperties.get("ids"));
+    }
 
-        // 1st call checks existence of the result in the storage (returns the original result)
-        // 2nd call retrieves the stored instance before the event gets emitted
-        // (modified due to storage mock configuration)
-        verify(storageMock, times(2)).get(THING_UID.toString());
+    @Test
+    public void testStorageWritesAreCoalesced() {
+        inbox.activate();
+        inbox.add(DiscoveryResultBuilder.create(THING_UID).withProperty("foo", 3).build());
+        inbox.add(DiscoveryResultBuilder.create(THING_UID).withProperty("foo", 4).build());
+        inbox.setFlag(THING_UID, DiscoveryResultFlag.IGNORED);
+        inbox.add(DiscoveryResultBuilder.create(THING_OTHER_UID).build());
+        inbox.remove(THING_OTHER_UID);
+        inbox.deactivate();
+
+        ArgumentCaptor<Object> resultCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(storageMock, times(1)).put(eq(THING_UID.toString()), resultCaptor.capture());
+        DiscoveryResult stored = (DiscoveryResult) resultCaptor.getValue();
+        assertEquals("4", stored.getProperties().get("foo"));
+        assertEquals(DiscoveryResultFlag.IGNORED, stored.getFlag());
+        verify(storageMock, never()).put(eq(THING_OTHER_UID.toString()), any());
+        verify(storageMock).remove(THING_OTHER_UID.toString());
+    }
 
-        ArgumentCaptor<InboxUpdatedEvent> eventCaptor = ArgumentCaptor.forClass(InboxUpdatedEvent.class);
-        verify(eventPublisher).post(eventCaptor.capture());
-        assertThat(eventCaptor.getValue().getDiscoveryResult().properties, hasEntry("foo", "bar"));
+    @Test
+    public void testRemoveOlderResults() {
+        ThingTypeUID otherThingTypeUID = new ThingTypeUID("test", "other");
+        ThingUID otherThingUID = new ThingUID(otherThingTypeUID, "test");
+        ThingUID bridgedThingUID = new ThingUID(THING_TYPE_UID, THING_UID, "bridged");
+        when(storageMock.getValues()).thenReturn(List.of(DiscoveryResultBuilder.create(THING_UID).build(),
+                DiscoveryResultBuilder.create(otherThingUID).build(),
+                DiscoveryResultBuilder.create(bridgedThingUID).withBridge(THING_UID).build()));
+        DiscoveryService discoveryService = mock(DiscoveryService.class);
+
+        inbox.activate();
+        Collection<ThingUID> removed = inbox.removeOlderResults(discoveryService, System.currentTimeMillis() + 1,
+                Set.of(THING_TYPE_UID), THING_UID);
+        assertEquals(Set.of(bridgedThingUID), removed);
+
+        removed = inbox.removeOlderResults(discoveryService, System.currentTimeMillis() + 1, Set.of(THING_TYPE_UID),
+                null);
+        assertEquals(Set.of(THING_UID), removed);
+        assertEquals(List.of(otherThingUID), inbox.stream().map(DiscoveryResult::getThingUID).toList());
+    }
+
+    @Test
+    public void testRemovingBridgeRemovesResultsForBridge() {
+        ThingUID bridgedThingUID = new ThingUID(THING_TYPE_UID, THING_UID, "bridged");
+        when(storageMock.getValues()).thenReturn(List.of(DiscoveryResultBuilder.create(THING_UID).build(),
+                DiscoveryResultBuilder.create(bridgedThingUID).withBridge(THING_UID).build()));
+
+        inbox.activate();
+        inbox.remove(THING_UID);
+
+        assertEquals(List.of(), inbox.getAll());
+    }
+
+    @Test
+    public void testConcurrentAddAndRemoveKeepIndexConsistent() throws Exception {
+        inbox.activate();
+        DiscoveryService discoveryService = mock(DiscoveryService.class);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 1000; i++) {
+                inbox.add(DiscoveryResultBuilder.create(THING_UID).build());
+                CyclicBarrier barrier = new CyclicBarrier(2);
+                Future<?> remove = executor.submit(() -> {
+                    barrier.await();
+                    return inbox.remove(THING_UID);
+                });
+                Future<?> add = executor.submit(() -> {
+                    barrier.await();
+                    return inbox.add(DiscoveryResultBuilder.create(THING_UID).build());
+                });
+                remove.get(5, TimeUnit.SECONDS);
+                add.get(5, TimeUnit.SECONDS);
+
+                // a result which is still in the inbox must also be found by its thing type
+                boolean present = !inbox.getAll().isEmpty();
+                Collection<ThingUID> removed = inbox.removeOlderResults(discoveryService,
+                        System.currentTimeMillis() + 1, Set.of(THING_TYPE_UID), null);
+                assertEquals(present ? Set.of(THING_UID) : Set.of(), removed);
+                assertEquals(List.of(), inbox.getAll());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     private void configureConfigDescriptionRegistryMock(String paramName, Type type) {
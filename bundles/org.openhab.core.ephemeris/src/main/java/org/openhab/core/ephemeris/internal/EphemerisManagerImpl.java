@@ -19,6 +19,8 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -36,9 +38,14 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigOptionProvider;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.config.core.ParameterOption;
@@ -49,6 +56,7 @@ import org.osgi.framework.BundleContext;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
@@ -66,6 +74,8 @@ import de.focus_shift.jollyday.core.util.ResourceUtil;
  * others.
  *
  * @author Gaël L'hopital - Initial contribution
+ * @author openHAB Core Team - Cache holidays per year
+ * @author openHAB Core Team - Check holiday files for changes periodically
  */
 @Component(name = "org.openhab.ephemeris", property = Constants.SERVICE_PID + "=org.openhab.ephemeris")
 @ConfigurableService(category = "system", label = "Ephemeris", description_uri = EphemerisManagerImpl.CONFIG_URI)
@@ -87,14 +97,19 @@ public class EphemerisManagerImpl implements EphemerisManager, ConfigOptionProvi
             + "descriptions/country_descriptions.properties";
     private static final String PROPERTY_COUNTRY_DESCRIPTION_PREFIX = "country.description.";
     private static final String PROPERTY_COUNTRY_DESCRIPTION_DELIMITER = "\\.";
+    private static final int HOLIDAY_FILE_CHECK_INTERVAL_SECONDS = 30;
 
     final List<ParameterOption> countries = new ArrayList<>();
     final Map<String, List<ParameterOption>> regions = new HashMap<>();
     final Map<String, List<ParameterOption>> cities = new HashMap<>();
 
     final Map<String, Set<DayOfWeek>> daysets = new HashMap<>();
-    private final Map<Object, HolidayManager> holidayManagers = new HashMap<>();
-    private final List<String> countryParameters = new ArrayList<>();
+    private final Map<Object, HolidayManager> holidayManagers = new ConcurrentHashMap<>();
+    private final Map<Object, HolidayCalendar> holidayCalendars = new ConcurrentHashMap<>();
+    private volatile List<String> countryParameters = List.of();
+    private final ScheduledExecutorService scheduler = ThreadPoolManager
+            .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
+    private @Nullable ScheduledFuture<?> holidayFileCheckJob;
     /**
      * Utility for accessing resources.
      */
@@ -132,6 +147,17 @@ public class EphemerisManagerImpl implements EphemerisManager, ConfigOptionProvi
     @Activate
     protected void activate(Map<String, Object> config) {
         modified(config);
+        holidayFileCheckJob = scheduler.scheduleWithFixedDelay(this::checkHolidayFiles,
+                HOLIDAY_FILE_CHECK_INTERVAL_SECONDS, HOLIDAY_FILE_CHECK_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        ScheduledFuture<?> job = holidayFileCheckJob;
+        if (job != null) {
+            job.cancel(false);
+            holidayFileCheckJob = null;
+        }
     }
 
     @Modified
@@ -175,6 +201,7 @@ public class EphemerisManagerImpl implements EphemerisManager, ConfigOptionProvi
             logger.debug("Using system default country '{}' ", country);
         }
 
+        List<String> countryParameters = new ArrayList<>();
         configValue = config.get(CONFIG_REGION);
         if (configValue != null) {
             String region = configValue.toString().toLowerCase();
@@ -188,6 +215,8 @@ public class EphemerisManagerImpl implements EphemerisManager, ConfigOptionProvi
         if (configValue != null) {
             countryParameters.add(configValue.toString());
         }
+        this.countryParameters = List.copyOf(countryParameters);
+        holidayCalendars.clear();
     }
 
     @Override
@@ -253,22 +282,60 @@ public class EphemerisManagerImpl implements EphemerisManager, ConfigOptionProvi
         return holidayManager;
     }
 
-    private List<Holiday> getHolidays(ZonedDateTime from, int span, HolidayManager holidayManager) {
-        LocalDate fromDate = from.toLocalDate();
-        LocalDate toDate = from.plusDays(span).toLocalDate();
+    private HolidayCalendar getHolidayCalendar(Object managerKey) {
+        List<String> countryParameters = this.countryParameters;
+        HolidayCalendar holidayCalendar = holidayCalendars.get(managerKey);
+        if (holidayCalendar == null || !holidayCalendar.isValid(countryParameters)) {
+            holidayCalendar = new HolidayCalendar(getHolidayManager(managerKey), countryParameters,
+                    getLastModified(managerKey));
+            holidayCalendars.put(managerKey, holidayCalendar);
+        }
+        return holidayCalendar;
+    }
 
-        Set<Holiday> days = holidayManager.getHolidays(fromDate, toDate, countryParameters.toArray(new String[0]));
-        return days.stream().sorted(Comparator.comparing(Holiday::getDate)).toList();
+    /**
+     * Drops the calendars of holiday files that have been modified since they were read, so that they are read again
+     * on the next query.
+     */
+    void checkHolidayFiles() {
+        holidayCalendars.forEach((managerKey, holidayCalendar) -> {
+            if (managerKey instanceof URL && holidayCalendar.getLastModified() != getLastModified(managerKey)) {
+                logger.debug("Holiday file '{}' has changed, reloading it", managerKey);
+                holidayCalendars.remove(managerKey, holidayCalendar);
+                holidayManagers.remove(managerKey);
+                // jollyday caches its managers by URL as well
+                HolidayManager.clearManagerCache();
+            }
+        });
+    }
+
+    /**
+     * Returns the last modification time of a holiday file, so that changes to the file are picked up.
+     */
+    private long getLastModified(Object managerKey) {
+        if (managerKey instanceof URL url && "file".equals(url.getProtocol())) {
+            try {
+                return Files.getLastModifiedTime(Path.of(url.getPath())).toMillis();
+            } catch (IOException | InvalidPathException e) {
+                logger.trace("Unable to get the last modification time of '{}': {}", url, e.getMessage());
+            }
+        }
+        return 0;
+    }
+
+    private List<Holiday> getHolidays(ZonedDateTime from, int span, Object managerKey) {
+        LocalDate fromDate = from.toLocalDate();
+        return getHolidayCalendar(managerKey).getHolidays(fromDate, fromDate.plusDays(span));
     }
 
     @Override
     public long getDaysUntil(ZonedDateTime from, String searchedHoliday) {
-        return getDaysUntil(from, searchedHoliday, getHolidayManager(country));
+        return getDaysUntilHoliday(from, searchedHoliday, country);
     }
 
     @Override
     public long getDaysUntil(ZonedDateTime from, String searchedHoliday, URL resource) {
-        return getDaysUntil(from, searchedHoliday, getHolidayManager(resource));
+        return getDaysUntilHoliday(from, searchedHoliday, resource);
     }
 
     @Override
@@ -276,26 +343,27 @@ public class EphemerisManagerImpl implements EphemerisManager, ConfigOptionProvi
         return getDaysUntil(from, searchedHoliday, getUrl(filename));
     }
 
-    private long getDaysUntil(ZonedDateTime from, String searchedHoliday, HolidayManager holidayManager) {
-        List<Holiday> sortedHolidays = getHolidays(from, 366, holidayManager);
+    private long getDaysUntilHoliday(ZonedDateTime from, String searchedHoliday, Object managerKey) {
+        List<Holiday> sortedHolidays = getHolidays(from, 366, managerKey);
         Optional<Holiday> result = sortedHolidays.stream()
                 .filter(holiday -> searchedHoliday.equalsIgnoreCase(holiday.getPropertiesKey())).findFirst();
         return result.map(holiday -> from.toLocalDate().until(holiday.getDate(), ChronoUnit.DAYS)).orElse(-1L);
     }
 
-    private @Nullable String getFirstBankHolidayKey(ZonedDateTime from, int span, HolidayManager holidayManager) {
-        Optional<Holiday> holiday = getHolidays(from, span, holidayManager).stream().findFirst();
-        return holiday.map(Holiday::getPropertiesKey).orElse(null);
+    private @Nullable String getFirstBankHolidayKey(ZonedDateTime from, int span, Object managerKey) {
+        LocalDate fromDate = from.toLocalDate();
+        Holiday holiday = getHolidayCalendar(managerKey).getFirstHoliday(fromDate, fromDate.plusDays(span));
+        return holiday != null ? holiday.getPropertiesKey() : null;
     }
 
     @Override
     public boolean isBankHoliday(ZonedDateTime date) {
-        return !getHolidays(date, 0, getHolidayManager(country)).isEmpty();
+        return !getHolidayCalendar(country).getHolidays(date.toLocalDate()).isEmpty();
     }
 
     @Override
     public boolean isBankHoliday(ZonedDateTime date, URL resource) {
-        return !getHolidays(date, 0, getHolidayManager(resource)).isEmpty();
+        return !getHolidayCalendar(resource).getHolidays(date.toLocalDate()).isEmpty();
     }
 
     @Override
@@ -322,12 +390,12 @@ public class EphemerisManagerImpl implements EphemerisManager, ConfigOptionProvi
 
     @Override
     public @Nullable String getBankHolidayName(ZonedDateTime date) {
-        return getFirstBankHolidayKey(date, 0, getHolidayManager(country));
+        return getFirstBankHolidayKey(date, 0, country);
     }
 
     @Override
     public @Nullable String getBankHolidayName(ZonedDateTime date, URL resource) {
-        return getFirstBankHolidayKey(date, 0, getHolidayManager(resource));
+        return getFirstBankHolidayKey(date, 0, resource);
     }
 
     @Override
@@ -337,12 +405,12 @@ public class EphemerisManagerImpl implements EphemerisManager, ConfigOptionProvi
 
     @Override
     public @Nullable String getNextBankHoliday(ZonedDateTime from) {
-        return getFirstBankHolidayKey(from, 365, getHolidayManager(country));
+        return getFirstBankHolidayKey(from, 365, country);
     }
 
     @Override
     public @Nullable String getNextBankHoliday(ZonedDateTime from, URL resource) {
-        return getFirstBankHolidayKey(from, 365, getHolidayManager(resource));
+        return getFirstBankHolidayKey(from, 365, resource);
     }
 
     @Override
@@ -0,0 +1,162 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.ephemeris.internal;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import de.focus_shift.jollyday.core.Holiday;
+import de.focus_shift.jollyday.core.HolidayManager;
+
+/**
+ * The holidays of a {@link HolidayManager} for a given set of arguments (region, city).
+ *
+ * Calculating holidays is expensive, so the holidays of a year are calculated once, when the year is first accessed.
+ * Afterwards the holidays of a date can be looked up directly and range queries only need to scan the holidays in
+ * that range.
+ * <p>
+ * A holiday may be moved into the previous or next year (e.g. New Year's Day observed on December 31st), so the
+ * holidays of a year are collected from the calculations of the adjacent years as well.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+class HolidayCalendar {
+
+    private static final Comparator<Holiday> BY_DATE = Comparator.comparing(Holiday::getDate);
+
+    private record Year(List<Holiday> holidays, Map<LocalDate, List<Holiday>> holidaysByDate) {
+    }
+
+    private final HolidayManager holidayManager;
+    private final List<String> arguments;
+    private final long lastModified;
+    private final Map<Integer, Year> years = new ConcurrentHashMap<>();
+    private final Map<Integer, List<Holiday>> calculatedYears = new ConcurrentHashMap<>();
+
+    /**
+     * @param holidayManager the manager calculating the holidays
+     * @param arguments the arguments passed to the manager
+     * @param lastModified the last modification time of the holiday definition this calendar was created from
+     */
+    HolidayCalendar(HolidayManager holidayManager, List<String> arguments, long lastModified) {
+        this.holidayManager = holidayManager;
+        this.arguments = arguments;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Checks if this calendar was created with the given arguments (by identity).
+     */
+    boolean isValid(List<String> arguments) {
+        return this.arguments == arguments;
+    }
+
+    long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Returns the holidays on the given date.
+     */
+    List<Holiday> getHolidays(LocalDate date) {
+        return getYear(date.getYear()).holidaysByDate().getOrDefault(date, List.of());
+    }
+
+    /**
+     * Returns the holidays between the given dates (both inclusive), sorted by date.
+     */
+    List<Holiday> getHolidays(LocalDate from, LocalDate to) {
+        List<Holiday> result = new ArrayList<>();
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            List<Holiday> holidays = getYear(year).holidays();
+            for (int i = indexOfFirst(holidays, from); i < holidays.size(); i++) {
+                Holiday holiday = holidays.get(i);
+                if (holiday.getDate().isAfter(to)) {
+                    break;
+                }
+                result.add(holiday);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the first holiday between the given dates (both inclusive) or <code>null</code> if there is none.
+     */
+    @Nullable
+    Holiday getFirstHoliday(LocalDate from, LocalDate to) {
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            List<Holiday> holidays = getYear(year).holidays();
+            int index = indexOfFirst(holidays, from);
+            if (index < holidays.size()) {
+                Holiday holiday = holidays.get(index);
+                return holiday.getDate().isAfter(to) ? null : holiday;
+            }
+        }
+        return null;
+    }
+
+    private Year getYear(int year) {
+        return years.computeIfAbsent(year, this::calculateYear);
+    }
+
+    private Year calculateYear(int year) {
+        List<Holiday> holidays = new ArrayList<>();
+        for (int calculatedYear = year - 1; calculatedYear <= year + 1; calculatedYear++) {
+            for (Holiday holiday : calculatedYears.computeIfAbsent(calculatedYear, this::calculateHolidays)) {
+                if (holiday.getDate().getYear() == year) {
+                    holidays.add(holiday);
+                }
+            }
+        }
+        holidays.sort(BY_DATE);
+        Map<LocalDate, List<Holiday>> holidaysByDate = new HashMap<>();
+        for (Holiday holiday : holidays) {
+            holidaysByDate.computeIfAbsent(holiday.getDate(), date -> new ArrayList<>(1)).add(holiday);
+        }
+        return new Year(holidays, holidaysByDate);
+    }
+
+    /**
+     * Returns the holidays calculated by the manager for the given year, their dates may lie in an adjacent year.
+     */
+    private List<Holiday> calculateHolidays(int year) {
+        return List.copyOf(holidayManager.getHolidays(year, arguments.toArray(new String[0])));
+    }
+
+    /**
+     * Returns the index of the first holiday on or after the given date in a list sorted by date.
+     */
+    private static int indexOfFirst(List<Holiday> holidays, LocalDate date) {
+        int low = 0;
+        int high = holidays.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (holidays.get(mid).getDate().isBefore(date)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.ephemeris.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.i18n.LocaleProvider;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+
+/**
+ * Tests the holiday caching of the {@link EphemerisManagerImpl} with user holiday files.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class EphemerisManagerImplTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Paris");
+    private static final String HOLIDAYS = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <tns:Configuration hierarchy="test" description="Test" xmlns:tns="http://www.example.org/Holiday">
+                <tns:Holidays>
+                    %s
+                </tns:Holidays>
+            </tns:Configuration>
+            """;
+
+    private @Mock @NonNullByDefault({}) LocaleProvider localeProvider;
+    private @Mock @NonNullByDefault({}) BundleContext bundleContext;
+    private @Mock @NonNullByDefault({}) Bundle bundle;
+    private @TempDir @NonNullByDefault({}) Path tempDir;
+
+    private @NonNullByDefault({}) EphemerisManagerImpl ephemerisManager;
+    private @NonNullByDefault({}) Path holidayFile;
+    private @NonNullByDefault({}) URL holidayUrl;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        Path descriptions = Files.writeString(tempDir.resolve("country_descriptions.properties"), "");
+        when(bundleContext.getBundle()).thenReturn(bundle);
+        when(bundle.getResource(anyString())).thenReturn(descriptions.toUri().toURL());
+        when(localeProvider.getLocale()).thenReturn(Locale.FRANCE);
+
+        holidayFile = tempDir.resolve("holidays.xml");
+        holidayUrl = new URL("file:" + holidayFile);
+
+        ephemerisManager = new EphemerisManagerImpl(localeProvider, bundleContext);
+        ephemerisManager.activate(Map.of());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ephemerisManager.deactivate();
+    }
+
+    private void writeHolidays(String holidays) throws IOException {
+        Files.writeString(holidayFile, HOLIDAYS.formatted(holidays));
+    }
+
+    private ZonedDateTime date(int year, int month, int day) {
+        return ZonedDateTime.of(year, month, day, 12, 0, 0, 0, ZONE);
+    }
+
+    @Test
+    public void holidayMovedAcrossYearBoundaryIsFound() throws IOException {
+        writeHolidays("""
+                <tns:Fixed month="JANUARY" day="1" descriptionPropertiesKey="NEW_YEAR">
+                    <tns:MovingCondition substitute="SATURDAY" with="PREVIOUS" weekday="FRIDAY"/>
+                </tns:Fixed>
+                """);
+
+        // New Year's Day 2022 is a Saturday
+        assertTrue(ephemerisManager.isBankHoliday(date(2021, 12, 31), holidayUrl));
+        assertFalse(ephemerisManager.isBankHoliday(date(2022, 1, 1), holidayUrl));
+        assertEquals("NEW_YEAR", ephemerisManager.getNextBankHoliday(date(2021, 12, 1), holidayUrl));
+        assertEquals(30, ephemerisManager.getDaysUntil(date(2021, 12, 1), "NEW_YEAR", holidayUrl));
+    }
+
+    @Test
+    public void modifiedHolidayFileIsReadAgainAfterCheck() throws IOException {
+        writeHolidays("<tns:Fixed month=\"FEBRUARY\" day=\"2\" descriptionPropertiesKey=\"FIRST\"/>");
+        assertEquals("FIRST", ephemerisManager.getBankHolidayName(date(2024, 2, 2), holidayUrl));
+
+        writeHolidays("<tns:Fixed month=\"FEBRUARY\" day=\"3\" descriptionPropertiesKey=\"SECOND\"/>");
+        Files.setLastModifiedTime(holidayFile,
+                FileTime.fromMillis(Files.getLastModifiedTime(holidayFile).toMillis() + 10000));
+        // the file is not checked on every query
+        assertEquals("FIRST", ephemerisManager.getBankHolidayName(date(2024, 2, 2), holidayUrl));
+
+        ephemerisManager.checkHolidayFiles();
+        assertNull(ephemerisManager.getBankHolidayName(date(2024, 2, 2), holidayUrl));
+        assertEquals("SECOND", ephemerisManager.getBankHolidayName(date(2024, 2, 3), holidayUrl));
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.ephemeris.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import de.focus_shift.jollyday.core.Holiday;
+import de.focus_shift.jollyday.core.HolidayManager;
+import de.focus_shift.jollyday.core.HolidayType;
+
+/**
+ * Tests the {@link HolidayCalendar} class
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class HolidayCalendarTest {
+
+    private static final Holiday NEW_YEAR_2021 = holiday(LocalDate.of(2021, 1, 1), "newyear");
+    private static final Holiday CHRISTMAS_2021 = holiday(LocalDate.of(2021, 12, 24), "christmas");
+    // New Year's Day 2022 is a Saturday and observed on the Friday before
+    private static final Holiday NEW_YEAR_2022 = holiday(LocalDate.of(2021, 12, 31), "newyear");
+    private static final Holiday CHRISTMAS_2022 = holiday(LocalDate.of(2022, 12, 23), "christmas");
+    private static final Holiday NEW_YEAR_2023 = holiday(LocalDate.of(2023, 1, 2), "newyear");
+
+    private @Mock @NonNullByDefault({}) HolidayManager holidayManager;
+
+    private @NonNullByDefault({}) HolidayCalendar calendar;
+
+    private static Holiday holiday(LocalDate date, String key) {
+        return new Holiday(date, key, HolidayType.OFFICIAL_HOLIDAY);
+    }
+
+    @BeforeEach
+    public void setUp() {
+        for (int year = 2020; year <= 2024; year++) {
+            when(holidayManager.getHolidays(year)).thenReturn(Set.of());
+        }
+        when(holidayManager.getHolidays(2021)).thenReturn(Set.of(CHRISTMAS_2021, NEW_YEAR_2021));
+        when(holidayManager.getHolidays(2022)).thenReturn(Set.of(CHRISTMAS_2022, NEW_YEAR_2022));
+        when(holidayManager.getHolidays(2023)).thenReturn(Set.of(NEW_YEAR_2023));
+        calendar = new HolidayCalendar(holidayManager, List.of(), 0);
+    }
+
+    @Test
+    public void holidayMovedIntoPreviousYearIsFoundOnItsDate() {
+        assertThat(calendar.getHolidays(LocalDate.of(2021, 12, 31)), contains(NEW_YEAR_2022));
+        assertThat(calendar.getHolidays(LocalDate.of(2022, 1, 1)), is(empty()));
+        assertThat(calendar.getHolidays(LocalDate.of(2021, 1, 1), LocalDate.of(2021, 12, 31)),
+                contains(NEW_YEAR_2021, CHRISTMAS_2021, NEW_YEAR_2022));
+        assertThat(calendar.getHolidays(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31)),
+                contains(CHRISTMAS_2022));
+    }
+
+    @Test
+    public void rangesAcrossYearsAreSortedWithoutDuplicates() {
+        assertThat(calendar.getHolidays(LocalDate.of(2021, 12, 1), LocalDate.of(2023, 1, 31)),
+                contains(CHRISTMAS_2021, NEW_YEAR_2022, CHRISTMAS_2022, NEW_YEAR_2023));
+        assertThat(calendar.getFirstHoliday(LocalDate.of(2021, 12, 25), LocalDate.of(2022, 12, 31)),
+                is(NEW_YEAR_2022));
+        assertThat(calendar.getFirstHoliday(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 1)), is(nullValue()));
+    }
+
+    @Test
+    public void everyYearIsCalculatedOnce() {
+        calendar.getHolidays(LocalDate.of(2022, 6, 1));
+        calendar.getHolidays(LocalDate.of(2021, 12, 1), LocalDate.of(2023, 1, 31));
+        calendar.getFirstHoliday(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31));
+
+        for (int year = 2020; year <= 2024; year++) {
+            verify(holidayManager).getHolidays(year);
+        }
+        verifyNoMoreInteractions(holidayManager);
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.console.internal.extension;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.io.console.Console;
+import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
+import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.openhab.core.items.events.CommandTraceStatistics;
+import org.openhab.core.items.events.CommandTracer;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Console command extension to show the command latencies aggregated by the {@link CommandTracer}.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@Component(service = ConsoleCommandExtension.class)
+@NonNullByDefault
+public class CommandTraceConsoleCommandExtension extends AbstractConsoleCommandExtension {
+
+    private static final String SUBCMD_SHOW = "show";
+    private static final String SUBCMD_RESET = "reset";
+
+    private final CommandTracer commandTracer;
+
+    @Activate
+    public CommandTraceConsoleCommandExtension(final @Reference CommandTracer commandTracer) {
+        super("commandtrace", "Show the latencies of sampled commands on their way to the thing handlers.");
+        this.commandTracer = commandTracer;
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return List.of(buildCommandUsage(SUBCMD_SHOW, "shows the average and maximum latency per hop"),
+                buildCommandUsage(SUBCMD_RESET, "resets the latencies"));
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        if (args.length > 0) {
+            String subCommand = args[0];
+            switch (subCommand) {
+                case SUBCMD_SHOW:
+                    show(console);
+                    break;
+                case SUBCMD_RESET:
+                    commandTracer.resetStatistics();
+                    console.println("Command latencies have been reset.");
+                    break;
+                default:
+                    console.println("Unknown command '" + subCommand + "'");
+                    printUsage(console);
+                    break;
+            }
+        } else {
+            printUsage(console);
+        }
+    }
+
+    private void show(Console console) {
+        console.println(String.format("%-14s %10s %12s %12s", "Hop", "Count", "Avg (ms)", "Max (ms)"));
+        for (CommandTraceStatistics statistics : commandTracer.getStatistics()) {
+            console.println(String.format("%-14s %10d %12.3f %12.3f", statistics.getHop(), statistics.getCount(),
+                    statistics.getAverageMillis(), statistics.getMaxMillis()));
+        }
+    }
+}
@@ -21,6 +21,7 @@ import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.io.monitor.internal.metrics.BundleStateMetric;
 import org.openhab.core.io.monitor.internal.metrics.EventCountMetric;
 import org.openhab.core.io.monitor.internal.metrics.JVMMetric;
+import org.openhab.core.io.monitor.internal.metrics.LatencyMetric;
 import org.openhab.core.io.monitor.internal.metrics.OpenhabCoreMeterBinder;
 import org.openhab.core.io.monitor.internal.metrics.RuleMetric;
 import org.openhab.core.io.monitor.internal.metrics.ThingStateMetric;
@@ -91,6 +92,7 @@ public class DefaultMetricsRegistration implements ReadyService.ReadyTracker, Me
         meters.add(new ThingStateMetric(bundleContext, thingRegistry, tags));
         meters.add(new EventCountMetric(bundleContext, tags));
         meters.add(new RuleMetric(bundleContext, tags, ruleRegistry));
+        meters.add(new LatencyMetric(bundleContext, tags));
         meters.add(new ThreadPoolMetric(tags));
 
         meters.forEach(m -> m.bindTo(registry));
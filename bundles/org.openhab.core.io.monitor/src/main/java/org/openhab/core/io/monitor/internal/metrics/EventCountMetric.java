@@ -13,8 +13,9 @@
 package org.openhab.core.io.monitor.internal.metrics;
 
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -27,15 +28,20 @@ import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 
 /**
  * The {@link EventCountMetric} class implements a gauge metric for the openHAB events count (per topic)
  * topic.
+ * <p>
+ * The counters are cached per topic, so that counting an event neither allocates tags nor looks up the meter registry.
  *
  * @author Robert Bach - Initial contribution
+ * @author openHAB Core Team - Cache counters per topic
  */
 @NonNullByDefault
 public class EventCountMetric implements OpenhabCoreMeterBinder, EventSubscriber {
@@ -45,13 +51,13 @@ public class EventCountMetric implements OpenhabCoreMeterBinder, EventSubscriber
     private static final Tag CORE_EVENT_COUNT_METRIC_TAG = Tag.of("metric", "openhab.core.metric.eventcount");
     private static final String TOPIC_TAG_NAME = "topic";
     private @Nullable MeterRegistry meterRegistry;
-    private final Set<Tag> tags = new HashSet<>();
+    private final Tags tags;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
     private @Nullable ServiceRegistration<?> eventSubscriberRegistration;
     private BundleContext bundleContext;
 
     public EventCountMetric(BundleContext bundleContext, Collection<Tag> tags) {
-        this.tags.addAll(tags);
-        this.tags.add(CORE_EVENT_COUNT_METRIC_TAG);
+        this.tags = Tags.of(tags).and(CORE_EVENT_COUNT_METRIC_TAG);
         this.bundleContext = bundleContext;
     }
 
@@ -76,6 +82,7 @@ public class EventCountMetric implements OpenhabCoreMeterBinder, EventSubscriber
             }
         }
         this.meterRegistry = null;
+        counters.clear();
 
         ServiceRegistration<?> eventSubscriberRegistration = this.eventSubscriberRegistration;
         if (eventSubscriberRegistration != null) {
@@ -97,9 +104,9 @@ public class EventCountMetric implements OpenhabCoreMeterBinder, EventSubscriber
             return;
         }
         String topic = event.getTopic();
-        logger.debug("Received event on topic {}.", topic);
-        Set<Tag> tagsWithTopic = new HashSet<>(tags);
-        tagsWithTopic.add(Tag.of(TOPIC_TAG_NAME, topic));
-        meterRegistry.counter(METRIC_NAME, tagsWithTopic).increment();
+        logger.trace("Received event on topic {}.", topic);
+        counters.computeIfAbsent(topic,
+                t -> Counter.builder(METRIC_NAME).tags(tags).tag(TOPIC_TAG_NAME, t).register(meterRegistry))
+                .increment();
     }
 }
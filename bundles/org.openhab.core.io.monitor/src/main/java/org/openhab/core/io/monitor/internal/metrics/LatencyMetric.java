@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.LatencyRecorder;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The {@link LatencyMetric} class implements timer metrics for the durations of the core operations measured with the
+ * {@link LatencyRecorder}, i.e. the event queue wait, the event deserialization, the event dispatch per subscriber, the
+ * command handling per binding, the persistence store per service and the rule run time per rule.
+ * <p>
+ * The timers are cached per operation and tag, so that recording a duration neither allocates tags nor looks up the
+ * meter registry.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+public class LatencyMetric implements OpenhabCoreMeterBinder, LatencyRecorder {
+
+    private final Logger logger = LoggerFactory.getLogger(LatencyMetric.class);
+    private static final Tag CORE_LATENCY_METRIC_TAG = Tag.of("metric", "openhab.core.metric.latency");
+    private @Nullable MeterRegistry meterRegistry;
+    private final Tags tags;
+    private final Map<Operation, Map<String, Timer>> timers = new EnumMap<>(Operation.class);
+    private @Nullable ServiceRegistration<?> latencyRecorderRegistration;
+    private BundleContext bundleContext;
+
+    public LatencyMetric(BundleContext bundleContext, Collection<Tag> tags) {
+        this.tags = Tags.of(tags).and(CORE_LATENCY_METRIC_TAG);
+        this.bundleContext = bundleContext;
+        for (Operation operation : Operation.values()) {
+            timers.put(operation, new ConcurrentHashMap<>());
+        }
+    }
+
+    @Override
+    public void bindTo(@NonNullByDefault({}) MeterRegistry meterRegistry) {
+        unbind();
+        logger.debug("LatencyMetric is being bound...");
+        this.meterRegistry = meterRegistry;
+        this.latencyRecorderRegistration = this.bundleContext.registerService(LatencyRecorder.class.getName(), this,
+                null);
+    }
+
+    @Override
+    public void unbind() {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        ServiceRegistration<?> latencyRecorderRegistration = this.latencyRecorderRegistration;
+        if (latencyRecorderRegistration != null) {
+            latencyRecorderRegistration.unregister();
+            this.latencyRecorderRegistration = null;
+        }
+
+        this.meterRegistry = null;
+        timers.values().forEach(Map::clear);
+        for (Meter meter : meterRegistry.getMeters()) {
+            if (meter.getId().getTags().contains(CORE_LATENCY_METRIC_TAG)) {
+                meterRegistry.remove(meter);
+            }
+        }
+    }
+
+    @Override
+    public void record(Operation operation, String tag, long durationNanos) {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        Map<String, Timer> operationTimers = timers.get(operation);
+        if (operationTimers != null) {
+            operationTimers.computeIfAbsent(tag, t -> createTimer(meterRegistry, operation, t)).record(durationNanos,
+                    TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer createTimer(MeterRegistry meterRegistry, Operation operation, String tag) {
+        MetricName metricName = switch (operation) {
+            case EVENT_QUEUE_WAIT -> new MetricName("openhab.event.queue.wait", "subscriber");
+            case EVENT_DESERIALIZATION -> new MetricName("openhab.event.deserialization", "type");
+            case EVENT_DISPATCH -> new MetricName("openhab.event.dispatch", "subscriber");
+            case THING_HANDLE_COMMAND -> new MetricName("openhab.thing.command", "binding");
+            case PERSISTENCE_STORE -> new MetricName("openhab.persistence.store", "service");
+            case RULE_RUN -> new MetricName("openhab.rule.run", RuleMetric.RULE_ID_TAG_NAME);
+        };
+        return Timer.builder(metricName.name()).tags(tags).tag(metricName.tagName(), tag).register(meterRegistry);
+    }
+
+    private record MetricName(String name, String tagName) {
+    }
+}
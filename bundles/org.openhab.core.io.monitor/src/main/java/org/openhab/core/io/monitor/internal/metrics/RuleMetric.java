@@ -46,7 +46,7 @@ public class RuleMetric implements OpenhabCoreMeterBinder, EventSubscriber {
     public static final String RULES_TOPIC_SUFFIX = "/state";
     private final Logger logger = LoggerFactory.getLogger(RuleMetric.class);
     private static final Tag CORE_RULE_METRIC_TAG = Tag.of("metric", "openhab.core.metric.rules");
-    private static final String RULE_ID_TAG_NAME = "rule";
+    static final String RULE_ID_TAG_NAME = "rule";
     private static final String RULE_NAME_TAG_NAME = "rulename";
     private @Nullable MeterRegistry meterRegistry;
     private final Set<Tag> tags = new HashSet<>();
@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.core.common.LatencyRecorder;
+import org.openhab.core.common.LatencyRecorder.Operation;
+import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.library.types.OnOffType;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for the {@link LatencyMetric} and {@link EventCountMetric} classes
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@NonNullByDefault
+public class LatencyMetricTest {
+
+    private static final Tag TAG = Tag.of("openhab_core_metric", "true");
+
+    @Test
+    public void testTimersAreRecordedPerOperationAndTag() {
+        BundleContext bundleContext = mock(BundleContext.class);
+        ServiceRegistration<?> registration = mock(ServiceRegistration.class);
+        doReturn(registration).when(bundleContext).registerService(eq(LatencyRecorder.class.getName()), any(),
+                isNull());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LatencyMetric latencyMetric = new LatencyMetric(bundleContext, Set.of(TAG));
+
+        // nothing is recorded before the metric is bound
+        latencyMetric.record(Operation.RULE_RUN, "rule1", 1000);
+        assertTrue(meterRegistry.getMeters().isEmpty());
+
+        latencyMetric.bindTo(meterRegistry);
+        latencyMetric.record(Operation.RULE_RUN, "rule1", TimeUnit.MILLISECONDS.toNanos(10));
+        latencyMetric.record(Operation.RULE_RUN, "rule1", TimeUnit.MILLISECONDS.toNanos(30));
+        latencyMetric.record(Operation.THING_HANDLE_COMMAND, "hue", TimeUnit.MILLISECONDS.toNanos(5));
+
+        Timer ruleTimer = meterRegistry.get("openhab.rule.run").tag("rule", "rule1").tags(Set.of(TAG)).timer();
+        assertEquals(2, ruleTimer.count());
+        assertEquals(40, ruleTimer.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(1, meterRegistry.get("openhab.thing.command").tag("binding", "hue").timer().count());
+        assertEquals(2, meterRegistry.getMeters().size());
+
+        latencyMetric.unbind();
+        verify(registration).unregister();
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+
+    @Test
+    public void testEventCountersAreCachedPerTopic() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EventCountMetric eventCountMetric = new EventCountMetric(mock(BundleContext.class), Set.of(TAG));
+        eventCountMetric.bindTo(meterRegistry);
+
+        eventCountMetric.receive(ItemEventFactory.createCommandEvent("item1", OnOffType.ON));
+        eventCountMetric.receive(ItemEventFactory.createCommandEvent("item1", OnOffType.OFF));
+        eventCountMetric.receive(ItemEventFactory.createCommandEvent("item2", OnOffType.ON));
+
+        Counter counter = meterRegistry.get(EventCountMetric.METRIC_NAME)
+                .tag("topic", "openhab/items/item1/command").counter();
+        assertEquals(2, counter.count());
+        assertEquals(2, meterRegistry.getMeters().size());
+
+        eventCountMetric.unbind();
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+}
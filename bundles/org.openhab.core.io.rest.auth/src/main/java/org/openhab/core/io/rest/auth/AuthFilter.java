@@ -79,6 +79,7 @@ import org.slf4j.LoggerFactory;
  * @author Sebastian Gerber - Add basic auth caching
  * @author Kai Kreuzer - Add null annotations, constructor initialization
  * @author Miguel Álvarez - Add trusted networks for implicit user role
+ * @author openHAB Core Team - Add API token caching
  */
 @PreMatching
 @Component(configurationPid = "org.openhab.restauth", property = Constants.SERVICE_PID
@@ -99,14 +100,18 @@ public class AuthFilter implements ContainerRequestFilter {
     static final String CONFIG_IMPLICIT_USER_ROLE = "implicitUserRole";
     static final String CONFIG_TRUSTED_NETWORKS = "trustedNetworks";
     static final String CONFIG_CACHE_EXPIRATION = "cacheExpiration";
+    static final int API_TOKEN_CACHE_SIZE = 100;
 
     private boolean allowBasicAuth = false;
     private boolean implicitUserRole = true;
     private List<CIDR> trustedNetworks = List.of();
-    private Long cacheExpiration = 6L;
+    private volatile Long cacheExpiration = 6L;
 
-    private ExpiringUserSecurityContextCache authCache = new ExpiringUserSecurityContextCache(
+    // replaced when the configuration is modified, while requests are being authenticated
+    private volatile ExpiringUserSecurityContextCache authCache = new ExpiringUserSecurityContextCache(
             Duration.ofHours(cacheExpiration).toMillis());
+    private volatile ExpiringUserSecurityContextCache apiTokenCache = new ExpiringUserSecurityContextCache(
+            Duration.ofHours(cacheExpiration).toMillis(), API_TOKEN_CACHE_SIZE);
 
     private static final byte[] RANDOM_BYTES = new byte[32];
 
@@ -124,12 +129,13 @@ public class AuthFilter implements ContainerRequestFilter {
 
         @Override
         public void removed(User element) {
-            authCache.clear();
+            removeFromCaches(element.getName());
         }
 
         @Override
         public void updated(User oldElement, User element) {
-            authCache.clear();
+            // API tokens and roles are part of the user, so any change of them results in an update
+            removeFromCaches(oldElement.getName());
         }
     };
 
@@ -160,10 +166,18 @@ public class AuthFilter implements ContainerRequestFilter {
                 logger.warn("Ignoring invalid configuration value '{}' for cacheExpiration parameter.",
                         properties.get(CONFIG_CACHE_EXPIRATION));
             }
-            authCache.clear();
+            long expirationTime = Duration.ofHours(cacheExpiration).toMillis();
+            authCache = new ExpiringUserSecurityContextCache(expirationTime);
+            apiTokenCache = new ExpiringUserSecurityContextCache(expirationTime, API_TOKEN_CACHE_SIZE);
         }
     }
 
+    private void removeFromCaches(String username) {
+        authCache.remove(username);
+        apiTokenCache.remove(username);
+        jwtHelper.removeVerifiedTokens(username);
+    }
+
     @Deactivate
     protected void deactivate() {
         userRegistry.removeRegistryChangeListener(userRegistryListener);
@@ -177,24 +191,40 @@ public class AuthFilter implements ContainerRequestFilter {
         try {
             final MessageDigest md = MessageDigest.getInstance("SHA-256");
             md.update(RANDOM_BYTES);
-            return new String(md.digest(credentials.getBytes()));
+            return Base64.getEncoder().encodeToString(md.digest(credentials.getBytes(StandardCharsets.UTF_8)));
         } catch (NoSuchAlgorithmException e) {
             // SHA-256 is available for all java distributions so this code will actually never run
             // If it does we'll just flood the cache with random values
-            logger.warn("SHA-256 is not available. Cache for basic auth disabled!");
+            logger.warn("SHA-256 is not available. Cache for basic auth and API tokens disabled!");
             return null;
         }
     }
 
     private SecurityContext authenticateBearerToken(String token) throws AuthenticationException {
         if (token.startsWith(API_TOKEN_PREFIX)) {
+            // verifying API tokens is expensive by design, so verified tokens are cached like basic auth credentials
+            final String cacheKey = getCacheKey(token);
+            if (cacheKey != null) {
+                final UserSecurityContext cachedValue = apiTokenCache.get(cacheKey);
+                if (cachedValue != null) {
+                    return cachedValue;
+                }
+            }
+
             UserApiTokenCredentials credentials = new UserApiTokenCredentials(token);
             Authentication auth = userRegistry.authenticate(credentials);
             User user = userRegistry.get(auth.getUsername());
             if (user == null) {
                 throw new AuthenticationException("User not found in registry");
             }
-            return new UserSecurityContext(user, auth, "ApiToken");
+
+            UserSecurityContext context = new UserSecurityContext(user, auth, "ApiToken");
+
+            if (cacheKey != null) {
+                apiTokenCache.put(cacheKey, context);
+            }
+
+            return context;
         } else {
             Authentication auth = jwtHelper.verifyAndParseJwtAccessToken(token);
             return new JwtSecurityContext(auth);
@@ -12,7 +12,6 @@
  */
 package org.openhab.core.io.rest.auth.internal;
 
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -20,11 +19,12 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 
 /**
- * This class provides a cache for up to 10 UserSecurityContexts.
+ * This class provides a cache for up to 10 (or a configured number of) UserSecurityContexts.
  * Entries have a lifetime and are removed from the cache upon the next
- * get call.
+ * get call. When the cache is full, the least recently used entry is removed.
  *
  * @author Kai Kreuzer - Initial contribution
+ * @author openHAB Core Team - Add size limit and removal of the entries of a user
  *
  */
 @NonNullByDefault
@@ -38,12 +38,16 @@ public class ExpiringUserSecurityContextCache {
     private int calls = 0;
 
     public ExpiringUserSecurityContextCache(long expirationTime) {
+        this(expirationTime, MAX_SIZE);
+    }
+
+    public ExpiringUserSecurityContextCache(long expirationTime, int maxSize) {
         this.keepPeriod = expirationTime;
-        entryMap = new LinkedHashMap<>() {
+        entryMap = new LinkedHashMap<>(16, 0.75f, true) {
             private static final long serialVersionUID = -1220310861591070462L;
 
             protected boolean removeEldestEntry(Map.@Nullable Entry<String, Entry> eldest) {
-                return size() > MAX_SIZE;
+                return size() > maxSize;
             }
         };
     }
@@ -51,7 +55,8 @@ public class ExpiringUserSecurityContextCache {
     public synchronized @Nullable UserSecurityContext get(String key) {
         calls++;
         if (calls >= CLEANUP_FREQUENCY) {
-            new HashSet<>(entryMap.keySet()).forEach(k -> getEntry(k));
+            final long curTimeMillis = System.currentTimeMillis();
+            entryMap.values().removeIf(entry -> isExpired(entry, curTimeMillis));
             calls = 0;
         }
         Entry entry = getEntry(key);
@@ -69,12 +74,20 @@ public class ExpiringUserSecurityContextCache {
         entryMap.clear();
     }
 
+    /**
+     * Removes all entries of the given user.
+     *
+     * @param username the name of the user
+     */
+    public synchronized void remove(String username) {
+        entryMap.values().removeIf(entry -> username.equals(entry.value.getAuthentication().getUsername()));
+    }
+
     private @Nullable Entry getEntry(String key) {
         Entry entry = entryMap.get(key);
         if (entry != null) {
             final long curTimeMillis = System.currentTimeMillis();
-            long entryAge = curTimeMillis - entry.timestamp;
-            if (entryAge < 0 || entryAge >= keepPeriod) {
+            if (isExpired(entry, curTimeMillis)) {
                 entryMap.remove(key);
                 entry = null;
             } else {
@@ -84,6 +97,11 @@ public class ExpiringUserSecurityContextCache {
         return entry;
     }
 
+    private boolean isExpired(Entry entry, long curTimeMillis) {
+        long entryAge = curTimeMillis - entry.timestamp;
+        return entryAge < 0 || entryAge >= keepPeriod;
+    }
+
     static class Entry {
         public long timestamp;
         public final UserSecurityContext value;
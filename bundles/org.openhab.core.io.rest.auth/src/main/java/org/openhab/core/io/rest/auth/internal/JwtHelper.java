@@ -18,11 +18,17 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.jose4j.jwa.AlgorithmConstraints.ConstraintType;
 import org.jose4j.jwk.JsonWebKey;
 import org.jose4j.jwk.JsonWebKey.OutputControlLevel;
@@ -47,7 +53,11 @@ import org.slf4j.LoggerFactory;
 /**
  * This class helps with JWT tokens' building, signing, verifying and parsing.
  *
+ * Verified tokens are cached until they expire, so that clients sending the same token with every request do not
+ * require the signature to be verified again.
+ *
  * @author Yannick Schaus - initial contribution
+ * @author openHAB Core Team - Cache verified tokens
  */
 @NonNullByDefault
 @Component(immediate = true, service = JwtHelper.class)
@@ -60,8 +70,22 @@ public class JwtHelper {
     private static final String ISSUER_NAME = "openhab";
     private static final String AUDIENCE = "openhab";
 
+    static final int VERIFIED_TOKEN_CACHE_SIZE = 100;
+
     private RsaJsonWebKey jwtWebKey;
 
+    private final Map<String, VerifiedToken> verifiedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 4107452291183563232L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, VerifiedToken> eldest) {
+            return size() > VERIFIED_TOKEN_CACHE_SIZE;
+        }
+    };
+
+    private record VerifiedToken(Authentication authentication, long expirationTimeMillis) {
+    }
+
     public JwtHelper() {
         try {
             jwtWebKey = loadOrGenerateKey();
@@ -137,6 +161,19 @@ public class JwtHelper {
      * @throws AuthenticationException
      */
     public Authentication verifyAndParseJwtAccessToken(String jwt) throws AuthenticationException {
+        String cacheKey = getCacheKey(jwt);
+        if (cacheKey != null) {
+            synchronized (verifiedTokens) {
+                VerifiedToken verifiedToken = verifiedTokens.get(cacheKey);
+                if (verifiedToken != null) {
+                    if (System.currentTimeMillis() < verifiedToken.expirationTimeMillis()) {
+                        return verifiedToken.authentication();
+                    }
+                    verifiedTokens.remove(cacheKey);
+                }
+            }
+        }
+
         JwtConsumer jwtConsumer = new JwtConsumerBuilder().setRequireExpirationTime().setAllowedClockSkewInSeconds(30)
                 .setRequireSubject().setExpectedIssuer(ISSUER_NAME).setExpectedAudience(AUDIENCE)
                 .setVerificationKey(jwtWebKey.getKey())
@@ -147,9 +184,39 @@ public class JwtHelper {
             String username = jwtClaims.getSubject();
             List<String> roles = jwtClaims.getStringListClaimValue("role");
             String scope = jwtClaims.getStringClaimValue("scope");
-            return new Authentication(username, roles.toArray(new String[roles.size()]), scope);
+            Authentication authentication = new Authentication(username, roles.toArray(new String[roles.size()]),
+                    scope);
+            if (cacheKey != null) {
+                long expirationTimeMillis = jwtClaims.getExpirationTime().getValueInMillis();
+                synchronized (verifiedTokens) {
+                    verifiedTokens.put(cacheKey, new VerifiedToken(authentication, expirationTimeMillis));
+                }
+            }
+            return authentication;
         } catch (InvalidJwtException | MalformedClaimException e) {
             throw new AuthenticationException("Error while processing JWT token", e);
         }
     }
+
+    /**
+     * Removes the verified tokens of a user from the cache, e.g. after the user or its roles have changed
+     *
+     * @param username the name of the user
+     */
+    public void removeVerifiedTokens(String username) {
+        synchronized (verifiedTokens) {
+            verifiedTokens.values()
+                    .removeIf(verifiedToken -> username.equals(verifiedToken.authentication().getUsername()));
+        }
+    }
+
+    private @Nullable String getCacheKey(String jwt) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(md.digest(jwt.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is available for all java distributions, without it the tokens are not cached
+            return null;
+        }
+    }
 }
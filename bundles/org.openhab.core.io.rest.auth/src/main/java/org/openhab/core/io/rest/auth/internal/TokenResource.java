@@ -51,7 +51,7 @@ import org.openhab.core.auth.UserSession;
 import org.openhab.core.io.rest.JSONResponse;
 import org.openhab.core.io.rest.RESTConstants;
 import org.openhab.core.io.rest.RESTResource;
-import org.openhab.core.io.rest.Stream2JSONInputStream;
+import org.openhab.core.io.rest.Stream2JSONOutput;
 import org.openhab.core.io.rest.auth.internal.TokenEndpointException.ErrorType;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -158,7 +158,7 @@ public class TokenResource implements RESTResource {
         }
 
         Stream<UserSessionDTO> sessions = user.getSessions().stream().map(this::toUserSessionDTO);
-        return Response.ok(new Stream2JSONInputStream(sessions)).build();
+        return Response.ok(new Stream2JSONOutput(sessions)).build();
     }
 
     @GET
@@ -179,7 +179,7 @@ public class TokenResource implements RESTResource {
         }
 
         Stream<UserApiTokenDTO> sessions = user.getApiTokens().stream().map(this::toUserApiTokenDTO);
-        return Response.ok(new Stream2JSONInputStream(sessions)).build();
+        return Response.ok(new Stream2JSONOutput(sessions)).build();
     }
 
     @DELETE
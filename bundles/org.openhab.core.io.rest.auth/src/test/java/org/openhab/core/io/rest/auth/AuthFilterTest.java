@@ -12,6 +12,7 @@
  */
 package org.openhab.core.io.rest.auth;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -25,13 +26,20 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.openhab.core.auth.Authentication;
+import org.openhab.core.auth.AuthenticationException;
+import org.openhab.core.auth.GenericUser;
+import org.openhab.core.auth.User;
+import org.openhab.core.auth.UserApiTokenCredentials;
 import org.openhab.core.auth.UserRegistry;
+import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.io.rest.auth.internal.JwtHelper;
 
 /**
@@ -113,4 +121,77 @@ public class AuthFilterTest {
 
         verify(containerRequestContext, never()).setSecurityContext(any());
     }
+
+    @Test
+    public void verifiedApiTokensAreCached() throws IOException, AuthenticationException {
+        AuthFilter filter = createAuthFilter();
+        mockApiTokenAuthentication();
+
+        assertNotNull(filter.getSecurityContext(servletRequest, false));
+        assertNotNull(filter.getSecurityContext(servletRequest, false));
+
+        verify(userRegistryMock, times(1)).authenticate(any(UserApiTokenCredentials.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void apiTokenCacheIsClearedWhenUserChanges() throws IOException, AuthenticationException {
+        AuthFilter filter = createAuthFilter();
+        ArgumentCaptor<RegistryChangeListener<User>> listenerCaptor = ArgumentCaptor
+                .forClass(RegistryChangeListener.class);
+        verify(userRegistryMock).addRegistryChangeListener(listenerCaptor.capture());
+        User user = mockApiTokenAuthentication();
+
+        filter.getSecurityContext(servletRequest, false);
+        listenerCaptor.getValue().updated(user, user);
+        filter.getSecurityContext(servletRequest, false);
+
+        verify(userRegistryMock, times(2)).authenticate(any(UserApiTokenCredentials.class));
+        verify(jwtHelperMock).removeVerifiedTokens("user");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void apiTokenCacheIsKeptWhenOtherUserChanges() throws IOException, AuthenticationException {
+        AuthFilter filter = createAuthFilter();
+        ArgumentCaptor<RegistryChangeListener<User>> listenerCaptor = ArgumentCaptor
+                .forClass(RegistryChangeListener.class);
+        verify(userRegistryMock).addRegistryChangeListener(listenerCaptor.capture());
+        mockApiTokenAuthentication();
+        User otherUser = new GenericUser("other");
+
+        filter.getSecurityContext(servletRequest, false);
+        listenerCaptor.getValue().updated(otherUser, otherUser);
+        filter.getSecurityContext(servletRequest, false);
+
+        verify(userRegistryMock, times(1)).authenticate(any(UserApiTokenCredentials.class));
+        verify(jwtHelperMock).removeVerifiedTokens("other");
+        verify(jwtHelperMock, never()).removeVerifiedTokens("user");
+    }
+
+    @Test
+    public void invalidApiTokensAreNotCached() throws AuthenticationException {
+        AuthFilter filter = createAuthFilter();
+        when(servletRequest.getHeader(AuthFilter.ALT_AUTH_HEADER)).thenReturn("oh.test.invalid");
+        when(userRegistryMock.authenticate(any())).thenThrow(new AuthenticationException("Wrong API token"));
+
+        assertThrows(AuthenticationException.class, () -> filter.getSecurityContext(servletRequest, false));
+        assertThrows(AuthenticationException.class, () -> filter.getSecurityContext(servletRequest, false));
+
+        verify(userRegistryMock, times(2)).authenticate(any(UserApiTokenCredentials.class));
+    }
+
+    private AuthFilter createAuthFilter() {
+        AuthFilter filter = new AuthFilter(jwtHelperMock, userRegistryMock);
+        filter.activate(Map.of());
+        return filter;
+    }
+
+    private User mockApiTokenAuthentication() throws AuthenticationException {
+        User user = new GenericUser("user");
+        when(servletRequest.getHeader(AuthFilter.ALT_AUTH_HEADER)).thenReturn("oh.test.token");
+        when(userRegistryMock.authenticate(any())).thenReturn(new Authentication("user", "user"));
+        when(userRegistryMock.get("user")).thenReturn(user);
+        return user;
+    }
 }
@@ -30,6 +30,7 @@ import org.openhab.core.auth.GenericUser;
  * Tests {@link ExpiringUserSecurityContextCache}.
  *
  * @author Wouter Born - Initial contribution
+ * @author openHAB Core Team - Added test for removing the entries of a user
  */
 @NonNullByDefault
 public class ExpiringUserSecurityContextCacheTest {
@@ -93,6 +94,18 @@ public class ExpiringUserSecurityContextCacheTest {
         assertValuesAreNotCached(values, cache);
     }
 
+    @Test
+    public void valuesOfRemovedUserAreNotReturned() {
+        ExpiringUserSecurityContextCache cache = createCache(ONE_HOUR);
+        Map<String, UserSecurityContext> values = createValues(MAX_SIZE);
+        addValues(cache, values);
+        cache.remove("user0");
+
+        Map<String, UserSecurityContext> removedValues = Map.of("key0", values.remove("key0"));
+        assertValuesAreNotCached(removedValues, cache);
+        assertValuesAreCached(values, cache);
+    }
+
     @Test
     public void eldestEntriesAreRemovedWhenMaxSizeIsExceeded() {
         ExpiringUserSecurityContextCache cache = createCache(ONE_HOUR);
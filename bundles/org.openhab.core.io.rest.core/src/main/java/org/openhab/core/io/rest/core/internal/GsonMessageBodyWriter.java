@@ -23,6 +23,7 @@ import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response.ResponseBuilder;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.ext.MessageBodyWriter;
 
 import org.openhab.core.io.rest.JSONInputStream;
@@ -35,6 +36,7 @@ import com.google.gson.Gson;
  * A message body writer for JSON using GSON.
  *
  * @author Markus Rathgeb - Initial contribution
+ * @author openHAB Core Team - Write streaming outputs directly
  */
 public class GsonMessageBodyWriter<T> implements MessageBodyWriter<T> {
 
@@ -79,7 +81,9 @@ public class GsonMessageBodyWriter<T> implements MessageBodyWriter<T> {
         }
 
         try {
-            if (object instanceof InputStream stream && object instanceof JSONInputStream) {
+            if (object instanceof StreamingOutput output) {
+                output.write(entityStream);
+            } else if (object instanceof InputStream stream && object instanceof JSONInputStream) {
                 stream.transferTo(entityStream);
             } else {
                 entityStream.write(gson.toJson(object).getBytes(StandardCharsets.UTF_8));
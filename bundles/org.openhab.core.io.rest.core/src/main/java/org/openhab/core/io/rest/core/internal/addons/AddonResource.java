@@ -63,7 +63,7 @@ import org.openhab.core.io.rest.JSONResponse;
 import org.openhab.core.io.rest.LocaleService;
 import org.openhab.core.io.rest.RESTConstants;
 import org.openhab.core.io.rest.RESTResource;
-import org.openhab.core.io.rest.Stream2JSONInputStream;
+import org.openhab.core.io.rest.Stream2JSONOutput;
 import org.openhab.core.io.rest.core.config.ConfigurationService;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -159,13 +159,13 @@ public class AddonResource implements RESTResource {
         logger.debug("Received HTTP GET request at '{}'", uriInfo.getPath());
         Locale locale = localeService.getLocale(language);
         if ("all".equals(serviceId)) {
-            return Response.ok(new Stream2JSONInputStream(getAllAddons(locale))).build();
+            return Response.ok(new Stream2JSONOutput(getAllAddons(locale))).build();
         } else {
             AddonService addonService = (serviceId != null) ? getServiceById(serviceId) : getDefaultService();
             if (addonService == null) {
                 return Response.status(HttpStatus.NOT_FOUND_404).build();
             }
-            return Response.ok(new Stream2JSONInputStream(addonService.getAddons(locale).stream())).build();
+            return Response.ok(new Stream2JSONOutput(addonService.getAddons(locale).stream())).build();
         }
     }
 
@@ -179,7 +179,7 @@ public class AddonResource implements RESTResource {
         logger.debug("Received HTTP GET request at '{}'", uriInfo.getPath());
         Locale locale = localeService.getLocale(language);
         Stream<AddonServiceDTO> addonTypeStream = addonServices.stream().map(s -> convertToAddonServiceDTO(s, locale));
-        return Response.ok(new Stream2JSONInputStream(addonTypeStream)).build();
+        return Response.ok(new Stream2JSONOutput(addonTypeStream)).build();
     }
 
     @GET
@@ -191,7 +191,7 @@ public class AddonResource implements RESTResource {
             @HeaderParam("Accept-Language") @Parameter(description = "language") @Nullable String language) {
         logger.debug("Received HTTP GET request at '{}'", uriInfo.getPath());
         Locale locale = localeService.getLocale(language);
-        return Response.ok(new Stream2JSONInputStream(addonSuggestionService.getSuggestedAddons(locale).stream()))
+        return Response.ok(new Stream2JSONOutput(addonSuggestionService.getSuggestedAddons(locale).stream()))
                 .build();
     }
 
@@ -211,13 +211,13 @@ public class AddonResource implements RESTResource {
             AddonService service = getServiceById(serviceId);
             if (service != null) {
                 Stream<AddonType> addonTypeStream = getAddonTypesForService(service, locale).stream().distinct();
-                return Response.ok(new Stream2JSONInputStream(addonTypeStream)).build();
+                return Response.ok(new Stream2JSONOutput(addonTypeStream)).build();
             } else {
                 return Response.status(HttpStatus.NOT_FOUND_404).build();
             }
         } else {
             Stream<AddonType> addonTypeStream = getAllAddonTypes(locale).stream().distinct();
-            return Response.ok(new Stream2JSONInputStream(addonTypeStream)).build();
+            return Response.ok(new Stream2JSONOutput(addonTypeStream)).build();
         }
     }
 
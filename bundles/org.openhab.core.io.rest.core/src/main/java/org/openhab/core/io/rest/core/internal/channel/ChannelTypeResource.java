@@ -44,7 +44,7 @@ import org.openhab.core.config.core.dto.ConfigDescriptionParameterGroupDTO;
 import org.openhab.core.io.rest.LocaleService;
 import org.openhab.core.io.rest.RESTConstants;
 import org.openhab.core.io.rest.RESTResource;
-import org.openhab.core.io.rest.Stream2JSONInputStream;
+import org.openhab.core.io.rest.Stream2JSONOutput;
 import org.openhab.core.thing.dto.ChannelTypeDTO;
 import org.openhab.core.thing.profiles.ProfileType;
 import org.openhab.core.thing.profiles.ProfileTypeRegistry;
@@ -132,7 +132,7 @@ public class ChannelTypeResource implements RESTResource {
             channelStream = channelStream.filter(filter);
         }
 
-        return Response.ok(new Stream2JSONInputStream(channelStream)).build();
+        return Response.ok(new Stream2JSONOutput(channelStream)).build();
     }
 
     @GET
@@ -38,7 +38,7 @@ import org.openhab.core.io.rest.JSONResponse;
 import org.openhab.core.io.rest.LocaleService;
 import org.openhab.core.io.rest.RESTConstants;
 import org.openhab.core.io.rest.RESTResource;
-import org.openhab.core.io.rest.Stream2JSONInputStream;
+import org.openhab.core.io.rest.Stream2JSONOutput;
 import org.openhab.core.io.rest.core.config.EnrichedConfigDescriptionDTOMapper;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -102,7 +102,7 @@ public class ConfigDescriptionResource implements RESTResource {
             @QueryParam("scheme") @Parameter(description = "scheme filter") @Nullable String scheme) {
         Locale locale = localeService.getLocale(language);
         Collection<ConfigDescription> configDescriptions = configDescriptionRegistry.getConfigDescriptions(locale);
-        return Response.ok(new Stream2JSONInputStream(configDescriptions.stream()
+        return Response.ok(new Stream2JSONOutput(configDescriptions.stream()
                 .filter(configDescription -> scheme == null || scheme.equals(configDescription.getUID().getScheme()))
                 .map(EnrichedConfigDescriptionDTOMapper::map))).build();
     }
@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.rest.core.internal.item;
+
+import javax.annotation.security.RolesAllowed;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.auth.Role;
+import org.openhab.core.io.rest.RESTConstants;
+import org.openhab.core.io.rest.RESTResource;
+import org.openhab.core.items.events.CommandTraceStatistics;
+import org.openhab.core.items.events.CommandTracer;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.jaxrs.whiteboard.JaxrsWhiteboardConstants;
+import org.osgi.service.jaxrs.whiteboard.propertytypes.JSONRequired;
+import org.osgi.service.jaxrs.whiteboard.propertytypes.JaxrsApplicationSelect;
+import org.osgi.service.jaxrs.whiteboard.propertytypes.JaxrsName;
+import org.osgi.service.jaxrs.whiteboard.propertytypes.JaxrsResource;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+
+/**
+ * This class acts as a REST resource for the command latencies aggregated by the {@link CommandTracer}.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@Component
+@JaxrsResource
+@JaxrsName(CommandTraceResource.PATH_COMMAND_TRACES)
+@JaxrsApplicationSelect("(" + JaxrsWhiteboardConstants.JAX_RS_NAME + "=" + RESTConstants.JAX_RS_NAME + ")")
+@JSONRequired
+@Path(CommandTraceResource.PATH_COMMAND_TRACES)
+@io.swagger.v3.oas.annotations.tags.Tag(name = CommandTraceResource.PATH_COMMAND_TRACES)
+@NonNullByDefault
+public class CommandTraceResource implements RESTResource {
+
+    /** The URI path to this resource */
+    public static final String PATH_COMMAND_TRACES = "commandtraces";
+
+    private final CommandTracer commandTracer;
+
+    @Activate
+    public CommandTraceResource(final @Reference CommandTracer commandTracer) {
+        this.commandTracer = commandTracer;
+    }
+
+    @GET
+    @RolesAllowed({ Role.USER, Role.ADMIN })
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "getCommandTraceStatistics", summary = "Get the latencies of sampled commands per hop.", responses = {
+            @ApiResponse(responseCode = "200", description = "OK", content = @Content(array = @ArraySchema(schema = @Schema(implementation = CommandTraceStatistics.class)))) })
+    public Response getStatistics() {
+        return Response.ok(commandTracer.getStatistics()).build();
+    }
+
+    @DELETE
+    @RolesAllowed({ Role.ADMIN })
+    @Operation(operationId = "resetCommandTraceStatistics", summary = "Resets the latencies of sampled commands.", security = {
+            @SecurityRequirement(name = "oauth2", scopes = { "admin" }) }, responses = {
+                    @ApiResponse(responseCode = "200", description = "OK") })
+    public Response resetStatistics() {
+        commandTracer.resetStatistics();
+        return Response.ok(null, MediaType.TEXT_PLAIN).build();
+    }
+}
@@ -12,12 +12,9 @@
  */
 package org.openhab.core.io.rest.core.internal.item;
 
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -44,6 +41,7 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.CacheControl;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
@@ -56,14 +54,15 @@ import javax.ws.rs.core.UriInfo;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.auth.Role;
-import org.openhab.core.common.registry.RegistryChangedRunnableListener;
 import org.openhab.core.events.EventPublisher;
 import org.openhab.core.io.rest.DTOMapper;
 import org.openhab.core.io.rest.JSONResponse;
 import org.openhab.core.io.rest.LocaleService;
 import org.openhab.core.io.rest.RESTConstants;
 import org.openhab.core.io.rest.RESTResource;
-import org.openhab.core.io.rest.Stream2JSONInputStream;
+import org.openhab.core.io.rest.RegistryChangesDTO;
+import org.openhab.core.io.rest.RegistryRevisions;
+import org.openhab.core.io.rest.Stream2JSONOutput;
 import org.openhab.core.io.rest.core.item.EnrichedGroupItemDTO;
 import org.openhab.core.io.rest.core.item.EnrichedItemDTO;
 import org.openhab.core.io.rest.core.item.EnrichedItemDTOMapper;
@@ -93,7 +92,6 @@ import org.openhab.core.types.State;
 import org.openhab.core.types.TypeParser;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
-import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.jaxrs.whiteboard.JaxrsWhiteboardConstants;
 import org.osgi.service.jaxrs.whiteboard.propertytypes.JSONRequired;
@@ -136,6 +134,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
  * @author Stefan Triller - Added bulk item add method
  * @author Markus Rathgeb - Migrated to JAX-RS Whiteboard Specification
  * @author Wouter Born - Migrated to OpenAPI annotations
+ * @author openHAB Core Team - Use registry revisions for conditional requests
+ * @author openHAB Core Team - Store the items of bulk requests at once
  */
 @Component
 @JaxrsResource
@@ -182,17 +182,6 @@ public class ItemResource implements RESTResource {
     private final MetadataSelectorMatcher metadataSelectorMatcher;
     private final SemanticTagRegistry semanticTagRegistry;
 
-    private void resetCacheableListsLastModified() {
-        this.cacheableListsLastModified.clear();
-    }
-
-    private final RegistryChangedRunnableListener<Item> resetLastModifiedItemChangeListener = new RegistryChangedRunnableListener<>(
-            this::resetCacheableListsLastModified);
-    private final RegistryChangedRunnableListener<Metadata> resetLastModifiedMetadataChangeListener = new RegistryChangedRunnableListener<>(
-            this::resetCacheableListsLastModified);
-
-    private Map<@Nullable String, Date> cacheableListsLastModified = new HashMap<>();
-
     @Activate
     public ItemResource(//
             final @Reference DTOMapper dtoMapper, //
@@ -213,15 +202,6 @@ public class ItemResource implements RESTResource {
         this.metadataRegistry = metadataRegistry;
         this.metadataSelectorMatcher = metadataSelectorMatcher;
         this.semanticTagRegistry = semanticTagRegistry;
-
-        this.itemRegistry.addRegistryChangeListener(resetLastModifiedItemChangeListener);
-        this.metadataRegistry.addRegistryChangeListener(resetLastModifiedMetadataChangeListener);
-    }
-
-    @Deactivate
-    void deactivate() {
-        this.itemRegistry.removeRegistryChangeListener(resetLastModifiedItemChangeListener);
-        this.metadataRegistry.removeRegistryChangeListener(resetLastModifiedMetadataChangeListener);
     }
 
     private UriBuilder uriBuilder(final UriInfo uriInfo, final HttpHeaders httpHeaders) {
@@ -243,24 +223,18 @@ public class ItemResource implements RESTResource {
             @DefaultValue(".*") @QueryParam("metadata") @Parameter(description = "metadata selector - a comma separated list or a regular expression (returns all if no value given)") @Nullable String namespaceSelector,
             @DefaultValue("false") @QueryParam("recursive") @Parameter(description = "get member items recursively") boolean recursive,
             @QueryParam("fields") @Parameter(description = "limit output to the given fields (comma separated)") @Nullable String fields,
-            @DefaultValue("false") @QueryParam("staticDataOnly") @Parameter(description = "provides a cacheable list of values not expected to change regularly and checks the If-Modified-Since header, all other parameters are ignored except \"metadata\"") boolean staticDataOnly) {
+            @DefaultValue("false") @QueryParam("staticDataOnly") @Parameter(description = "provides a cacheable list of values not expected to change regularly and checks the If-None-Match header, all other parameters are ignored except \"metadata\"") boolean staticDataOnly) {
         final Locale locale = localeService.getLocale(language);
         final Set<String> namespaces = splitAndFilterNamespaces(namespaceSelector, locale);
 
         final UriBuilder uriBuilder = uriBuilder(uriInfo, httpHeaders);
 
         if (staticDataOnly) {
-            Date lastModifiedDate = Date.from(Instant.now());
-            if (cacheableListsLastModified.containsKey(namespaceSelector)) {
-                lastModifiedDate = cacheableListsLastModified.get(namespaceSelector);
-                Response.ResponseBuilder responseBuilder = request.evaluatePreconditions(lastModifiedDate);
-                if (responseBuilder != null) {
-                    // send 304 Not Modified
-                    return responseBuilder.build();
-                }
-            } else {
-                lastModifiedDate = Date.from(Instant.now().truncatedTo(ChronoUnit.SECONDS));
-                cacheableListsLastModified.put(namespaceSelector, lastModifiedDate);
+            EntityTag entityTag = RegistryRevisions.createEntityTag(locale, itemRegistry, metadataRegistry);
+            Response.ResponseBuilder responseBuilder = RegistryRevisions.evaluatePreconditions(request, entityTag);
+            if (responseBuilder != null) {
+                // send 304 Not Modified
+                return responseBuilder.build();
             }
 
             Stream<EnrichedItemDTO> itemStream = getItems(type, tags).stream() //
@@ -274,8 +248,7 @@ public class ItemResource implements RESTResource {
             cc.setNoCache(true);
             cc.setMustRevalidate(true);
             cc.setPrivate(true);
-            return Response.ok(new Stream2JSONInputStream(itemStream)).lastModified(lastModifiedDate).cacheControl(cc)
-                    .build();
+            return Response.ok(new Stream2JSONOutput(itemStream)).tag(entityTag).cacheControl(cc).build();
         }
 
         Stream<EnrichedItemDTO> itemStream = getItems(type, tags).stream() //
@@ -290,7 +263,27 @@ public class ItemResource implements RESTResource {
                     }
                 });
         itemStream = dtoMapper.limitToFields(itemStream, fields);
-        return Response.ok(new Stream2JSONInputStream(itemStream)).build();
+        return Response.ok(new Stream2JSONOutput(itemStream)).build();
+    }
+
+    @GET
+    @RolesAllowed({ Role.USER, Role.ADMIN })
+    @Path("/changes/{revision: [0-9]+}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "getItemChanges", summary = "Get the items changed since the given revision of the item registry.", responses = {
+            @ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = RegistryChangesDTO.class))),
+            @ApiResponse(responseCode = "410", description = "Changes are not available, all items have to be reloaded.") })
+    public Response getItemChanges(final @Context UriInfo uriInfo, final @Context HttpHeaders httpHeaders,
+            @HeaderParam(HttpHeaders.ACCEPT_LANGUAGE) @Parameter(description = "language") @Nullable String language,
+            @PathParam("revision") @Parameter(description = "revision of the item registry") long revision) {
+        final Locale locale = localeService.getLocale(language);
+        final UriBuilder uriBuilder = uriBuilder(uriInfo, httpHeaders);
+
+        return RegistryRevisions.createChangesResponse(itemRegistry, revision, item -> {
+            EnrichedItemDTO dto = EnrichedItemDTOMapper.map(item, false, null, uriBuilder, locale);
+            dto.editable = isEditable(dto.name);
+            return dto;
+        });
     }
 
     /**
@@ -311,7 +304,7 @@ public class ItemResource implements RESTResource {
 
         if (item != null) {
             final Collection<String> namespaces = metadataRegistry.getAllNamespaces(itemname);
-            return Response.ok(new Stream2JSONInputStream(namespaces.stream())).build();
+            return Response.ok(new Stream2JSONOutput(namespaces.stream())).build();
         } else {
             return getItemNotFoundResponse(itemname);
         }
@@ -837,15 +830,14 @@ public class ItemResource implements RESTResource {
         List<Item> updatedItems = new ArrayList<>();
         List<Item> failedItems = new ArrayList<>();
 
+        Set<String> createdItemNames = new HashSet<>();
         for (Item activeItem : activeItems) {
             String itemName = activeItem.getName();
-            if (getItem(itemName) == null) {
+            if (getItem(itemName) == null && createdItemNames.add(itemName)) {
                 // item does not yet exist, create it
-                managedItemProvider.add(activeItem);
                 createdItems.add(activeItem);
-            } else if (managedItemProvider.get(itemName) != null) {
-                // item already exists as a managed item, update it
-                managedItemProvider.update(activeItem);
+            } else if (createdItemNames.contains(itemName) || managedItemProvider.get(itemName) != null) {
+                // item already exists as a managed item or is created by this request, update it
                 updatedItems.add(activeItem);
             } else {
                 // Item exists but cannot be updated
@@ -854,6 +846,14 @@ public class ItemResource implements RESTResource {
             }
         }
 
+        // store the items with a single commit
+        if (!createdItems.isEmpty()) {
+            managedItemProvider.addAll(createdItems);
+        }
+        if (!updatedItems.isEmpty()) {
+            managedItemProvider.updateAll(updatedItems);
+        }
+
         // build response
         List<JsonObject> responseList = new ArrayList<>();
 
@@ -26,7 +26,10 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
 
@@ -37,7 +40,9 @@ import org.openhab.core.config.core.Configuration;
 import org.openhab.core.io.rest.JSONResponse;
 import org.openhab.core.io.rest.RESTConstants;
 import org.openhab.core.io.rest.RESTResource;
-import org.openhab.core.io.rest.Stream2JSONInputStream;
+import org.openhab.core.io.rest.RegistryChangesDTO;
+import org.openhab.core.io.rest.RegistryRevisions;
+import org.openhab.core.io.rest.Stream2JSONOutput;
 import org.openhab.core.io.rest.core.link.EnrichedItemChannelLinkDTO;
 import org.openhab.core.io.rest.core.link.EnrichedItemChannelLinkDTOMapper;
 import org.openhab.core.items.Item;
@@ -87,6 +92,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
  * @author Yannick Schaus - Added filters to getAll
  * @author Markus Rathgeb - Migrated to JAX-RS Whiteboard Specification
  * @author Wouter Born - Migrated to OpenAPI annotations
+ * @author openHAB Core Team - Use registry revisions for conditional requests
  */
 @Component(service = { RESTResource.class, ItemChannelLinkResource.class })
 @JaxrsResource
@@ -126,9 +132,16 @@ public class ItemChannelLinkResource implements RESTResource {
     @Produces(MediaType.APPLICATION_JSON)
     @Operation(operationId = "getItemLinks", summary = "Gets all available links.", responses = {
             @ApiResponse(responseCode = "200", description = "OK", content = @Content(array = @ArraySchema(schema = @Schema(implementation = EnrichedItemChannelLinkDTO.class)))) })
-    public Response getAll(
+    public Response getAll(@Context Request request,
             @QueryParam("channelUID") @Parameter(description = "filter by channel UID") @Nullable String channelUID,
             @QueryParam("itemName") @Parameter(description = "filter by item name") @Nullable String itemName) {
+        EntityTag entityTag = RegistryRevisions.createEntityTag(null, itemChannelLinkRegistry);
+        Response.ResponseBuilder responseBuilder = RegistryRevisions.evaluatePreconditions(request, entityTag);
+        if (responseBuilder != null) {
+            // send 304 Not Modified
+            return responseBuilder.build();
+        }
+
         Stream<EnrichedItemChannelLinkDTO> linkStream = itemChannelLinkRegistry.stream()
                 .map(link -> EnrichedItemChannelLinkDTOMapper.map(link,
                         isEditable(AbstractLink.getIDFor(link.getItemName(), link.getLinkedUID()))));
@@ -140,7 +153,20 @@ public class ItemChannelLinkResource implements RESTResource {
             linkStream = linkStream.filter(link -> itemName.equals(link.itemName));
         }
 
-        return Response.ok(new Stream2JSONInputStream(linkStream)).build();
+        return Response.ok(new Stream2JSONOutput(linkStream)).tag(entityTag).build();
+    }
+
+    @GET
+    @Path("/changes/{revision: [0-9]+}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "getItemLinkChanges", summary = "Gets the links changed since the given revision of the link registry.", responses = {
+            @ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = RegistryChangesDTO.class))),
+            @ApiResponse(responseCode = "410", description = "Changes are not available, all links have to be reloaded.") })
+    public Response getChanges(
+            @PathParam("revision") @Parameter(description = "revision of the link registry") long revision) {
+        return RegistryRevisions.createChangesResponse(itemChannelLinkRegistry, revision,
+                link -> EnrichedItemChannelLinkDTOMapper.map(link,
+                        isEditable(AbstractLink.getIDFor(link.getItemName(), link.getLinkedUID()))));
     }
 
     @DELETE
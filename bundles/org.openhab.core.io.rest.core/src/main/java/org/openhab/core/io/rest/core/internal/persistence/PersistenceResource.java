@@ -44,6 +44,7 @@ import org.openhab.core.io.rest.JSONResponse;
 import org.openhab.core.io.rest.LocaleService;
 import org.openhab.core.io.rest.RESTConstants;
 import org.openhab.core.io.rest.RESTResource;
+import org.openhab.core.io.rest.Stream2JSONOutput;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
@@ -155,8 +156,7 @@ public class PersistenceResource implements RESTResource {
             @HeaderParam(HttpHeaders.ACCEPT_LANGUAGE) @Parameter(description = "language") @Nullable String language) {
         Locale locale = localeService.getLocale(language);
 
-        Object responseObject = getPersistenceServiceList(locale);
-        return Response.ok(responseObject).build();
+        return Response.ok(new Stream2JSONOutput(getPersistenceServiceList(locale).stream())).build();
     }
 
     @GET
@@ -34,7 +34,7 @@ import org.openhab.core.auth.Role;
 import org.openhab.core.io.rest.LocaleService;
 import org.openhab.core.io.rest.RESTConstants;
 import org.openhab.core.io.rest.RESTResource;
-import org.openhab.core.io.rest.Stream2JSONInputStream;
+import org.openhab.core.io.rest.Stream2JSONOutput;
 import org.openhab.core.items.ItemUtil;
 import org.openhab.core.thing.profiles.ProfileType;
 import org.openhab.core.thing.profiles.ProfileTypeRegistry;
@@ -109,7 +109,7 @@ public class ProfileTypeResource implements RESTResource {
             @QueryParam("channelTypeUID") @Parameter(description = "channel type filter") @Nullable String channelTypeUID,
             @QueryParam("itemType") @Parameter(description = "item type filter") @Nullable String itemType) {
         Locale locale = localeService.getLocale(language);
-        return Response.ok(new Stream2JSONInputStream(getProfileTypes(locale, channelTypeUID, itemType))).build();
+        return Response.ok(new Stream2JSONOutput(getProfileTypes(locale, channelTypeUID, itemType))).build();
     }
 
     protected Stream<ProfileTypeDTO> getProfileTypes(@Nullable Locale locale, @Nullable String channelTypeUID,
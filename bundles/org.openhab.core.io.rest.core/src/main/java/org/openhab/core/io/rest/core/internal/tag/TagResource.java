@@ -46,7 +46,7 @@ import org.openhab.core.io.rest.JSONResponse;
 import org.openhab.core.io.rest.LocaleService;
 import org.openhab.core.io.rest.RESTConstants;
 import org.openhab.core.io.rest.RESTResource;
-import org.openhab.core.io.rest.Stream2JSONInputStream;
+import org.openhab.core.io.rest.Stream2JSONOutput;
 import org.openhab.core.semantics.ManagedSemanticTagProvider;
 import org.openhab.core.semantics.SemanticTag;
 import org.openhab.core.semantics.SemanticTagImpl;
@@ -142,7 +142,7 @@ public class TagResource implements RESTResource {
         Stream<EnrichedSemanticTagDTO> tagsStream = semanticTagRegistry.getAll().stream()
                 .sorted(Comparator.comparing(SemanticTag::getUID))
                 .map(t -> new EnrichedSemanticTagDTO(t.localized(locale), semanticTagRegistry.isEditable(t)));
-        return Response.ok(new Stream2JSONInputStream(tagsStream)).lastModified(lastModified).cacheControl(cc).build();
+        return Response.ok(new Stream2JSONOutput(tagsStream)).lastModified(lastModified).cacheControl(cc).build();
     }
 
     @GET
@@ -178,7 +178,7 @@ public class TagResource implements RESTResource {
             Stream<EnrichedSemanticTagDTO> tagsStream = semanticTagRegistry.getSubTree(tag).stream()
                     .sorted(Comparator.comparing(SemanticTag::getUID))
                     .map(t -> new EnrichedSemanticTagDTO(t.localized(locale), semanticTagRegistry.isEditable(t)));
-            return Response.ok(new Stream2JSONInputStream(tagsStream)).lastModified(lastModified).cacheControl(cc)
+            return Response.ok(new Stream2JSONOutput(tagsStream)).lastModified(lastModified).cacheControl(cc)
                     .build();
         } else {
             return JSONResponse.createErrorResponse(Status.NOT_FOUND, "Tag " + uid + " does not exist!");
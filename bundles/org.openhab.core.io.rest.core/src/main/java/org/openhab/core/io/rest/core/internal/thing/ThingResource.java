@@ -15,11 +15,8 @@ package org.openhab.core.io.rest.core.internal.thing;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -43,6 +40,7 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.CacheControl;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
@@ -53,7 +51,6 @@ import javax.ws.rs.core.UriInfo;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.auth.Role;
-import org.openhab.core.common.registry.RegistryChangedRunnableListener;
 import org.openhab.core.config.core.ConfigDescription;
 import org.openhab.core.config.core.ConfigDescriptionRegistry;
 import org.openhab.core.config.core.ConfigUtil;
@@ -67,7 +64,9 @@ import org.openhab.core.io.rest.JSONResponse;
 import org.openhab.core.io.rest.LocaleService;
 import org.openhab.core.io.rest.RESTConstants;
 import org.openhab.core.io.rest.RESTResource;
-import org.openhab.core.io.rest.Stream2JSONInputStream;
+import org.openhab.core.io.rest.RegistryChangesDTO;
+import org.openhab.core.io.rest.RegistryRevisions;
+import org.openhab.core.io.rest.Stream2JSONOutput;
 import org.openhab.core.io.rest.core.thing.EnrichedThingDTO;
 import org.openhab.core.io.rest.core.thing.EnrichedThingDTOMapper;
 import org.openhab.core.items.ItemFactory;
@@ -105,7 +104,6 @@ import org.openhab.core.thing.type.ThingTypeRegistry;
 import org.openhab.core.thing.util.ThingHelper;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
-import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.jaxrs.whiteboard.JaxrsWhiteboardConstants;
 import org.osgi.service.jaxrs.whiteboard.propertytypes.JSONRequired;
@@ -141,6 +139,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
  * @author Dimitar Ivanov - replaced Firmware UID with thing UID and firmware version
  * @author Markus Rathgeb - Migrated to JAX-RS Whiteboard Specification
  * @author Wouter Born - Migrated to OpenAPI annotations
+ * @author openHAB Core Team - Use registry revisions for conditional requests
  */
 @Component
 @JaxrsResource
@@ -170,11 +169,8 @@ public class ThingResource implements RESTResource {
     private final ThingRegistry thingRegistry;
     private final ThingStatusInfoI18nLocalizationService thingStatusInfoI18nLocalizationService;
     private final ThingTypeRegistry thingTypeRegistry;
-    private final RegistryChangedRunnableListener<Thing> resetLastModifiedChangeListener = new RegistryChangedRunnableListener<>(
-            () -> cacheableListLastModified = null);
 
     private @Context @NonNullByDefault({}) UriInfo uriInfo;
-    private @Nullable Date cacheableListLastModified = null;
 
     @Activate
     public ThingResource( //
@@ -207,13 +203,6 @@ public class ThingResource implements RESTResource {
         this.thingRegistry = thingRegistry;
         this.thingStatusInfoI18nLocalizationService = thingStatusInfoI18nLocalizationService;
         this.thingTypeRegistry = thingTypeRegistry;
-
-        this.thingRegistry.addRegistryChangeListener(resetLastModifiedChangeListener);
-    }
-
-    @Deactivate
-    void deactivate() {
-        this.thingRegistry.removeRegistryChangeListener(resetLastModifiedChangeListener);
     }
 
     /**
@@ -310,21 +299,18 @@ public class ThingResource implements RESTResource {
     public Response getAll(@Context Request request,
             @HeaderParam(HttpHeaders.ACCEPT_LANGUAGE) @Parameter(description = "language") @Nullable String language,
             @QueryParam("summary") @Parameter(description = "summary fields only") @Nullable Boolean summary,
-            @DefaultValue("false") @QueryParam("staticDataOnly") @Parameter(description = "provides a cacheable list of values not expected to change regularly and checks the If-Modified-Since header") boolean staticDataOnly) {
+            @DefaultValue("false") @QueryParam("staticDataOnly") @Parameter(description = "provides a cacheable list of values not expected to change regularly and checks the If-None-Match header") boolean staticDataOnly) {
         final Locale locale = localeService.getLocale(language);
 
         Stream<EnrichedThingDTO> thingStream = thingRegistry.stream().map(t -> convertToEnrichedThingDTO(t, locale))
                 .distinct();
 
         if (staticDataOnly) {
-            if (cacheableListLastModified != null) {
-                Response.ResponseBuilder responseBuilder = request.evaluatePreconditions(cacheableListLastModified);
-                if (responseBuilder != null) {
-                    // send 304 Not Modified
-                    return responseBuilder.build();
-                }
-            } else {
-                cacheableListLastModified = Date.from(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+            EntityTag entityTag = RegistryRevisions.createEntityTag(locale, thingRegistry);
+            Response.ResponseBuilder responseBuilder = RegistryRevisions.evaluatePreconditions(request, entityTag);
+            if (responseBuilder != null) {
+                // send 304 Not Modified
+                return responseBuilder.build();
             }
 
             CacheControl cc = new CacheControl();
@@ -332,15 +318,30 @@ public class ThingResource implements RESTResource {
             cc.setMustRevalidate(true);
             cc.setPrivate(true);
             thingStream = dtoMapper.limitToFields(thingStream, "UID,label,bridgeUID,thingTypeUID,location,editable");
-            return Response.ok(new Stream2JSONInputStream(thingStream)).lastModified(cacheableListLastModified)
-                    .cacheControl(cc).build();
+            return Response.ok(new Stream2JSONOutput(thingStream)).tag(entityTag).cacheControl(cc).build();
         }
 
         if (summary != null && summary) {
             thingStream = dtoMapper.limitToFields(thingStream,
                     "UID,label,bridgeUID,thingTypeUID,statusInfo,firmwareStatus,location,editable");
         }
-        return Response.ok(new Stream2JSONInputStream(thingStream)).build();
+        return Response.ok(new Stream2JSONOutput(thingStream)).build();
+    }
+
+    @GET
+    @RolesAllowed({ Role.ADMIN })
+    @Path("/changes/{revision: [0-9]+}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(operationId = "getThingChanges", summary = "Get the things changed since the given revision of the thing registry.", security = {
+            @SecurityRequirement(name = "oauth2", scopes = { "admin" }) }, responses = {
+                    @ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = RegistryChangesDTO.class))),
+                    @ApiResponse(responseCode = "410", description = "Changes are not available, all things have to be reloaded.") })
+    public Response getChanges(
+            @HeaderParam(HttpHeaders.ACCEPT_LANGUAGE) @Parameter(description = "language") @Nullable String language,
+            @PathParam("revision") @Parameter(description = "revision of the thing registry") long revision) {
+        final Locale locale = localeService.getLocale(language);
+        return RegistryRevisions.createChangesResponse(thingRegistry, revision,
+                thing -> convertToEnrichedThingDTO(thing, locale));
     }
 
     @GET
@@ -722,7 +723,7 @@ public class ThingResource implements RESTResource {
         }
 
         Stream<FirmwareDTO> firmwareStream = firmwares.stream().map(this::convertToFirmwareDTO);
-        return Response.ok().entity(new Stream2JSONInputStream(firmwareStream)).build();
+        return Response.ok().entity(new Stream2JSONOutput(firmwareStream)).build();
     }
 
     private FirmwareDTO convertToFirmwareDTO(Firmware firmware) {
@@ -41,7 +41,7 @@ import org.openhab.core.config.core.dto.ConfigDescriptionParameterGroupDTO;
 import org.openhab.core.io.rest.LocaleService;
 import org.openhab.core.io.rest.RESTConstants;
 import org.openhab.core.io.rest.RESTResource;
-import org.openhab.core.io.rest.Stream2JSONInputStream;
+import org.openhab.core.io.rest.Stream2JSONOutput;
 import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.dto.ChannelDefinitionDTO;
 import org.openhab.core.thing.dto.ChannelGroupDefinitionDTO;
@@ -142,7 +142,7 @@ public class ThingTypeResource implements RESTResource {
             typeStream = typeStream.filter(type -> type.UID.startsWith(bindingId + ':'));
         }
 
-        return Response.ok(new Stream2JSONInputStream(typeStream)).build();
+        return Response.ok(new Stream2JSONOutput(typeStream)).build();
     }
 
     @GET
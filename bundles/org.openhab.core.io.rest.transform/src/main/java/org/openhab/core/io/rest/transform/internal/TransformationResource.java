@@ -34,7 +34,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.auth.Role;
 import org.openhab.core.io.rest.RESTConstants;
 import org.openhab.core.io.rest.RESTResource;
-import org.openhab.core.io.rest.Stream2JSONInputStream;
+import org.openhab.core.io.rest.Stream2JSONOutput;
 import org.openhab.core.io.rest.transform.TransformationDTO;
 import org.openhab.core.transform.ManagedTransformationProvider;
 import org.openhab.core.transform.Transformation;
@@ -105,7 +105,7 @@ public class TransformationResource implements RESTResource {
         logger.debug("Received HTTP GET request at '{}'", uriInfo.getPath());
         Stream<TransformationDTO> stream = transformationRegistry.stream().map(TransformationDTO::new)
                 .peek(c -> c.editable = isEditable(c.uid));
-        return Response.ok(new Stream2JSONInputStream(stream)).build();
+        return Response.ok(new Stream2JSONOutput(stream)).build();
     }
 
     @GET
@@ -120,7 +120,7 @@ public class TransformationResource implements RESTResource {
             Stream<String> services = refs.stream()
                     .map(ref -> (String) ref.getProperty(TransformationService.SERVICE_PROPERTY_NAME))
                     .filter(Objects::nonNull).map(Objects::requireNonNull).sorted();
-            return Response.ok(new Stream2JSONInputStream(services)).build();
+            return Response.ok(new Stream2JSONOutput(services)).build();
         } catch (InvalidSyntaxException e) {
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR).build();
         }
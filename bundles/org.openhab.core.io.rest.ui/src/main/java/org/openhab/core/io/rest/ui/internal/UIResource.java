@@ -44,7 +44,7 @@ import org.openhab.core.auth.Role;
 import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.io.rest.RESTConstants;
 import org.openhab.core.io.rest.RESTResource;
-import org.openhab.core.io.rest.Stream2JSONInputStream;
+import org.openhab.core.io.rest.Stream2JSONOutput;
 import org.openhab.core.io.rest.ui.TileDTO;
 import org.openhab.core.ui.components.RootUIComponent;
 import org.openhab.core.ui.components.UIComponentRegistry;
@@ -119,7 +119,7 @@ public class UIResource implements RESTResource {
             @ApiResponse(responseCode = "200", description = "OK", content = @Content(array = @ArraySchema(schema = @Schema(implementation = TileDTO.class)))) })
     public Response getAll() {
         Stream<TileDTO> tiles = tileProvider.getTiles().map(this::toTileDTO);
-        return Response.ok(new Stream2JSONInputStream(tiles)).build();
+        return Response.ok(new Stream2JSONOutput(tiles)).build();
     }
 
     @GET
@@ -146,7 +146,7 @@ public class UIResource implements RESTResource {
                 }
                 return component;
             });
-            return Response.ok(new Stream2JSONInputStream(components)).build();
+            return Response.ok(new Stream2JSONOutput(components)).build();
         } else {
             if (!registryChangeListeners.containsKey(namespace)) {
                 RegistryChangeListener<RootUIComponent> changeListener = new ResetLastModifiedChangeListener(namespace);
@@ -171,7 +171,7 @@ public class UIResource implements RESTResource {
             cc.setNoCache(true);
             cc.setMustRevalidate(true);
             cc.setPrivate(true);
-            return Response.ok(new Stream2JSONInputStream(components)).lastModified(lastModifiedDate).cacheControl(cc)
+            return Response.ok(new Stream2JSONOutput(components)).lastModified(lastModifiedDate).cacheControl(cc)
                     .build();
         }
     }
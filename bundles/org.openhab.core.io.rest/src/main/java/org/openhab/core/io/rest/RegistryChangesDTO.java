@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.rest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openhab.core.common.registry.Registry;
+
+/**
+ * This is a data transfer object that is used to serialize the changes of a {@link Registry} since a given revision.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+public class RegistryChangesDTO {
+
+    /**
+     * The revision of the registry the changes are based on, to be used for requesting the next changes.
+     */
+    public long revision;
+
+    /**
+     * The added or updated elements.
+     */
+    public List<Object> changed = new ArrayList<>();
+
+    /**
+     * The UIDs of the removed elements.
+     */
+    public List<String> removed = new ArrayList<>();
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.rest;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
+import javax.ws.rs.core.Response.Status;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.registry.Identifiable;
+import org.openhab.core.common.registry.Registry;
+
+/**
+ * Static helper methods for conditional responses and change sets based on the revisions of registries, see
+ * {@link Registry#getRevision()}.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+public final class RegistryRevisions {
+
+    private RegistryRevisions() {
+        // static helper methods only
+    }
+
+    /**
+     * Creates a strong entity tag for a response which only depends on the content of the given registries and the
+     * locale. The entity tag has to be created before the registries are read, so that concurrent changes result in
+     * a different entity tag for the next request.
+     *
+     * @param locale the locale used for the response or null if the response is not localized
+     * @param registries the registries the response is created from
+     * @return the entity tag or null if one of the registries does not track revisions
+     */
+    public static @Nullable EntityTag createEntityTag(@Nullable Locale locale, Registry<?, ?>... registries) {
+        StringBuilder value = new StringBuilder();
+        for (Registry<?, ?> registry : registries) {
+            long revision = registry.getRevision();
+            if (revision < 0) {
+                return null;
+            }
+            value.append(value.isEmpty() ? "" : "-").append(revision);
+        }
+        if (locale != null) {
+            value.append('-').append(locale.toLanguageTag());
+        }
+        return new EntityTag(value.toString());
+    }
+
+    /**
+     * Evaluates the If-None-Match header of the request.
+     *
+     * @param request the request
+     * @param entityTag the entity tag of the current response, see {@link #createEntityTag(Locale, Registry...)}
+     * @return a builder for the "304 Not Modified" response or null if the response has to be sent
+     */
+    public static @Nullable ResponseBuilder evaluatePreconditions(Request request, @Nullable EntityTag entityTag) {
+        return entityTag == null ? null : request.evaluatePreconditions(entityTag);
+    }
+
+    /**
+     * Creates a response containing the elements which have been changed since the given revision, so that clients
+     * can update a previously retrieved list without reloading it completely. If the changes are not known
+     * (anymore), a "410 Gone" response is returned and the full list has to be reloaded.
+     *
+     * @param registry the registry
+     * @param revision the revision the client knows
+     * @param mapper the function mapping changed elements to their DTOs
+     * @return the response containing a {@link RegistryChangesDTO}
+     */
+    public static <E extends Identifiable<K>, K> Response createChangesResponse(
+            Registry<@NonNull E, @NonNull K> registry, long revision, Function<E, Object> mapper) {
+        long currentRevision = registry.getRevision();
+        Set<K> keys = registry.getChangedKeysSince(revision);
+        if (keys == null) {
+            return JSONResponse.createErrorResponse(Status.GONE,
+                    "Changes since revision " + revision + " are not available, the full list has to be reloaded.");
+        }
+
+        RegistryChangesDTO changes = new RegistryChangesDTO();
+        changes.revision = currentRevision;
+        for (K key : keys) {
+            E element = registry.get(key);
+            if (element == null) {
+                changes.removed.add(key.toString());
+            } else {
+                changes.changed.add(mapper.apply(element));
+            }
+        }
+        return JSONResponse.createResponse(Status.OK, changes, null);
+    }
+}
@@ -32,7 +32,9 @@ import com.google.gson.GsonBuilder;
  * nested collections JSON representation will be fully transformed into memory.
  *
  * @author Henning Treu - Initial contribution
+ * @deprecated use {@link Stream2JSONOutput}, which writes the JSON directly to the response
  */
+@Deprecated
 @NonNullByDefault
 public class Stream2JSONInputStream extends InputStream implements JSONInputStream {
 
@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.rest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import javax.ws.rs.core.StreamingOutput;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DateTimeType;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * This {@link StreamingOutput} writes a {@link Stream} as JSON array directly to the response, one element at a time.
+ * This keeps the memory usage low when streaming large collections through the REST interface, as neither the
+ * elements nor the whole array are transformed into strings first. For best performance a flattened stream should be
+ * provided.
+ * <p>
+ * The JSON is written uncompressed; the {@code GzipFilter} of the REST interface wraps the output stream to compress
+ * the response if the client accepts gzip.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+public class Stream2JSONOutput implements StreamingOutput {
+
+    private static final Gson GSON = new GsonBuilder().setDateFormat(DateTimeType.DATE_PATTERN_WITH_TZ_AND_MS)
+            .create();
+
+    private final Stream<?> source;
+
+    /**
+     * Creates a new {@link Stream2JSONOutput} writing the given {@link Stream}.
+     *
+     * @param source the {@link Stream} to be written as JSON array. It is consumed and closed when the output is
+     *            written.
+     */
+    public Stream2JSONOutput(Stream<?> source) {
+        this.source = source;
+    }
+
+    @Override
+    public void write(@Nullable OutputStream output) throws IOException {
+        // output must not be closed, see javadoc of javax.ws.rs.ext.MessageBodyWriter
+        JsonWriter jsonWriter = new JsonWriter(
+                new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)));
+        try (Stream<?> stream = source) {
+            jsonWriter.beginArray();
+            Iterator<?> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                Object element = iterator.next();
+                if (element == null) {
+                    jsonWriter.nullValue();
+                } else {
+                    GSON.toJson(element, element.getClass(), jsonWriter);
+                }
+            }
+            jsonWriter.endArray();
+        }
+        jsonWriter.flush();
+    }
+}
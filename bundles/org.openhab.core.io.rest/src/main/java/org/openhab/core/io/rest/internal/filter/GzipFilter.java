@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.rest.internal.filter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.rest.RESTConstants;
+import org.openhab.core.io.rest.Stream2JSONOutput;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.jaxrs.whiteboard.JaxrsWhiteboardConstants;
+import org.osgi.service.jaxrs.whiteboard.propertytypes.JaxrsApplicationSelect;
+import org.osgi.service.jaxrs.whiteboard.propertytypes.JaxrsExtension;
+
+/**
+ * A filter compressing JSON responses which are written by a {@link StreamingOutput}, e.g. the large collections
+ * serialized by {@link Stream2JSONOutput}, with gzip if the client accepts it. The streaming output writes plain JSON;
+ * this filter wraps its output stream in a {@link GZIPOutputStream} which does the compression.
+ * <p>
+ * The compressed response is a different representation, so the suffix {@value #ETAG_SUFFIX} is appended to its
+ * entity tag. The suffix is removed from the If-None-Match header of requests, so that the resources can compare
+ * the tags they create.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@Component
+@JaxrsExtension
+@JaxrsApplicationSelect("(" + JaxrsWhiteboardConstants.JAX_RS_NAME + "=" + RESTConstants.JAX_RS_NAME + ")")
+@NonNullByDefault
+public class GzipFilter implements ContainerRequestFilter, ContainerResponseFilter, WriterInterceptor {
+
+    static final String GZIP_ENCODING = "gzip";
+    static final String ETAG_SUFFIX = "-gzip";
+
+    @Override
+    public void filter(@NonNullByDefault({}) ContainerRequestContext requestContext) throws IOException {
+        List<String> ifNoneMatch = requestContext.getHeaders().get(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && ifNoneMatch.stream().anyMatch(value -> value.contains(ETAG_SUFFIX + "\""))) {
+            requestContext.getHeaders().put(HttpHeaders.IF_NONE_MATCH,
+                    ifNoneMatch.stream().map(value -> value.replace(ETAG_SUFFIX + "\"", "\"")).toList());
+        }
+    }
+
+    @Override
+    public void filter(@NonNullByDefault({}) ContainerRequestContext requestContext,
+            @NonNullByDefault({}) ContainerResponseContext responseContext) throws IOException {
+        if (responseContext.getEntity() instanceof StreamingOutput
+                && MediaType.APPLICATION_JSON_TYPE.isCompatible(responseContext.getMediaType())
+                && !responseContext.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)
+                && acceptsGzip(requestContext.getHeaderString(HttpHeaders.ACCEPT_ENCODING))) {
+            responseContext.getHeaders().putSingle(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING);
+            responseContext.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            String entityTag = responseContext.getHeaderString(HttpHeaders.ETAG);
+            if (entityTag != null && entityTag.endsWith("\"")) {
+                responseContext.getHeaders().putSingle(HttpHeaders.ETAG,
+                        entityTag.substring(0, entityTag.length() - 1) + ETAG_SUFFIX + "\"");
+            }
+        }
+    }
+
+    @Override
+    public void aroundWriteTo(@NonNullByDefault({}) WriterInterceptorContext context) throws IOException {
+        if (StreamingOutput.class.isAssignableFrom(context.getType())
+                && GZIP_ENCODING.equals(context.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING))) {
+            OutputStream output = context.getOutputStream();
+            GZIPOutputStream gzipOutput = new GZIPOutputStream(output, 8192);
+            context.setOutputStream(gzipOutput);
+            try {
+                context.proceed();
+                gzipOutput.finish();
+            } finally {
+                context.setOutputStream(output);
+            }
+        } else {
+            context.proceed();
+        }
+    }
+
+    static boolean acceptsGzip(@Nullable String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (GZIP_ENCODING.equals(parts[0].trim().toLowerCase(Locale.ROOT))) {
+                // gzip is not acceptable if explicitly weighted with zero
+                for (int i = 1; i < parts.length; i++) {
+                    String parameter = parts[i].replace(" ", "");
+                    if (parameter.startsWith("q=") && parameter.substring(2).matches("0(\\.0{0,3})?")) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+}
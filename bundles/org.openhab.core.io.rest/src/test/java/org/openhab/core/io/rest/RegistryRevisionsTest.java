@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.rest;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.common.registry.Identifiable;
+import org.openhab.core.common.registry.Registry;
+
+/**
+ * Tests {@link RegistryRevisions}.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class RegistryRevisionsTest {
+
+    private record TestElement(String uid) implements Identifiable<String> {
+        @Override
+        public String getUID() {
+            return uid;
+        }
+    }
+
+    private @Mock @NonNullByDefault({}) Registry<TestElement, String> registryMock;
+    private @Mock @NonNullByDefault({}) Registry<TestElement, String> otherRegistryMock;
+
+    @Test
+    public void testCreateEntityTag() {
+        when(registryMock.getRevision()).thenReturn(42L);
+        when(otherRegistryMock.getRevision()).thenReturn(7L);
+
+        EntityTag entityTag = RegistryRevisions.createEntityTag(null, registryMock);
+        assertNotNull(entityTag);
+        assertEquals("42", entityTag.getValue());
+        assertFalse(entityTag.isWeak());
+
+        entityTag = RegistryRevisions.createEntityTag(Locale.GERMANY, registryMock, otherRegistryMock);
+        assertNotNull(entityTag);
+        assertEquals("42-7-de-DE", entityTag.getValue());
+
+        when(otherRegistryMock.getRevision()).thenReturn(-1L);
+        assertNull(RegistryRevisions.createEntityTag(null, registryMock, otherRegistryMock));
+    }
+
+    @Test
+    public void testCreateChangesResponse() {
+        when(registryMock.getRevision()).thenReturn(45L);
+        when(registryMock.getChangedKeysSince(42L)).thenReturn(Set.of("changed", "removed"));
+        when(registryMock.get("changed")).thenReturn(new TestElement("changed"));
+
+        Response response = RegistryRevisions.createChangesResponse(registryMock, 42L, element -> element.uid());
+
+        assertEquals(Status.OK.getStatusCode(), response.getStatus());
+        RegistryChangesDTO changes = (RegistryChangesDTO) response.getEntity();
+        assertEquals(45L, changes.revision);
+        assertEquals(List.of("changed"), changes.changed);
+        assertEquals(List.of("removed"), changes.removed);
+    }
+
+    @Test
+    public void testCreateChangesResponseForUnknownRevision() {
+        when(registryMock.getRevision()).thenReturn(45L);
+        when(registryMock.getChangedKeysSince(1L)).thenReturn(null);
+
+        Response response = RegistryRevisions.createChangesResponse(registryMock, 1L, element -> element.uid());
+
+        assertEquals(Status.GONE.getStatusCode(), response.getStatus());
+    }
+}
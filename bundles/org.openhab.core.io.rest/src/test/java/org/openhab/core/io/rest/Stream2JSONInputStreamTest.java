@@ -33,6 +33,7 @@ import com.google.gson.GsonBuilder;
  * @author Henning Treu - Initial contribution
  */
 @NonNullByDefault
+@SuppressWarnings("deprecation")
 public class Stream2JSONInputStreamTest {
 
     private static final Gson GSON = new GsonBuilder().create();
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.rest;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Tests {@link Stream2JSONOutput}.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+public class Stream2JSONOutputTest {
+
+    private static final Gson GSON = new GsonBuilder().create();
+
+    @Test
+    public void shouldWriteEmptyStream() throws Exception {
+        List<Object> emptyList = List.of();
+
+        assertThat(write(new Stream2JSONOutput(emptyList.stream())), is(GSON.toJson(emptyList)));
+    }
+
+    @Test
+    public void shouldWriteSingleObject() throws Exception {
+        DummyObject dummyObject = new DummyObject("demoKey", "demoValue");
+
+        assertThat(write(new Stream2JSONOutput(Stream.of(dummyObject))), is(GSON.toJson(List.of(dummyObject))));
+    }
+
+    @Test
+    public void shouldWriteCollectionStream() throws Exception {
+        List<Object> dummyCollection = new ArrayList<>();
+        dummyCollection.add(new DummyObject("demoKey1", "demoValue1"));
+        dummyCollection.add(null);
+        dummyCollection.add(new DummyObject("demoKey2", "<\"äöü\">"));
+        dummyCollection.add(List.of(1, 2));
+
+        assertThat(write(new Stream2JSONOutput(dummyCollection.stream())), is(GSON.toJson(dummyCollection)));
+    }
+
+    @Test
+    public void shouldCloseStream() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+
+        write(new Stream2JSONOutput(Stream.of("a", "b").onClose(() -> closed.set(true))));
+
+        assertTrue(closed.get());
+    }
+
+    private String write(Stream2JSONOutput output) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        output.write(buffer);
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unused")
+    private static class DummyObject {
+        private final String key;
+        private final String value;
+
+        DummyObject(String key, String value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
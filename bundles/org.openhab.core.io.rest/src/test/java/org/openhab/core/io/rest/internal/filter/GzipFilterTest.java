@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.rest.internal.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.io.rest.Stream2JSONOutput;
+
+/**
+ * Tests {@link GzipFilter}.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class GzipFilterTest {
+
+    private final GzipFilter filter = new GzipFilter();
+    private final MultivaluedMap<String, Object> responseHeaders = new MultivaluedHashMap<>();
+
+    private @Mock @NonNullByDefault({}) ContainerRequestContext requestContextMock;
+    private @Mock @NonNullByDefault({}) ContainerResponseContext responseContextMock;
+    private @Mock @NonNullByDefault({}) WriterInterceptorContext writerContextMock;
+
+    @Test
+    public void testAcceptsGzip() {
+        assertTrue(GzipFilter.acceptsGzip("gzip"));
+        assertTrue(GzipFilter.acceptsGzip("deflate, GZIP;q=0.5, br"));
+        assertFalse(GzipFilter.acceptsGzip(null));
+        assertFalse(GzipFilter.acceptsGzip("deflate, br"));
+        assertFalse(GzipFilter.acceptsGzip("gzip;q=0"));
+        assertFalse(GzipFilter.acceptsGzip("gzip; q=0.000"));
+    }
+
+    @Test
+    public void testStreamedJsonIsCompressed() throws IOException {
+        setupContexts("gzip, deflate", new Stream2JSONOutput(Stream.of("a", "b")));
+
+        filter.filter(requestContextMock, responseContextMock);
+        assertEquals("gzip", responseHeaders.getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, responseHeaders.getFirst(HttpHeaders.VARY));
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        OutputStream[] output = { buffer };
+        when(writerContextMock.getOutputStream()).thenAnswer(invocation -> output[0]);
+        doAnswer(invocation -> output[0] = invocation.getArgument(0)).when(writerContextMock)
+                .setOutputStream(any(OutputStream.class));
+        doAnswer(invocation -> {
+            new Stream2JSONOutput(Stream.of("a", "b")).write(output[0]);
+            return null;
+        }).when(writerContextMock).proceed();
+
+        filter.aroundWriteTo(writerContextMock);
+
+        assertSame(buffer, output[0]);
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(buffer.toByteArray()))) {
+            assertEquals("[\"a\",\"b\"]", new String(input.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testEntityTagOfCompressedResponseIsSuffixed() throws IOException {
+        setupContexts("gzip", new Stream2JSONOutput(Stream.of("a", "b")));
+        when(responseContextMock.getHeaderString(HttpHeaders.ETAG)).thenReturn("W/\"42\"");
+
+        filter.filter(requestContextMock, responseContextMock);
+        assertEquals("W/\"42-gzip\"", responseHeaders.getFirst(HttpHeaders.ETAG));
+    }
+
+    @Test
+    public void testEntityTagOfUncompressedResponseIsKept() throws IOException {
+        setupContexts("deflate", new Stream2JSONOutput(Stream.of("a", "b")));
+        when(responseContextMock.getHeaderString(HttpHeaders.ETAG)).thenReturn("\"42\"");
+
+        filter.filter(requestContextMock, responseContextMock);
+        assertNull(responseHeaders.getFirst(HttpHeaders.ETAG));
+    }
+
+    @Test
+    public void testSuffixIsRemovedFromIfNoneMatch() throws IOException {
+        MultivaluedMap<String, String> requestHeaders = new MultivaluedHashMap<>();
+        requestHeaders.add(HttpHeaders.IF_NONE_MATCH, "\"42-gzip\", W/\"43-gzip\"");
+        requestHeaders.add(HttpHeaders.IF_NONE_MATCH, "\"44\"");
+        when(requestContextMock.getHeaders()).thenReturn(requestHeaders);
+
+        filter.filter(requestContextMock);
+        assertEquals(List.of("\"42\", W/\"43\"", "\"44\""), requestHeaders.get(HttpHeaders.IF_NONE_MATCH));
+    }
+
+    @Test
+    public void testResponseIsNotCompressedIfNotAccepted() throws IOException {
+        setupContexts("deflate", new Stream2JSONOutput(Stream.of("a", "b")));
+
+        filter.filter(requestContextMock, responseContextMock);
+        assertNull(responseHeaders.getFirst(HttpHeaders.CONTENT_ENCODING));
+
+        filter.aroundWriteTo(writerContextMock);
+        verify(writerContextMock).proceed();
+        verify(writerContextMock, never()).setOutputStream(any());
+    }
+
+    @Test
+    public void testOtherEntitiesAreNotCompressed() throws IOException {
+        setupContexts("gzip", "text");
+
+        filter.filter(requestContextMock, responseContextMock);
+        assertNull(responseHeaders.getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    private void setupContexts(String acceptEncoding, Object entity) {
+        when(requestContextMock.getHeaderString(HttpHeaders.ACCEPT_ENCODING)).thenReturn(acceptEncoding);
+        when(responseContextMock.getEntity()).thenReturn(entity);
+        when(responseContextMock.getMediaType()).thenReturn(MediaType.APPLICATION_JSON_TYPE);
+        when(responseContextMock.getHeaders()).thenReturn(responseHeaders);
+        when(writerContextMock.getHeaders()).thenReturn(responseHeaders);
+        doReturn(entity.getClass()).when(writerContextMock).getType();
+    }
+}
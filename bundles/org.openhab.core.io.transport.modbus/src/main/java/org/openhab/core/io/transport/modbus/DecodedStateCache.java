@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.modbus;
+
+import java.util.Optional;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.ModbusConstants.ValueType;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+
+/**
+ * Cache of the last state extracted for a single data point, e.g. a channel polling the same registers periodically.
+ *
+ * As long as the raw value in the registers does not change, the same {@link DecimalType} and {@link QuantityType}
+ * instances are returned, so that unchanged values do not cause any allocations.
+ *
+ * The cache is safe to use from several threads, but a single cache should only be used for a single data point.
+ *
+ * @see ModbusBitUtilities#extractStateFromRegisters(ModbusRegisterArray, int, ValueType, DecodedStateCache)
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+public class DecodedStateCache {
+
+    private record Entry(ValueType type, long rawValue, Optional<DecimalType> state,
+            @Nullable QuantityType<?> quantity) {
+    }
+
+    private volatile @Nullable Entry entry;
+
+    Optional<DecimalType> get(ValueType type, long rawValue) {
+        Entry current = entry;
+        if (current != null && current.type == type && current.rawValue == rawValue) {
+            return current.state;
+        }
+        Optional<DecimalType> state = ModbusBitUtilities.toState(type, rawValue);
+        entry = new Entry(type, rawValue, state, null);
+        return state;
+    }
+
+    /**
+     * Convert a state returned by this cache to a {@link QuantityType}
+     *
+     * When called repeatedly with the same state instance and unit, the same {@link QuantityType} instance is returned.
+     *
+     * @param state state previously returned using this cache
+     * @param unit unit of the quantity
+     * @return quantity with the value of the state and the given unit
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Quantity<T>> QuantityType<T> toQuantity(DecimalType state, Unit<T> unit) {
+        Entry current = entry;
+        QuantityType<?> quantity = current == null ? null : current.quantity;
+        if (current != null && current.state.orElse(null) == state) {
+            if (quantity != null && quantity.getUnit().equals(unit)) {
+                return (QuantityType<T>) quantity;
+            }
+            QuantityType<T> converted = new QuantityType<>(state.toBigDecimal(), unit);
+            entry = new Entry(current.type, current.rawValue, current.state, converted);
+            return converted;
+        }
+        return new QuantityType<>(state.toBigDecimal(), unit);
+    }
+
+    /**
+     * Forget the cached state, e.g. after the configuration of the data point has changed
+     */
+    public void clear() {
+        entry = null;
+    }
+}
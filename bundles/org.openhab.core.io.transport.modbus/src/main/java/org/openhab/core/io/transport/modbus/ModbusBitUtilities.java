@@ -100,54 +100,97 @@ public class ModbusBitUtilities {
      */
     public static Optional<DecimalType> extractStateFromRegisters(ModbusRegisterArray registers, int index,
             ModbusConstants.ValueType type) {
-        byte[] bytes = registers.getBytes();
+        return toState(type, extractRawValue(registers.getBytes(), index, type));
+    }
+
+    /**
+     * Read data from registers and convert the result to DecimalType, reusing the previously extracted state
+     *
+     * Works like {@link #extractStateFromRegisters(ModbusRegisterArray, int, ValueType)}, but when the raw value is
+     * unchanged since the previous call with the same cache, the previously returned instance is returned again. This
+     * avoids the conversion and all allocations for data that is polled periodically but rarely changes.
+     *
+     * @param registers list of registers, each register represent 16bit of data
+     * @param index zero based item index, see {@link #extractStateFromRegisters(ModbusRegisterArray, int, ValueType)}
+     * @param type item type, e.g. unsigned 16bit integer (<tt>ModbusBindingProvider.ValueType.UINT16</tt>)
+     * @param cache cache holding the previously extracted state of the same data point
+     * @return number representation queried value, <tt>DecimalType</tt>. Empty optional is returned
+     *         with NaN and infinity floating point values
+     * @throws IllegalArgumentException when <tt>index</tt> is out of bounds of registers
+     */
+    public static Optional<DecimalType> extractStateFromRegisters(ModbusRegisterArray registers, int index,
+            ModbusConstants.ValueType type, DecodedStateCache cache) {
+        return cache.get(type, extractRawValue(registers.getBytes(), index, type));
+    }
+
+    /**
+     * Extract the raw bits of a value from registers, without any allocations
+     *
+     * Signed integers are sign-extended, floating point values are returned as their IEEE 754 bits.
+     */
+    static long extractRawValue(byte[] bytes, int index, ValueType type) {
         switch (type) {
             case BIT:
-                return Optional.of(new DecimalType(extractBit(bytes, index)));
-            case INT8: {
-                int registerIndex = index / 2;
-                boolean hiByte = index % 2 == 1;
-                return Optional.of(new DecimalType(extractSInt8(bytes, registerIndex, hiByte)));
-            }
-            case UINT8: {
-                int registerIndex = index / 2;
-                boolean hiByte = index % 2 == 1;
-                return Optional.of(new DecimalType(extractUInt8(bytes, registerIndex, hiByte)));
-            }
+                return extractBit(bytes, index);
+            case INT8:
+                return extractSInt8(bytes, index / 2, index % 2 == 1);
+            case UINT8:
+                return extractUInt8(bytes, index / 2, index % 2 == 1);
             case INT16:
-                return Optional.of(new DecimalType(extractSInt16(bytes, index * 2)));
+                return extractSInt16(bytes, index * 2);
             case UINT16:
-                return Optional.of(new DecimalType(extractUInt16(bytes, index * 2)));
+                return extractUInt16(bytes, index * 2);
             case INT32:
-                return Optional.of(new DecimalType(extractSInt32(bytes, index * 2)));
+                return extractSInt32(bytes, index * 2);
             case UINT32:
-                return Optional.of(new DecimalType(extractUInt32(bytes, index * 2)));
+                return extractUInt32(bytes, index * 2);
             case FLOAT32:
-                try {
-                    return Optional.of(new DecimalType(extractFloat32(bytes, index * 2)));
-                } catch (NumberFormatException e) {
-                    // floating point NaN or infinity encountered
-                    return Optional.empty();
-                }
+                return Float.floatToRawIntBits(extractFloat32(bytes, index * 2));
             case INT64:
-                return Optional.of(new DecimalType(extractSInt64(bytes, index * 2)));
             case UINT64:
-                return Optional.of(new DecimalType(new BigDecimal(extractUInt64(bytes, index * 2))));
+                return extractInt64Bits(bytes, index * 2, type, false);
             case INT32_SWAP:
-                return Optional.of(new DecimalType(extractSInt32Swap(bytes, index * 2)));
+                return extractSInt32Swap(bytes, index * 2);
             case UINT32_SWAP:
-                return Optional.of(new DecimalType(extractUInt32Swap(bytes, index * 2)));
+                return extractUInt32Swap(bytes, index * 2);
             case FLOAT32_SWAP:
-                try {
-                    return Optional.of(new DecimalType(extractFloat32Swap(bytes, index * 2)));
-                } catch (NumberFormatException e) {
-                    // floating point NaN or infinity encountered
-                    return Optional.empty();
-                }
+                return Float.floatToRawIntBits(extractFloat32Swap(bytes, index * 2));
             case INT64_SWAP:
-                return Optional.of(new DecimalType(extractSInt64Swap(bytes, index * 2)));
             case UINT64_SWAP:
-                return Optional.of(new DecimalType(new BigDecimal(extractUInt64Swap(bytes, index * 2))));
+                return extractInt64Bits(bytes, index * 2, type, true);
+            default:
+                throw new IllegalStateException(type.getConfigValue());
+        }
+    }
+
+    /**
+     * Convert raw bits returned by {@link #extractRawValue(byte[], int, ValueType)} to DecimalType
+     */
+    static Optional<DecimalType> toState(ValueType type, long rawValue) {
+        switch (type) {
+            case BIT:
+            case INT8:
+            case UINT8:
+            case INT16:
+            case UINT16:
+            case INT32:
+            case UINT32:
+            case INT64:
+            case INT32_SWAP:
+            case UINT32_SWAP:
+            case INT64_SWAP:
+                return Optional.of(new DecimalType(BigDecimal.valueOf(rawValue)));
+            case UINT64:
+            case UINT64_SWAP:
+                return Optional.of(new DecimalType(rawValue >= 0 ? BigDecimal.valueOf(rawValue)
+                        : new BigDecimal(toUnsignedBigInteger(rawValue))));
+            case FLOAT32:
+            case FLOAT32_SWAP:
+                float value = Float.intBitsToFloat((int) rawValue);
+                if (Float.isNaN(value) || Float.isInfinite(value)) {
+                    return Optional.empty();
+                }
+                return Optional.of(new DecimalType(value));
             default:
                 throw new IllegalStateException(type.getConfigValue());
         }
@@ -400,16 +443,7 @@ public class ModbusBitUtilities {
      * @throws IllegalArgumentException when index is out of bounds
      */
     public static long extractSInt64(byte[] bytes, int index) {
-        assertIndexAndType(bytes, index, ValueType.INT64);
-        byte hi1 = (byte) (bytes[index + 0] & 0xff);
-        byte lo1 = (byte) (bytes[index + 1] & 0xff);
-        byte hi2 = (byte) (bytes[index + 2] & 0xff);
-        byte lo2 = (byte) (bytes[index + 3] & 0xff);
-        byte hi3 = (byte) (bytes[index + 4] & 0xff);
-        byte lo3 = (byte) (bytes[index + 5] & 0xff);
-        byte hi4 = (byte) (bytes[index + 6] & 0xff);
-        byte lo4 = (byte) (bytes[index + 7] & 0xff);
-        return new BigInteger(new byte[] { hi1, lo1, hi2, lo2, hi3, lo3, hi4, lo4 }).longValue();
+        return extractInt64Bits(bytes, index, ValueType.INT64, false);
     }
 
     /**
@@ -423,16 +457,7 @@ public class ModbusBitUtilities {
      * @throws IllegalArgumentException when index is out of bounds
      */
     public static BigInteger extractUInt64(byte[] bytes, int index) {
-        assertIndexAndType(bytes, index, ValueType.UINT64);
-        byte hi1 = (byte) (bytes[index + 0] & 0xff);
-        byte lo1 = (byte) (bytes[index + 1] & 0xff);
-        byte hi2 = (byte) (bytes[index + 2] & 0xff);
-        byte lo2 = (byte) (bytes[index + 3] & 0xff);
-        byte hi3 = (byte) (bytes[index + 4] & 0xff);
-        byte lo3 = (byte) (bytes[index + 5] & 0xff);
-        byte hi4 = (byte) (bytes[index + 6] & 0xff);
-        byte lo4 = (byte) (bytes[index + 7] & 0xff);
-        return new BigInteger(1, new byte[] { hi1, lo1, hi2, lo2, hi3, lo3, hi4, lo4 });
+        return toUnsignedBigInteger(extractInt64Bits(bytes, index, ValueType.UINT64, false));
     }
 
     /**
@@ -448,17 +473,7 @@ public class ModbusBitUtilities {
      * @throws IllegalArgumentException when index is out of bounds
      */
     public static long extractSInt64Swap(byte[] bytes, int index) {
-        assertIndexAndType(bytes, index, ValueType.INT64_SWAP);
-        // Swapped order of registers
-        byte hi1 = (byte) (bytes[index + 6] & 0xff);
-        byte lo1 = (byte) (bytes[index + 7] & 0xff);
-        byte hi2 = (byte) (bytes[index + 4] & 0xff);
-        byte lo2 = (byte) (bytes[index + 5] & 0xff);
-        byte hi3 = (byte) (bytes[index + 2] & 0xff);
-        byte lo3 = (byte) (bytes[index + 3] & 0xff);
-        byte hi4 = (byte) (bytes[index + 0] & 0xff);
-        byte lo4 = (byte) (bytes[index + 1] & 0xff);
-        return new BigInteger(new byte[] { hi1, lo1, hi2, lo2, hi3, lo3, hi4, lo4 }).longValue();
+        return extractInt64Bits(bytes, index, ValueType.INT64_SWAP, true);
     }
 
     /**
@@ -475,17 +490,22 @@ public class ModbusBitUtilities {
      * @throws IllegalArgumentException when index is out of bounds
      */
     public static BigInteger extractUInt64Swap(byte[] bytes, int index) {
-        assertIndexAndType(bytes, index, ValueType.UINT64_SWAP);
-        // Swapped order of registers
-        byte hi1 = (byte) (bytes[index + 6] & 0xff);
-        byte lo1 = (byte) (bytes[index + 7] & 0xff);
-        byte hi2 = (byte) (bytes[index + 4] & 0xff);
-        byte lo2 = (byte) (bytes[index + 5] & 0xff);
-        byte hi3 = (byte) (bytes[index + 2] & 0xff);
-        byte lo3 = (byte) (bytes[index + 3] & 0xff);
-        byte hi4 = (byte) (bytes[index + 0] & 0xff);
-        byte lo4 = (byte) (bytes[index + 1] & 0xff);
-        return new BigInteger(1, new byte[] { hi1, lo1, hi2, lo2, hi3, lo3, hi4, lo4 });
+        return toUnsignedBigInteger(extractInt64Bits(bytes, index, ValueType.UINT64_SWAP, true));
+    }
+
+    private static long extractInt64Bits(byte[] bytes, int index, ValueType type, boolean swapRegisters) {
+        assertIndexAndType(bytes, index, type);
+        long bits = 0;
+        for (int register = 0; register < 4; register++) {
+            int byteIndex = index + 2 * (swapRegisters ? 3 - register : register);
+            bits = (bits << 16) | ((bytes[byteIndex] & 0xffL) << 8) | (bytes[byteIndex + 1] & 0xffL);
+        }
+        return bits;
+    }
+
+    private static BigInteger toUnsignedBigInteger(long bits) {
+        BigInteger value = BigInteger.valueOf(bits & Long.MAX_VALUE);
+        return bits < 0 ? value.setBit(Long.SIZE - 1) : value;
     }
 
     /**
@@ -64,6 +64,20 @@ public class EndpointPoolConfiguration {
      */
     private int connectTimeoutMillis;
 
+    /**
+     * Maximum number of unrequested registers or bits between two regular polls with same slave, function code and
+     * poll period, for those polls to be read with a single transaction. Negative means that regular polls are never
+     * coalesced (default).
+     */
+    private int pollCoalescingMaxGap = -1;
+
+    /**
+     * How many transactions can be in flight at the same time with a Modbus TCP endpoint. Values above one enable
+     * pipelining: requests are sent without waiting for previous responses, and responses are matched using the
+     * transaction identifier. Only use with slaves that support this. Ignored with other endpoints and RTU encoding.
+     */
+    private int maxTransactionsInFlight = 1;
+
     public void setAfterConnectionDelayMillis(long afterConnectionDelayMillis) {
         this.afterConnectionDelayMillis = afterConnectionDelayMillis;
     }
@@ -112,10 +126,26 @@ public class EndpointPoolConfiguration {
         this.connectTimeoutMillis = connectTimeoutMillis;
     }
 
+    public int getPollCoalescingMaxGap() {
+        return pollCoalescingMaxGap;
+    }
+
+    public void setPollCoalescingMaxGap(int pollCoalescingMaxGap) {
+        this.pollCoalescingMaxGap = pollCoalescingMaxGap;
+    }
+
+    public int getMaxTransactionsInFlight() {
+        return maxTransactionsInFlight;
+    }
+
+    public void setMaxTransactionsInFlight(int maxTransactionsInFlight) {
+        this.maxTransactionsInFlight = maxTransactionsInFlight;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(connectMaxTries, connectTimeoutMillis, interConnectDelayMillis, interTransactionDelayMillis,
-                reconnectAfterMillis, afterConnectionDelayMillis);
+                reconnectAfterMillis, afterConnectionDelayMillis, pollCoalescingMaxGap, maxTransactionsInFlight);
     }
 
     @Override
@@ -123,7 +153,8 @@ public class EndpointPoolConfiguration {
         return "EndpointPoolConfiguration [interTransactionDelayMillis=" + interTransactionDelayMillis
                 + ", interConnectDelayMillis=" + interConnectDelayMillis + ", connectMaxTries=" + connectMaxTries
                 + ", reconnectAfterMillis=" + reconnectAfterMillis + ", connectTimeoutMillis=" + connectTimeoutMillis
-                + ", afterConnectionDelayMillis=" + afterConnectionDelayMillis + "]";
+                + ", afterConnectionDelayMillis=" + afterConnectionDelayMillis + ", pollCoalescingMaxGap="
+                + pollCoalescingMaxGap + ", maxTransactionsInFlight=" + maxTransactionsInFlight + "]";
     }
 
     @Override
@@ -142,6 +173,8 @@ public class EndpointPoolConfiguration {
                 && interConnectDelayMillis == rhs.interConnectDelayMillis
                 && interTransactionDelayMillis == rhs.interTransactionDelayMillis
                 && reconnectAfterMillis == rhs.reconnectAfterMillis
-                && afterConnectionDelayMillis == rhs.afterConnectionDelayMillis;
+                && afterConnectionDelayMillis == rhs.afterConnectionDelayMillis
+                && pollCoalescingMaxGap == rhs.pollCoalescingMaxGap
+                && maxTransactionsInFlight == rhs.maxTransactionsInFlight;
     }
 }
@@ -0,0 +1,259 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
+import org.openhab.core.io.transport.modbus.exception.ModbusUnexpectedResponseSizeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link PollTask} reading a single block of registers or bits on behalf of several regular poll tasks.
+ *
+ * The result of the merged read is split back to the poll tasks, each callback receives exactly the data it
+ * requested. Failures are forwarded to all poll tasks. A poll task whose data is not fully contained in a too short
+ * response fails with a {@link ModbusUnexpectedResponseSizeException} instead of receiving padded data.
+ *
+ * Poll tasks with equal endpoint, slave id and function code are merged by {@link #coalesce(ModbusSlaveEndpoint,
+ * Collection, int)}.
+ *
+ * Two coalesced poll tasks are considered equal only if they are the same instance.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+public class CoalescedPollTask implements PollTask {
+
+    private final Logger logger = LoggerFactory.getLogger(CoalescedPollTask.class);
+
+    private final ModbusSlaveEndpoint endpoint;
+    private final ModbusReadRequestBlueprint request;
+    private final List<PollTask> members;
+    private final Consumer<CoalescedPollTask> resultListener;
+    private final ModbusReadCallback resultCallback = this::handleResult;
+    private final ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback = this::handleFailure;
+    private volatile boolean canceled;
+
+    CoalescedPollTask(ModbusSlaveEndpoint endpoint, ModbusReadRequestBlueprint request, List<PollTask> members,
+            Consumer<CoalescedPollTask> resultListener) {
+        this.endpoint = endpoint;
+        this.request = request;
+        this.members = List.copyOf(members);
+        this.resultListener = resultListener;
+    }
+
+    /**
+     * Merge poll tasks into as few read requests as possible
+     *
+     * All tasks must share the same slave id and function code. Requests are merged when the number of items not
+     * requested by any task in between is at most maxGap, and the merged request does not exceed the maximum length
+     * allowed by the Modbus protocol.
+     *
+     * @param endpoint endpoint of the poll tasks
+     * @param tasks poll tasks to merge
+     * @param maxGap maximum number of unrequested registers or bits between two merged requests
+     * @return coalesced poll tasks covering all given tasks
+     */
+    public static List<CoalescedPollTask> coalesce(ModbusSlaveEndpoint endpoint, Collection<PollTask> tasks,
+            int maxGap) {
+        return coalesce(endpoint, tasks, maxGap, task -> {
+        });
+    }
+
+    /**
+     * Merge poll tasks into as few read requests as possible, see {@link #coalesce(ModbusSlaveEndpoint, Collection,
+     * int)}
+     *
+     * @param endpoint endpoint of the poll tasks
+     * @param tasks poll tasks to merge
+     * @param maxGap maximum number of unrequested registers or bits between two merged requests
+     * @param resultListener notified after a successful read has been forwarded to the poll tasks
+     * @return coalesced poll tasks covering all given tasks
+     */
+    public static List<CoalescedPollTask> coalesce(ModbusSlaveEndpoint endpoint, Collection<PollTask> tasks,
+            int maxGap, Consumer<CoalescedPollTask> resultListener) {
+        List<PollTask> sorted = new ArrayList<>(tasks);
+        sorted.sort(Comparator.comparingInt((PollTask task) -> task.getRequest().getReference())
+                .thenComparingInt(task -> task.getRequest().getDataLength()));
+
+        List<CoalescedPollTask> blocks = new ArrayList<>();
+        List<PollTask> blockMembers = new ArrayList<>();
+        int blockStart = 0;
+        int blockEnd = 0;
+        for (PollTask task : sorted) {
+            ModbusReadRequestBlueprint taskRequest = task.getRequest();
+            int start = taskRequest.getReference();
+            int end = start + taskRequest.getDataLength();
+            int maxLength = maxReadCount(taskRequest.getFunctionCode());
+            if (!blockMembers.isEmpty()
+                    && (start - blockEnd > maxGap || Math.max(end, blockEnd) - blockStart > maxLength)) {
+                blocks.add(createBlock(endpoint, blockMembers, blockStart, blockEnd, resultListener));
+                blockMembers = new ArrayList<>();
+            }
+            if (blockMembers.isEmpty()) {
+                blockStart = start;
+                blockEnd = end;
+            } else {
+                blockEnd = Math.max(end, blockEnd);
+            }
+            blockMembers.add(task);
+        }
+        if (!blockMembers.isEmpty()) {
+            blocks.add(createBlock(endpoint, blockMembers, blockStart, blockEnd, resultListener));
+        }
+        return blocks;
+    }
+
+    private static CoalescedPollTask createBlock(ModbusSlaveEndpoint endpoint, List<PollTask> members, int start,
+            int end, Consumer<CoalescedPollTask> resultListener) {
+        ModbusReadRequestBlueprint first = members.get(0).getRequest();
+        int maxTries = members.stream().mapToInt(PollTask::getMaxTries).max().orElse(1);
+        ModbusReadRequestBlueprint request = new ModbusReadRequestBlueprint(first.getUnitID(),
+                first.getFunctionCode(), start, end - start, maxTries);
+        return new CoalescedPollTask(endpoint, request, members, resultListener);
+    }
+
+    private static int maxReadCount(ModbusReadFunctionCode functionCode) {
+        return switch (functionCode) {
+            case READ_COILS, READ_INPUT_DISCRETES -> ModbusConstants.MAX_BITS_READ_COUNT;
+            default -> ModbusConstants.MAX_REGISTERS_READ_COUNT;
+        };
+    }
+
+    /**
+     * Get the poll tasks served by this task
+     *
+     * @return poll tasks
+     */
+    public List<PollTask> getMembers() {
+        return members;
+    }
+
+    /**
+     * Number of transactions saved on each execution compared to polling all members separately
+     *
+     * @return number of saved transactions
+     */
+    public int getSavedTransactions() {
+        return members.size() - 1;
+    }
+
+    /**
+     * Mark this task as canceled, e.g. when the members have been re-grouped
+     */
+    void cancel() {
+        canceled = true;
+    }
+
+    boolean isCanceled() {
+        return canceled;
+    }
+
+    @Override
+    public ModbusSlaveEndpoint getEndpoint() {
+        return endpoint;
+    }
+
+    @Override
+    public ModbusReadRequestBlueprint getRequest() {
+        return request;
+    }
+
+    @Override
+    public ModbusReadCallback getResultCallback() {
+        return resultCallback;
+    }
+
+    @Override
+    public ModbusFailureCallback<ModbusReadRequestBlueprint> getFailureCallback() {
+        return failureCallback;
+    }
+
+    private void handleResult(AsyncModbusReadResult result) {
+        int responseLength = result.getRegisters().map(ModbusRegisterArray::size)
+                .orElseGet(() -> result.getBits().map(BitArray::size).orElse(0));
+        for (PollTask member : members) {
+            ModbusReadRequestBlueprint memberRequest = member.getRequest();
+            int offset = memberRequest.getReference() - request.getReference();
+            int length = memberRequest.getDataLength();
+            if (offset + length > responseLength) {
+                // the slave returned less data than requested, the member must not receive padded data
+                logger.debug("Response of {} items is too short for coalesced poll task {}", responseLength, member);
+                handleMemberFailure(member, new ModbusUnexpectedResponseSizeException(length,
+                        Math.max(0, responseLength - offset)));
+                continue;
+            }
+            try {
+                member.getResultCallback().handle(slice(result, memberRequest, offset, length));
+            } catch (RuntimeException e) {
+                logger.warn("Result callback of coalesced poll task {} failed unexpectedly", member, e);
+            }
+        }
+        resultListener.accept(this);
+    }
+
+    private void handleFailure(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+        for (PollTask member : members) {
+            handleMemberFailure(member, failure.getCause());
+        }
+    }
+
+    private void handleMemberFailure(PollTask member, Exception cause) {
+        try {
+            member.getFailureCallback().handle(new AsyncModbusFailure<>(member.getRequest(), cause));
+        } catch (RuntimeException e) {
+            logger.warn("Failure callback of coalesced poll task {} failed unexpectedly", member, e);
+        }
+    }
+
+    private AsyncModbusReadResult slice(AsyncModbusReadResult result, ModbusReadRequestBlueprint memberRequest,
+            int offset, int length) {
+        Optional<ModbusRegisterArray> registers = result.getRegisters();
+        if (registers.isPresent()) {
+            byte[] bytes = registers.get().getBytes();
+            return new AsyncModbusReadResult(memberRequest,
+                    new ModbusRegisterArray(Arrays.copyOfRange(bytes, offset * 2, (offset + length) * 2)));
+        }
+        BitArray bits = result.getBits().orElseThrow();
+        BitArray memberBits = new BitArray(length);
+        for (int i = 0; i < length; i++) {
+            memberBits.setBit(i, bits.getBit(offset + i));
+        }
+        return new AsyncModbusReadResult(memberRequest, memberBits);
+    }
+
+    @Override
+    public String toString() {
+        return "CoalescedPollTask [getEndpoint=" + getEndpoint() + ", request=" + request + ", members="
+                + members.size() + "]";
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.modbus.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Latency histograms of the operations with a single endpoint, aggregated from {@link AggregateStopWatch}es
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+public class EndpointLatencyStatistics {
+
+    private final LatencyHistogram total = new LatencyHistogram();
+    private final LatencyHistogram connection = new LatencyHistogram();
+    private final LatencyHistogram transaction = new LatencyHistogram();
+    private final LatencyHistogram callback = new LatencyHistogram();
+
+    /**
+     * Record timings of a finished operation
+     *
+     * @param timer stop watch of the operation, with all stop watches suspended
+     */
+    public void record(AggregateStopWatch timer) {
+        total.record(timer.total.getTotalTimeMillis());
+        connection.record(timer.connection.getTotalTimeMillis());
+        transaction.record(timer.transaction.getTotalTimeMillis());
+        callback.record(timer.callback.getTotalTimeMillis());
+    }
+
+    /**
+     * Total operation time
+     */
+    public LatencyHistogram getTotal() {
+        return total;
+    }
+
+    /**
+     * Time for connection related actions, including waiting for the connection
+     */
+    public LatencyHistogram getConnection() {
+        return connection;
+    }
+
+    /**
+     * Time for the actual transactions
+     */
+    public LatencyHistogram getTransaction() {
+        return transaction;
+    }
+
+    /**
+     * Time for calling the callbacks
+     */
+    public LatencyHistogram getCallback() {
+        return callback;
+    }
+
+    @Override
+    public String toString() {
+        return "{total: " + total + ", connection: " + connection + ", transaction: " + transaction + ", callback: "
+                + callback + "}";
+    }
+}
@@ -13,7 +13,9 @@
 package org.openhab.core.io.transport.modbus.internal;
 
 import java.io.IOException;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -24,7 +26,9 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import javax.imageio.IIOException;
@@ -42,6 +46,7 @@ import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
 import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
 import org.openhab.core.io.transport.modbus.ModbusManager;
 import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
 import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
 import org.openhab.core.io.transport.modbus.ModbusResultCallback;
 import org.openhab.core.io.transport.modbus.ModbusWriteCallback;
@@ -96,6 +101,48 @@ public class ModbusManagerImpl implements ModbusManager {
         private static final long serialVersionUID = 6939730579178506885L;
     }
 
+    /**
+     * Regular polls that can be read with shared transactions
+     */
+    private record PollGroupKey(ModbusSlaveEndpoint endpoint, int unitId, ModbusReadFunctionCode functionCode,
+            long pollPeriodMillis) {
+    }
+
+    /**
+     * Regular polls with equal {@link PollGroupKey}, executed as coalesced blocks with a single schedule
+     */
+    private static class PollGroup {
+        private final PollGroupKey key;
+        private final int maxGap;
+        private final Consumer<CoalescedPollTask> resultListener;
+        private final Set<PollTask> members = new LinkedHashSet<>();
+        private volatile List<CoalescedPollTask> blocks = List.of();
+        private @Nullable ScheduledFuture<?> future;
+
+        private PollGroup(PollGroupKey key, int maxGap, Consumer<CoalescedPollTask> resultListener) {
+            this.key = key;
+            this.maxGap = maxGap;
+            this.resultListener = resultListener;
+        }
+
+        private void add(PollTask task) {
+            members.add(task);
+            regroup();
+        }
+
+        private void remove(PollTask task) {
+            members.remove(task);
+            regroup();
+        }
+
+        private void regroup() {
+            // blocks currently executing notice the cancellation on their next try
+            blocks.forEach(CoalescedPollTask::cancel);
+            blocks = members.isEmpty() ? List.of() : CoalescedPollTask.coalesce(key.endpoint(), members, maxGap,
+                    resultListener);
+        }
+    }
+
     @FunctionalInterface
     private interface ModbusOperation<T> {
 
@@ -181,6 +228,32 @@ public class ModbusManagerImpl implements ModbusManager {
         }
     }
 
+    /**
+     * Execute a single transaction, using the pipelined channel of the endpoint if there is one
+     *
+     * @param timer aggregate stop watch for performance profiling
+     * @param endpoint endpoint of the connection
+     * @param connection connection to use
+     * @param libRequest modbus request
+     * @return response from the slave
+     * @throws ModbusException on Modbus protocol errors (e.g. ModbusIOException on I/O, ModbusSlaveException on
+     *             slave exception responses)
+     */
+    private ModbusResponse executeTransaction(AggregateStopWatch timer, ModbusSlaveEndpoint endpoint,
+            ModbusSlaveConnection connection, ModbusRequest libRequest) throws ModbusException {
+        PipelinedTCPChannel channel = pipelinedChannels.get(endpoint);
+        if (channel != null) {
+            AtomicReference<@Nullable ModbusResponse> response = new AtomicReference<>();
+            timer.transaction
+                    .timeRunnableWithModbusException(() -> response.set(channel.execute(connection, libRequest)));
+            return Objects.requireNonNull(response.get());
+        }
+        ModbusTransaction transaction = ModbusLibraryWrapper.createTransactionForEndpoint(endpoint, connection);
+        transaction.setRequest(libRequest);
+        timer.transaction.timeRunnableWithModbusException(transaction::execute);
+        return transaction.getResponse();
+    }
+
     /**
      * Implementation for the PollTask operation
      *
@@ -197,16 +270,13 @@ public class ModbusManagerImpl implements ModbusManager {
             ModbusReadCallback callback = task.getResultCallback();
             String operationId = timer.operationId;
 
-            ModbusTransaction transaction = ModbusLibraryWrapper.createTransactionForEndpoint(endpoint, connection);
             ModbusRequest libRequest = ModbusLibraryWrapper.createRequest(request);
-            transaction.setRequest(libRequest);
 
             logger.trace("Going execute transaction with request request (FC={}): {} [operation ID {}]",
                     request.getFunctionCode(), libRequest.getHexMessage(), operationId);
             // Might throw ModbusIOException (I/O error) or ModbusSlaveException (explicit exception response from
             // slave)
-            timer.transaction.timeRunnableWithModbusException(transaction::execute);
-            ModbusResponse response = transaction.getResponse();
+            ModbusResponse response = executeTransaction(timer, endpoint, connection, libRequest);
             logger.trace("Response for read request (FC={}, transaction ID={}): {} [operation ID {}]",
                     response.getFunctionCode(), response.getTransactionID(), response.getHexMessage(), operationId);
             checkTransactionId(response, libRequest, operationId);
@@ -234,17 +304,14 @@ public class ModbusManagerImpl implements ModbusManager {
             ModbusWriteCallback callback = task.getResultCallback();
             String operationId = timer.operationId;
 
-            ModbusTransaction transaction = ModbusLibraryWrapper.createTransactionForEndpoint(endpoint, connection);
             ModbusRequest libRequest = ModbusLibraryWrapper.createRequest(request);
-            transaction.setRequest(libRequest);
 
             logger.trace("Going execute transaction with read request (FC={}): {} [operation ID {}]",
                     request.getFunctionCode(), libRequest.getHexMessage(), operationId);
 
             // Might throw ModbusIOException (I/O error) or ModbusSlaveException (explicit exception response from
             // slave)
-            timer.transaction.timeRunnableWithModbusException(transaction::execute);
-            ModbusResponse response = transaction.getResponse();
+            ModbusResponse response = executeTransaction(timer, endpoint, connection, libRequest);
             logger.trace("Response for write request (FC={}, transaction ID={}): {} [operation ID {}]",
                     response.getFunctionCode(), response.getTransactionID(), response.getHexMessage(), operationId);
             checkTransactionId(response, libRequest, operationId);
@@ -349,6 +416,11 @@ public class ModbusManagerImpl implements ModbusManager {
     private volatile @Nullable KeyedObjectPool<ModbusSlaveEndpoint, @Nullable ModbusSlaveConnection> connectionPool;
     private volatile @Nullable ModbusSlaveConnectionFactoryImpl connectionFactory;
     private volatile Map<PollTask, ScheduledFuture<?>> scheduledPollTasks = new ConcurrentHashMap<>();
+    private final Map<PollGroupKey, PollGroup> pollGroups = new ConcurrentHashMap<>();
+    private final Map<PollTask, PollGroupKey> coalescedPollTasks = new ConcurrentHashMap<>();
+    private final AtomicLong savedPollTransactions = new AtomicLong();
+    private final Map<ModbusSlaveEndpoint, PipelinedTCPChannel> pipelinedChannels = new ConcurrentHashMap<>();
+    private final Map<ModbusSlaveEndpoint, EndpointLatencyStatistics> latencyStatistics = new ConcurrentHashMap<>();
     /**
      * Executor for requests
      */
@@ -377,6 +449,20 @@ public class ModbusManagerImpl implements ModbusManager {
     }
 
     private Optional<ModbusSlaveConnection> borrowConnection(ModbusSlaveEndpoint endpoint) {
+        PipelinedTCPChannel channel = pipelinedChannels.get(endpoint);
+        if (channel == null) {
+            return borrowPooledConnection(endpoint);
+        }
+        try {
+            return channel.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while waiting for a pipelined connection for endpoint {}", endpoint);
+            return Optional.empty();
+        }
+    }
+
+    private Optional<ModbusSlaveConnection> borrowPooledConnection(ModbusSlaveEndpoint endpoint) {
         Optional<ModbusSlaveConnection> connection = Optional.empty();
         KeyedObjectPool<ModbusSlaveEndpoint, @Nullable ModbusSlaveConnection> pool = connectionPool;
         if (pool == null) {
@@ -394,7 +480,7 @@ public class ModbusManagerImpl implements ModbusManager {
             if (!slaveConnection.isConnected()) {
                 logger.trace(
                         "Received connection which is unconnected, preventing use by returning connection to pool.");
-                returnConnection(endpoint, connection);
+                returnPooledConnection(endpoint, connection);
                 connection = Optional.empty();
             }
         }
@@ -404,6 +490,15 @@ public class ModbusManagerImpl implements ModbusManager {
     }
 
     private void invalidate(ModbusSlaveEndpoint endpoint, Optional<ModbusSlaveConnection> connection) {
+        PipelinedTCPChannel channel = pipelinedChannels.get(endpoint);
+        if (channel == null) {
+            invalidatePooledConnection(endpoint, connection);
+        } else {
+            connection.ifPresent(con -> channel.release(con, true));
+        }
+    }
+
+    private void invalidatePooledConnection(ModbusSlaveEndpoint endpoint, Optional<ModbusSlaveConnection> connection) {
         KeyedObjectPool<ModbusSlaveEndpoint, @Nullable ModbusSlaveConnection> pool = connectionPool;
         if (pool == null) {
             return;
@@ -422,6 +517,15 @@ public class ModbusManagerImpl implements ModbusManager {
     }
 
     private void returnConnection(ModbusSlaveEndpoint endpoint, Optional<ModbusSlaveConnection> connection) {
+        PipelinedTCPChannel channel = pipelinedChannels.get(endpoint);
+        if (channel == null) {
+            returnPooledConnection(endpoint, connection);
+        } else {
+            connection.ifPresent(con -> channel.release(con, false));
+        }
+    }
+
+    private void returnPooledConnection(ModbusSlaveEndpoint endpoint, Optional<ModbusSlaveConnection> connection) {
         KeyedObjectPool<ModbusSlaveEndpoint, @Nullable ModbusSlaveConnection> pool = connectionPool;
         if (pool == null) {
             return;
@@ -508,7 +612,9 @@ public class ModbusManagerImpl implements ModbusManager {
     }
 
     private void verifyTaskIsRegistered(PollTask task) throws PollTaskUnregistered {
-        if (!this.scheduledPollTasks.containsKey(task)) {
+        boolean registered = task instanceof CoalescedPollTask coalescedTask ? !coalescedTask.isCanceled()
+                : this.scheduledPollTasks.containsKey(task);
+        if (!registered) {
             String msg = String.format("Poll task %s is unregistered", task);
             logger.debug(msg);
             throw new PollTaskUnregistered(msg);
@@ -747,6 +853,7 @@ public class ModbusManagerImpl implements ModbusManager {
             timer.connection.timeConsumer(c -> returnConnection(endpoint, c), connection);
             logger.trace("Connection was returned to the pool, ending operation [operation ID {}]", operationId);
             timer.suspendAllRunning();
+            latencyStatistics.computeIfAbsent(endpoint, e -> new EndpointLatencyStatistics()).record(timer);
             logger.debug("Modbus operation ended, timing info: {} [operation ID {}]", timer, operationId);
         }
     }
@@ -764,6 +871,7 @@ public class ModbusManagerImpl implements ModbusManager {
             this.endpoint = endpoint;
             this.configuration = configuration;
             connectionFactory.setEndpointPoolConfiguration(endpoint, configuration);
+            maybeOpenPipelinedChannel(endpoint);
         }
 
         @Override
@@ -798,32 +906,19 @@ public class ModbusManagerImpl implements ModbusManager {
                 BasicPollTask task = new BasicPollTask(endpoint, request, resultCallback, failureCallback);
                 logger.trace("Registering poll task {} with period {} using initial delay {}", task, pollPeriodMillis,
                         initialDelayMillis);
-                if (scheduledPollTasks.containsKey(task)) {
+                if (scheduledPollTasks.containsKey(task) || coalescedPollTasks.containsKey(task)) {
                     logger.trace("Unregistering previous poll task (possibly with different period)");
                     unregisterRegularPoll(task);
                 }
-                ScheduledFuture<?> future = executor.scheduleWithFixedDelay(() -> {
-                    long started = System.currentTimeMillis();
-                    logger.debug("Executing scheduled ({}ms) poll task {}. Current millis: {}", pollPeriodMillis, task,
-                            started);
-                    try {
-                        executeOperation(task, false, pollOperation);
-                    } catch (RuntimeException e) {
-                        // We want to catch all unexpected exceptions since all unhandled exceptions make
-                        // ScheduledExecutorService halt the polling. It is better to print out the exception, and try
-                        // again
-                        // (on next poll cycle)
-                        logger.warn(
-                                "Execution of scheduled ({}ms) poll task {} failed unexpectedly. Ignoring exception, polling again according to poll interval.",
-                                pollPeriodMillis, task, e);
-                    }
-                    long finished = System.currentTimeMillis();
-                    logger.debug(
-                            "Execution of scheduled ({}ms) poll task {} finished at {}. Was started at millis: {} (=duration of {} millis)",
-                            pollPeriodMillis, task, finished, started, finished - started);
-                }, initialDelayMillis, pollPeriodMillis, TimeUnit.MILLISECONDS);
-
-                scheduledPollTasks.put(task, future);
+                int maxGap = getEndpointPoolConfiguration(endpoint).getPollCoalescingMaxGap();
+                if (maxGap >= 0) {
+                    registerCoalescedPoll(executor, task, pollPeriodMillis, initialDelayMillis, maxGap);
+                } else {
+                    ScheduledFuture<?> future = executor.scheduleWithFixedDelay(
+                            () -> executeScheduledPoll(task, pollPeriodMillis), initialDelayMillis, pollPeriodMillis,
+                            TimeUnit.MILLISECONDS);
+                    scheduledPollTasks.put(task, future);
+                }
                 pollTasksRegisteredByThisCommInterface.add(task);
                 logger.trace("Registered poll task {} with period {} using initial delay {}", task, pollPeriodMillis,
                         initialDelayMillis);
@@ -843,6 +938,11 @@ public class ModbusManagerImpl implements ModbusManager {
                 ModbusSlaveConnectionFactoryImpl localConnectionFactory = connectionFactory;
                 Objects.requireNonNull(localConnectionFactory, "Not activated!");
 
+                if (unregisterCoalescedPoll(task)) {
+                    logger.debug("Coalesced poll task {} unregistered", task);
+                    return true;
+                }
+
                 // cancel poller
                 @Nullable
                 ScheduledFuture<?> future = scheduledPollTasks.remove(task);
@@ -902,6 +1002,89 @@ public class ModbusManagerImpl implements ModbusManager {
         }
     }
 
+    private void executeScheduledPoll(PollTask task, long pollPeriodMillis) {
+        long started = System.currentTimeMillis();
+        logger.debug("Executing scheduled ({}ms) poll task {}. Current millis: {}", pollPeriodMillis, task, started);
+        try {
+            executeOperation(task, false, pollOperation);
+        } catch (RuntimeException e) {
+            // We want to catch all unexpected exceptions since all unhandled exceptions make
+            // ScheduledExecutorService halt the polling. It is better to print out the exception, and try
+            // again
+            // (on next poll cycle)
+            logger.warn(
+                    "Execution of scheduled ({}ms) poll task {} failed unexpectedly. Ignoring exception, polling again according to poll interval.",
+                    pollPeriodMillis, task, e);
+        }
+        long finished = System.currentTimeMillis();
+        logger.debug(
+                "Execution of scheduled ({}ms) poll task {} finished at {}. Was started at millis: {} (=duration of {} millis)",
+                pollPeriodMillis, task, finished, started, finished - started);
+    }
+
+    /**
+     * Register regular poll that shares transactions with other regular polls of the same slave, function code and
+     * poll period. All polls of such group are executed with a single schedule, using the initial delay of the first
+     * poll.
+     */
+    private void registerCoalescedPoll(ScheduledExecutorService executor, PollTask task, long pollPeriodMillis,
+            long initialDelayMillis, int maxGap) {
+        ModbusReadRequestBlueprint request = task.getRequest();
+        PollGroupKey key = new PollGroupKey(task.getEndpoint(), request.getUnitID(), request.getFunctionCode(),
+                pollPeriodMillis);
+        // transactions are only counted as saved if the coalesced read succeeded
+        PollGroup group = pollGroups.computeIfAbsent(key, k -> new PollGroup(k, maxGap,
+                block -> savedPollTransactions.addAndGet(block.getSavedTransactions())));
+        group.add(task);
+        coalescedPollTasks.put(task, key);
+        if (group.future == null) {
+            group.future = executor.scheduleWithFixedDelay(() -> {
+                for (CoalescedPollTask block : group.blocks) {
+                    executeScheduledPoll(block, pollPeriodMillis);
+                }
+            }, initialDelayMillis, pollPeriodMillis, TimeUnit.MILLISECONDS);
+        }
+        logger.trace("Poll task {} coalesced into {}", task, group.blocks);
+    }
+
+    private boolean unregisterCoalescedPoll(PollTask task) {
+        PollGroupKey key = coalescedPollTasks.remove(task);
+        if (key == null) {
+            return false;
+        }
+        PollGroup group = pollGroups.get(key);
+        if (group != null) {
+            group.remove(task);
+            if (group.members.isEmpty()) {
+                pollGroups.remove(key);
+                ScheduledFuture<?> future = group.future;
+                if (future != null) {
+                    future.cancel(true);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get latency statistics of the operations with an endpoint
+     *
+     * @param endpoint endpoint
+     * @return statistics, or null if no operation has been executed with the endpoint
+     */
+    public @Nullable EndpointLatencyStatistics getLatencyStatistics(ModbusSlaveEndpoint endpoint) {
+        return latencyStatistics.get(endpoint);
+    }
+
+    /**
+     * Get the number of transactions saved by coalescing regular polls since activation
+     *
+     * @return number of saved transactions
+     */
+    public long getSavedPollTransactions() {
+        return savedPollTransactions.get();
+    }
+
     @Override
     public ModbusCommunicationInterface newModbusCommunicationInterface(ModbusSlaveEndpoint endpoint,
             @Nullable EndpointPoolConfiguration configuration) throws IllegalArgumentException {
@@ -932,12 +1115,30 @@ public class ModbusManagerImpl implements ModbusManager {
         maybeCloseConnections(commInterface.getEndpoint());
     }
 
+    private void maybeOpenPipelinedChannel(ModbusSlaveEndpoint endpoint) {
+        int maxTransactionsInFlight = getEndpointPoolConfiguration(endpoint).getMaxTransactionsInFlight();
+        if (endpoint instanceof ModbusTCPSlaveEndpoint tcpEndpoint && !tcpEndpoint.getRtuEncoded()
+                && maxTransactionsInFlight > 1) {
+            pipelinedChannels.computeIfAbsent(endpoint, e -> {
+                logger.debug("Pipelining up to {} transactions with endpoint {}", maxTransactionsInFlight, endpoint);
+                return new PipelinedTCPChannel(tcpEndpoint, maxTransactionsInFlight,
+                        () -> borrowPooledConnection(endpoint),
+                        con -> invalidatePooledConnection(endpoint, Optional.of(con)));
+            });
+        }
+    }
+
     private void maybeCloseConnections(ModbusSlaveEndpoint endpoint) {
         boolean lastCommWithThisEndpointWasRemoved = communicationInterfaces.stream()
                 .noneMatch(comm -> comm.endpoint.equals(endpoint));
         if (lastCommWithThisEndpointWasRemoved) {
             // Since last communication interface pointing to this endpoint was closed, we can clean up resources
             // and disconnect connections.
+            PipelinedTCPChannel channel = pipelinedChannels.remove(endpoint);
+            if (channel != null) {
+                channel.close();
+            }
+            latencyStatistics.remove(endpoint);
 
             // Make sure connections to this endpoint are closed when they are returned to pool (which
             // is usually pretty soon as transactions should be relatively short-lived)
@@ -1025,6 +1226,21 @@ public class ModbusManagerImpl implements ModbusManager {
                         task.getRequest().getDataLength(), future.isDone(), future.isCancelled(),
                         future.getDelay(TimeUnit.MILLISECONDS), task);
             });
+            this.pollGroups.forEach((key, group) -> {
+                pollMonitorLogger.trace(
+                        "POLL MONITOR: coalesced poll group. Slave: {}, FC: {}, period {}, polls: {}, transactions: {}",
+                        key.unitId(), key.functionCode(), key.pollPeriodMillis(), group.members.size(),
+                        group.blocks.size());
+            });
+            pollMonitorLogger.trace("POLL MONITOR: transactions saved by coalescing regular polls: {}",
+                    savedPollTransactions.get());
+            this.pipelinedChannels.forEach((endpoint, channel) -> {
+                pollMonitorLogger.trace("POLL MONITOR: pipelined endpoint {}, transactions in flight: {}/{}",
+                        endpoint, channel.getTransactionsInFlight(), channel.getMaxTransactionsInFlight());
+            });
+            this.latencyStatistics.forEach((endpoint, statistics) -> {
+                pollMonitorLogger.trace("POLL MONITOR: latencies of endpoint {}: {}", endpoint, statistics);
+            });
             if (scheduledThreadPoolExecutor instanceof ThreadPoolExecutor executor) {
                 pollMonitorLogger.trace(
                         "POLL MONITOR: scheduledThreadPoolExecutor queue size: {}, remaining space {}. Active threads {}",
@@ -0,0 +1,262 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.modbus.internal;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusTCPSlaveEndpoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.wimpi.modbus.ModbusException;
+import net.wimpi.modbus.ModbusIOException;
+import net.wimpi.modbus.ModbusSlaveException;
+import net.wimpi.modbus.io.ModbusTransport;
+import net.wimpi.modbus.msg.ExceptionResponse;
+import net.wimpi.modbus.msg.ModbusRequest;
+import net.wimpi.modbus.msg.ModbusResponse;
+import net.wimpi.modbus.net.ModbusSlaveConnection;
+import net.wimpi.modbus.net.TCPMasterConnection;
+
+/**
+ * Single Modbus TCP connection shared by several concurrent transactions.
+ *
+ * Up to a configured number of requests are written to the connection without waiting for the responses of earlier
+ * requests. Responses are matched to requests using the transaction identifier of the MBAP header.
+ *
+ * No dedicated reader thread is used: one of the threads waiting for a response reads the next response from the
+ * connection and hands it over to the matching waiter, while the other waiting threads are idle.
+ *
+ * The connection itself is borrowed from the connection pool, and kept until it is invalidated or this channel is
+ * closed.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+public class PipelinedTCPChannel {
+
+    private final Logger logger = LoggerFactory.getLogger(PipelinedTCPChannel.class);
+
+    private final ModbusTCPSlaveEndpoint endpoint;
+    private final int maxTransactionsInFlight;
+    private final Supplier<Optional<ModbusSlaveConnection>> borrow;
+    private final Consumer<ModbusSlaveConnection> invalidate;
+    private final Semaphore inFlight;
+    private final AtomicInteger nextTransactionId = new AtomicInteger();
+    private final Map<Integer, CompletableFuture<ModbusResponse>> pending = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private final ReentrantLock readLock = new ReentrantLock();
+    private final Condition readFinished = readLock.newCondition();
+    private boolean reading;
+    private volatile boolean closed;
+    private @Nullable ModbusSlaveConnection connection;
+
+    /**
+     * Create a channel
+     *
+     * @param endpoint endpoint of the channel
+     * @param maxTransactionsInFlight maximum number of requests awaiting a response
+     * @param borrow function to borrow a connection to the endpoint from the pool
+     * @param invalidate function to invalidate a connection borrowed from the pool
+     */
+    public PipelinedTCPChannel(ModbusTCPSlaveEndpoint endpoint, int maxTransactionsInFlight,
+            Supplier<Optional<ModbusSlaveConnection>> borrow, Consumer<ModbusSlaveConnection> invalidate) {
+        this.endpoint = endpoint;
+        this.maxTransactionsInFlight = maxTransactionsInFlight;
+        this.borrow = borrow;
+        this.invalidate = invalidate;
+        this.inFlight = new Semaphore(maxTransactionsInFlight, true);
+    }
+
+    public int getMaxTransactionsInFlight() {
+        return maxTransactionsInFlight;
+    }
+
+    /**
+     * Get the number of requests currently awaiting a response
+     *
+     * @return number of requests
+     */
+    public int getTransactionsInFlight() {
+        return pending.size();
+    }
+
+    /**
+     * Reserve a slot for a transaction, and get the shared connection. Blocks while the maximum number of
+     * transactions is in flight.
+     *
+     * Each successful call must be followed by {@link #release(ModbusSlaveConnection, boolean)}.
+     *
+     * @return the shared connection, or empty {@link Optional} when connection could not be established
+     * @throws InterruptedException when interrupted while waiting for a slot
+     */
+    public Optional<ModbusSlaveConnection> acquire() throws InterruptedException {
+        inFlight.acquire();
+        ModbusSlaveConnection current;
+        synchronized (this) {
+            current = connection;
+            if (!closed && (current == null || !current.isConnected())) {
+                if (current != null) {
+                    resetConnection(current, new ModbusIOException("Connection lost"));
+                }
+                current = borrow.get().orElse(null);
+                connection = current;
+            }
+        }
+        if (closed || current == null) {
+            inFlight.release();
+            return Optional.empty();
+        }
+        return Optional.of(current);
+    }
+
+    /**
+     * Release a slot reserved with {@link #acquire()}
+     *
+     * @param used connection returned by {@link #acquire()}
+     * @param broken whether the connection should be re-established, e.g. after I/O errors
+     */
+    public void release(ModbusSlaveConnection used, boolean broken) {
+        try {
+            if (broken) {
+                synchronized (this) {
+                    // Other transactions might have reset the connection already
+                    if (connection == used) {
+                        resetConnection(used, new ModbusIOException("Connection was reset"));
+                    }
+                }
+            }
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    /**
+     * Close the channel. Transactions awaiting a response fail.
+     */
+    public synchronized void close() {
+        closed = true;
+        ModbusSlaveConnection current = connection;
+        if (current != null) {
+            resetConnection(current, new ModbusIOException("Connection was closed"));
+        }
+    }
+
+    private void resetConnection(ModbusSlaveConnection current, ModbusIOException cause) {
+        connection = null;
+        pending.values().forEach(future -> future.completeExceptionally(cause));
+        invalidate.accept(current);
+    }
+
+    /**
+     * Execute a request using the shared connection
+     *
+     * @param used connection returned by {@link #acquire()}
+     * @param request request to execute. The transaction identifier of the request is overwritten.
+     * @return response to the request
+     * @throws ModbusIOException on I/O errors. Other transactions in flight fail as well in that case.
+     * @throws ModbusSlaveException on slave exception responses
+     */
+    public ModbusResponse execute(ModbusSlaveConnection used, ModbusRequest request) throws ModbusException {
+        int transactionId = nextTransactionId.updateAndGet(id -> (id + 1) & 0xffff);
+        request.setTransactionID(transactionId);
+        CompletableFuture<ModbusResponse> future = new CompletableFuture<>();
+        pending.put(transactionId, future);
+        try {
+            ModbusTransport transport = ((TCPMasterConnection) used).getModbusTransport();
+            synchronized (writeLock) {
+                transport.writeMessage(request);
+            }
+            awaitResponse(transport, future);
+            ModbusResponse response = getResponse(future);
+            if (response instanceof ExceptionResponse exceptionResponse) {
+                throw new ModbusSlaveException(exceptionResponse.getExceptionCode());
+            }
+            return response;
+        } finally {
+            pending.remove(transactionId);
+        }
+    }
+
+    private void awaitResponse(ModbusTransport transport, CompletableFuture<ModbusResponse> future)
+            throws ModbusIOException {
+        readLock.lock();
+        try {
+            while (!future.isDone()) {
+                if (reading) {
+                    readFinished.await();
+                    continue;
+                }
+                reading = true;
+                readLock.unlock();
+                try {
+                    dispatch(transport.readResponse());
+                } catch (ModbusIOException e) {
+                    // Stream is out of sync or broken, none of the responses in flight can be received anymore
+                    pending.values().forEach(other -> other.completeExceptionally(e));
+                } finally {
+                    readLock.lock();
+                    reading = false;
+                    readFinished.signalAll();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ModbusIOException("Interrupted while waiting for response");
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private void dispatch(ModbusResponse response) {
+        CompletableFuture<ModbusResponse> future = pending.get(response.getTransactionID());
+        if (future == null) {
+            logger.debug("Ignoring response with unknown transaction ID {} from {}", response.getTransactionID(),
+                    endpoint);
+        } else {
+            future.complete(response);
+        }
+    }
+
+    private ModbusResponse getResponse(CompletableFuture<ModbusResponse> future) throws ModbusException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ModbusException cause) {
+                throw cause;
+            }
+            throw new ModbusIOException(String.valueOf(e.getCause()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ModbusIOException("Interrupted while waiting for response");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PipelinedTCPChannel [endpoint=" + endpoint + ", maxTransactionsInFlight=" + maxTransactionsInFlight
+                + ", transactionsInFlight=" + pending.size() + "]";
+    }
+}
@@ -0,0 +1,171 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.modbus.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusTCPSlaveEndpoint;
+import org.openhab.core.io.transport.modbus.exception.ModbusUnexpectedResponseSizeException;
+import org.openhab.core.io.transport.modbus.internal.BasicPollTask;
+import org.openhab.core.io.transport.modbus.internal.CoalescedPollTask;
+
+/**
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+public class CoalescedPollTaskTest {
+
+    private final ModbusSlaveEndpoint endpoint = new ModbusTCPSlaveEndpoint("localhost", 502, false);
+    private final List<AsyncModbusReadResult> results = new ArrayList<>();
+    private final List<AsyncModbusFailure<ModbusReadRequestBlueprint>> failures = new ArrayList<>();
+
+    private PollTask task(ModbusReadFunctionCode functionCode, int start, int length) {
+        return new BasicPollTask(endpoint, new ModbusReadRequestBlueprint(1, functionCode, start, length, 1),
+                results::add, failures::add);
+    }
+
+    @Test
+    public void testTasksWithinGapAreMerged() {
+        PollTask task1 = task(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 10, 2);
+        PollTask task2 = task(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 4);
+        PollTask task3 = task(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 30, 1);
+
+        List<CoalescedPollTask> blocks = CoalescedPollTask.coalesce(endpoint, List.of(task1, task2, task3), 6);
+
+        assertEquals(2, blocks.size());
+        assertEquals(0, blocks.get(0).getRequest().getReference());
+        assertEquals(12, blocks.get(0).getRequest().getDataLength());
+        assertEquals(List.of(task2, task1), blocks.get(0).getMembers());
+        assertEquals(1, blocks.get(0).getSavedTransactions());
+        assertEquals(30, blocks.get(1).getRequest().getReference());
+        assertEquals(1, blocks.get(1).getRequest().getDataLength());
+        assertEquals(0, blocks.get(1).getSavedTransactions());
+    }
+
+    @Test
+    public void testMaximumReadLengthIsRespected() {
+        PollTask task1 = task(ModbusReadFunctionCode.READ_INPUT_REGISTERS, 0, 100);
+        PollTask task2 = task(ModbusReadFunctionCode.READ_INPUT_REGISTERS, 100, 30);
+        PollTask task3 = task(ModbusReadFunctionCode.READ_COILS, 0, 100);
+        PollTask task4 = task(ModbusReadFunctionCode.READ_COILS, 100, 30);
+
+        assertEquals(2, CoalescedPollTask.coalesce(endpoint, List.of(task1, task2), 0).size());
+        assertEquals(1, CoalescedPollTask.coalesce(endpoint, List.of(task3, task4), 0).size());
+    }
+
+    @Test
+    public void testRegistersAreSplitToMembers() {
+        PollTask task1 = task(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 5, 2);
+        PollTask task2 = task(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 2, 1);
+        CoalescedPollTask block = CoalescedPollTask.coalesce(endpoint, List.of(task1, task2), 10).get(0);
+
+        block.getResultCallback()
+                .handle(new AsyncModbusReadResult(block.getRequest(), new ModbusRegisterArray(2, 3, 4, 5, 6)));
+
+        assertEquals(2, results.size());
+        assertEquals(task2.getRequest(), results.get(0).getRequest());
+        assertEquals(new ModbusRegisterArray(2), results.get(0).getRegisters().get());
+        assertEquals(task1.getRequest(), results.get(1).getRequest());
+        assertEquals(new ModbusRegisterArray(5, 6), results.get(1).getRegisters().get());
+    }
+
+    @Test
+    public void testBitsAreSplitToMembers() {
+        PollTask task1 = task(ModbusReadFunctionCode.READ_INPUT_DISCRETES, 0, 2);
+        PollTask task2 = task(ModbusReadFunctionCode.READ_INPUT_DISCRETES, 3, 3);
+        CoalescedPollTask block = CoalescedPollTask.coalesce(endpoint, List.of(task1, task2), 1).get(0);
+
+        block.getResultCallback().handle(
+                new AsyncModbusReadResult(block.getRequest(), new BitArray(true, false, false, false, true, true)));
+
+        assertEquals(2, results.size());
+        assertEquals(new BitArray(true, false), results.get(0).getBits().get());
+        assertEquals(new BitArray(false, true, true), results.get(1).getBits().get());
+    }
+
+    @Test
+    public void testMembersBeyondShortRegisterResponseFail() {
+        PollTask task1 = task(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2);
+        PollTask task2 = task(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 2, 2);
+        CoalescedPollTask block = CoalescedPollTask.coalesce(endpoint, List.of(task1, task2), 0).get(0);
+
+        block.getResultCallback()
+                .handle(new AsyncModbusReadResult(block.getRequest(), new ModbusRegisterArray(1, 2, 3)));
+
+        assertEquals(1, results.size());
+        assertEquals(new ModbusRegisterArray(1, 2), results.get(0).getRegisters().get());
+        assertEquals(1, failures.size());
+        assertEquals(task2.getRequest(), failures.get(0).getRequest());
+        assertInstanceOf(ModbusUnexpectedResponseSizeException.class, failures.get(0).getCause());
+    }
+
+    @Test
+    public void testMembersBeyondShortBitResponseFail() {
+        PollTask task1 = task(ModbusReadFunctionCode.READ_COILS, 0, 2);
+        PollTask task2 = task(ModbusReadFunctionCode.READ_COILS, 4, 2);
+        CoalescedPollTask block = CoalescedPollTask.coalesce(endpoint, List.of(task1, task2), 2).get(0);
+
+        block.getResultCallback().handle(new AsyncModbusReadResult(block.getRequest(), new BitArray(true, true)));
+
+        assertEquals(1, results.size());
+        assertEquals(new BitArray(true, true), results.get(0).getBits().get());
+        assertEquals(1, failures.size());
+        assertEquals(task2.getRequest(), failures.get(0).getRequest());
+        assertInstanceOf(ModbusUnexpectedResponseSizeException.class, failures.get(0).getCause());
+    }
+
+    @Test
+    public void testFailureIsForwardedToMembers() {
+        PollTask task1 = task(ModbusReadFunctionCode.READ_COILS, 0, 2);
+        PollTask task2 = task(ModbusReadFunctionCode.READ_COILS, 2, 2);
+        CoalescedPollTask block = CoalescedPollTask.coalesce(endpoint, List.of(task1, task2), 0).get(0);
+        Exception error = new IOException("error");
+
+        block.getFailureCallback().handle(new AsyncModbusFailure<>(block.getRequest(), error));
+
+        assertEquals(2, failures.size());
+        assertEquals(task1.getRequest(), failures.get(0).getRequest());
+        assertSame(error, failures.get(0).getCause());
+        assertEquals(task2.getRequest(), failures.get(1).getRequest());
+    }
+
+    @Test
+    public void testResultListenerIsOnlyNotifiedOnSuccess() {
+        PollTask task1 = task(ModbusReadFunctionCode.READ_COILS, 0, 2);
+        PollTask task2 = task(ModbusReadFunctionCode.READ_COILS, 2, 2);
+        List<CoalescedPollTask> succeeded = new ArrayList<>();
+        CoalescedPollTask block = CoalescedPollTask.coalesce(endpoint, List.of(task1, task2), 0, succeeded::add)
+                .get(0);
+
+        block.getFailureCallback().handle(new AsyncModbusFailure<>(block.getRequest(), new IOException("error")));
+        assertEquals(List.of(), succeeded);
+
+        block.getResultCallback()
+                .handle(new AsyncModbusReadResult(block.getRequest(), new BitArray(true, false, false, true)));
+        assertEquals(List.of(block), succeeded);
+    }
+}
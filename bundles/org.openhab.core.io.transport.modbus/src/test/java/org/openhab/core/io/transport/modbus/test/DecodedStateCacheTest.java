@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.modbus.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Optional;
+
+import javax.measure.quantity.Temperature;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.io.transport.modbus.DecodedStateCache;
+import org.openhab.core.io.transport.modbus.ModbusBitUtilities;
+import org.openhab.core.io.transport.modbus.ModbusConstants.ValueType;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.unit.SIUnits;
+
+/**
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+public class DecodedStateCacheTest {
+
+    @Test
+    public void testUnchangedValueIsReused() {
+        DecodedStateCache cache = new DecodedStateCache();
+        ModbusRegisterArray registers = new ModbusRegisterArray(0x0000, 0x0102);
+
+        Optional<DecimalType> first = ModbusBitUtilities.extractStateFromRegisters(registers, 0, ValueType.INT32,
+                cache);
+        Optional<DecimalType> second = ModbusBitUtilities.extractStateFromRegisters(
+                new ModbusRegisterArray(0x0000, 0x0102), 0, ValueType.INT32, cache);
+
+        assertEquals(new DecimalType(258), first.orElseThrow());
+        assertSame(first.orElseThrow(), second.orElseThrow());
+    }
+
+    @Test
+    public void testChangedValueIsExtracted() {
+        DecodedStateCache cache = new DecodedStateCache();
+        Optional<DecimalType> first = ModbusBitUtilities
+                .extractStateFromRegisters(new ModbusRegisterArray(0x0000, 0x0102), 0, ValueType.INT32, cache);
+        Optional<DecimalType> second = ModbusBitUtilities
+                .extractStateFromRegisters(new ModbusRegisterArray(0x0000, 0x0103), 0, ValueType.INT32, cache);
+        // same bits, but different interpretation
+        Optional<DecimalType> third = ModbusBitUtilities
+                .extractStateFromRegisters(new ModbusRegisterArray(0x0000, 0x0103), 0, ValueType.INT32_SWAP, cache);
+
+        assertEquals(new DecimalType(258), first.orElseThrow());
+        assertEquals(new DecimalType(259), second.orElseThrow());
+        assertEquals(new DecimalType(16973824), third.orElseThrow());
+    }
+
+    @Test
+    public void testResultsAreEqualToUncachedExtraction() {
+        ModbusRegisterArray registers = new ModbusRegisterArray(0xffff, 0xfffe, 0x7fc0, 0x0000, 0x4148, 0xf5c3);
+        for (ValueType type : ValueType.values()) {
+            if (type.getBits() > 64) {
+                continue;
+            }
+            DecodedStateCache cache = new DecodedStateCache();
+            int maxIndex = type.getBits() < 16 ? (registers.size() * 16 / type.getBits()) - 1
+                    : registers.size() - type.getBits() / 16;
+            for (int index = 0; index <= maxIndex; index++) {
+                assertEquals(ModbusBitUtilities.extractStateFromRegisters(registers, index, type),
+                        ModbusBitUtilities.extractStateFromRegisters(registers, index, type, cache),
+                        type + " at index " + index);
+            }
+        }
+    }
+
+    @Test
+    public void testNaNIsCached() {
+        DecodedStateCache cache = new DecodedStateCache();
+        ModbusRegisterArray registers = new ModbusRegisterArray(0x7fc0, 0x0000);
+        assertTrue(ModbusBitUtilities.extractStateFromRegisters(registers, 0, ValueType.FLOAT32, cache).isEmpty());
+        assertTrue(ModbusBitUtilities.extractStateFromRegisters(registers, 0, ValueType.FLOAT32, cache).isEmpty());
+    }
+
+    @Test
+    public void testQuantityIsReused() {
+        DecodedStateCache cache = new DecodedStateCache();
+        ModbusRegisterArray registers = new ModbusRegisterArray(0x4148, 0xf5c3);
+        DecimalType state = ModbusBitUtilities.extractStateFromRegisters(registers, 0, ValueType.FLOAT32, cache)
+                .orElseThrow();
+
+        QuantityType<Temperature> first = cache.toQuantity(state, SIUnits.CELSIUS);
+        QuantityType<Temperature> second = cache.toQuantity(
+                ModbusBitUtilities.extractStateFromRegisters(registers, 0, ValueType.FLOAT32, cache).orElseThrow(),
+                SIUnits.CELSIUS);
+
+        assertEquals(new QuantityType<>("12.56 °C"), first);
+        assertSame(first, second);
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.modbus.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.io.transport.modbus.internal.LatencyHistogram;
+
+/**
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+public class LatencyHistogramTest {
+
+    @Test
+    public void testEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMeanMillis());
+        assertEquals(0, histogram.getPercentileMillis(99));
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 90; i++) {
+            histogram.record(4);
+        }
+        for (int i = 0; i < 9; i++) {
+            histogram.record(40);
+        }
+        histogram.record(7000);
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(7000, histogram.getMaxMillis());
+        assertEquals(5, histogram.getPercentileMillis(50));
+        assertEquals(5, histogram.getPercentileMillis(90));
+        assertEquals(50, histogram.getPercentileMillis(95));
+        assertEquals(50, histogram.getPercentileMillis(99));
+        assertEquals(7000, histogram.getPercentileMillis(100));
+        assertEquals((90 * 4 + 9 * 40 + 7000) / 100.0, histogram.getMeanMillis(), 0.001);
+    }
+
+    @Test
+    public void testPercentileIsCappedByMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(120);
+        assertEquals(120, histogram.getPercentileMillis(50));
+    }
+}
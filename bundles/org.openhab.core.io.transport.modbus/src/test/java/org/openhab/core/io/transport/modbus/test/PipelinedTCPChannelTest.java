@@ -0,0 +1,171 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.modbus.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusTCPSlaveEndpoint;
+import org.openhab.core.io.transport.modbus.internal.PipelinedTCPChannel;
+
+import net.wimpi.modbus.ModbusIOException;
+import net.wimpi.modbus.ModbusSlaveException;
+import net.wimpi.modbus.io.ModbusTransport;
+import net.wimpi.modbus.msg.ExceptionResponse;
+import net.wimpi.modbus.msg.ModbusRequest;
+import net.wimpi.modbus.msg.ModbusResponse;
+import net.wimpi.modbus.msg.ReadMultipleRegistersRequest;
+import net.wimpi.modbus.net.ModbusSlaveConnection;
+import net.wimpi.modbus.net.TCPMasterConnection;
+
+/**
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+public class PipelinedTCPChannelTest {
+
+    private final ModbusTCPSlaveEndpoint endpoint = new ModbusTCPSlaveEndpoint("localhost", 502, false);
+    private final BlockingQueue<ModbusRequest> written = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Object> responses = new LinkedBlockingQueue<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private @NonNullByDefault({}) TCPMasterConnection connection;
+    private @NonNullByDefault({}) PipelinedTCPChannel channel;
+    private int invalidated;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        ModbusTransport transport = mock(ModbusTransport.class);
+        doAnswer(invocation -> written.add(invocation.getArgument(0))).when(transport).writeMessage(any());
+        when(transport.readResponse()).thenAnswer(invocation -> {
+            Object response = responses.take();
+            if (response instanceof ModbusIOException e) {
+                throw e;
+            }
+            return response;
+        });
+        connection = mock(TCPMasterConnection.class);
+        when(connection.isConnected()).thenReturn(true);
+        when(connection.getModbusTransport()).thenReturn(transport);
+        channel = new PipelinedTCPChannel(endpoint, 2, () -> Optional.of(connection), con -> invalidated++);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private ModbusResponse response(int transactionId) {
+        ModbusResponse response = mock(ModbusResponse.class);
+        when(response.getTransactionID()).thenReturn(transactionId);
+        return response;
+    }
+
+    private Future<ModbusResponse> submit() {
+        return executor.submit(() -> {
+            ModbusSlaveConnection used = channel.acquire().orElseThrow();
+            boolean broken = false;
+            try {
+                return channel.execute(used, new ReadMultipleRegistersRequest(0, 1));
+            } catch (ModbusIOException e) {
+                broken = true;
+                throw e;
+            } finally {
+                channel.release(used, broken);
+            }
+        });
+    }
+
+    @Test
+    public void testResponsesAreMatchedByTransactionId() throws Exception {
+        Future<ModbusResponse> first = submit();
+        Future<ModbusResponse> second = submit();
+        ModbusRequest request1 = written.poll(5, TimeUnit.SECONDS);
+        ModbusRequest request2 = written.poll(5, TimeUnit.SECONDS);
+        assertNotNull(request1);
+        assertNotNull(request2);
+        assertNotEquals(request1.getTransactionID(), request2.getTransactionID());
+
+        // slave answers in reverse order
+        responses.add(response(request2.getTransactionID()));
+        responses.add(response(request1.getTransactionID()));
+
+        List<Integer> requestIds = List.of(request1.getTransactionID(), request2.getTransactionID());
+        int firstId = first.get(5, TimeUnit.SECONDS).getTransactionID();
+        int secondId = second.get(5, TimeUnit.SECONDS).getTransactionID();
+        assertTrue(requestIds.contains(firstId));
+        assertTrue(requestIds.contains(secondId));
+        assertNotEquals(firstId, secondId);
+        assertEquals(0, channel.getTransactionsInFlight());
+        assertEquals(0, invalidated);
+    }
+
+    @Test
+    public void testExceptionResponse() throws Exception {
+        Future<ModbusResponse> future = submit();
+        ModbusRequest request = written.poll(5, TimeUnit.SECONDS);
+        assertNotNull(request);
+        ExceptionResponse response = new ExceptionResponse(3, 2);
+        response.setTransactionID(request.getTransactionID());
+        responses.add(response);
+
+        Exception e = assertThrows(Exception.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(ModbusSlaveException.class, e.getCause());
+    }
+
+    @Test
+    public void testIOErrorFailsAllTransactionsInFlight() throws Exception {
+        Future<ModbusResponse> first = submit();
+        Future<ModbusResponse> second = submit();
+        assertNotNull(written.poll(5, TimeUnit.SECONDS));
+        assertNotNull(written.poll(5, TimeUnit.SECONDS));
+        responses.add(new ModbusIOException("broken"));
+
+        assertInstanceOf(ModbusIOException.class,
+                assertThrows(Exception.class, () -> first.get(5, TimeUnit.SECONDS)).getCause());
+        assertInstanceOf(ModbusIOException.class,
+                assertThrows(Exception.class, () -> second.get(5, TimeUnit.SECONDS)).getCause());
+        // connection is re-established only once
+        assertEquals(1, invalidated);
+    }
+
+    @Test
+    public void testNumberOfTransactionsInFlightIsLimited() throws Exception {
+        ModbusSlaveConnection used1 = channel.acquire().orElseThrow();
+        ModbusSlaveConnection used2 = channel.acquire().orElseThrow();
+        CountDownLatch acquired = new CountDownLatch(1);
+        executor.submit(() -> {
+            channel.acquire();
+            acquired.countDown();
+            return null;
+        });
+        assertFalse(acquired.await(200, TimeUnit.MILLISECONDS));
+        channel.release(used1, false);
+        assertTrue(acquired.await(5, TimeUnit.SECONDS));
+        channel.release(used2, false);
+    }
+}
@@ -12,6 +12,8 @@
  */
 package org.openhab.core.io.transport.mqtt;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -30,7 +32,10 @@ import javax.net.ssl.TrustManagerFactory;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.mqtt.internal.RetainedMessageStore;
 import org.openhab.core.io.transport.mqtt.internal.Subscription;
+import org.openhab.core.io.transport.mqtt.internal.SubscriptionGroup;
+import org.openhab.core.io.transport.mqtt.internal.TopicTrie;
 import org.openhab.core.io.transport.mqtt.internal.client.Mqtt3AsyncClientWrapper;
 import org.openhab.core.io.transport.mqtt.internal.client.Mqtt5AsyncClientWrapper;
 import org.openhab.core.io.transport.mqtt.internal.client.MqttAsyncClientWrapper;
@@ -66,6 +71,7 @@ public class MqttBrokerConnection {
     public static final MqttVersion DEFAULT_MQTT_VERSION = MqttVersion.V3;
     public static final int DEFAULT_KEEPALIVE_INTERVAL = 60;
     public static final int DEFAULT_QOS = 0;
+    public static final int DEFAULT_SUBSCRIBE_BATCH_SIZE = 100;
 
     /**
      * MQTT transport protocols
@@ -101,12 +107,18 @@ public class MqttBrokerConnection {
     private @Nullable MqttWillAndTestament lastWill;
     protected @Nullable AbstractReconnectStrategy reconnectStrategy;
     private int keepAliveInterval = DEFAULT_KEEPALIVE_INTERVAL;
+    private int subscribeBatchSize = DEFAULT_SUBSCRIBE_BATCH_SIZE;
 
     /// Runtime variables
     protected @Nullable MqttAsyncClientWrapper client;
     protected boolean isConnecting = false;
     protected final List<MqttConnectionObserver> connectionObservers = new CopyOnWriteArrayList<>();
     protected final Map<String, Subscription> subscribers = new ConcurrentHashMap<>();
+    // consolidated groups by their wildcard topic filter
+    protected final Map<String, SubscriptionGroup> consolidations = new ConcurrentHashMap<>();
+    // the group a topic filter of the subscribers map is currently received through, if any
+    protected final Map<String, SubscriptionGroup> subscriptionGroups = new ConcurrentHashMap<>();
+    protected final RetainedMessageStore retainedMessageStore = new RetainedMessageStore();
 
     // Connection timeout handling
     protected final AtomicReference<@Nullable ScheduledFuture<?>> timeoutFuture = new AtomicReference<>(null);
@@ -139,10 +151,7 @@ public class MqttBrokerConnection {
             if (connection.reconnectStrategy != null) {
                 connection.reconnectStrategy.connectionEstablished();
             }
-            List<CompletableFuture<Boolean>> futures = new ArrayList<>();
-            connection.subscribers.forEach((topic, subscription) -> {
-                futures.add(connection.subscribeRaw(topic, subscription));
-            });
+            List<CompletableFuture<Boolean>> futures = connection.resubscribeAll();
 
             // As soon as all subscriptions are performed, turn the connection future complete.
             CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).thenRun(() -> {
@@ -505,6 +514,119 @@ public class MqttBrokerConnection {
         return keepAliveInterval;
     }
 
+    /**
+     * Set the maximum number of topic filters that are sent in a single SUBSCRIBE packet when all subscriptions are
+     * re-established after a (re)connect. The default is {@value #DEFAULT_SUBSCRIBE_BATCH_SIZE}.
+     *
+     * @param subscribeBatchSize maximum number of topic filters per SUBSCRIBE packet
+     */
+    public void setSubscribeBatchSize(int subscribeBatchSize) {
+        if (subscribeBatchSize <= 0) {
+            throw new IllegalArgumentException("Subscribe batch size cannot be <=0");
+        }
+        this.subscribeBatchSize = subscribeBatchSize;
+    }
+
+    /**
+     * Return the maximum number of topic filters per SUBSCRIBE packet on (re)connect
+     */
+    public int getSubscribeBatchSize() {
+        return subscribeBatchSize;
+    }
+
+    /**
+     * Set the maximum heap memory used for the payloads of retained messages, which are replayed to new subscribers.
+     * Identical payloads are only stored once. If the limit is exceeded, the payloads of the least recently used topics
+     * are moved to the spill file (see {@link #setRetainedMessageSpillFile(Path, int)}) or dropped. The default is
+     * {@value RetainedMessageStore#DEFAULT_MAX_BYTES} bytes.
+     *
+     * @param maxBytes the limit in bytes
+     */
+    public void setRetainedMessageLimit(long maxBytes) {
+        retainedMessageStore.setMaxBytes(maxBytes);
+    }
+
+    /**
+     * Return the maximum heap memory in bytes used for the payloads of retained messages
+     */
+    public long getRetainedMessageLimit() {
+        return retainedMessageStore.getMaxBytes();
+    }
+
+    /**
+     * Enable spilling of retained message payloads that exceed the limit set with
+     * {@link #setRetainedMessageLimit(long)} to a memory-mapped file, so they can still be replayed to new subscribers.
+     * The file is deleted when spilling is disabled again.
+     *
+     * @param file The file to use or null to disable spilling.
+     * @param capacity The maximum size of the file in bytes.
+     * @throws IOException If the file cannot be created.
+     */
+    public void setRetainedMessageSpillFile(@Nullable Path file, int capacity) throws IOException {
+        retainedMessageStore.setSpillFile(file, capacity);
+    }
+
+    /**
+     * Consolidate all subscriptions whose topic filter is covered by the given (wildcard) topic filter into a single
+     * broker subscription. Received messages are dispatched locally to the matching subscribers.
+     *
+     * This reduces the number of subscriptions on the broker and speeds up reconnects for bindings that subscribe to a
+     * lot of fine-grained topics below a common prefix, at the expense of receiving all messages below that prefix.
+     * Retained messages received through the wildcard are kept, so subscribers added later still receive them.
+     *
+     * Existing subscriptions covered by the topic filter are moved below the wildcard on the next (re)connect.
+     *
+     * @param topicFilter A topic filter, usually ending with a multi-level wildcard (e.g. "zigbee2mqtt/#").
+     */
+    public void addSubscriptionConsolidation(String topicFilter) {
+        consolidations.putIfAbsent(topicFilter, new SubscriptionGroup(topicFilter, retainedMessageStore));
+    }
+
+    /**
+     * Remove a topic filter previously added with {@link #addSubscriptionConsolidation(String)}. All subscriptions
+     * received through it are subscribed individually again, before the wildcard itself is unsubscribed.
+     *
+     * @param topicFilter The topic filter
+     * @return Completes with true if successful. Completes with false if not connected. Exceptionally otherwise.
+     */
+    public CompletableFuture<Boolean> removeSubscriptionConsolidation(String topicFilter) {
+        final List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+        final SubscriptionGroup group;
+        synchronized (subscribers) {
+            group = consolidations.remove(topicFilter);
+            if (group == null || group.isEmpty()) {
+                return CompletableFuture.completedFuture(true);
+            }
+            subscriptionGroups.entrySet().removeIf(entry -> {
+                if (entry.getValue() != group) {
+                    return false;
+                }
+                Subscription subscription = subscribers.get(entry.getKey());
+                if (subscription != null) {
+                    futures.add(subscribeRaw(entry.getKey(), subscription));
+                }
+                return true;
+            });
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).thenCompose(v -> {
+            group.clear();
+            MqttAsyncClientWrapper mqttClient = this.client;
+            if (mqttClient == null) {
+                return CompletableFuture.completedFuture(false);
+            }
+            return unsubscribeRaw(mqttClient, topicFilter);
+        });
+    }
+
+    private @Nullable SubscriptionGroup findConsolidation(String topic) {
+        for (Map.Entry<String, SubscriptionGroup> entry : consolidations.entrySet()) {
+            if (TopicTrie.covers(entry.getKey(), topic)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
     /**
      * Return true if there are subscribers registered via {@link #subscribe(String, MqttMessageSubscriber)}.
      * Call {@link #unsubscribe(String, MqttMessageSubscriber)} or {@link #unsubscribeAll()} if necessary.
@@ -521,6 +643,9 @@ public class MqttBrokerConnection {
      * If there is a retained message for the topic, you are guaranteed to receive a callback
      * for each new subscriber, even for the same topic.
      *
+     * If the topic is covered by a topic filter added with {@link #addSubscriptionConsolidation(String)}, no separate
+     * broker subscription is made.
+     *
      * @param topic The topic to subscribe to.
      * @param subscriber The callback listener for received messages for the given topic.
      * @return Completes with true if successful. Completes with false if not connected yet. Exceptionally otherwise.
@@ -528,20 +653,75 @@ public class MqttBrokerConnection {
     public CompletableFuture<Boolean> subscribe(String topic, MqttMessageSubscriber subscriber) {
         final Subscription subscription;
         final boolean needsSubscribe;
+        @Nullable SubscriptionGroup group = null;
         synchronized (subscribers) {
-            subscription = subscribers.computeIfAbsent(topic, t -> new Subscription());
+            subscription = subscribers.computeIfAbsent(topic, t -> new Subscription(retainedMessageStore));
 
-            needsSubscribe = subscription.isEmpty();
+            boolean isNew = subscription.isEmpty();
 
             subscription.add(subscriber);
+
+            if (isNew) {
+                group = findConsolidation(topic);
+            }
+            if (group != null) {
+                needsSubscribe = group.isEmpty();
+                group.add(topic, subscription);
+                subscriptionGroups.put(topic, group);
+            } else {
+                needsSubscribe = isNew;
+            }
         }
 
         if (needsSubscribe) {
+            String wildcardFilter = group != null ? group.getWildcardFilter() : null;
+            if (group != null && wildcardFilter != null) {
+                return subscribeRaw(List.of(wildcardFilter), group);
+            }
             return subscribeRaw(topic, subscription);
         }
         return CompletableFuture.completedFuture(true);
     }
 
+    /**
+     * Subscribe all registered topics on the current client. Consolidated subscriptions are subscribed with their
+     * wildcard topic filter, all others are sent in batches of non-overlapping topic filters.
+     *
+     * @return A list of futures, one for each SUBSCRIBE packet
+     */
+    protected List<CompletableFuture<Boolean>> resubscribeAll() {
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+        synchronized (subscribers) {
+            subscriptionGroups.values().removeIf(group -> !group.isConsolidated());
+            List<String> topics = new ArrayList<>();
+            subscribers.forEach((topic, subscription) -> {
+                SubscriptionGroup group = findConsolidation(topic);
+                if (group == null) {
+                    topics.add(topic);
+                } else if (subscriptionGroups.put(topic, group) != group) {
+                    group.add(topic, subscription);
+                }
+            });
+            consolidations.forEach((wildcardFilter, group) -> {
+                if (!group.isEmpty()) {
+                    futures.add(subscribeRaw(List.of(wildcardFilter), group));
+                }
+            });
+            for (List<String> batch : SubscriptionGroup.batch(topics, subscribeBatchSize)) {
+                SubscriptionGroup group = new SubscriptionGroup();
+                for (String topic : batch) {
+                    Subscription subscription = subscribers.get(topic);
+                    if (subscription != null) {
+                        group.add(topic, subscription);
+                        subscriptionGroups.put(topic, group);
+                    }
+                }
+                futures.add(subscribeRaw(batch, group));
+            }
+        }
+        return futures;
+    }
+
     /**
      * Subscribes to a topic on the given connection, but does not alter the subscriber list.
      *
@@ -568,6 +748,34 @@ public class MqttBrokerConnection {
         return future;
     }
 
+    /**
+     * Subscribes to several topics with a single SUBSCRIBE packet on the given connection, but does not alter the
+     * subscriber list. Received messages are dispatched by the given group.
+     *
+     * @param topics The topics to subscribe to.
+     * @param group The group dispatching received messages.
+     * @return Completes with true if successful. Completes with false if not connected. Exceptionally otherwise.
+     */
+    protected CompletableFuture<Boolean> subscribeRaw(List<String> topics, SubscriptionGroup group) {
+        logger.trace("subscribeRaw message consumers for {} topics from broker '{}'", topics.size(), host);
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        final MqttAsyncClientWrapper mqttClient = this.client;
+        if (mqttClient != null && mqttClient.getState().isConnected()) {
+            mqttClient.subscribeBatch(topics, qos, group).whenComplete((s, t) -> {
+                if (t == null) {
+                    logger.trace("Successfully subscribed to topics {}", topics);
+                    future.complete(true);
+                } else {
+                    logger.warn("Failed subscribing to topics {}", topics, t);
+                    future.completeExceptionally(new MqttException(t));
+                }
+            });
+        } else {
+            future.complete(false);
+        }
+        return future;
+    }
+
     /**
      * Remove a previously registered consumer from this connection.
      * If no more consumers are registered for a topic, the topic will be unsubscribed from.
@@ -579,6 +787,7 @@ public class MqttBrokerConnection {
     @SuppressWarnings({ "null", "unused" })
     public CompletableFuture<Boolean> unsubscribe(String topic, MqttMessageSubscriber subscriber) {
         final boolean needsUnsubscribe;
+        String brokerTopic = topic;
 
         synchronized (subscribers) {
             final @Nullable Subscription subscription = subscribers.get(topic);
@@ -589,8 +798,20 @@ public class MqttBrokerConnection {
             subscription.remove(subscriber);
 
             if (subscription.isEmpty()) {
-                needsUnsubscribe = true;
                 subscribers.remove(topic);
+                subscription.dispose();
+                final @Nullable SubscriptionGroup group = subscriptionGroups.remove(topic);
+                final @Nullable String wildcardFilter = group != null ? group.getWildcardFilter() : null;
+                if (group != null) {
+                    group.remove(topic);
+                }
+                if (group != null && wildcardFilter != null) {
+                    // the wildcard is only unsubscribed if no other subscription is received through it
+                    needsUnsubscribe = group.isEmpty();
+                    brokerTopic = wildcardFilter;
+                } else {
+                    needsUnsubscribe = true;
+                }
             } else {
                 needsUnsubscribe = false;
             }
@@ -599,8 +820,8 @@ public class MqttBrokerConnection {
             MqttAsyncClientWrapper mqttClient = this.client;
             if (mqttClient != null) {
                 logger.trace("Subscriber list is empty after removing {}, unsubscribing topic {} from client",
-                        subscriber, topic);
-                return unsubscribeRaw(mqttClient, topic);
+                        subscriber, brokerTopic);
+                return unsubscribeRaw(mqttClient, brokerTopic);
             }
         }
         return CompletableFuture.completedFuture(true);
@@ -748,10 +969,23 @@ public class MqttBrokerConnection {
         MqttAsyncClientWrapper client = this.client;
         List<CompletableFuture<Boolean>> futures = new ArrayList<>();
         if (client != null) {
-            subscribers.forEach((topic, subscription) -> {
-                futures.add(unsubscribeRaw(client, topic));
-            });
-            subscribers.clear();
+            synchronized (subscribers) {
+                subscribers.forEach((topic, subscription) -> {
+                    SubscriptionGroup group = subscriptionGroups.get(topic);
+                    if (group == null || !group.isConsolidated()) {
+                        futures.add(unsubscribeRaw(client, topic));
+                    }
+                });
+                consolidations.forEach((wildcardFilter, group) -> {
+                    if (!group.isEmpty()) {
+                        futures.add(unsubscribeRaw(client, wildcardFilter));
+                    }
+                    group.clear();
+                });
+                subscribers.values().forEach(Subscription::dispose);
+                subscribers.clear();
+                subscriptionGroups.clear();
+            }
         }
         return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()]));
     }
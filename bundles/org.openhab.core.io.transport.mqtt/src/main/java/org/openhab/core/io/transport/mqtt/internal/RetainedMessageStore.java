@@ -0,0 +1,349 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.mqtt.internal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A memory-bounded store for the payloads of retained MQTT messages, shared by all {@link Subscription}s of a broker
+ * connection.
+ * <p>
+ * Payloads are stored once per topic, no matter how many subscriptions retain the topic, and identical payloads of
+ * different topics share the same byte array. If the memory used exceeds the configured limit, the payloads of the
+ * least recently used topics are either moved to a memory-mapped spill file (if configured) or dropped.
+ * <p>
+ * Every holder (subscription) of a topic needs to {@link #acquire(String)} the topic before storing a payload and to
+ * {@link #release(String)} it once it is not interested anymore.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+public class RetainedMessageStore {
+    public static final long DEFAULT_MAX_BYTES = 16 * 1024 * 1024;
+
+    // rough estimation of the heap used by the bookkeeping of a topic and a payload
+    private static final int TOPIC_OVERHEAD = 96;
+    private static final int PAYLOAD_OVERHEAD = 48;
+
+    private final Logger logger = LoggerFactory.getLogger(RetainedMessageStore.class);
+
+    private static class SharedPayload {
+        private final byte[] data;
+        private final int hash;
+        private int references;
+
+        private SharedPayload(byte[] data) {
+            this.data = data;
+            this.hash = Arrays.hashCode(data);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            return obj instanceof SharedPayload other && hash == other.hash && Arrays.equals(data, other.data);
+        }
+    }
+
+    private static class Entry {
+        private int holders;
+        private @Nullable SharedPayload payload;
+        private int spillOffset = -1;
+        private int spillLength;
+    }
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<SharedPayload, SharedPayload> payloads = new HashMap<>();
+    private long maxBytes;
+    private long usedBytes = 0;
+
+    private @Nullable FileChannel spillChannel;
+    private @Nullable MappedByteBuffer spillBuffer;
+    private int spillPosition = 0;
+    private int spillLiveBytes = 0;
+
+    public RetainedMessageStore() {
+        this(DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Create a new store.
+     *
+     * @param maxBytes the maximum heap memory in bytes used for payloads
+     */
+    public RetainedMessageStore(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Set the maximum heap memory in bytes used for payloads. Payloads exceeding the new limit are evicted immediately.
+     *
+     * @param maxBytes the limit in bytes
+     */
+    public synchronized void setMaxBytes(long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Retained message store limit needs to be >0");
+        }
+        this.maxBytes = maxBytes;
+        evict();
+    }
+
+    public synchronized long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Return the estimated heap memory used by this store in bytes
+     */
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * Enable or disable spilling of evicted payloads to a memory-mapped file. Enabling replaces a previous spill file,
+     * all spilled payloads are lost in that case. The file is deleted when spilling is disabled again.
+     *
+     * @param file the file to use or null to disable spilling
+     * @param capacity the maximum size of the file in bytes
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public synchronized void setSpillFile(@Nullable Path file, int capacity) throws IOException {
+        closeSpillFile();
+        if (file != null) {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.DELETE_ON_CLOSE);
+            try {
+                spillBuffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+            spillChannel = channel;
+        }
+    }
+
+    private void closeSpillFile() {
+        FileChannel channel = spillChannel;
+        if (channel != null) {
+            for (Entry entry : entries.values()) {
+                entry.spillOffset = -1;
+            }
+            spillBuffer = null;
+            spillChannel = null;
+            spillPosition = 0;
+            spillLiveBytes = 0;
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close retained message spill file", e);
+            }
+        }
+    }
+
+    /**
+     * Register interest in a topic. Payloads for a topic are kept until all holders have released it.
+     *
+     * @param topic the topic
+     */
+    public synchronized void acquire(String topic) {
+        Entry entry = entries.get(topic);
+        if (entry == null) {
+            entry = new Entry();
+            entries.put(topic, entry);
+            usedBytes += TOPIC_OVERHEAD + topic.length();
+        }
+        entry.holders++;
+    }
+
+    /**
+     * Release the interest in a topic. The payload is removed if there is no other holder.
+     *
+     * @param topic the topic
+     */
+    public synchronized void release(String topic) {
+        Entry entry = entries.get(topic);
+        if (entry == null) {
+            return;
+        }
+        if (--entry.holders <= 0) {
+            dropPayload(entry);
+            dropSpilled(entry);
+            entries.remove(topic);
+            usedBytes -= TOPIC_OVERHEAD + topic.length();
+        }
+    }
+
+    /**
+     * Store the payload for a topic. The topic needs to be acquired before.
+     *
+     * @param topic the topic
+     * @param payload the payload
+     */
+    public synchronized void put(String topic, byte[] payload) {
+        Entry entry = entries.get(topic);
+        if (entry == null) {
+            logger.debug("Ignoring retained message for topic '{}' that is not acquired", topic);
+            return;
+        }
+        dropPayload(entry);
+        dropSpilled(entry);
+
+        SharedPayload shared = new SharedPayload(payload);
+        SharedPayload existing = payloads.putIfAbsent(shared, shared);
+        if (existing != null) {
+            shared = existing;
+        } else {
+            usedBytes += PAYLOAD_OVERHEAD + payload.length;
+        }
+        shared.references++;
+        entry.payload = shared;
+        evict();
+    }
+
+    /**
+     * Get the last payload stored for a topic.
+     *
+     * @param topic the topic
+     * @return the payload or null, if none is stored or it was evicted
+     */
+    public synchronized byte @Nullable [] get(String topic) {
+        Entry entry = entries.get(topic);
+        if (entry == null) {
+            return null;
+        }
+        SharedPayload payload = entry.payload;
+        if (payload != null) {
+            return payload.data;
+        }
+        MappedByteBuffer buffer = spillBuffer;
+        if (buffer != null && entry.spillOffset >= 0) {
+            byte[] data = new byte[entry.spillLength];
+            buffer.get(entry.spillOffset, data);
+            return data;
+        }
+        return null;
+    }
+
+    /**
+     * Return the number of topics in this store
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void dropPayload(Entry entry) {
+        SharedPayload payload = entry.payload;
+        if (payload != null) {
+            entry.payload = null;
+            if (--payload.references <= 0) {
+                payloads.remove(payload);
+                usedBytes -= PAYLOAD_OVERHEAD + payload.data.length;
+            }
+        }
+    }
+
+    private void dropSpilled(Entry entry) {
+        if (entry.spillOffset >= 0) {
+            entry.spillOffset = -1;
+            spillLiveBytes -= entry.spillLength;
+        }
+    }
+
+    /**
+     * Move the payloads of the least recently used topics out of the heap until the limit is met.
+     */
+    private void evict() {
+        if (usedBytes <= maxBytes) {
+            return;
+        }
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (usedBytes > maxBytes && iterator.hasNext()) {
+            Entry entry = iterator.next();
+            SharedPayload payload = entry.payload;
+            if (payload == null) {
+                continue;
+            }
+            spill(entry, payload.data);
+            dropPayload(entry);
+        }
+    }
+
+    private void spill(Entry entry, byte[] data) {
+        MappedByteBuffer buffer = spillBuffer;
+        if (buffer == null || data.length > buffer.capacity()) {
+            return;
+        }
+        if (spillPosition + data.length > buffer.capacity()) {
+            compactSpillFile(buffer, data.length);
+        }
+        if (spillPosition + data.length > buffer.capacity()) {
+            return;
+        }
+        buffer.put(spillPosition, data);
+        entry.spillOffset = spillPosition;
+        entry.spillLength = data.length;
+        spillPosition += data.length;
+        spillLiveBytes += data.length;
+    }
+
+    /**
+     * Remove unused space from the spill file. If there is still not enough room afterwards, spilled payloads of the
+     * least recently used topics are dropped.
+     */
+    private void compactSpillFile(MappedByteBuffer buffer, int required) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (spillLiveBytes + required > buffer.capacity() && iterator.hasNext()) {
+            dropSpilled(iterator.next());
+        }
+        List<Entry> spilled = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            if (entry.spillOffset >= 0) {
+                spilled.add(entry);
+            }
+        }
+        spilled.sort(Comparator.comparingInt(entry -> entry.spillOffset));
+        int position = 0;
+        for (Entry entry : spilled) {
+            if (entry.spillOffset != position) {
+                ByteBuffer source = buffer.slice(entry.spillOffset, entry.spillLength);
+                byte[] data = new byte[entry.spillLength];
+                source.get(data);
+                buffer.put(position, data);
+                entry.spillOffset = position;
+            }
+            position += entry.spillLength;
+        }
+        spillPosition = position;
+    }
+}
@@ -13,7 +13,7 @@
 package org.openhab.core.io.transport.mqtt.internal;
 
 import java.util.Collection;
-import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -28,16 +28,31 @@ import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
 /**
  * This class keeps track of all the subscribers to a specific topic.
  * <p>
- * <b>Retained</b> messages for the topic are stored so they can be replayed to new subscribers.
+ * <b>Retained</b> messages for the topic are stored so they can be replayed to new subscribers. The payloads are kept
+ * in a {@link RetainedMessageStore}, which is usually shared by all subscriptions of a connection.
  *
  * @author Jochen Klein - Initial contribution
  */
 @NonNullByDefault
 public class Subscription {
     private final Logger logger = LoggerFactory.getLogger(Subscription.class);
-    private final Map<String, byte[]> retainedMessages = new ConcurrentHashMap<>();
+    private final RetainedMessageStore retainedMessageStore;
+    private final Set<String> retainedTopics = ConcurrentHashMap.newKeySet();
     private final Collection<MqttMessageSubscriber> subscribers = ConcurrentHashMap.newKeySet();
 
+    public Subscription() {
+        this(new RetainedMessageStore());
+    }
+
+    /**
+     * Create a new subscription.
+     *
+     * @param retainedMessageStore the store for the payloads of retained messages
+     */
+    public Subscription(RetainedMessageStore retainedMessageStore) {
+        this.retainedMessageStore = retainedMessageStore;
+    }
+
     /**
      * Add a new subscriber.
      * <p>
@@ -48,9 +63,10 @@ public class Subscription {
     public void add(MqttMessageSubscriber subscriber) {
         if (subscribers.add(subscriber)) {
             // new subscriber. deliver all known retained messages
-            retainedMessages.entrySet().stream().forEach(entry -> {
-                if (entry.getValue().length > 0) {
-                    processMessage(subscriber, entry.getKey(), entry.getValue());
+            retainedTopics.forEach(topic -> {
+                byte[] payload = retainedMessageStore.get(topic);
+                if (payload != null && payload.length > 0) {
+                    processMessage(subscriber, topic, payload);
                 }
             });
         }
@@ -69,6 +85,14 @@ public class Subscription {
         return subscribers.isEmpty();
     }
 
+    /**
+     * Release all retained messages of this subscription. Must be called once the subscription is not used anymore.
+     */
+    public void dispose() {
+        retainedTopics.forEach(retainedMessageStore::release);
+        retainedTopics.clear();
+    }
+
     public void messageArrived(Mqtt3Publish message) {
         messageArrived(message.getTopic().toString(), message.getPayloadAsBytes(), message.isRetain());
     }
@@ -82,8 +106,11 @@ public class Subscription {
         // Only the first message delivered will have the retain flag; subsequent messages
         // will not have the flag set. So see if we retained it in the past, and continue
         // to retain it (even if it's now empty - we need to know to continue to retain it)
-        if (retain || retainedMessages.containsKey(topic)) {
-            retainedMessages.put(topic, payload);
+        if (retain || retainedTopics.contains(topic)) {
+            if (retainedTopics.add(topic)) {
+                retainedMessageStore.acquire(topic);
+            }
+            retainedMessageStore.put(topic, payload);
         }
         subscribers.forEach(subscriber -> processMessage(subscriber, topic, payload));
     }
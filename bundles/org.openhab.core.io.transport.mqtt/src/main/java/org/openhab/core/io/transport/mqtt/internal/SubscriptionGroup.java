@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.mqtt.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.hivemq.client.mqtt.mqtt3.message.publish.Mqtt3Publish;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+
+/**
+ * A group of {@link Subscription}s that share a single broker subscription. Received messages are dispatched locally
+ * to all subscriptions whose topic filter matches the topic, using a {@link TopicTrie}.
+ * <p>
+ * A group is used for two purposes:
+ * <ul>
+ * <li>a <b>consolidated</b> group subscribes a single wildcard topic filter at the broker and serves all subscriptions
+ * covered by this filter. Retained messages are stored, so that subscriptions added later still receive them.</li>
+ * <li>a <b>batch</b> group subscribes all its topic filters in a single SUBSCRIBE packet (e.g. on reconnect).</li>
+ * </ul>
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+public class SubscriptionGroup {
+    private final TopicTrie<Subscription> subscriptions = new TopicTrie<>();
+    private final @Nullable String wildcardFilter;
+    private final @Nullable RetainedMessageStore retainedMessageStore;
+    private final Set<String> retainedTopics = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Create a new batch group.
+     */
+    public SubscriptionGroup() {
+        this.wildcardFilter = null;
+        this.retainedMessageStore = null;
+    }
+
+    /**
+     * Create a new consolidated group.
+     *
+     * @param wildcardFilter the topic filter of the single broker subscription
+     * @param retainedMessageStore the store for the payloads of retained messages received through the wildcard
+     */
+    public SubscriptionGroup(String wildcardFilter, RetainedMessageStore retainedMessageStore) {
+        this.wildcardFilter = wildcardFilter;
+        this.retainedMessageStore = retainedMessageStore;
+    }
+
+    /**
+     * Return the topic filter of the broker subscription of a consolidated group or null for a batch group.
+     */
+    public @Nullable String getWildcardFilter() {
+        return wildcardFilter;
+    }
+
+    public boolean isConsolidated() {
+        return wildcardFilter != null;
+    }
+
+    /**
+     * Add a subscription to this group. For consolidated groups, all known retained messages matching the topic
+     * filter are delivered to the subscription.
+     *
+     * @param topicFilter the topic filter of the subscription
+     * @param subscription the subscription
+     */
+    public void add(String topicFilter, Subscription subscription) {
+        subscriptions.put(topicFilter, subscription);
+        RetainedMessageStore store = retainedMessageStore;
+        if (store != null) {
+            retainedTopics.forEach(topic -> {
+                byte[] payload = store.get(topic);
+                if (payload != null && payload.length > 0 && TopicTrie.matches(topicFilter, topic)) {
+                    subscription.messageArrived(topic, payload, true);
+                }
+            });
+        }
+    }
+
+    /**
+     * Remove the subscription for the given topic filter from this group. If the group becomes empty, the retained
+     * messages are dropped, because the broker will deliver them again on the next subscribe.
+     *
+     * @param topicFilter the topic filter of the subscription
+     */
+    public void remove(String topicFilter) {
+        subscriptions.remove(topicFilter);
+        if (subscriptions.isEmpty()) {
+            releaseRetained();
+        }
+    }
+
+    /**
+     * Remove all subscriptions and retained messages from this group.
+     */
+    public void clear() {
+        subscriptions.clear();
+        releaseRetained();
+    }
+
+    private void releaseRetained() {
+        RetainedMessageStore store = retainedMessageStore;
+        if (store != null) {
+            retainedTopics.forEach(store::release);
+        }
+        retainedTopics.clear();
+    }
+
+    public boolean isEmpty() {
+        return subscriptions.isEmpty();
+    }
+
+    public int size() {
+        return subscriptions.size();
+    }
+
+    public void messageArrived(Mqtt3Publish message) {
+        messageArrived(message.getTopic().toString(), message.getPayloadAsBytes(), message.isRetain());
+    }
+
+    public void messageArrived(Mqtt5Publish message) {
+        messageArrived(message.getTopic().toString(), message.getPayloadAsBytes(), message.isRetain());
+    }
+
+    public void messageArrived(String topic, byte[] payload, boolean retain) {
+        RetainedMessageStore store = retainedMessageStore;
+        if (store != null && (retain || retainedTopics.contains(topic))) {
+            if (retainedTopics.add(topic)) {
+                store.acquire(topic);
+            }
+            store.put(topic, payload);
+        }
+        subscriptions.match(topic, subscription -> subscription.messageArrived(topic, payload, retain));
+    }
+
+    /**
+     * Collect the given topic filters into batches. Topic filters in the same batch never overlap, so a message is
+     * delivered at most once per batch.
+     *
+     * @param topicFilters the topic filters
+     * @param batchSize the maximum number of topic filters in one batch
+     * @return a list of batches
+     */
+    public static List<List<String>> batch(Iterable<String> topicFilters, int batchSize) {
+        List<List<String>> batches = new ArrayList<>();
+        List<TopicTrie<String>> batchTries = new ArrayList<>();
+        for (String topicFilter : topicFilters) {
+            int target = -1;
+            for (int i = 0; i < batches.size(); i++) {
+                if (batches.get(i).size() < batchSize && !batchTries.get(i).overlapsAny(topicFilter)) {
+                    target = i;
+                    break;
+                }
+            }
+            if (target < 0) {
+                target = batches.size();
+                batches.add(new ArrayList<>());
+                batchTries.add(new TopicTrie<>());
+            }
+            batches.get(target).add(topicFilter);
+            batchTries.get(target).put(topicFilter, topicFilter);
+        }
+        return batches;
+    }
+}
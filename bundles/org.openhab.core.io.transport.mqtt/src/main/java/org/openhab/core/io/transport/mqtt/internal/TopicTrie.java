@@ -0,0 +1,301 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.mqtt.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * A trie of MQTT topic filters, split at the topic level separator. It is used to find all values whose topic filter
+ * matches a topic of a received message without iterating over all filters.
+ * <p>
+ * Modifications are synchronized, lookups are lock-free and may run concurrently to modifications.
+ *
+ * @author openHAB Core Team - Initial contribution
+ *
+ * @param <T> the type of the values stored for a topic filter
+ */
+@NonNullByDefault
+public class TopicTrie<T> {
+    private static final String SINGLE_LEVEL_WILDCARD = "+";
+    private static final String MULTI_LEVEL_WILDCARD = "#";
+    private static final char SEPARATOR = '/';
+
+    private static class Node<T> {
+        private final Map<String, Node<T>> children = new ConcurrentHashMap<>();
+        private volatile @Nullable T value;
+
+        private boolean isEmpty() {
+            return value == null && children.isEmpty();
+        }
+    }
+
+    private final Node<T> root = new Node<>();
+    private int size = 0;
+
+    /**
+     * Store a value for a topic filter, replacing a previously stored one.
+     *
+     * @param topicFilter the topic filter, may contain wildcards
+     * @param value the value
+     * @return the previous value for this topic filter or null
+     */
+    public synchronized @Nullable T put(String topicFilter, T value) {
+        Node<T> node = root;
+        for (String level : topicFilter.split(String.valueOf(SEPARATOR), -1)) {
+            node = node.children.computeIfAbsent(level, l -> new Node<>());
+        }
+        T previous = node.value;
+        node.value = value;
+        if (previous == null) {
+            size++;
+        }
+        return previous;
+    }
+
+    /**
+     * Get the value stored for exactly this topic filter. Wildcards are not expanded.
+     *
+     * @param topicFilter the topic filter
+     * @return the value or null
+     */
+    public @Nullable T get(String topicFilter) {
+        Node<T> node = root;
+        for (String level : topicFilter.split(String.valueOf(SEPARATOR), -1)) {
+            node = node.children.get(level);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node.value;
+    }
+
+    /**
+     * Remove the value for a topic filter. Empty branches are pruned.
+     *
+     * @param topicFilter the topic filter
+     * @return the removed value or null if there was none
+     */
+    public synchronized @Nullable T remove(String topicFilter) {
+        return remove(root, topicFilter.split(String.valueOf(SEPARATOR), -1), 0);
+    }
+
+    private @Nullable T remove(Node<T> node, String[] levels, int index) {
+        if (index == levels.length) {
+            T previous = node.value;
+            node.value = null;
+            if (previous != null) {
+                size--;
+            }
+            return previous;
+        }
+        Node<T> child = node.children.get(levels[index]);
+        if (child == null) {
+            return null;
+        }
+        T previous = remove(child, levels, index + 1);
+        if (child.isEmpty()) {
+            node.children.remove(levels[index]);
+        }
+        return previous;
+    }
+
+    /**
+     * Call the consumer for every value whose topic filter matches the given topic. Every value is passed at most once.
+     *
+     * @param topic a topic name without wildcards
+     * @param consumer the consumer of the matching values
+     */
+    public void match(String topic, Consumer<T> consumer) {
+        match(root, topic, 0, consumer);
+    }
+
+    private void match(Node<T> node, String topic, int start, Consumer<T> consumer) {
+        // "a/#" also matches "a", so the multi-level wildcard is checked before the end of the topic
+        Node<T> multiLevel = node.children.get(MULTI_LEVEL_WILDCARD);
+        if (multiLevel != null && !(start == 0 && topic.startsWith("$"))) {
+            accept(multiLevel, consumer);
+        }
+        if (start > topic.length()) {
+            accept(node, consumer);
+            return;
+        }
+        int end = topic.indexOf(SEPARATOR, start);
+        if (end < 0) {
+            end = topic.length();
+        }
+        Node<T> exact = node.children.get(topic.substring(start, end));
+        if (exact != null) {
+            match(exact, topic, end + 1, consumer);
+        }
+        Node<T> singleLevel = node.children.get(SINGLE_LEVEL_WILDCARD);
+        if (singleLevel != null && !(start == 0 && topic.startsWith("$"))) {
+            match(singleLevel, topic, end + 1, consumer);
+        }
+    }
+
+    /**
+     * Check if any stored topic filter overlaps the given topic filter, see {@link #overlaps(String, String)}. Only the
+     * branches of the trie that can overlap are visited.
+     *
+     * @param topicFilter the topic filter, may contain wildcards
+     * @return true if there is a topic name matched by the given and by a stored topic filter
+     */
+    public boolean overlapsAny(String topicFilter) {
+        return overlapsAny(root, topicFilter.split(String.valueOf(SEPARATOR), -1), 0);
+    }
+
+    private boolean overlapsAny(Node<T> node, String[] levels, int index) {
+        Node<T> multiLevel = node.children.get(MULTI_LEVEL_WILDCARD);
+        if (multiLevel != null && multiLevel.value != null) {
+            return true;
+        }
+        if (index == levels.length) {
+            return node.value != null;
+        }
+        String level = levels[index];
+        if (MULTI_LEVEL_WILDCARD.equals(level)) {
+            // "a/#" also matches "a", empty branches are pruned, so every remaining child leads to a value
+            return node.value != null || !node.children.isEmpty();
+        }
+        if (SINGLE_LEVEL_WILDCARD.equals(level)) {
+            for (Node<T> child : node.children.values()) {
+                if (overlapsAny(child, levels, index + 1)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        Node<T> exact = node.children.get(level);
+        if (exact != null && overlapsAny(exact, levels, index + 1)) {
+            return true;
+        }
+        Node<T> singleLevel = node.children.get(SINGLE_LEVEL_WILDCARD);
+        return singleLevel != null && overlapsAny(singleLevel, levels, index + 1);
+    }
+
+    private void accept(Node<T> node, Consumer<T> consumer) {
+        T value = node.value;
+        if (value != null) {
+            consumer.accept(value);
+        }
+    }
+
+    /**
+     * Remove all values.
+     */
+    public synchronized void clear() {
+        root.children.clear();
+        root.value = null;
+        size = 0;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Check if a topic name matches a topic filter.
+     *
+     * @param topicFilter the topic filter, may contain wildcards
+     * @param topic a topic name without wildcards
+     * @return true if the topic filter matches the topic
+     */
+    public static boolean matches(String topicFilter, String topic) {
+        return covers(topicFilter, topic);
+    }
+
+    /**
+     * Check if every topic matched by a topic filter is also matched by another (usually wider) topic filter.
+     *
+     * @param wildcardFilter the wider topic filter
+     * @param topicFilter the topic filter to check
+     * @return true if all messages for topicFilter are also received through wildcardFilter
+     */
+    public static boolean covers(String wildcardFilter, String topicFilter) {
+        if (topicFilter.startsWith("$") && !wildcardFilter.startsWith("$")) {
+            // topics starting with $ are not matched by leading wildcards
+            return wildcardFilter.equals(topicFilter);
+        }
+        String[] wildcardLevels = wildcardFilter.split(String.valueOf(SEPARATOR), -1);
+        String[] levels = topicFilter.split(String.valueOf(SEPARATOR), -1);
+        for (int i = 0; i < wildcardLevels.length; i++) {
+            String wildcardLevel = wildcardLevels[i];
+            if (MULTI_LEVEL_WILDCARD.equals(wildcardLevel)) {
+                return true;
+            }
+            if (i == levels.length) {
+                return false;
+            }
+            String level = levels[i];
+            if (MULTI_LEVEL_WILDCARD.equals(level)) {
+                return false;
+            }
+            if (!SINGLE_LEVEL_WILDCARD.equals(wildcardLevel) && !wildcardLevel.equals(level)) {
+                return false;
+            }
+        }
+        return wildcardLevels.length == levels.length;
+    }
+
+    /**
+     * Check if there is any topic name that is matched by both topic filters.
+     *
+     * @param topicFilter1 the first topic filter
+     * @param topicFilter2 the second topic filter
+     * @return true if the topic filters overlap
+     */
+    public static boolean overlaps(String topicFilter1, String topicFilter2) {
+        if (!hasWildcard(topicFilter1) && !hasWildcard(topicFilter2)) {
+            return topicFilter1.equals(topicFilter2);
+        }
+        String[] levels1 = topicFilter1.split(String.valueOf(SEPARATOR), -1);
+        String[] levels2 = topicFilter2.split(String.valueOf(SEPARATOR), -1);
+        int length = Math.min(levels1.length, levels2.length);
+        for (int i = 0; i < length; i++) {
+            String level1 = levels1[i];
+            String level2 = levels2[i];
+            if (MULTI_LEVEL_WILDCARD.equals(level1) || MULTI_LEVEL_WILDCARD.equals(level2)) {
+                return true;
+            }
+            if (!SINGLE_LEVEL_WILDCARD.equals(level1) && !SINGLE_LEVEL_WILDCARD.equals(level2)
+                    && !level1.equals(level2)) {
+                return false;
+            }
+        }
+        if (levels1.length == levels2.length) {
+            return true;
+        }
+        // "a/#" and "a" overlap
+        String[] longer = levels1.length > levels2.length ? levels1 : levels2;
+        return longer.length == length + 1 && MULTI_LEVEL_WILDCARD.equals(longer[length]);
+    }
+
+    /**
+     * Check if a topic filter contains a single-level or multi-level wildcard.
+     *
+     * @param topicFilter the topic filter
+     * @return true if the topic filter contains a wildcard
+     */
+    public static boolean hasWildcard(String topicFilter) {
+        return topicFilter.indexOf('+') >= 0 || topicFilter.indexOf('#') >= 0;
+    }
+}
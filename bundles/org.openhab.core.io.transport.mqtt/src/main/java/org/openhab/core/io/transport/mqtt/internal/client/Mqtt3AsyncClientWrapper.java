@@ -12,6 +12,7 @@
  */
 package org.openhab.core.io.transport.mqtt.internal.client;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import javax.net.ssl.TrustManagerFactory;
@@ -22,6 +23,7 @@ import org.openhab.core.io.transport.mqtt.MqttBrokerConnection.ConnectionCallbac
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection.Protocol;
 import org.openhab.core.io.transport.mqtt.MqttWillAndTestament;
 import org.openhab.core.io.transport.mqtt.internal.Subscription;
+import org.openhab.core.io.transport.mqtt.internal.SubscriptionGroup;
 
 import com.hivemq.client.mqtt.MqttClientState;
 import com.hivemq.client.mqtt.mqtt3.Mqtt3AsyncClient;
@@ -31,6 +33,7 @@ import com.hivemq.client.mqtt.mqtt3.message.connect.Mqtt3Connect;
 import com.hivemq.client.mqtt.mqtt3.message.connect.Mqtt3ConnectBuilder;
 import com.hivemq.client.mqtt.mqtt3.message.publish.Mqtt3Publish;
 import com.hivemq.client.mqtt.mqtt3.message.subscribe.Mqtt3Subscribe;
+import com.hivemq.client.mqtt.mqtt3.message.subscribe.Mqtt3Subscription;
 import com.hivemq.client.mqtt.mqtt3.message.unsubscribe.Mqtt3Unsubscribe;
 
 /**
@@ -77,6 +80,15 @@ public class Mqtt3AsyncClientWrapper extends MqttAsyncClientWrapper {
         return client.subscribe(subscribeMessage, subscription::messageArrived);
     }
 
+    @Override
+    public CompletableFuture<?> subscribeBatch(List<String> topics, int qos, SubscriptionGroup group) {
+        Mqtt3Subscribe subscribeMessage = Mqtt3Subscribe.builder()
+                .addSubscriptions(topics.stream().map(topic -> Mqtt3Subscription.builder().topicFilter(topic)
+                        .qos(getMqttQosFromInt(qos)).build()))
+                .build();
+        return client.subscribe(subscribeMessage, group::messageArrived);
+    }
+
     @Override
     public CompletableFuture<?> unsubscribe(String topic) {
         Mqtt3Unsubscribe unsubscribeMessage = Mqtt3Unsubscribe.builder().topicFilter(topic).build();
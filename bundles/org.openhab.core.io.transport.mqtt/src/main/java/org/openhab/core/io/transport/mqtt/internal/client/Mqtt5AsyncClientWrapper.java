@@ -12,6 +12,7 @@
  */
 package org.openhab.core.io.transport.mqtt.internal.client;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import javax.net.ssl.TrustManagerFactory;
@@ -22,6 +23,7 @@ import org.openhab.core.io.transport.mqtt.MqttBrokerConnection.ConnectionCallbac
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection.Protocol;
 import org.openhab.core.io.transport.mqtt.MqttWillAndTestament;
 import org.openhab.core.io.transport.mqtt.internal.Subscription;
+import org.openhab.core.io.transport.mqtt.internal.SubscriptionGroup;
 
 import com.hivemq.client.mqtt.MqttClientState;
 import com.hivemq.client.mqtt.mqtt5.Mqtt5AsyncClient;
@@ -32,6 +34,7 @@ import com.hivemq.client.mqtt.mqtt5.message.connect.Mqtt5ConnectBuilder;
 import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
 import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5PublishResult;
 import com.hivemq.client.mqtt.mqtt5.message.subscribe.Mqtt5Subscribe;
+import com.hivemq.client.mqtt.mqtt5.message.subscribe.Mqtt5Subscription;
 import com.hivemq.client.mqtt.mqtt5.message.unsubscribe.Mqtt5Unsubscribe;
 
 /**
@@ -78,6 +81,15 @@ public class Mqtt5AsyncClientWrapper extends MqttAsyncClientWrapper {
         return client.subscribe(subscribeMessage, subscription::messageArrived);
     }
 
+    @Override
+    public CompletableFuture<?> subscribeBatch(List<String> topics, int qos, SubscriptionGroup group) {
+        Mqtt5Subscribe subscribeMessage = Mqtt5Subscribe.builder()
+                .addSubscriptions(topics.stream().map(topic -> Mqtt5Subscription.builder().topicFilter(topic)
+                        .qos(getMqttQosFromInt(qos)).build()))
+                .build();
+        return client.subscribe(subscribeMessage, group::messageArrived);
+    }
+
     @Override
     public CompletableFuture<?> unsubscribe(String topic) {
         Mqtt5Unsubscribe unsubscribeMessage = Mqtt5Unsubscribe.builder().topicFilter(topic).build();
@@ -12,6 +12,7 @@
  */
 package org.openhab.core.io.transport.mqtt.internal.client;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import javax.net.ssl.HostnameVerifier;
@@ -21,6 +22,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.io.transport.mqtt.MqttWillAndTestament;
 import org.openhab.core.io.transport.mqtt.internal.Subscription;
+import org.openhab.core.io.transport.mqtt.internal.SubscriptionGroup;
 
 import com.hivemq.client.mqtt.MqttClientState;
 import com.hivemq.client.mqtt.datatypes.MqttQos;
@@ -80,6 +82,16 @@ public abstract class MqttAsyncClientWrapper implements HostnameVerifier {
      */
     public abstract CompletableFuture<?> subscribe(String topic, int qos, Subscription subscription);
 
+    /**
+     * subscribe a group callback to several topics with a single SUBSCRIBE packet
+     *
+     * @param topics the topics (at least one)
+     * @param qos QoS for all subscriptions
+     * @param group the subscription group which dispatches received messages to the matching subscriptions
+     * @return a CompletableFuture (exceptionally on fail)
+     */
+    public abstract CompletableFuture<?> subscribeBatch(List<String> topics, int qos, SubscriptionGroup group);
+
     /**
      * unsubscribes from a topic
      *
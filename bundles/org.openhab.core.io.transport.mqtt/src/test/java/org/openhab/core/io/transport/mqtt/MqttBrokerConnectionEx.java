@@ -21,6 +21,7 @@ import java.util.concurrent.CompletableFuture;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.io.transport.mqtt.internal.Subscription;
+import org.openhab.core.io.transport.mqtt.internal.SubscriptionGroup;
 import org.openhab.core.io.transport.mqtt.internal.client.MqttAsyncClientWrapper;
 
 import com.hivemq.client.mqtt.MqttClientState;
@@ -54,6 +55,10 @@ public class MqttBrokerConnectionEx extends MqttBrokerConnection {
         return subscribers;
     }
 
+    public Map<String, SubscriptionGroup> getSubscriptionGroups() {
+        return subscriptionGroups;
+    }
+
     void setConnectionCallback(MqttBrokerConnectionEx o) {
         connectionCallback = spy(new ConnectionCallback(o));
     }
@@ -88,6 +93,15 @@ public class MqttBrokerConnectionEx extends MqttBrokerConnection {
                 return future;
             }
         }).when(mockedClient).subscribe(any(), anyInt(), any());
+        doAnswer(i -> {
+            if (subscribeSuccess) {
+                return CompletableFuture.completedFuture(null);
+            } else {
+                CompletableFuture<Void> future = new CompletableFuture<>();
+                future.completeExceptionally(new Throwable("subscription failed"));
+                return future;
+            }
+        }).when(mockedClient).subscribeBatch(any(), anyInt(), any());
         // unsubscribe
         doAnswer(i -> {
             if (unsubscribeSuccess) {
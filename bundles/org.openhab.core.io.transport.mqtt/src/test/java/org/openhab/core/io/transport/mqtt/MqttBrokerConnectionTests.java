@@ -19,6 +19,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -29,6 +30,7 @@ import java.util.concurrent.TimeoutException;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.Test;
+import org.openhab.core.io.transport.mqtt.internal.SubscriptionGroup;
 import org.openhab.core.io.transport.mqtt.internal.client.MqttAsyncClientWrapper;
 import org.openhab.core.io.transport.mqtt.reconnect.AbstractReconnectStrategy;
 import org.openhab.core.io.transport.mqtt.reconnect.PeriodicReconnectStrategy;
@@ -167,6 +169,73 @@ public class MqttBrokerConnectionTests extends JavaTest {
         verify(subscriber2).processMessage(eq("topic"), eqGoodbyeBytes());
     }
 
+    @Test
+    public void consolidatedSubscriptions()
+            throws ConfigurationException, MqttException, InterruptedException, ExecutionException, TimeoutException {
+        MqttBrokerConnectionEx connection = new MqttBrokerConnectionEx("123.123.123.123", null, false, false,
+                "MqttBrokerConnectionTests");
+        connection.addSubscriptionConsolidation("zigbee2mqtt/#");
+        assertTrue(connection.start().get(200, TimeUnit.MILLISECONDS));
+
+        MqttMessageSubscriber subscriber1 = mock(MqttMessageSubscriber.class);
+        MqttMessageSubscriber subscriber2 = mock(MqttMessageSubscriber.class);
+        MqttMessageSubscriber subscriber3 = mock(MqttMessageSubscriber.class);
+        assertTrue(connection.subscribe("zigbee2mqtt/lamp", subscriber1).get(200, TimeUnit.MILLISECONDS));
+        assertTrue(connection.subscribe("zigbee2mqtt/+/availability", subscriber2).get(200, TimeUnit.MILLISECONDS));
+        assertTrue(connection.subscribe("other/topic", subscriber3).get(200, TimeUnit.MILLISECONDS));
+
+        // only a single broker subscription for the consolidated topics
+        verify(connection.client, times(1)).subscribeBatch(eq(List.of("zigbee2mqtt/#")), anyInt(), any());
+        verify(connection.client, times(1)).subscribe(eq("other/topic"), anyInt(), any());
+
+        SubscriptionGroup group = connection.getSubscriptionGroups().get("zigbee2mqtt/lamp");
+        group.messageArrived("zigbee2mqtt/lamp", HELLO_BYTES, true);
+        group.messageArrived("zigbee2mqtt/lamp/availability", GOODBYE_BYTES, true);
+        group.messageArrived("zigbee2mqtt/switch", GOODBYE_BYTES, true);
+        verify(subscriber1).processMessage(eq("zigbee2mqtt/lamp"), eqHelloBytes());
+        verify(subscriber1, times(1)).processMessage(any(), any());
+        verify(subscriber2).processMessage(eq("zigbee2mqtt/lamp/availability"), eqGoodbyeBytes());
+        verify(subscriber2, times(1)).processMessage(any(), any());
+        verifyNoInteractions(subscriber3);
+
+        // retained messages received through the wildcard are replayed to new subscriptions
+        MqttMessageSubscriber subscriber4 = mock(MqttMessageSubscriber.class);
+        connection.subscribe("zigbee2mqtt/switch", subscriber4);
+        verify(subscriber4).processMessage(eq("zigbee2mqtt/switch"), eqGoodbyeBytes());
+
+        // the wildcard is only unsubscribed with the last subscription
+        connection.unsubscribe("zigbee2mqtt/lamp", subscriber1);
+        connection.unsubscribe("zigbee2mqtt/+/availability", subscriber2);
+        verify(connection.client, times(0)).unsubscribe(any());
+        connection.unsubscribe("zigbee2mqtt/switch", subscriber4);
+        verify(connection.client).unsubscribe(eq("zigbee2mqtt/#"));
+    }
+
+    @Test
+    public void batchedResubscribe()
+            throws ConfigurationException, MqttException, InterruptedException, ExecutionException, TimeoutException {
+        MqttBrokerConnectionEx connection = new MqttBrokerConnectionEx("123.123.123.123", null, false, false,
+                "MqttBrokerConnectionTests");
+        connection.setSubscribeBatchSize(2);
+
+        MqttMessageSubscriber subscriber = mock(MqttMessageSubscriber.class);
+        connection.subscribe("a/1", subscriber);
+        connection.subscribe("a/2", subscriber);
+        connection.subscribe("a/3", subscriber);
+        connection.subscribe("a/#", subscriber);
+
+        assertTrue(connection.start().get(200, TimeUnit.MILLISECONDS));
+
+        // 3 topics do not fit into one batch, "a/#" overlaps with all of them
+        verify(connection.client, times(0)).subscribe(any(), anyInt(), any());
+        verify(connection.client, times(3)).subscribeBatch(any(), anyInt(), any());
+
+        // a message matching two topic filters is delivered once for each of them
+        connection.getSubscriptionGroups().get("a/1").messageArrived("a/1", HELLO_BYTES, false);
+        connection.getSubscriptionGroups().get("a/#").messageArrived("a/1", HELLO_BYTES, false);
+        verify(subscriber, times(2)).processMessage(eq("a/1"), eqHelloBytes());
+    }
+
     @Test
     public void reconnectPolicyDefault() throws ConfigurationException, MqttException, InterruptedException {
         MqttBrokerConnectionEx connection = new MqttBrokerConnectionEx("123.123.123.123", null, false, false,
@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.mqtt.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.core.io.transport.mqtt.MqttMessageSubscriber;
+
+/**
+ * Tests the {@link RetainedMessageStore} class
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+public class RetainedMessageStoreTest {
+    private static final byte[] PAYLOAD_1 = new byte[1000];
+    private static final byte[] PAYLOAD_2 = new byte[1000];
+
+    static {
+        PAYLOAD_1[0] = 1;
+        PAYLOAD_2[0] = 2;
+    }
+
+    private static byte[] copy(byte[] payload) {
+        return payload.clone();
+    }
+
+    @Test
+    public void identicalPayloadsAreStoredOnce() {
+        RetainedMessageStore store = new RetainedMessageStore();
+        store.acquire("a");
+        store.acquire("b");
+        store.put("a", copy(PAYLOAD_1));
+        long used = store.getUsedBytes();
+        store.put("b", copy(PAYLOAD_1));
+        assertTrue(store.getUsedBytes() - used < PAYLOAD_1.length);
+        assertSame(store.get("a"), store.get("b"));
+
+        store.release("a");
+        store.release("b");
+        assertEquals(0, store.size());
+        assertEquals(0, store.getUsedBytes());
+    }
+
+    @Test
+    public void leastRecentlyUsedPayloadsAreEvicted() {
+        RetainedMessageStore store = new RetainedMessageStore(2500);
+        store.acquire("a");
+        store.acquire("b");
+        store.acquire("c");
+        store.put("a", copy(PAYLOAD_1));
+        store.put("b", copy(PAYLOAD_2));
+        store.get("a");
+        byte[] payload3 = copy(PAYLOAD_2);
+        payload3[1] = 3;
+        store.put("c", payload3);
+
+        assertArrayEquals(PAYLOAD_1, store.get("a"));
+        assertNull(store.get("b"));
+        assertArrayEquals(payload3, store.get("c"));
+        assertTrue(store.getUsedBytes() <= 2500);
+    }
+
+    @Test
+    public void evictedPayloadsAreSpilled(@TempDir Path tempDir) throws IOException {
+        RetainedMessageStore store = new RetainedMessageStore(1500);
+        store.setSpillFile(tempDir.resolve("retained.bin"), 2500);
+        for (int i = 0; i < 4; i++) {
+            byte[] payload = copy(PAYLOAD_1);
+            payload[1] = (byte) i;
+            store.acquire("topic" + i);
+            store.put("topic" + i, payload);
+        }
+        // the spill file can hold two payloads, the oldest one is dropped
+        assertNull(store.get("topic0"));
+        for (int i = 1; i < 4; i++) {
+            byte[] payload = store.get("topic" + i);
+            assertNotNull(payload);
+            assertEquals((byte) i, payload[1]);
+        }
+
+        // replacing a spilled payload frees its space in the spill file, so topic3 can be spilled as well
+        store.put("topic1", copy(PAYLOAD_2));
+        assertArrayEquals(PAYLOAD_2, store.get("topic1"));
+        assertEquals((byte) 2, store.get("topic2")[1]);
+        assertEquals((byte) 3, store.get("topic3")[1]);
+        store.setSpillFile(null, 0);
+        assertNull(store.get("topic2"));
+    }
+
+    @Test
+    public void subscriptionsShareRetainedMessages() {
+        RetainedMessageStore store = new RetainedMessageStore();
+        Subscription subscription1 = new Subscription(store);
+        Subscription subscription2 = new Subscription(store);
+        subscription1.messageArrived("topic", copy(PAYLOAD_1), true);
+        subscription2.messageArrived("topic", copy(PAYLOAD_1), true);
+        assertEquals(1, store.size());
+
+        MqttMessageSubscriber subscriber = mock(MqttMessageSubscriber.class);
+        subscription1.dispose();
+        subscription2.add(subscriber);
+        verify(subscriber).processMessage(eq("topic"), eq(PAYLOAD_1));
+
+        subscription2.dispose();
+        assertEquals(0, store.size());
+    }
+}
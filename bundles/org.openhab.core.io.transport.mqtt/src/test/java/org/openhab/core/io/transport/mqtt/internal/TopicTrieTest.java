@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.mqtt.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link TopicTrie} class
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+public class TopicTrieTest {
+
+    private List<String> match(TopicTrie<String> trie, String topic) {
+        List<String> result = new ArrayList<>();
+        trie.match(topic, result::add);
+        return result;
+    }
+
+    @Test
+    public void matchWildcards() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        for (String filter : List.of("a/b", "a/+", "a/#", "+/b", "#", "a/b/c", "a/+/c", "b/#")) {
+            trie.put(filter, filter);
+        }
+        assertThat(trie.size(), is(8));
+
+        assertThat(match(trie, "a/b"), containsInAnyOrder("a/b", "a/+", "a/#", "+/b", "#"));
+        assertThat(match(trie, "a"), containsInAnyOrder("a/#", "#"));
+        assertThat(match(trie, "a/b/c"), containsInAnyOrder("a/b/c", "a/+/c", "a/#", "#"));
+        assertThat(match(trie, "b"), containsInAnyOrder("b/#", "#"));
+        assertThat(match(trie, "c/d"), containsInAnyOrder("#"));
+        assertThat(match(trie, "$SYS/b"), is(empty()));
+    }
+
+    @Test
+    public void removePrunesBranches() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.put("a/b/c", "abc");
+        trie.put("a/b", "ab");
+        assertEquals("abc", trie.remove("a/b/c"));
+        assertNull(trie.remove("a/b/c"));
+        assertThat(match(trie, "a/b/c"), is(empty()));
+        assertThat(match(trie, "a/b"), contains("ab"));
+        assertEquals("ab", trie.get("a/b"));
+        trie.remove("a/b");
+        assertTrue(trie.isEmpty());
+    }
+
+    @Test
+    public void coversAndOverlaps() {
+        assertTrue(TopicTrie.covers("a/#", "a/b/+"));
+        assertTrue(TopicTrie.covers("a/#", "a"));
+        assertTrue(TopicTrie.covers("a/+/c", "a/b/c"));
+        assertTrue(TopicTrie.covers("a/+", "a/+"));
+        assertFalse(TopicTrie.covers("a/+", "a/#"));
+        assertFalse(TopicTrie.covers("a/b", "a/+"));
+        assertFalse(TopicTrie.covers("#", "$SYS/x"));
+
+        assertTrue(TopicTrie.overlaps("a/+", "+/b"));
+        assertTrue(TopicTrie.overlaps("a/#", "a"));
+        assertFalse(TopicTrie.overlaps("a/+", "a/b/c"));
+        assertFalse(TopicTrie.overlaps("a/b", "a/c"));
+    }
+
+    @Test
+    public void overlapsAnyAgreesWithOverlaps() {
+        List<String> filters = List.of("a", "b", "a/b", "a/c", "a/+", "+/b", "a/#", "#", "+", "a/b/c", "a/+/c", "+/+/+",
+                "b/#", "a/b/#", "+/#");
+        for (String stored : filters) {
+            TopicTrie<String> trie = new TopicTrie<>();
+            trie.put(stored, stored);
+            for (String filter : filters) {
+                assertEquals(TopicTrie.overlaps(stored, filter), trie.overlapsAny(filter), stored + " / " + filter);
+            }
+        }
+
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.put("a/b/c", "abc");
+        trie.put("x/+", "x+");
+        assertFalse(trie.overlapsAny("a/b"));
+        assertFalse(trie.overlapsAny("a/c/#"));
+        assertTrue(trie.overlapsAny("a/b/#"));
+        assertTrue(trie.overlapsAny("+/y"));
+        trie.remove("x/+");
+        assertFalse(trie.overlapsAny("+/y"));
+    }
+
+    @Test
+    public void batchSeparatesOverlappingFilters() {
+        List<List<String>> batches = SubscriptionGroup.batch(List.of("a/b", "a/+", "c", "a/c", "d", "e"), 3);
+        assertThat(batches, contains(List.of("a/b", "c", "a/c"), List.of("a/+", "d", "e")));
+    }
+}
@@ -13,7 +13,9 @@
 package org.openhab.core.io.transport.upnp.internal;
 
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
@@ -66,6 +68,7 @@ import org.slf4j.LoggerFactory;
  * @author Andre Fuechsel - added methods to remove subscriptions
  * @author Ivan Iliev - made sure resubscribe is only done when subscription ended CancelReason was EXPIRED or
  *         RENEW_FAILED
+ * @author openHAB Core Team - replaced polling jobs per participant by a shared polling job
  */
 @SuppressWarnings("rawtypes")
 @Component(immediate = true)
@@ -76,15 +79,21 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
     private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(POOL_NAME);
 
     private static final int DEFAULT_POLLING_INTERVAL = 60;
+    private static final long POLLING_TICK_MILLIS = 1000;
     private static final String POOL_NAME = "upnp-io";
 
     private final UpnpService upnpService;
 
     final Set<UpnpIOParticipant> participants = new CopyOnWriteArraySet<>();
-    final Map<UpnpIOParticipant, ScheduledFuture> pollingJobs = new ConcurrentHashMap<>();
+    final Map<UpnpIOParticipant, PollingEntry> pollingJobs = new ConcurrentHashMap<>();
     final Map<UpnpIOParticipant, Boolean> currentStates = new ConcurrentHashMap<>();
     final Map<Service, UpnpSubscriptionCallback> subscriptionCallbacks = new ConcurrentHashMap<>();
 
+    // time of the last GENA message received per device UDN, which proves that the device is reachable
+    final Map<String, Long> lastSubscriptionActivity = new ConcurrentHashMap<>();
+    private final Set<String> devicesBeingPolled = ConcurrentHashMap.newKeySet();
+    private ScheduledFuture<?> pollingJob;
+
     public class UpnpSubscriptionCallback extends SubscriptionCallback {
 
         public UpnpSubscriptionCallback(Service service) {
@@ -132,6 +141,7 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
 
             logger.trace("A GENA subscription '{}' for device '{}' is established", serviceId,
                     deviceRoot.getIdentity().getUdn());
+            subscriptionActivity(deviceRoot);
 
             for (UpnpIOParticipant participant : participants) {
                 if (Objects.equals(getDevice(participant), deviceRoot)) {
@@ -153,6 +163,7 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
 
             logger.trace("Receiving a GENA subscription '{}' response for device '{}'", serviceId,
                     deviceRoot.getIdentity().getUdn());
+            subscriptionActivity(deviceRoot);
             for (UpnpIOParticipant participant : participants) {
                 if (Objects.equals(getDevice(participant), deviceRoot)) {
                     for (Entry<String, StateVariableValue> entry : values.entrySet()) {
@@ -184,6 +195,7 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
 
             logger.debug("A GENA subscription '{}' for device '{}' failed", serviceId,
                     deviceRoot.getIdentity().getUdn());
+            lastSubscriptionActivity.remove(deviceRoot.getIdentity().getUdn().getIdentifierString());
 
             for (UpnpIOParticipant participant : participants) {
                 if (Objects.equals(getDevice(participant), deviceRoot)) {
@@ -197,6 +209,11 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
         }
     }
 
+    private void subscriptionActivity(Device deviceRoot) {
+        lastSubscriptionActivity.put(deviceRoot.getIdentity().getUdn().getIdentifierString(),
+                System.currentTimeMillis());
+    }
+
     @Activate
     public UpnpIOServiceImpl(final @Reference UpnpService upnpService) {
         this.upnpService = upnpService;
@@ -213,6 +230,12 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
     public void deactivate() {
         logger.debug("Stopping UPnP IO service...");
         upnpService.getRegistry().removeListener(this);
+        synchronized (pollingJobs) {
+            if (pollingJob != null) {
+                pollingJob.cancel(true);
+                pollingJob = null;
+            }
+        }
     }
 
     private Device getDevice(UpnpIOParticipant participant) {
@@ -368,7 +391,6 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
     public void unregisterParticipant(UpnpIOParticipant participant) {
         if (participant != null) {
             stopPollingForParticipant(participant);
-            pollingJobs.remove(participant);
             currentStates.remove(participant);
             participants.remove(participant);
         }
@@ -418,56 +440,32 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
         }
     }
 
-    private class UPNPPollingRunnable implements Runnable {
+    static class PollingEntry {
 
-        private final UpnpIOParticipant participant;
-        private final String serviceID;
-        private final String actionID;
+        final UpnpIOParticipant participant;
+        final String serviceID;
+        final String actionID;
+        final long intervalMillis;
+        volatile long nextPollTime;
 
-        public UPNPPollingRunnable(UpnpIOParticipant participant, String serviceID, String actionID) {
+        PollingEntry(UpnpIOParticipant participant, String serviceID, String actionID, long intervalMillis,
+                long now) {
             this.participant = participant;
             this.serviceID = serviceID;
             this.actionID = actionID;
+            this.intervalMillis = intervalMillis;
+            this.nextPollTime = nextPollTime(now);
         }
 
-        @Override
-        public void run() {
-            // It is assumed that during addStatusListener() a check is made whether the participant is correctly
-            // registered
-            try {
-                Device device = getDevice(participant);
-                if (device != null) {
-                    Service service = findService(device, serviceID);
-                    if (service != null) {
-                        Action action = service.getAction(actionID);
-                        if (action != null) {
-                            @SuppressWarnings("unchecked")
-                            ActionInvocation invocation = new ActionInvocation(action);
-                            logger.debug("Polling participant '{}' through Action '{}' of Service '{}' ",
-                                    participant.getUDN(), actionID, serviceID);
-                            new ActionCallback.Default(invocation, upnpService.getControlPoint()).run();
-
-                            ActionException anException = invocation.getFailure();
-                            if (anException != null
-                                    && anException.getMessage().contains("Connection error or no response received")) {
-                                // The UDN is not reachable anymore
-                                setDeviceStatus(participant, false);
-                            } else {
-                                // The UDN functions correctly
-                                setDeviceStatus(participant, true);
-                            }
-                        } else {
-                            logger.debug("Could not find action '{}' for participant '{}'", actionID,
-                                    participant.getUDN());
-                        }
-                    } else {
-                        logger.debug("Could not find service '{}' for participant '{}'", serviceID,
-                                participant.getUDN());
-                    }
-                }
-            } catch (Exception e) {
-                logger.error("An exception occurred while polling an UPNP device: '{}'", e.getMessage(), e);
-            }
+        /**
+         * Returns the first poll time after the given time. The poll times of a device are shifted within the
+         * interval by a phase derived from its UDN, so that different devices are polled spread over the interval,
+         * while participants of the same device are due at the same time.
+         */
+        long nextPollTime(long now) {
+            long phase = Math.floorMod(participant.getUDN().hashCode(), intervalMillis);
+            long time = now - Math.floorMod(now, intervalMillis) + phase;
+            return time > now ? time : time + intervalMillis;
         }
     }
 
@@ -478,24 +476,119 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
 
             int pollingInterval = interval == 0 ? DEFAULT_POLLING_INTERVAL : interval;
 
-            // remove the previous polling job, if any
-            stopPollingForParticipant(participant);
-
             currentStates.put(participant, true);
 
-            Runnable pollingRunnable = new UPNPPollingRunnable(participant, serviceID, actionID);
-            pollingJobs.put(participant,
-                    scheduler.scheduleWithFixedDelay(pollingRunnable, 0, pollingInterval, TimeUnit.SECONDS));
+            // replaces the previous polling entry, if any
+            pollingJobs.put(participant, new PollingEntry(participant, serviceID, actionID,
+                    TimeUnit.SECONDS.toMillis(pollingInterval), System.currentTimeMillis()));
+            updatePollingJob();
         }
     }
 
     private void stopPollingForParticipant(UpnpIOParticipant participant) {
-        if (pollingJobs.containsKey(participant)) {
-            ScheduledFuture<?> pollingJob = pollingJobs.get(participant);
-            if (pollingJob != null) {
-                pollingJob.cancel(true);
+        if (pollingJobs.remove(participant) != null) {
+            updatePollingJob();
+        }
+    }
+
+    private void updatePollingJob() {
+        synchronized (pollingJobs) {
+            if (pollingJobs.isEmpty()) {
+                if (pollingJob != null) {
+                    pollingJob.cancel(false);
+                    pollingJob = null;
+                }
+            } else if (pollingJob == null) {
+                pollingJob = scheduler.scheduleWithFixedDelay(() -> pollDueDevices(System.currentTimeMillis()),
+                        POLLING_TICK_MILLIS, POLLING_TICK_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Checks the reachability of all devices having participants which are due to be polled. Each device is only
+     * polled once, regardless of the number of its participants. Devices which sent GENA messages within the polling
+     * interval are known to be reachable and are not polled.
+     */
+    void pollDueDevices(long now) {
+        Map<String, List<PollingEntry>> dueDevices = new HashMap<>();
+        for (PollingEntry entry : pollingJobs.values()) {
+            if (entry.nextPollTime <= now) {
+                entry.nextPollTime = entry.nextPollTime(now);
+                dueDevices.computeIfAbsent(entry.participant.getUDN(), udn -> new ArrayList<>()).add(entry);
+            }
+        }
+
+        for (Entry<String, List<PollingEntry>> dueDevice : dueDevices.entrySet()) {
+            String udn = dueDevice.getKey();
+            List<PollingEntry> entries = dueDevice.getValue();
+            long intervalMillis = entries.stream().mapToLong(entry -> entry.intervalMillis).min().orElse(0);
+            Long lastActivity = lastSubscriptionActivity.get(udn);
+            if (lastActivity != null && now - lastActivity < intervalMillis) {
+                logger.trace("Skip polling device '{}' which recently sent GENA messages", udn);
+                entries.forEach(entry -> setDeviceStatus(entry.participant, true));
+            } else if (devicesBeingPolled.add(udn)) {
+                scheduler.execute(() -> {
+                    try {
+                        pollDevice(entries);
+                    } finally {
+                        devicesBeingPolled.remove(udn);
+                    }
+                });
+            } else {
+                logger.debug("Device '{}' is still being polled", udn);
+            }
+        }
+    }
+
+    /**
+     * Polls a device through the action of the first participant for which the action can be found and propagates
+     * the reachability to all participants of the device.
+     */
+    void pollDevice(List<PollingEntry> entries) {
+        // It is assumed that during addStatusListener() a check is made whether the participant is correctly
+        // registered
+        try {
+            for (PollingEntry entry : entries) {
+                Boolean reachable = poll(entry);
+                if (reachable != null) {
+                    entries.forEach(e -> setDeviceStatus(e.participant, reachable));
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            logger.error("An exception occurred while polling an UPNP device: '{}'", e.getMessage(), e);
+        }
+    }
+
+    private Boolean poll(PollingEntry entry) {
+        UpnpIOParticipant participant = entry.participant;
+        Device device = getDevice(participant);
+        if (device != null) {
+            Service service = findService(device, entry.serviceID);
+            if (service != null) {
+                Action action = service.getAction(entry.actionID);
+                if (action != null) {
+                    @SuppressWarnings("unchecked")
+                    ActionInvocation invocation = new ActionInvocation(action);
+                    logger.debug("Polling participant '{}' through Action '{}' of Service '{}' ", participant.getUDN(),
+                            entry.actionID, entry.serviceID);
+                    new ActionCallback.Default(invocation, upnpService.getControlPoint()).run();
+
+                    ActionException anException = invocation.getFailure();
+                    // The UDN is not reachable anymore if there was a connection error
+                    return anException == null
+                            || !anException.getMessage().contains("Connection error or no response received");
+                } else {
+                    logger.debug("Could not find action '{}' for participant '{}'", entry.actionID,
+                            participant.getUDN());
+                }
+            } else {
+                logger.debug("Could not find service '{}' for participant '{}'", entry.serviceID,
+                        participant.getUDN());
             }
         }
+        return null;
     }
 
     @Override
@@ -516,6 +609,7 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
 
     @Override
     public void remoteDeviceRemoved(Registry registry, RemoteDevice device) {
+        lastSubscriptionActivity.remove(device.getIdentity().getUdn().getIdentifierString());
         informParticipants(device, false);
     }
 
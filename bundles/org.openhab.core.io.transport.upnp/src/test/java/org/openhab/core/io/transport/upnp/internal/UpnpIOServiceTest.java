@@ -14,7 +14,12 @@ package org.openhab.core.io.transport.upnp.internal;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,6 +37,7 @@ import org.jupnp.model.types.ServiceType;
 import org.jupnp.model.types.UDAServiceId;
 import org.jupnp.model.types.UDN;
 import org.jupnp.registry.Registry;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -42,6 +48,7 @@ import org.openhab.core.io.transport.upnp.UpnpIOParticipant;
  * Tests {@link UpnpIOServiceImpl}.
  *
  * @author Andre Fuechsel - Initial contribution
+ * @author openHAB Core Team - Added tests for the shared polling job
  */
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -60,6 +67,7 @@ public class UpnpIOServiceTest {
 
     private @Mock @NonNullByDefault({}) UpnpIOParticipant upnpIoParticipantMock;
     private @Mock @NonNullByDefault({}) UpnpIOParticipant upnpIoParticipant2Mock;
+    private @Mock @NonNullByDefault({}) UpnpIOParticipant upnpIoParticipant3Mock;
     private @Mock @NonNullByDefault({}) Registry upnpRegistryMock;
     private @Mock @NonNullByDefault({}) ControlPoint controlPointMock;
     private @Mock @NonNullByDefault({}) UpnpService upnpServiceMock;
@@ -70,6 +78,7 @@ public class UpnpIOServiceTest {
     public void setup() throws Exception {
         when(upnpIoParticipantMock.getUDN()).thenReturn(UDN_1_STRING);
         when(upnpIoParticipant2Mock.getUDN()).thenReturn(UDN_2_STRING);
+        when(upnpIoParticipant3Mock.getUDN()).thenReturn(UDN_1_STRING);
 
         DeviceIdentity deviceIdentity = new DeviceIdentity(UDN_1);
         DeviceType deviceType = new DeviceType(UDAServiceId.DEFAULT_NAMESPACE, DEVICE_TYPE, 1);
@@ -157,6 +166,53 @@ public class UpnpIOServiceTest {
         assertThatEverythingIsEmpty();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testEachDeviceIsPolledOnce() {
+        UpnpIOServiceImpl service = spy(upnpIoService);
+        doNothing().when(service).pollDevice(anyList());
+        service.addStatusListener(upnpIoParticipantMock, SERVICE_ID, ACTION_ID, 3600);
+        service.addStatusListener(upnpIoParticipant2Mock, SERVICE_ID_2, ACTION_ID, 3600);
+        service.addStatusListener(upnpIoParticipant3Mock, SERVICE_ID, ACTION_ID, 3600);
+
+        long now = System.currentTimeMillis();
+        service.pollDueDevices(now + TimeUnit.HOURS.toMillis(1) + 1);
+
+        ArgumentCaptor<List<UpnpIOServiceImpl.PollingEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(service, timeout(5000).times(2)).pollDevice(captor.capture());
+        Set<Set<UpnpIOParticipant>> polled = captor.getAllValues().stream()
+                .map(entries -> entries.stream().map(entry -> entry.participant).collect(Collectors.toSet()))
+                .collect(Collectors.toSet());
+        assertEquals(Set.of(Set.of(upnpIoParticipantMock, upnpIoParticipant3Mock), Set.of(upnpIoParticipant2Mock)),
+                polled);
+
+        // the next poll is due one interval later
+        service.pollDueDevices(now + TimeUnit.HOURS.toMillis(1) + 1);
+        verify(service, after(200).times(2)).pollDevice(anyList());
+
+        service.removeStatusListener(upnpIoParticipantMock);
+        service.removeStatusListener(upnpIoParticipant2Mock);
+        service.removeStatusListener(upnpIoParticipant3Mock);
+        assertTrue(service.pollingJobs.isEmpty());
+    }
+
+    @Test
+    public void testSubscriptionActivityReplacesPolling() {
+        UpnpIOServiceImpl service = spy(upnpIoService);
+        doNothing().when(service).pollDevice(anyList());
+        service.addStatusListener(upnpIoParticipantMock, SERVICE_ID, ACTION_ID, 3600);
+        service.currentStates.put(upnpIoParticipantMock, false);
+
+        long pollTime = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1) + 1;
+        service.lastSubscriptionActivity.put(UDN_1_STRING, pollTime - 1000);
+        service.pollDueDevices(pollTime);
+
+        verify(upnpIoParticipantMock).onStatusChanged(true);
+        verify(service, after(200).never()).pollDevice(anyList());
+
+        service.removeStatusListener(upnpIoParticipantMock);
+    }
+
     private void assertThatEverythingIsEmpty() {
         assertTrue(upnpIoService.participants.isEmpty());
         assertTrue(upnpIoService.pollingJobs.keySet().isEmpty());
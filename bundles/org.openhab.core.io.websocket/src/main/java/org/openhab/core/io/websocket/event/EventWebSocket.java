@@ -12,21 +12,27 @@
  */
 package org.openhab.core.io.websocket.event;
 
-import java.io.IOException;
 import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.websocket.api.RemoteEndpoint;
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.StatusCode;
+import org.eclipse.jetty.websocket.api.WriteCallback;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketClose;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketConnect;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketError;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketMessage;
 import org.eclipse.jetty.websocket.api.annotations.WebSocket;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.events.Event;
 import org.openhab.core.events.EventPublisher;
 import org.slf4j.Logger;
@@ -38,8 +44,17 @@ import com.google.gson.reflect.TypeToken;
 
 /**
  * The {@link EventWebSocket} is the WebSocket implementation that extends the event bus
+ * <p>
+ * Outgoing messages are put into a bounded queue, which is drained with asynchronous sends, so that a slow client does
+ * not block the delivery of events to other clients. If the queue is full, the {@link LagPolicy} decides whether the
+ * oldest queued message is dropped or the connection is closed.
+ * <p>
+ * In batch mode, all events within the batch window are sent in one frame as a JSON array. The payloads of these
+ * events are embedded as JSON values instead of escaped strings. Responses to messages of the client are always sent
+ * as single frames.
  *
  * @author Jan N. Klug - Initial contribution
+ * @author openHAB Core Team - Asynchronous sending with bounded queue and batch mode
  */
 @WebSocket
 @NonNullByDefault
@@ -47,6 +62,19 @@ import com.google.gson.reflect.TypeToken;
 public class EventWebSocket {
     public static final String WEBSOCKET_EVENT_TYPE = "WebSocketEvent";
     public static final String WEBSOCKET_TOPIC_PREFIX = "openhab/websocket/";
+    public static final int DEFAULT_MAX_QUEUE_SIZE = 1000;
+    public static final int MAX_BATCH_SIZE = 500;
+    public static final long MAX_BATCH_WINDOW_MILLIS = 5000;
+
+    /**
+     * The policy applied if the client cannot keep up with the messages and the outbound queue is full.
+     */
+    public enum LagPolicy {
+        /** the oldest queued message is dropped */
+        DROP_OLDEST,
+        /** the connection is closed */
+        DISCONNECT
+    }
 
     private static final Type STRING_LIST_TYPE = TypeToken.getParameterized(List.class, String.class).getType();
 
@@ -56,6 +84,33 @@ public class EventWebSocket {
     private final Gson gson;
     private final EventPublisher eventPublisher;
     private final ItemEventUtility itemEventUtility;
+    private final int maxQueueSize;
+    private final LagPolicy lagPolicy;
+    private final ScheduledExecutorService scheduler;
+
+    private final WriteCallback writeCallback = new WriteCallback() {
+        @Override
+        public void writeFailed(@Nullable Throwable x) {
+            logger.debug("Failed to send message to {}: {}", remoteIdentifier, x == null ? "<null>" : x.getMessage());
+            onMessageWritten(false);
+        }
+
+        @Override
+        public void writeSuccess() {
+            onMessageWritten(true);
+        }
+    };
+
+    // the outbound queue and the sending state are guarded by the queue itself
+    private final Deque<String> outboundQueue = new ArrayDeque<>();
+    private boolean draining;
+    private boolean writing;
+    private long sentMessages;
+    private long droppedMessages;
+
+    // the events of the current batch, guarded by the list itself
+    private final List<String> batch = new ArrayList<>();
+    private volatile long batchWindowMillis;
 
     private @Nullable Session session;
     private @Nullable RemoteEndpoint remoteEndpoint;
@@ -66,10 +121,21 @@ public class EventWebSocket {
 
     public EventWebSocket(Gson gson, EventWebSocketAdapter wsAdapter, ItemEventUtility itemEventUtility,
             EventPublisher eventPublisher) {
+        this(gson, wsAdapter, itemEventUtility, eventPublisher, DEFAULT_MAX_QUEUE_SIZE, LagPolicy.DROP_OLDEST,
+                ThreadPoolManager.getScheduledPool(EventWebSocketAdapter.THREADPOOL_NAME), 0);
+    }
+
+    public EventWebSocket(Gson gson, EventWebSocketAdapter wsAdapter, ItemEventUtility itemEventUtility,
+            EventPublisher eventPublisher, int maxQueueSize, LagPolicy lagPolicy, ScheduledExecutorService scheduler,
+            long batchWindowMillis) {
         this.wsAdapter = wsAdapter;
         this.gson = gson;
         this.itemEventUtility = itemEventUtility;
         this.eventPublisher = eventPublisher;
+        this.maxQueueSize = Math.max(1, maxQueueSize);
+        this.lagPolicy = lagPolicy;
+        this.scheduler = scheduler;
+        this.batchWindowMillis = Math.min(Math.max(0, batchWindowMillis), MAX_BATCH_WINDOW_MILLIS);
     }
 
     @OnWebSocketClose
@@ -78,6 +144,12 @@ public class EventWebSocket {
         remoteIdentifier = "<unknown>";
         this.session = null;
         this.remoteEndpoint = null;
+        synchronized (batch) {
+            batch.clear();
+        }
+        synchronized (outboundQueue) {
+            outboundQueue.clear();
+        }
     }
 
     @OnWebSocketConnect
@@ -148,6 +220,12 @@ public class EventWebSocket {
                                     remoteEndpoint.getInetSocketAddress(), typeFilter);
                             responseEvent = new EventDTO(WEBSOCKET_EVENT_TYPE, WEBSOCKET_TOPIC_PREFIX + "filter/source",
                                     eventDTO.payload, null, eventDTO.eventId);
+                        } else if ((WEBSOCKET_TOPIC_PREFIX + "batch").equals(eventDTO.topic)) {
+                            setBatchWindow(parseBatchWindow(eventDTO.payload));
+                            logger.debug("Setting batch window for connection to {}: {} ms",
+                                    remoteEndpoint.getInetSocketAddress(), batchWindowMillis);
+                            responseEvent = new EventDTO(WEBSOCKET_EVENT_TYPE, WEBSOCKET_TOPIC_PREFIX + "batch",
+                                    String.valueOf(batchWindowMillis), null, eventDTO.eventId);
                         } else {
                             throw new EventProcessingException("Invalid topic or payload in WebSocketEvent");
                         }
@@ -172,12 +250,7 @@ public class EventWebSocket {
                     "Deserialization error: " + e.getMessage(), null, null);
         }
 
-        try {
-            sendMessage(gson.toJson(responseEvent));
-        } catch (IOException e) {
-            logger.debug("Failed to send WebSocketResponseEvent event {} to {}: {}", responseEvent, remoteIdentifier,
-                    e.getMessage());
-        }
+        sendMessage(gson.toJson(responseEvent));
     }
 
     @OnWebSocketError
@@ -192,23 +265,215 @@ public class EventWebSocket {
     }
 
     public void processEvent(Event event) {
-        try {
-            String source = event.getSource();
-            if ((source == null || !sourceFilter.contains(event.getSource()))
-                    && (typeFilter.isEmpty() || typeFilter.contains(event.getType()))) {
-                sendMessage(gson.toJson(new EventDTO(event)));
+        if (accepts(event)) {
+            sendEvent(new SerializedEvent(gson, event));
+        }
+    }
+
+    /**
+     * Sends an event, which has been accepted by this connection, either in a single frame or as part of a batch.
+     *
+     * @param event the serialized event
+     */
+    void sendEvent(SerializedEvent event) {
+        long batchWindowMillis = this.batchWindowMillis;
+        if (batchWindowMillis <= 0) {
+            sendMessage(event.getJson());
+            return;
+        }
+
+        int batchSize;
+        synchronized (batch) {
+            batch.add(event.getCompactJson());
+            batchSize = batch.size();
+        }
+        if (batchSize >= MAX_BATCH_SIZE) {
+            flushBatch();
+        } else if (batchSize == 1) {
+            scheduler.schedule(this::flushBatch, batchWindowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flushBatch() {
+        String frame;
+        synchronized (batch) {
+            if (batch.isEmpty()) {
+                return;
             }
-        } catch (IOException e) {
-            logger.debug("Failed to send event {} to {}: {}", event, remoteIdentifier, e.getMessage());
+            frame = "[" + String.join(",", batch) + "]";
+            batch.clear();
         }
+        sendMessage(frame);
     }
 
-    private synchronized void sendMessage(String message) throws IOException {
-        RemoteEndpoint remoteEndpoint = this.remoteEndpoint;
+    /**
+     * Sets the batch window. Pending events are sent immediately if the batch mode is disabled.
+     *
+     * @param batchWindowMillis the batch window in milliseconds, 0 disables the batch mode
+     */
+    public void setBatchWindow(long batchWindowMillis) {
+        this.batchWindowMillis = Math.min(Math.max(0, batchWindowMillis), MAX_BATCH_WINDOW_MILLIS);
+        if (this.batchWindowMillis == 0) {
+            flushBatch();
+        }
+    }
+
+    /**
+     * @return the batch window in milliseconds, 0 if the batch mode is disabled
+     */
+    public long getBatchWindow() {
+        return batchWindowMillis;
+    }
+
+    /**
+     * Parses the batch window requested by a client.
+     *
+     * @param value the window in milliseconds
+     * @return the batch window in milliseconds
+     * @throws EventProcessingException if the value is not a valid number
+     */
+    static long parseBatchWindow(@Nullable String value) throws EventProcessingException {
+        try {
+            return Long.parseLong(Objects.requireNonNullElse(value, "").trim());
+        } catch (NumberFormatException e) {
+            throw new EventProcessingException("Invalid batch window '" + value + "'");
+        }
+    }
+
+    /**
+     * Checks if the given event passes the filters of this connection.
+     *
+     * @param event the event
+     * @return true if the event shall be sent to the client
+     */
+    public boolean accepts(Event event) {
+        String source = event.getSource();
+        return (source == null || !sourceFilter.contains(source))
+                && (typeFilter.isEmpty() || typeFilter.contains(event.getType()));
+    }
+
+    /**
+     * Queues a serialized message for sending it to the client. This method does not block.
+     *
+     * @param message the serialized message
+     */
+    public void sendMessage(String message) {
         if (remoteEndpoint == null) {
             logger.warn("Could not determine remote endpoint, failed to send '{}'.", message);
             return;
         }
-        remoteEndpoint.sendString(message);
+
+        boolean disconnect = false;
+        synchronized (outboundQueue) {
+            if (outboundQueue.size() >= maxQueueSize) {
+                droppedMessages++;
+                if (lagPolicy == LagPolicy.DISCONNECT) {
+                    outboundQueue.clear();
+                    disconnect = true;
+                } else {
+                    outboundQueue.removeFirst();
+                    if (droppedMessages == 1) {
+                        logger.warn("Client {} cannot keep up with the events, dropping the oldest queued events.",
+                                remoteIdentifier);
+                    }
+                }
+            }
+            if (!disconnect) {
+                outboundQueue.addLast(message);
+                if (draining || writing) {
+                    return;
+                }
+                draining = true;
+            }
+        }
+
+        if (disconnect) {
+            logger.warn("Closing connection to {} because the client cannot keep up with the events.",
+                    remoteIdentifier);
+            Session session = this.session;
+            if (session != null) {
+                session.close(StatusCode.TRY_AGAIN_LATER, "Client cannot keep up with the events");
+            }
+            return;
+        }
+        drain();
+    }
+
+    /**
+     * Sends the queued messages one after another. Only one thread drains the queue at a time, the next message is
+     * sent when the previous one has been written. If a write completes asynchronously, the thread completing it
+     * continues draining.
+     */
+    private void drain() {
+        while (true) {
+            String message;
+            synchronized (outboundQueue) {
+                message = writing ? null : outboundQueue.pollFirst();
+                if (message == null) {
+                    draining = false;
+                    return;
+                }
+                writing = true;
+            }
+            RemoteEndpoint remoteEndpoint = this.remoteEndpoint;
+            if (remoteEndpoint == null) {
+                synchronized (outboundQueue) {
+                    outboundQueue.clear();
+                    writing = false;
+                    draining = false;
+                }
+                return;
+            }
+            remoteEndpoint.sendString(message, writeCallback);
+        }
+    }
+
+    private void onMessageWritten(boolean success) {
+        synchronized (outboundQueue) {
+            writing = false;
+            if (success) {
+                sentMessages++;
+            }
+            if (draining) {
+                // the draining thread will send the next message
+                return;
+            }
+            draining = true;
+        }
+        drain();
+    }
+
+    /**
+     * @return the remote address of the client
+     */
+    public String getRemoteIdentifier() {
+        return remoteIdentifier;
+    }
+
+    /**
+     * @return the number of messages waiting to be sent to the client
+     */
+    public int getQueuedMessageCount() {
+        synchronized (outboundQueue) {
+            return outboundQueue.size() + (writing ? 1 : 0);
+        }
+    }
+
+    /**
+     * @return the number of messages which have been sent to the client
+     */
+    public long getSentMessageCount() {
+        synchronized (outboundQueue) {
+            return sentMessages;
+        }
+    }
+
+    /**
+     * @return the number of messages which have been dropped because the client could not keep up
+     */
+    public long getDroppedMessageCount() {
+        synchronized (outboundQueue) {
+            return droppedMessages;
+        }
     }
 }
@@ -12,42 +12,96 @@
  */
 package org.openhab.core.io.websocket.event;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.websocket.api.extensions.ExtensionConfig;
 import org.eclipse.jetty.websocket.servlet.ServletUpgradeRequest;
 import org.eclipse.jetty.websocket.servlet.ServletUpgradeResponse;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.events.Event;
 import org.openhab.core.events.EventPublisher;
 import org.openhab.core.events.EventSubscriber;
 import org.openhab.core.io.websocket.WebSocketAdapter;
+import org.openhab.core.io.websocket.event.EventWebSocket.LagPolicy;
 import org.openhab.core.items.ItemRegistry;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
 
 /**
  * The {@link EventWebSocketAdapter} allows subscription to oh events over WebSocket
+ * <p>
+ * Each event is serialized only once and then queued for all connections accepting it. The size of the outbound queue
+ * of a connection and the policy for clients not keeping up can be configured with the {@value #CONFIG_MAX_QUEUE_SIZE}
+ * and {@value #CONFIG_LAG_POLICY} properties.
+ * <p>
+ * Clients can request the batch mode with the {@value #PARAM_BATCH} query parameter containing the batch window in
+ * milliseconds. For such connections, the permessage-deflate extension is accepted if offered by the client.
  *
  * @author Jan N. Klug - Initial contribution
+ * @author openHAB Core Team - Serialize events once and queue them per connection, batch mode
  */
 @NonNullByDefault
-@Component(immediate = true, service = { EventSubscriber.class, WebSocketAdapter.class })
+@Component(immediate = true, service = { EventSubscriber.class, WebSocketAdapter.class,
+        EventWebSocketAdapter.class }, configurationPid = "org.openhab.websocket.event")
 public class EventWebSocketAdapter implements EventSubscriber, WebSocketAdapter {
     public static final String ADAPTER_ID = "event-subscriber";
+    public static final String CONFIG_MAX_QUEUE_SIZE = "maxQueueSize";
+    public static final String CONFIG_LAG_POLICY = "lagPolicy";
+    public static final String PARAM_BATCH = "batch";
+    public static final String THREADPOOL_NAME = "websocket";
+
+    private static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+
+    private final Logger logger = LoggerFactory.getLogger(EventWebSocketAdapter.class);
     private final Gson gson = new Gson();
     private final EventPublisher eventPublisher;
 
     private final ItemEventUtility itemEventUtility;
     private final Set<EventWebSocket> webSockets = new CopyOnWriteArraySet<>();
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(THREADPOOL_NAME);
+
+    private int maxQueueSize = EventWebSocket.DEFAULT_MAX_QUEUE_SIZE;
+    private LagPolicy lagPolicy = LagPolicy.DROP_OLDEST;
 
     @Activate
-    public EventWebSocketAdapter(@Reference EventPublisher eventPublisher, @Reference ItemRegistry itemRegistry) {
+    public EventWebSocketAdapter(@Reference EventPublisher eventPublisher, @Reference ItemRegistry itemRegistry,
+            Map<String, Object> config) {
         this.eventPublisher = eventPublisher;
         itemEventUtility = new ItemEventUtility(gson, itemRegistry);
+        modified(config);
+    }
+
+    @Modified
+    protected void modified(@Nullable Map<String, Object> config) {
+        if (config == null) {
+            return;
+        }
+        Object maxQueueSize = config.get(CONFIG_MAX_QUEUE_SIZE);
+        try {
+            this.maxQueueSize = maxQueueSize == null ? EventWebSocket.DEFAULT_MAX_QUEUE_SIZE
+                    : Integer.parseInt(maxQueueSize.toString().trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Ignoring invalid value '{}' for '{}'", maxQueueSize, CONFIG_MAX_QUEUE_SIZE);
+        }
+        Object lagPolicy = config.get(CONFIG_LAG_POLICY);
+        try {
+            this.lagPolicy = lagPolicy == null ? LagPolicy.DROP_OLDEST
+                    : LagPolicy.valueOf(lagPolicy.toString().trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            logger.warn("Ignoring invalid value '{}' for '{}'", lagPolicy, CONFIG_LAG_POLICY);
+        }
     }
 
     @Override
@@ -57,7 +111,12 @@ public class EventWebSocketAdapter implements EventSubscriber, WebSocketAdapter
 
     @Override
     public void receive(Event event) {
-        webSockets.forEach(ws -> ws.processEvent(event));
+        SerializedEvent serializedEvent = new SerializedEvent(gson, event);
+        for (EventWebSocket webSocket : webSockets) {
+            if (webSocket.accepts(event)) {
+                webSocket.sendEvent(serializedEvent);
+            }
+        }
     }
 
     public void registerListener(EventWebSocket eventWebSocket) {
@@ -68,6 +127,15 @@ public class EventWebSocketAdapter implements EventSubscriber, WebSocketAdapter
         webSockets.remove(eventWebSocket);
     }
 
+    /**
+     * Returns the connected web sockets, e.g. to show their outbound queues on the console.
+     *
+     * @return an unmodifiable set of the connected web sockets
+     */
+    public Set<EventWebSocket> getWebSockets() {
+        return Set.copyOf(webSockets);
+    }
+
     @Override
     public String getId() {
         return ADAPTER_ID;
@@ -76,6 +144,22 @@ public class EventWebSocketAdapter implements EventSubscriber, WebSocketAdapter
     @Override
     public Object createWebSocket(ServletUpgradeRequest servletUpgradeRequest,
             ServletUpgradeResponse servletUpgradeResponse) {
-        return new EventWebSocket(gson, EventWebSocketAdapter.this, itemEventUtility, eventPublisher);
+        long batchWindowMillis = 0;
+        List<String> batchParameter = servletUpgradeRequest.getParameterMap().get(PARAM_BATCH);
+        if (batchParameter != null && !batchParameter.isEmpty()) {
+            try {
+                batchWindowMillis = EventWebSocket.parseBatchWindow(batchParameter.get(0));
+            } catch (EventProcessingException e) {
+                logger.debug("Ignoring batch mode request: {}", e.getMessage());
+            }
+        }
+        if (batchWindowMillis > 0) {
+            // compress the batched frames if the client supports it
+            List<ExtensionConfig> extensions = servletUpgradeRequest.getExtensions().stream()
+                    .filter(extension -> PERMESSAGE_DEFLATE.equals(extension.getName())).limit(1).toList();
+            servletUpgradeResponse.setExtensions(extensions);
+        }
+        return new EventWebSocket(gson, EventWebSocketAdapter.this, itemEventUtility, eventPublisher, maxQueueSize,
+                lagPolicy, scheduler, batchWindowMillis);
     }
 }
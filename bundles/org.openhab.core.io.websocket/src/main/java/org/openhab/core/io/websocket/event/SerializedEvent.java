@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.websocket.event;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.events.Event;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * The {@link SerializedEvent} lazily serializes an {@link Event}, so that it is serialized at most once per format,
+ * regardless of the number of connections it is sent to.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+class SerializedEvent {
+    private final Gson gson;
+    private final Event event;
+
+    private @Nullable String json;
+    private @Nullable String compactJson;
+
+    SerializedEvent(Gson gson, Event event) {
+        this.gson = gson;
+        this.event = event;
+    }
+
+    Event getEvent() {
+        return event;
+    }
+
+    /**
+     * @return the {@link EventDTO} serialized as JSON, as sent in a single frame
+     */
+    synchronized String getJson() {
+        String json = this.json;
+        if (json == null) {
+            json = gson.toJson(new EventDTO(event));
+            this.json = json;
+        }
+        return json;
+    }
+
+    /**
+     * @return the event serialized as JSON with the payload embedded as JSON value instead of an escaped string, as
+     *         sent in batched frames
+     */
+    synchronized String getCompactJson() {
+        String compactJson = this.compactJson;
+        if (compactJson == null) {
+            JsonObject object = new JsonObject();
+            object.addProperty("type", event.getType());
+            object.addProperty("topic", event.getTopic());
+            object.add("payload", parsePayload(event.getPayload()));
+            String source = event.getSource();
+            if (source != null) {
+                object.addProperty("source", source);
+            }
+            compactJson = gson.toJson(object);
+            this.compactJson = compactJson;
+        }
+        return compactJson;
+    }
+
+    private static JsonElement parsePayload(String payload) {
+        String trimmed = payload.trim();
+        if (trimmed.startsWith("{") || trimmed.startsWith("[")) {
+            try {
+                return JsonParser.parseString(trimmed);
+            } catch (JsonParseException e) {
+                // not valid JSON, send it as string
+            }
+        }
+        return new JsonPrimitive(payload);
+    }
+}
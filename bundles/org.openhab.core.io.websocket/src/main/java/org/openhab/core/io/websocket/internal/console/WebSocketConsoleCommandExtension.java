@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.websocket.internal.console;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.io.console.Console;
+import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
+import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.openhab.core.io.websocket.event.EventWebSocket;
+import org.openhab.core.io.websocket.event.EventWebSocketAdapter;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Console command extension to show the outbound queues of the connected event web sockets.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@Component(service = ConsoleCommandExtension.class)
+@NonNullByDefault
+public class WebSocketConsoleCommandExtension extends AbstractConsoleCommandExtension {
+
+    private static final String SUBCMD_EVENTS = "events";
+
+    private final EventWebSocketAdapter eventWebSocketAdapter;
+
+    @Activate
+    public WebSocketConsoleCommandExtension(final @Reference EventWebSocketAdapter eventWebSocketAdapter) {
+        super("websocket", "Show the connected web sockets.");
+        this.eventWebSocketAdapter = eventWebSocketAdapter;
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return List.of(buildCommandUsage(SUBCMD_EVENTS,
+                "shows the queued, sent and dropped messages per event web socket connection"));
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        if (args.length > 0) {
+            String subCommand = args[0];
+            switch (subCommand) {
+                case SUBCMD_EVENTS:
+                    showEvents(console);
+                    break;
+                default:
+                    console.println("Unknown command '" + subCommand + "'");
+                    printUsage(console);
+                    break;
+            }
+        } else {
+            printUsage(console);
+        }
+    }
+
+    private void showEvents(Console console) {
+        Set<EventWebSocket> webSockets = eventWebSocketAdapter.getWebSockets();
+        if (webSockets.isEmpty()) {
+            console.println("No event web socket is connected.");
+            return;
+        }
+        console.println(String.format("%-40s %10s %12s %12s", "Client", "Queued", "Sent", "Dropped"));
+        long queued = 0;
+        long sent = 0;
+        long dropped = 0;
+        for (EventWebSocket webSocket : webSockets) {
+            int webSocketQueued = webSocket.getQueuedMessageCount();
+            long webSocketSent = webSocket.getSentMessageCount();
+            long webSocketDropped = webSocket.getDroppedMessageCount();
+            console.println(String.format("%-40s %10d %12d %12d", webSocket.getRemoteIdentifier(), webSocketQueued,
+                    webSocketSent, webSocketDropped));
+            queued += webSocketQueued;
+            sent += webSocketSent;
+            dropped += webSocketDropped;
+        }
+        console.println(String.format("%-40s %10d %12d %12d", "Total", queued, sent, dropped));
+    }
+}
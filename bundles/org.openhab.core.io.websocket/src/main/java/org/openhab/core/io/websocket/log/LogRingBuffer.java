@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.websocket.log;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link LogRingBuffer} is a lock-free, bounded buffer for many producers and a single consumer. Producers never
+ * block: if the consumer does not keep up, the oldest elements are overwritten and counted as dropped.
+ * <p>
+ * Only one thread at a time may call the consumer methods {@link #drainTo(List, int)}, {@link #hasPending()} and
+ * {@link #takeDroppedCount()}.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+class LogRingBuffer<T> {
+
+    private record Slot<T>(long sequence, T element) {
+    }
+
+    private final AtomicReferenceArray<@Nullable Slot<T>> slots;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong writeSequence = new AtomicLong();
+
+    // only accessed by the consumer
+    private long readSequence;
+    private long droppedCount;
+
+    /**
+     * @param capacity the minimum capacity, which is rounded up to the next power of two
+     */
+    LogRingBuffer(int capacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1);
+        this.mask = this.capacity - 1;
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+    }
+
+    /**
+     * Adds an element, overwriting the oldest element if the buffer is full.
+     */
+    void add(T element) {
+        long sequence = writeSequence.getAndIncrement();
+        slots.set((int) (sequence & mask), new Slot<>(sequence, element));
+    }
+
+    /**
+     * Moves the oldest elements to the given list.
+     *
+     * @param target the list the elements are added to
+     * @param maxElements the maximum number of elements to move
+     * @return the number of elements moved
+     */
+    int drainTo(List<T> target, int maxElements) {
+        long oldest = writeSequence.get() - capacity;
+        if (readSequence < oldest) {
+            droppedCount += oldest - readSequence;
+            readSequence = oldest;
+        }
+        int count = 0;
+        while (count < maxElements) {
+            Slot<T> slot = slots.get((int) (readSequence & mask));
+            if (slot == null || slot.sequence() < readSequence) {
+                // not yet published by the producer
+                break;
+            }
+            if (slot.sequence() == readSequence) {
+                target.add(slot.element());
+                count++;
+            } else {
+                // already overwritten by a newer element
+                droppedCount++;
+            }
+            readSequence++;
+        }
+        return count;
+    }
+
+    /**
+     * @return true if there is a published element which has not been consumed yet
+     */
+    boolean hasPending() {
+        Slot<T> slot = slots.get((int) (readSequence & mask));
+        return slot != null && slot.sequence() >= readSequence;
+    }
+
+    /**
+     * @return the number of elements dropped since the last call
+     */
+    long takeDroppedCount() {
+        long droppedCount = this.droppedCount;
+        this.droppedCount = 0;
+        return droppedCount;
+    }
+}
@@ -12,10 +12,15 @@
  */
 package org.openhab.core.io.websocket.log;
 
-import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
@@ -24,12 +29,14 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.websocket.api.RemoteEndpoint;
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.StatusCode;
+import org.eclipse.jetty.websocket.api.WriteCallback;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketClose;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketConnect;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketError;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketMessage;
 import org.eclipse.jetty.websocket.api.annotations.WebSocket;
 import org.osgi.service.log.LogEntry;
+import org.osgi.service.log.LogLevel;
 import org.osgi.service.log.LogListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,8 +47,14 @@ import com.google.gson.reflect.TypeToken;
 
 /**
  * The {@link LogWebSocket} is the WebSocket implementation for logs
+ * <p>
+ * Log entries are put into a {@link LogRingBuffer}, so that the logging thread is never blocked by the WebSocket I/O.
+ * A sender running on the thread pool takes the buffered entries in batches and sends them one {@link LogDTO} per
+ * frame, only one frame is written at a time. If the client does not keep up, the oldest entries are dropped and an
+ * entry reporting the number of dropped entries is sent instead.
  *
  * @author Jan N. Klug - Initial contribution
+ * @author openHAB Core Team - Asynchronous sending from a ring buffer
  */
 @WebSocket
 @NonNullByDefault
@@ -51,20 +64,50 @@ public class LogWebSocket implements LogListener {
     private static final TypeToken<List<String>> STRING_LIST_TYPE = (TypeToken<List<String>>) TypeToken
             .getParameterized(List.class, String.class);
 
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+    public static final int MAX_BATCH_SIZE = 100;
+
     private final Logger logger = LoggerFactory.getLogger(LogWebSocket.class);
 
     private final LogWebSocketAdapter wsAdapter;
     private final Gson gson;
+    private final Executor executor;
+
+    private final LogRingBuffer<LogEntry> buffer;
+    // only accessed by the sender
+    private final Deque<LogDTO> pending = new ArrayDeque<>();
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private final AtomicLong droppedEntries = new AtomicLong();
+
+    private final WriteCallback writeCallback = new WriteCallback() {
+        @Override
+        public void writeFailed(@Nullable Throwable x) {
+            logger.debug("Failed to send log entries to {}: {}", remoteIdentifier,
+                    x == null ? "<null>" : x.getMessage());
+            executor.execute(LogWebSocket.this::sendNext);
+        }
+
+        @Override
+        public void writeSuccess() {
+            executor.execute(LogWebSocket.this::sendNext);
+        }
+    };
 
     private @Nullable Session session;
     private @Nullable RemoteEndpoint remoteEndpoint;
     private String remoteIdentifier = "<unknown>";
 
-    private List<Pattern> loggerPatterns = List.of();
+    private volatile List<Pattern> loggerPatterns = List.of();
+
+    public LogWebSocket(Gson gson, LogWebSocketAdapter wsAdapter, Executor executor) {
+        this(gson, wsAdapter, executor, DEFAULT_BUFFER_SIZE);
+    }
 
-    public LogWebSocket(Gson gson, LogWebSocketAdapter wsAdapter) {
+    public LogWebSocket(Gson gson, LogWebSocketAdapter wsAdapter, Executor executor, int bufferSize) {
         this.wsAdapter = wsAdapter;
         this.gson = gson;
+        this.executor = executor;
+        this.buffer = new LogRingBuffer<>(bufferSize);
     }
 
     @OnWebSocketClose
@@ -110,28 +153,72 @@ public class LogWebSocket implements LogListener {
         onClose(StatusCode.NO_CODE, message);
     }
 
-    private synchronized void sendMessage(String message) throws IOException {
-        RemoteEndpoint remoteEndpoint = this.remoteEndpoint;
-        if (remoteEndpoint == null) {
-            logger.warn("Could not determine remote endpoint, failed to send '{}'.", message);
+    @Override
+    public void logged(@NonNullByDefault({}) LogEntry logEntry) {
+        List<Pattern> loggerPatterns = this.loggerPatterns;
+        if (!loggerPatterns.isEmpty() && loggerPatterns.stream().noneMatch(logMatch(logEntry))) {
             return;
         }
-        remoteEndpoint.sendString(message);
+        buffer.add(logEntry);
+        if (sending.compareAndSet(false, true)) {
+            executor.execute(this::sendNext);
+        }
     }
 
-    @Override
-    public void logged(@NonNullByDefault({}) LogEntry logEntry) {
-        if (!loggerPatterns.isEmpty() && loggerPatterns.stream().noneMatch(logMatch(logEntry))) {
+    /**
+     * Sends the next pending log entry. Only one entry is sent at a time, the next one is sent when the write
+     * completed. If no entries are pending, the next batch is taken from the buffer.
+     */
+    private void sendNext() {
+        RemoteEndpoint remoteEndpoint = this.remoteEndpoint;
+        if (pending.isEmpty()) {
+            List<LogEntry> logEntries = new ArrayList<>();
+            buffer.drainTo(logEntries, MAX_BATCH_SIZE);
+            long dropped = buffer.takeDroppedCount();
+            if (dropped > 0) {
+                droppedEntries.addAndGet(dropped);
+                pending.add(createDroppedReport(dropped));
+            }
+            logEntries.stream().map(LogWebSocket::map).forEach(pending::add);
+        }
+
+        LogDTO logDTO = pending.poll();
+        if (remoteEndpoint == null || logDTO == null) {
+            pending.clear();
+            sending.set(false);
+            // an entry might have been published after draining, without starting the sender
+            if (remoteEndpoint != null && buffer.hasPending() && sending.compareAndSet(false, true)) {
+                executor.execute(this::sendNext);
+            }
             return;
         }
+
         try {
-            LogDTO logDTO = map(logEntry);
-            sendMessage(gson.toJson(logDTO));
-        } catch (IOException e) {
-            logger.debug("Failed to send log {} to {}: {}", logEntry, remoteIdentifier, e.getMessage());
+            remoteEndpoint.sendString(gson.toJson(logDTO), writeCallback);
+        } catch (RuntimeException e) {
+            logger.debug("Failed to send log entries to {}: {}", remoteIdentifier, e.getMessage());
+            pending.clear();
+            sending.set(false);
         }
     }
 
+    /**
+     * @return the total number of log entries dropped because the client did not keep up
+     */
+    public long getDroppedEntryCount() {
+        return droppedEntries.get();
+    }
+
+    private static LogDTO createDroppedReport(long dropped) {
+        LogDTO logDTO = new LogDTO();
+        logDTO.loggerName = LogWebSocket.class.getName();
+        logDTO.level = LogLevel.WARN;
+        logDTO.unixtime = System.currentTimeMillis();
+        logDTO.timestamp = new Date(logDTO.unixtime);
+        logDTO.message = dropped + " log entries have been dropped, because the client did not keep up";
+        return logDTO;
+    }
+
     private static Predicate<Pattern> logMatch(LogEntry logEntry) {
         return pattern -> pattern.matcher(logEntry.getLoggerName()).matches();
     }
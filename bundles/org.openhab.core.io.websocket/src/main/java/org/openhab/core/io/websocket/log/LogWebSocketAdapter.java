@@ -14,11 +14,14 @@ package org.openhab.core.io.websocket.log;
 
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.websocket.servlet.ServletUpgradeRequest;
 import org.eclipse.jetty.websocket.servlet.ServletUpgradeResponse;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.io.websocket.WebSocketAdapter;
+import org.openhab.core.io.websocket.event.EventWebSocketAdapter;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
@@ -31,6 +34,7 @@ import com.google.gson.Gson;
  * The {@link LogWebSocketAdapter} allows subscription to log events over WebSocket
  *
  * @author Jan N. Klug - Initial contribution
+ * @author openHAB Core Team - Send log entries on the shared web socket thread pool
  */
 @NonNullByDefault
 @Component(immediate = true, service = { WebSocketAdapter.class })
@@ -39,6 +43,8 @@ public class LogWebSocketAdapter implements WebSocketAdapter {
     private final Gson gson = new Gson();
     private final Set<LogWebSocket> webSockets = new CopyOnWriteArraySet<>();
     private final LogReaderService logReaderService;
+    private final ScheduledExecutorService scheduler = ThreadPoolManager
+            .getScheduledPool(EventWebSocketAdapter.THREADPOOL_NAME);
 
     @Activate
     public LogWebSocketAdapter(@Reference LogReaderService logReaderService) {
@@ -68,6 +74,6 @@ public class LogWebSocketAdapter implements WebSocketAdapter {
     @Override
     public Object createWebSocket(ServletUpgradeRequest servletUpgradeRequest,
             ServletUpgradeResponse servletUpgradeResponse) {
-        return new LogWebSocket(gson, LogWebSocketAdapter.this);
+        return new LogWebSocket(gson, LogWebSocketAdapter.this, scheduler);
     }
 }
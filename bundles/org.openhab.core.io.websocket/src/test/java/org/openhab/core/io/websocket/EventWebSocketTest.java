@@ -12,8 +12,14 @@
  */
 package org.openhab.core.io.websocket;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -23,16 +29,26 @@ import static org.openhab.core.io.websocket.event.EventWebSocket.WEBSOCKET_TOPIC
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.websocket.api.RemoteEndpoint;
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.StatusCode;
+import org.eclipse.jetty.websocket.api.WriteCallback;
+import org.eclipse.jetty.websocket.api.extensions.ExtensionConfig;
+import org.eclipse.jetty.websocket.servlet.ServletUpgradeRequest;
+import org.eclipse.jetty.websocket.servlet.ServletUpgradeResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -41,6 +57,7 @@ import org.openhab.core.events.Event;
 import org.openhab.core.events.EventPublisher;
 import org.openhab.core.io.websocket.event.EventDTO;
 import org.openhab.core.io.websocket.event.EventWebSocket;
+import org.openhab.core.io.websocket.event.EventWebSocket.LagPolicy;
 import org.openhab.core.io.websocket.event.EventWebSocketAdapter;
 import org.openhab.core.io.websocket.event.ItemEventUtility;
 import org.openhab.core.items.ItemNotFoundException;
@@ -72,6 +89,9 @@ public class EventWebSocketTest {
     private @Mock @NonNullByDefault({}) EventPublisher eventPublisher;
     private @Mock @NonNullByDefault({}) Session session;
     private @Mock @NonNullByDefault({}) RemoteEndpoint remoteEndpoint;
+    private @Mock @NonNullByDefault({}) ScheduledExecutorService schedulerMock;
+    private @Mock @NonNullByDefault({}) ServletUpgradeRequest upgradeRequest;
+    private @Mock @NonNullByDefault({}) ServletUpgradeResponse upgradeResponse;
 
     private @NonNullByDefault({}) ItemEventUtility itemEventUtility;
     private @NonNullByDefault({}) EventWebSocket eventWebSocket;
@@ -85,6 +105,10 @@ public class EventWebSocketTest {
         when(remoteEndpoint.getInetSocketAddress()).thenReturn(new InetSocketAddress(47115));
 
         when(itemRegistry.getItem(eq(TEST_ITEM_NAME))).thenReturn(TEST_ITEM);
+        doAnswer(invocation -> {
+            ((WriteCallback) invocation.getArgument(1)).writeSuccess();
+            return null;
+        }).when(remoteEndpoint).sendString(anyString(), any(WriteCallback.class));
 
         eventWebSocket.onConnect(session);
         verify(servlet).registerListener(eventWebSocket);
@@ -196,7 +220,7 @@ public class EventWebSocketTest {
         eventWebSocket.processEvent(event);
         EventDTO eventDTO = new EventDTO(event);
 
-        verify(remoteEndpoint).sendString(gson.toJson(eventDTO));
+        verify(remoteEndpoint).sendString(eq(gson.toJson(eventDTO)), any());
     }
 
     @Test
@@ -206,18 +230,18 @@ public class EventWebSocketTest {
         EventDTO responseEventDTO = new EventDTO(WEBSOCKET_EVENT_TYPE, WEBSOCKET_TOPIC_PREFIX + "filter/type",
                 eventDTO.payload, null, null);
         eventWebSocket.onText(gson.toJson(eventDTO));
-        verify(remoteEndpoint).sendString(gson.toJson(responseEventDTO));
+        verify(remoteEndpoint).sendString(eq(gson.toJson(responseEventDTO)), any());
 
         // subscribed type is sent
         Event event = ItemEventFactory.createCommandEvent(TEST_ITEM_NAME, DecimalType.ZERO,
                 REMOTE_WEBSOCKET_IMPLEMENTATION);
         eventWebSocket.processEvent(event);
-        verify(remoteEndpoint).sendString(gson.toJson(new EventDTO(event)));
+        verify(remoteEndpoint).sendString(eq(gson.toJson(new EventDTO(event))), any());
 
         // not subscribed event not sent
         event = ItemEventFactory.createStateEvent(TEST_ITEM_NAME, DecimalType.ZERO, REMOTE_WEBSOCKET_IMPLEMENTATION);
         eventWebSocket.processEvent(event);
-        verify(remoteEndpoint, times(2)).sendString(any());
+        verify(remoteEndpoint, times(2)).sendString(anyString(), any());
     }
 
     @Test
@@ -227,17 +251,17 @@ public class EventWebSocketTest {
         EventDTO responseEventDTO = new EventDTO(WEBSOCKET_EVENT_TYPE, WEBSOCKET_TOPIC_PREFIX + "filter/source",
                 eventDTO.payload, null, null);
         eventWebSocket.onText(gson.toJson(eventDTO));
-        verify(remoteEndpoint).sendString(gson.toJson(responseEventDTO));
+        verify(remoteEndpoint).sendString(eq(gson.toJson(responseEventDTO)), any());
 
         // non-matching is sent
         Event event = ItemEventFactory.createCommandEvent(TEST_ITEM_NAME, DecimalType.ZERO);
         eventWebSocket.processEvent(event);
-        verify(remoteEndpoint).sendString(gson.toJson(new EventDTO(event)));
+        verify(remoteEndpoint).sendString(eq(gson.toJson(new EventDTO(event))), any());
 
         // matching is not sent
         event = ItemEventFactory.createStateEvent(TEST_ITEM_NAME, DecimalType.ZERO, REMOTE_WEBSOCKET_IMPLEMENTATION);
         eventWebSocket.processEvent(event);
-        verify(remoteEndpoint, times(2)).sendString(any());
+        verify(remoteEndpoint, times(2)).sendString(anyString(), any());
     }
 
     private void assertEventProcessing(EventDTO incoming, @Nullable Event expectedEvent,
@@ -252,9 +276,149 @@ public class EventWebSocketTest {
 
         if (expectedResponse != null) {
             String expectedResponseString = gson.toJson(expectedResponse);
-            verify(remoteEndpoint).sendString(eq(expectedResponseString));
+            verify(remoteEndpoint).sendString(eq(expectedResponseString), any());
         } else {
-            verify(remoteEndpoint, never()).sendString(any());
+            verify(remoteEndpoint, never()).sendString(anyString(), any());
         }
     }
+
+    @Test
+    public void messagesAreQueuedWhileWriting() throws IOException {
+        List<WriteCallback> pendingWrites = new ArrayList<>();
+        List<String> sentMessages = new ArrayList<>();
+        doAnswer(invocation -> {
+            sentMessages.add(invocation.getArgument(0));
+            pendingWrites.add(invocation.getArgument(1));
+            return null;
+        }).when(remoteEndpoint).sendString(anyString(), any(WriteCallback.class));
+
+        eventWebSocket.sendMessage("1");
+        eventWebSocket.sendMessage("2");
+        eventWebSocket.sendMessage("3");
+        assertEquals(List.of("1"), sentMessages);
+        assertEquals(3, eventWebSocket.getQueuedMessageCount());
+
+        pendingWrites.get(0).writeSuccess();
+        assertEquals(List.of("1", "2"), sentMessages);
+
+        pendingWrites.get(1).writeFailed(new IOException("test"));
+        pendingWrites.get(2).writeSuccess();
+        assertEquals(List.of("1", "2", "3"), sentMessages);
+        assertEquals(0, eventWebSocket.getQueuedMessageCount());
+        assertEquals(2, eventWebSocket.getSentMessageCount());
+    }
+
+    @Test
+    public void oldestMessagesAreDroppedForLaggingClient() throws IOException {
+        List<String> sentMessages = new ArrayList<>();
+        doAnswer(invocation -> sentMessages.add(invocation.getArgument(0))).when(remoteEndpoint)
+                .sendString(anyString(), any(WriteCallback.class));
+        eventWebSocket = new EventWebSocket(gson, servlet, itemEventUtility, eventPublisher, 2,
+                LagPolicy.DROP_OLDEST, schedulerMock, 0);
+        eventWebSocket.onConnect(session);
+
+        for (int i = 1; i <= 5; i++) {
+            eventWebSocket.sendMessage(String.valueOf(i));
+        }
+
+        // "1" is being written, "2" and "3" have been dropped
+        assertEquals(List.of("1"), sentMessages);
+        assertEquals(3, eventWebSocket.getQueuedMessageCount());
+        assertEquals(2, eventWebSocket.getDroppedMessageCount());
+        verify(session, never()).close(anyInt(), anyString());
+    }
+
+    @Test
+    public void laggingClientIsDisconnected() throws IOException {
+        doAnswer(invocation -> null).when(remoteEndpoint).sendString(anyString(), any(WriteCallback.class));
+        eventWebSocket = new EventWebSocket(gson, servlet, itemEventUtility, eventPublisher, 2, LagPolicy.DISCONNECT,
+                schedulerMock, 0);
+        eventWebSocket.onConnect(session);
+
+        for (int i = 1; i <= 4; i++) {
+            eventWebSocket.sendMessage(String.valueOf(i));
+        }
+
+        verify(session).close(eq(StatusCode.TRY_AGAIN_LATER), anyString());
+        assertEquals(1, eventWebSocket.getDroppedMessageCount());
+    }
+
+    @Test
+    public void adapterSendsEventToAcceptingWebSockets() throws IOException {
+        EventWebSocketAdapter adapter = new EventWebSocketAdapter(eventPublisher, itemRegistry, Map.of());
+        EventWebSocket webSocket2 = new EventWebSocket(gson, servlet, itemEventUtility, eventPublisher);
+        webSocket2.onConnect(session);
+        EventWebSocket webSocket3 = mock(EventWebSocket.class);
+        Event event = ItemEventFactory.createCommandEvent(TEST_ITEM_NAME, DecimalType.ZERO);
+        adapter.registerListener(eventWebSocket);
+        adapter.registerListener(webSocket2);
+        adapter.registerListener(webSocket3);
+
+        adapter.receive(event);
+
+        verify(remoteEndpoint, times(2)).sendString(eq(gson.toJson(new EventDTO(event))), any());
+    }
+
+    @Test
+    public void eventsAreBatchedWithinWindow() throws IOException {
+        EventDTO eventDTO = new EventDTO(WEBSOCKET_EVENT_TYPE, WEBSOCKET_TOPIC_PREFIX + "batch", "100", null, null);
+        eventWebSocket = new EventWebSocket(gson, servlet, itemEventUtility, eventPublisher, 10, LagPolicy.DROP_OLDEST,
+                schedulerMock, 0);
+        eventWebSocket.onConnect(session);
+        eventWebSocket.onText(gson.toJson(eventDTO));
+        verify(remoteEndpoint).sendString(eq(gson.toJson(eventDTO)), any());
+
+        Event event1 = ItemEventFactory.createStateEvent(TEST_ITEM_NAME, DecimalType.ZERO);
+        Event event2 = ItemEventFactory.createCommandEvent(TEST_ITEM_NAME, DecimalType.ZERO, "source");
+        eventWebSocket.processEvent(event1);
+        eventWebSocket.processEvent(event2);
+
+        ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(schedulerMock).schedule(flushCaptor.capture(), eq(100L), eq(TimeUnit.MILLISECONDS));
+        verify(remoteEndpoint, times(1)).sendString(anyString(), any());
+
+        flushCaptor.getValue().run();
+        String expectedFrame = "[{\"type\":\"ItemStateEvent\",\"topic\":\"" + event1.getTopic() + "\",\"payload\":"
+                + event1.getPayload() + "},{\"type\":\"ItemCommandEvent\",\"topic\":\"" + event2.getTopic()
+                + "\",\"payload\":" + event2.getPayload() + ",\"source\":\"source\"}]";
+        verify(remoteEndpoint).sendString(eq(expectedFrame), any());
+    }
+
+    @Test
+    public void fullBatchIsSentImmediately() throws IOException {
+        eventWebSocket = new EventWebSocket(gson, servlet, itemEventUtility, eventPublisher, 10, LagPolicy.DROP_OLDEST,
+                schedulerMock, 1000);
+        eventWebSocket.onConnect(session);
+
+        Event event = ItemEventFactory.createStateEvent(TEST_ITEM_NAME, DecimalType.ZERO);
+        for (int i = 0; i < EventWebSocket.MAX_BATCH_SIZE; i++) {
+            eventWebSocket.processEvent(event);
+        }
+
+        verify(schedulerMock).schedule(any(Runnable.class), anyLong(), any());
+        verify(remoteEndpoint).sendString(anyString(), any());
+    }
+
+    @Test
+    public void disablingBatchModeSendsPendingEvents() throws IOException {
+        eventWebSocket.setBatchWindow(1000);
+        eventWebSocket.processEvent(ItemEventFactory.createStateEvent(TEST_ITEM_NAME, DecimalType.ZERO));
+        verify(remoteEndpoint, never()).sendString(anyString(), any());
+
+        eventWebSocket.setBatchWindow(0);
+        verify(remoteEndpoint).sendString(anyString(), any());
+    }
+
+    @Test
+    public void batchModeRequestedOnConnectEnablesDeflate() {
+        EventWebSocketAdapter adapter = new EventWebSocketAdapter(eventPublisher, itemRegistry, Map.of());
+        when(upgradeRequest.getParameterMap()).thenReturn(Map.of(EventWebSocketAdapter.PARAM_BATCH, List.of("50")));
+        ExtensionConfig deflate = ExtensionConfig.parse("permessage-deflate; client_max_window_bits");
+        when(upgradeRequest.getExtensions()).thenReturn(List.of(ExtensionConfig.parse("foo"), deflate));
+
+        EventWebSocket webSocket = (EventWebSocket) adapter.createWebSocket(upgradeRequest, upgradeResponse);
+
+        assertEquals(50, webSocket.getBatchWindow());
+        verify(upgradeResponse).setExtensions(List.of(deflate));
+    }
 }
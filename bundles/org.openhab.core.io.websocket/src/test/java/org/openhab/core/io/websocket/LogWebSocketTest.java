@@ -0,0 +1,173 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jetty.websocket.api.RemoteEndpoint;
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.WriteCallback;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.io.websocket.log.LogDTO;
+import org.openhab.core.io.websocket.log.LogWebSocket;
+import org.openhab.core.io.websocket.log.LogWebSocketAdapter;
+import org.osgi.service.log.LogEntry;
+import org.osgi.service.log.LogLevel;
+import org.osgi.service.log.LogReaderService;
+
+import com.google.gson.Gson;
+
+/**
+ * The {@link LogWebSocketTest} contains tests for the {@link LogWebSocket}
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class LogWebSocketTest {
+    private final Gson gson = new Gson();
+
+    private @Mock @NonNullByDefault({}) LogReaderService logReaderService;
+    private @Mock @NonNullByDefault({}) Session session;
+    private @Mock @NonNullByDefault({}) RemoteEndpoint remoteEndpoint;
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final Executor executor = tasks::add;
+    private final List<String> frames = new ArrayList<>();
+    private final List<WriteCallback> writeCallbacks = new ArrayList<>();
+
+    private @NonNullByDefault({}) LogWebSocket logWebSocket;
+
+    @BeforeEach
+    public void setUp() {
+        when(session.getRemote()).thenReturn(remoteEndpoint);
+        when(remoteEndpoint.getInetSocketAddress()).thenReturn(new InetSocketAddress(47115));
+        doAnswer(invocation -> {
+            frames.add(invocation.getArgument(0));
+            writeCallbacks.add(invocation.getArgument(1));
+            return null;
+        }).when(remoteEndpoint).sendString(anyString(), any(WriteCallback.class));
+
+        logWebSocket = new LogWebSocket(gson, new LogWebSocketAdapter(logReaderService), executor, 4);
+        logWebSocket.onConnect(session);
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private void completeWrite() {
+        writeCallbacks.remove(0).writeSuccess();
+        runTasks();
+    }
+
+    private static LogEntry logEntry(String loggerName, String message) {
+        LogEntry logEntry = mock(LogEntry.class);
+        when(logEntry.getLoggerName()).thenReturn(loggerName);
+        when(logEntry.getLogLevel()).thenReturn(LogLevel.INFO);
+        when(logEntry.getMessage()).thenReturn(message);
+        return logEntry;
+    }
+
+    private List<String> messages() {
+        List<String> messages = new ArrayList<>();
+        for (String frame : frames) {
+            // each frame contains a single object
+            assertTrue(frame.startsWith("{"));
+            messages.add(String.valueOf(gson.fromJson(frame, LogDTO.class).message));
+        }
+        return messages;
+    }
+
+    @Test
+    public void logEntryIsNotSentOnLoggingThread() {
+        logWebSocket.logged(logEntry("test", "m1"));
+
+        verify(remoteEndpoint, never()).sendString(anyString(), any(WriteCallback.class));
+        runTasks();
+        assertTrue(frames.get(0).startsWith("{\"loggerName\":\"test\",\"level\":\"INFO\""));
+        assertEquals(List.of("m1"), messages());
+    }
+
+    @Test
+    public void entriesAreSentOneFrameAtATime() {
+        logWebSocket.logged(logEntry("test", "m1"));
+        runTasks();
+        logWebSocket.logged(logEntry("test", "m2"));
+        logWebSocket.logged(logEntry("test", "m3"));
+        runTasks();
+        assertEquals(1, frames.size());
+
+        completeWrite();
+        assertEquals(2, frames.size());
+        completeWrite();
+        assertEquals(3, frames.size());
+        completeWrite();
+        assertEquals(3, frames.size());
+
+        assertEquals(List.of("m1", "m2", "m3"), messages());
+        assertEquals(0, logWebSocket.getDroppedEntryCount());
+    }
+
+    @Test
+    public void oldestEntriesAreDroppedAndReported() {
+        logWebSocket.logged(logEntry("test", "m0"));
+        runTasks();
+        for (int i = 1; i <= 6; i++) {
+            logWebSocket.logged(logEntry("test", "m" + i));
+        }
+
+        for (int i = 0; i < 6; i++) {
+            completeWrite();
+        }
+        List<String> messages = messages();
+        assertEquals(6, messages.size());
+        assertEquals("m0", messages.get(0));
+        assertEquals("2 log entries have been dropped, because the client did not keep up", messages.get(1));
+        assertEquals(List.of("m3", "m4", "m5", "m6"), messages.subList(2, 6));
+        assertEquals(2, logWebSocket.getDroppedEntryCount());
+    }
+
+    @Test
+    public void entriesAreFilteredByLoggerName() {
+        logWebSocket.onText("[\"org\\\\.openhab\\\\..*\"]");
+        logWebSocket.logged(logEntry("com.example", "m1"));
+        logWebSocket.logged(logEntry("org.openhab.core", "m2"));
+        runTasks();
+
+        assertEquals(List.of("m2"), messages());
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.io.console.Console;
+import org.openhab.core.io.websocket.event.EventWebSocket;
+import org.openhab.core.io.websocket.event.EventWebSocketAdapter;
+import org.openhab.core.io.websocket.internal.console.WebSocketConsoleCommandExtension;
+
+/**
+ * The {@link WebSocketConsoleCommandExtensionTest} contains tests for the {@link WebSocketConsoleCommandExtension}
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class WebSocketConsoleCommandExtensionTest {
+
+    private @Mock @NonNullByDefault({}) EventWebSocketAdapter eventWebSocketAdapter;
+    private @Mock @NonNullByDefault({}) EventWebSocket webSocket1;
+    private @Mock @NonNullByDefault({}) EventWebSocket webSocket2;
+    private @Mock @NonNullByDefault({}) Console console;
+
+    private final List<String> lines = new ArrayList<>();
+    private @NonNullByDefault({}) WebSocketConsoleCommandExtension extension;
+
+    @BeforeEach
+    public void setup() {
+        doAnswer(invocation -> lines.add(invocation.getArgument(0))).when(console).println(anyString());
+        extension = new WebSocketConsoleCommandExtension(eventWebSocketAdapter);
+    }
+
+    @Test
+    public void eventsShowsTheCountersPerConnectionAndTheirTotal() {
+        when(webSocket1.getRemoteIdentifier()).thenReturn("192.168.0.10:47115");
+        when(webSocket1.getQueuedMessageCount()).thenReturn(3);
+        when(webSocket1.getSentMessageCount()).thenReturn(100L);
+        when(webSocket1.getDroppedMessageCount()).thenReturn(0L);
+        when(webSocket2.getRemoteIdentifier()).thenReturn("192.168.0.11:47116");
+        when(webSocket2.getQueuedMessageCount()).thenReturn(1000);
+        when(webSocket2.getSentMessageCount()).thenReturn(20L);
+        when(webSocket2.getDroppedMessageCount()).thenReturn(7L);
+        when(eventWebSocketAdapter.getWebSockets()).thenReturn(Set.of(webSocket1, webSocket2));
+
+        extension.execute(new String[] { "events" }, console);
+
+        assertEquals(4, lines.size());
+        assertEquals(Set.of(String.format("%-40s %10d %12d %12d", "192.168.0.10:47115", 3, 100, 0),
+                String.format("%-40s %10d %12d %12d", "192.168.0.11:47116", 1000, 20, 7)),
+                Set.copyOf(lines.subList(1, 3)));
+        assertEquals(String.format("%-40s %10d %12d %12d", "Total", 1003, 120, 7), lines.get(3));
+    }
+
+    @Test
+    public void eventsWithoutConnections() {
+        when(eventWebSocketAdapter.getWebSockets()).thenReturn(Set.of());
+
+        extension.execute(new String[] { "events" }, console);
+
+        assertEquals(List.of("No event web socket is connected."), lines);
+    }
+
+    @Test
+    public void unknownSubCommandPrintsUsage() {
+        extension.execute(new String[] { "bogus" }, console);
+
+        assertEquals(List.of("Unknown command 'bogus'"), lines);
+        verify(console).printUsage(anyString());
+        verify(eventWebSocketAdapter, never()).getWebSockets();
+    }
+}
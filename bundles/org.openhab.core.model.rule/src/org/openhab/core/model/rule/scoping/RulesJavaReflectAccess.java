@@ -14,6 +14,7 @@ package org.openhab.core.model.rule.scoping;
 
 import org.eclipse.xtext.common.types.access.impl.ClassFinder;
 import org.eclipse.xtext.common.types.util.JavaReflectAccess;
+import org.openhab.core.model.script.scoping.CachingJavaReflectAccess;
 
 import com.google.inject.Inject;
 
@@ -25,7 +26,7 @@ import com.google.inject.Inject;
  *
  * @author Wouter Born - Initial contribution
  */
-public class RulesJavaReflectAccess extends JavaReflectAccess {
+public class RulesJavaReflectAccess extends CachingJavaReflectAccess {
 
     private ClassLoader classLoader = getClass().getClassLoader();
 
@@ -37,6 +38,7 @@ public class RulesJavaReflectAccess extends JavaReflectAccess {
         if (classLoader != this.classLoader) {
             this.classLoader = classLoader;
             classFinder = null;
+            clearCache();
         }
     }
 
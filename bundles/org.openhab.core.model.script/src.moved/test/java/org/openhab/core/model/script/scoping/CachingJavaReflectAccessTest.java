@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.model.script.scoping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import org.eclipse.xtext.common.types.JvmConstructor;
+import org.eclipse.xtext.common.types.JvmField;
+import org.eclipse.xtext.common.types.JvmGenericType;
+import org.eclipse.xtext.common.types.JvmOperation;
+import org.eclipse.xtext.common.types.TypesFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author openHAB Core Team - Initial contribution
+ */
+public class CachingJavaReflectAccessTest {
+
+    public static class Greeter {
+        public String name = "world";
+
+        public Greeter() {
+        }
+
+        public String greet() {
+            return "Hello " + name;
+        }
+
+        public String farewell() {
+            return "Goodbye " + name;
+        }
+    }
+
+    /**
+     * Loads its own copy of {@link Greeter}, like the class loader of an updated add-on.
+     */
+    private static class ReloadingClassLoader extends ClassLoader {
+        ReloadingClassLoader() {
+            super(CachingJavaReflectAccessTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!Greeter.class.getName().equals(name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> clazz = findLoadedClass(name);
+                if (clazz == null) {
+                    try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                        byte[] bytes = in.readAllBytes();
+                        clazz = defineClass(name, bytes, 0, bytes.length);
+                    } catch (IOException e) {
+                        throw new ClassNotFoundException(name, e);
+                    }
+                }
+                return clazz;
+            }
+        }
+    }
+
+    private final TypesFactory typesFactory = TypesFactory.eINSTANCE;
+
+    private CachingJavaReflectAccess reflectAccess = new CachingJavaReflectAccess();
+    private JvmOperation greet = typesFactory.createJvmOperation();
+    private JvmField name = typesFactory.createJvmField();
+    private JvmConstructor constructor = typesFactory.createJvmConstructor();
+
+    @BeforeEach
+    public void setup() {
+        reflectAccess.setClassLoader(CachingJavaReflectAccessTest.class.getClassLoader());
+
+        JvmGenericType testType = typesFactory.createJvmGenericType();
+        testType.setPackageName(CachingJavaReflectAccessTest.class.getPackageName());
+        testType.setSimpleName(CachingJavaReflectAccessTest.class.getSimpleName());
+        JvmGenericType greeterType = typesFactory.createJvmGenericType();
+        greeterType.setSimpleName(Greeter.class.getSimpleName());
+        testType.getMembers().add(greeterType);
+
+        greet.setSimpleName("greet");
+        name.setSimpleName("name");
+        constructor.setSimpleName(Greeter.class.getSimpleName());
+        greeterType.getMembers().add(greet);
+        greeterType.getMembers().add(name);
+        greeterType.getMembers().add(constructor);
+    }
+
+    @Test
+    public void testMembersAreResolved() throws ReflectiveOperationException {
+        assertEquals(Greeter.class.getMethod("greet"), reflectAccess.getMethod(greet));
+        assertEquals(Greeter.class.getField("name"), reflectAccess.getField(name));
+        assertEquals(Greeter.class.getConstructor(), reflectAccess.getConstructor(constructor));
+    }
+
+    @Test
+    public void testResolvedMembersAreCached() {
+        // the super class returns a new reflection object for each call
+        Method method = reflectAccess.getMethod(greet);
+        Field field = reflectAccess.getField(name);
+        Constructor<?> ctor = reflectAccess.getConstructor(constructor);
+
+        assertSame(method, reflectAccess.getMethod(greet));
+        assertSame(field, reflectAccess.getField(name));
+        assertSame(ctor, reflectAccess.getConstructor(constructor));
+    }
+
+    @Test
+    public void testDifferentMembersAreCachedSeparately() {
+        JvmOperation farewell = typesFactory.createJvmOperation();
+        farewell.setSimpleName("farewell");
+        greet.getDeclaringType().getMembers().add(farewell);
+
+        Method greetMethod = reflectAccess.getMethod(greet);
+        Method farewellMethod = reflectAccess.getMethod(farewell);
+
+        assertEquals("greet", greetMethod.getName());
+        assertEquals("farewell", farewellMethod.getName());
+        assertSame(greetMethod, reflectAccess.getMethod(greet));
+        assertSame(farewellMethod, reflectAccess.getMethod(farewell));
+    }
+
+    @Test
+    public void testMembersAreResolvedAgainAfterClearingTheCache() {
+        Method method = reflectAccess.getMethod(greet);
+
+        reflectAccess.clearCache();
+
+        Method resolvedAgain = reflectAccess.getMethod(greet);
+        assertNotSame(method, resolvedAgain);
+        assertEquals(method, resolvedAgain);
+    }
+
+    @Test
+    public void testMembersAreResolvedAgainAfterTheClassLoaderChanged() {
+        Method method = reflectAccess.getMethod(greet);
+        Field field = reflectAccess.getField(name);
+        assertSame(Greeter.class, method.getDeclaringClass());
+
+        reflectAccess.setClassLoader(new ReloadingClassLoader());
+
+        Method reloadedMethod = reflectAccess.getMethod(greet);
+        Field reloadedField = reflectAccess.getField(name);
+        assertNotSame(Greeter.class, reloadedMethod.getDeclaringClass());
+        assertEquals(Greeter.class.getName(), reloadedMethod.getDeclaringClass().getName());
+        assertSame(reloadedMethod.getDeclaringClass(), reloadedField.getDeclaringClass());
+        assertNotSame(field, reloadedField);
+        assertSame(reloadedMethod, reflectAccess.getMethod(greet));
+    }
+}
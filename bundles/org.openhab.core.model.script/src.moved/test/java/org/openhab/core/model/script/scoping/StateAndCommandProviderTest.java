@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.model.script.scoping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.UpDownType;
+import org.openhab.core.types.RefreshType;
+import org.openhab.core.types.Type;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * @author openHAB Core Team - Initial contribution
+ */
+public class StateAndCommandProviderTest {
+
+    private final StateAndCommandProvider provider = new StateAndCommandProvider();
+
+    @Test
+    public void testGetTypeReturnsTypeByName() {
+        assertSame(OnOffType.ON, provider.getType("ON"));
+        assertSame(UpDownType.DOWN, provider.getType("DOWN"));
+        assertSame(RefreshType.REFRESH, provider.getType("REFRESH"));
+        assertSame(UnDefType.UNDEF, provider.getType("UNDEF"));
+        assertSame(UnDefType.NULL, provider.getType("NULL"));
+    }
+
+    @Test
+    public void testGetTypeFindsAllTypes() {
+        for (Type type : provider.getAllTypes()) {
+            assertSame(type, provider.getType(type.toString()));
+        }
+    }
+
+    @Test
+    public void testGetTypeReturnsNullForUnknownNames() {
+        assertNull(provider.getType("on"));
+        assertNull(provider.getType("UNKNOWN"));
+        assertNull(provider.getType(""));
+    }
+}
@@ -18,11 +18,13 @@ org.openhab.core.model.script
 
 import org.openhab.core.model.script.interpreter.ScriptInterpreter
 import org.openhab.core.model.script.scoping.ActionClassLoader
+import org.openhab.core.model.script.scoping.CachingJavaReflectAccess
 import org.openhab.core.model.script.scoping.ScriptImplicitlyImportedTypes
 import org.openhab.core.model.script.scoping.ScriptImportSectionNamespaceScopeProvider
 import org.eclipse.xtext.common.types.access.IJvmTypeProvider
 import org.eclipse.xtext.common.types.access.reflect.ReflectionTypeProviderFactory
 import org.eclipse.xtext.common.types.access.reflect.ReflectionTypeScopeProvider
+import org.eclipse.xtext.common.types.util.JavaReflectAccess
 import org.eclipse.xtext.common.types.xtext.AbstractTypeScopeProvider
 import org.eclipse.xtext.generator.IGenerator
 import org.eclipse.xtext.generator.IGenerator.NullGenerator
@@ -77,6 +79,10 @@ import org.eclipse.xtext.service.DispatchingProvider
         return ReflectionTypeScopeProvider
     }
 
+    def Class<? extends JavaReflectAccess> bindJavaReflectAccess() {
+        return CachingJavaReflectAccess
+    }
+
     override ClassLoader bindClassLoaderToInstance() {
         return new ActionClassLoader(super.bindClassLoaderToInstance())
     }
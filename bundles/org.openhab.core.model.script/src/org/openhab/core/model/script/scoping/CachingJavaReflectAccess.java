@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.model.script.scoping;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+import org.eclipse.xtext.common.types.JvmConstructor;
+import org.eclipse.xtext.common.types.JvmField;
+import org.eclipse.xtext.common.types.JvmMember;
+import org.eclipse.xtext.common.types.JvmOperation;
+import org.eclipse.xtext.common.types.util.JavaReflectAccess;
+
+import com.google.inject.Inject;
+
+/**
+ * This is a customized version of {@link JavaReflectAccess}.
+ *
+ * The interpreter resolves the Java member of every invoked method, field and constructor each time a script is
+ * executed, which involves resolving all parameter types and copying the reflection objects. This implementation
+ * remembers the resolved members.
+ *
+ * The members are remembered per JVM member of the type model, so a cache hit is a single map lookup. The cache is
+ * cleared when the class loader changes, so classes loaded by the new class loader are picked up.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+public class CachingJavaReflectAccess extends JavaReflectAccess {
+
+    // JVM members of the type model are only weakly referenced, so they can be collected after a model was reloaded
+    private final Map<JvmOperation, Method> methods = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Map<JvmField, Field> fields = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Map<JvmConstructor, Constructor<?>> constructors = Collections
+            .synchronizedMap(new WeakHashMap<>());
+
+    @Override
+    @Inject(optional = true)
+    public void setClassLoader(ClassLoader classLoader) {
+        super.setClassLoader(classLoader);
+        clearCache();
+    }
+
+    @Override
+    public Method getMethod(JvmOperation operation) {
+        return getMember(methods, operation, super::getMethod);
+    }
+
+    @Override
+    public Field getField(JvmField field) {
+        return getMember(fields, field, super::getField);
+    }
+
+    @Override
+    public Constructor<?> getConstructor(JvmConstructor constructor) {
+        return getMember(constructors, constructor, super::getConstructor);
+    }
+
+    private <K extends JvmMember, M extends Member> M getMember(Map<K, M> cache, K jvmMember,
+            Function<K, M> resolver) {
+        M member = cache.get(jvmMember);
+        if (member != null) {
+            return member;
+        }
+        member = resolver.apply(jvmMember);
+        if (member != null) {
+            cache.put(jvmMember, member);
+        }
+        return member;
+    }
+
+    /**
+     * Forgets all resolved members, e.g. after the class loader changed.
+     */
+    protected void clearCache() {
+        methods.clear();
+        fields.clear();
+        constructors.clear();
+    }
+}
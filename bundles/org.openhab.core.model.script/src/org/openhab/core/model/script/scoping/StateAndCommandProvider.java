@@ -12,7 +12,9 @@
  */
 package org.openhab.core.model.script.scoping;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.openhab.core.library.types.IncreaseDecreaseType;
@@ -44,6 +46,7 @@ public class StateAndCommandProvider {
     protected static final Set<Command> COMMANDS = new HashSet<>();
     protected static final Set<State> STATES = new HashSet<>();
     protected static final Set<Type> TYPES = new HashSet<>();
+    protected static final Map<String, Type> TYPES_BY_NAME = new HashMap<>();
 
     static {
         COMMANDS.add(OnOffType.ON);
@@ -77,12 +80,26 @@ public class StateAndCommandProvider {
 
         TYPES.addAll(COMMANDS);
         TYPES.addAll(STATES);
+
+        for (Type type : TYPES) {
+            TYPES_BY_NAME.put(type.toString(), type);
+        }
     }
 
     public Iterable<Type> getAllTypes() {
         return TYPES;
     }
 
+    /**
+     * Returns the state or command with the given name.
+     *
+     * @param name the name of the state or command, e.g. <code>ON</code>
+     * @return the state or command, or <code>null</code> if there is none with the given name
+     */
+    public Type getType(String name) {
+        return TYPES_BY_NAME.get(name);
+    }
+
     public Iterable<Command> getAllCommands() {
         return COMMANDS;
     }
@@ -37,6 +37,8 @@ import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.LatencyRecorder;
+import org.openhab.core.common.LatencyRecorder.Operation;
 import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.common.SafeCaller;
 import org.openhab.core.items.GenericItem;
@@ -90,6 +92,7 @@ import org.slf4j.LoggerFactory;
  * @author Markus Rathgeb - Separation of persistence core and model, drop Quartz usage.
  * @author Jan N. Klug - Refactored to use service configuration registry
  * @author Jan N. Klug - Added time series support
+ * @author openHAB Core Team - Record the store latency with an optional {@link LatencyRecorder}
  */
 @Component(immediate = true, service = PersistenceManager.class)
 @NonNullByDefault
@@ -108,6 +111,7 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
     private final PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry;
 
     private volatile boolean started = false;
+    private volatile @Nullable LatencyRecorder latencyRecorder;
 
     private final Map<String, PersistenceServiceContainer> persistenceServiceContainers = new ConcurrentHashMap<>();
 
@@ -142,6 +146,17 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
                 .forEach(item -> ((GenericItem) item).removeStateChangeListener(this));
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setLatencyRecorder(LatencyRecorder latencyRecorder) {
+        this.latencyRecorder = latencyRecorder;
+    }
+
+    protected void unsetLatencyRecorder(LatencyRecorder latencyRecorder) {
+        if (this.latencyRecorder == latencyRecorder) {
+            this.latencyRecorder = null;
+        }
+    }
+
     @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
     protected void addPersistenceService(PersistenceService persistenceService) {
         String serviceId = persistenceService.getId();
@@ -186,10 +201,21 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
                         .filter(itemConfig -> itemConfig.filters().stream().allMatch(filter -> filter.apply(item)))
                         .forEach(itemConfig -> {
                             itemConfig.filters().forEach(filter -> filter.persisted(item));
-                            container.getPersistenceService().store(item, itemConfig.alias());
+                            store(container.getPersistenceService(), item, itemConfig.alias());
                         }));
     }
 
+    private void store(PersistenceService persistenceService, Item item, @Nullable String alias) {
+        LatencyRecorder latencyRecorder = this.latencyRecorder;
+        if (latencyRecorder == null) {
+            persistenceService.store(item, alias);
+            return;
+        }
+        long start = System.nanoTime();
+        persistenceService.store(item, alias);
+        latencyRecorder.record(Operation.PERSISTENCE_STORE, persistenceService.getId(), System.nanoTime() - start);
+    }
+
     /**
      * Checks if a given persistence configuration entry is relevant for an item
      *
@@ -599,7 +625,7 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
                     if (itemConfig.filters().stream().allMatch(filter -> filter.apply(item))) {
                         long startTime = System.nanoTime();
                         itemConfig.filters().forEach(filter -> filter.persisted(item));
-                        persistenceService.store(item, itemConfig.alias());
+                        store(persistenceService, item, itemConfig.alias());
                         logger.trace("Storing item '{}' with persistence service '{}' took {}ms", item.getName(),
                                 configuration.getUID(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
                     }
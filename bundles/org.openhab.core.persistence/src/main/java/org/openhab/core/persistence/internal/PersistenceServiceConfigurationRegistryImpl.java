@@ -12,8 +12,12 @@
  */
 package org.openhab.core.persistence.internal;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 
@@ -37,6 +41,7 @@ import org.slf4j.LoggerFactory;
  * {@link PersistenceServiceConfigurationRegistry}
  *
  * @author Jan N. Klug - Initial contribution
+ * @author openHAB Core Team - Check elements changed in bulk
  */
 @NonNullByDefault
 @Component(immediate = true, service = PersistenceServiceConfigurationRegistry.class)
@@ -61,6 +66,21 @@ public class PersistenceServiceConfigurationRegistryImpl
         }
     }
 
+    @Override
+    public void addedAll(Provider<PersistenceServiceConfiguration> provider,
+            Collection<PersistenceServiceConfiguration> elements) {
+        List<PersistenceServiceConfiguration> acceptedElements = new ArrayList<>(elements.size());
+        for (PersistenceServiceConfiguration element : elements) {
+            if (serviceToProvider.containsKey(element.getUID())) {
+                logger.warn("Tried to add strategy container with serviceId '{}', but it was already added before.",
+                        element.getUID());
+            } else {
+                acceptedElements.add(element);
+            }
+        }
+        super.addedAll(provider, acceptedElements);
+    }
+
     @Override
     public void removed(Provider<PersistenceServiceConfiguration> provider, PersistenceServiceConfiguration element) {
         if (!provider.equals(serviceToProvider.getOrDefault(element.getUID(), provider))) {
@@ -71,6 +91,22 @@ public class PersistenceServiceConfigurationRegistryImpl
         }
     }
 
+    @Override
+    public void removedAll(Provider<PersistenceServiceConfiguration> provider,
+            Collection<PersistenceServiceConfiguration> elements) {
+        List<PersistenceServiceConfiguration> acceptedElements = new ArrayList<>(elements.size());
+        for (PersistenceServiceConfiguration element : elements) {
+            if (!provider.equals(serviceToProvider.getOrDefault(element.getUID(), provider))) {
+                logger.warn(
+                        "Tried to remove strategy container with serviceId '{}', but it was added by another provider.",
+                        element.getUID());
+            } else {
+                acceptedElements.add(element);
+            }
+        }
+        super.removedAll(provider, acceptedElements);
+    }
+
     @Override
     public void updated(Provider<PersistenceServiceConfiguration> provider, PersistenceServiceConfiguration oldelement,
             PersistenceServiceConfiguration element) {
@@ -82,6 +118,24 @@ public class PersistenceServiceConfigurationRegistryImpl
         }
     }
 
+    @Override
+    public void updatedAll(Provider<PersistenceServiceConfiguration> provider,
+            Collection<Entry<PersistenceServiceConfiguration, PersistenceServiceConfiguration>> elements) {
+        List<Entry<PersistenceServiceConfiguration, PersistenceServiceConfiguration>> acceptedElements = new ArrayList<>(
+                elements.size());
+        for (Entry<PersistenceServiceConfiguration, PersistenceServiceConfiguration> element : elements) {
+            String serviceId = element.getValue().getUID();
+            if (!provider.equals(serviceToProvider.getOrDefault(serviceId, provider))) {
+                logger.warn(
+                        "Tried to update strategy container with serviceId '{}', but it was added by another provider.",
+                        serviceId);
+            } else {
+                acceptedElements.add(element);
+            }
+        }
+        super.updatedAll(provider, acceptedElements);
+    }
+
     protected void notifyListenersAboutAddedElement(PersistenceServiceConfiguration element) {
         registryChangeListeners.forEach(listener -> listener.added(element));
         super.notifyListenersAboutAddedElement(element);
@@ -13,35 +13,38 @@
 package org.openhab.core.semantics.internal;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
-import org.openhab.core.items.ItemPredicates;
 import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.items.ItemRegistryChangeListener;
 import org.openhab.core.items.Metadata;
-import org.openhab.core.items.MetadataKey;
 import org.openhab.core.items.MetadataRegistry;
 import org.openhab.core.semantics.Equipment;
 import org.openhab.core.semantics.Location;
 import org.openhab.core.semantics.Point;
 import org.openhab.core.semantics.SemanticTag;
 import org.openhab.core.semantics.SemanticTagRegistry;
+import org.openhab.core.semantics.SemanticTags;
 import org.openhab.core.semantics.SemanticsPredicates;
 import org.openhab.core.semantics.SemanticsService;
 import org.openhab.core.semantics.Tag;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 
 /**
@@ -49,6 +52,7 @@ import org.osgi.service.component.annotations.Reference;
  *
  * @author Kai Kreuzer - Initial contribution
  * @author Laurent Garnier - Few methods moved from class SemanticTags in order to use the semantic tag registry
+ * @author openHAB Core Team - Index locations and tag labels
  */
 @NonNullByDefault
 @Component
@@ -60,6 +64,33 @@ public class SemanticsServiceImpl implements SemanticsService {
     private final MetadataRegistry metadataRegistry;
     private final SemanticTagRegistry semanticTagRegistry;
 
+    private final ItemRegistryChangeListener itemRegistryListener = new ItemRegistryListener();
+    private final RegistryChangeListener<Metadata> metadataRegistryListener = new MetadataRegistryListener();
+    private final RegistryChangeListener<SemanticTag> semanticTagRegistryListener = new SemanticTagRegistryListener();
+
+    /**
+     * A location item together with the values it has been indexed by.
+     */
+    private record LocationEntry(Item item, Class<? extends Tag> type, @Nullable String label) {
+    }
+
+    /**
+     * The localized labels and synonyms of all semantic tags, lower case.
+     */
+    private record TagIndex(Map<String, List<String>> uidsByLabelOrSynonym, Map<String, String> uidsByLabel) {
+    }
+
+    // the location index is built on first use and then kept up to date from registry change events
+    private final Object indexLock = new Object();
+    private boolean indexed;
+    private final Map<String, LocationEntry> locations = new HashMap<>();
+    private final Map<Class<? extends Tag>, Set<String>> locationsByType = new HashMap<>();
+    private final Map<String, Set<String>> locationsByLabel = new HashMap<>();
+    private final Map<String, Set<String>> itemsBySynonym = new HashMap<>();
+    private final Map<String, List<String>> synonymsByItem = new HashMap<>();
+
+    private final Map<Locale, TagIndex> tagIndexes = new ConcurrentHashMap<>();
+
     @Activate
     public SemanticsServiceImpl(final @Reference ItemRegistry itemRegistry,
             final @Reference MetadataRegistry metadataRegistry,
@@ -69,18 +100,33 @@ public class SemanticsServiceImpl implements SemanticsService {
         this.semanticTagRegistry = semanticTagRegistry;
     }
 
+    @Activate
+    protected void activate() {
+        itemRegistry.addRegistryChangeListener(itemRegistryListener);
+        metadataRegistry.addRegistryChangeListener(metadataRegistryListener);
+        semanticTagRegistry.addRegistryChangeListener(semanticTagRegistryListener);
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        semanticTagRegistry.removeRegistryChangeListener(semanticTagRegistryListener);
+        metadataRegistry.removeRegistryChangeListener(metadataRegistryListener);
+        itemRegistry.removeRegistryChangeListener(itemRegistryListener);
+        invalidateIndex();
+    }
+
     @Override
     public Set<Item> getItemsInLocation(Class<? extends Location> locationType) {
-        Set<Item> items = new HashSet<>();
-        Set<Item> locationItems = itemRegistry.stream().filter(SemanticsPredicates.isA(locationType))
-                .collect(Collectors.toSet());
-        for (Item locationItem : locationItems) {
-            if (locationItem instanceof GroupItem gItem) {
-                items.addAll(gItem
-                        .getMembers(SemanticsPredicates.isA(Point.class).or(SemanticsPredicates.isA(Equipment.class))));
-            }
+        List<Item> locationItems = new ArrayList<>();
+        synchronized (indexLock) {
+            buildIndex();
+            locationsByType.forEach((type, names) -> {
+                if (locationType.isAssignableFrom(type)) {
+                    names.forEach(name -> addLocationItem(name, locationItems));
+                }
+            });
         }
-        return items;
+        return getMembers(locationItems);
     }
 
     @SuppressWarnings({ "unchecked" })
@@ -95,50 +141,50 @@ public class SemanticsServiceImpl implements SemanticsService {
                 }
             }
         } else {
-            Set<Item> locationItems = itemRegistry.stream().filter(ItemPredicates.hasLabel(labelOrSynonym)
-                    .or(hasSynonym(labelOrSynonym)).and(SemanticsPredicates.isLocation())).collect(Collectors.toSet());
-            for (Item locationItem : locationItems) {
-                if (locationItem instanceof GroupItem gItem) {
-                    items.addAll(gItem.getMembers(
-                            SemanticsPredicates.isA(Point.class).or(SemanticsPredicates.isA(Equipment.class))));
-                }
+            String key = normalize(labelOrSynonym);
+            List<Item> locationItems = new ArrayList<>();
+            synchronized (indexLock) {
+                buildIndex();
+                Set<String> names = new HashSet<>(locationsByLabel.getOrDefault(key, Set.of()));
+                names.addAll(itemsBySynonym.getOrDefault(key, Set.of()));
+                names.forEach(name -> addLocationItem(name, locationItems));
             }
+            items.addAll(getMembers(locationItems));
         }
         return items;
     }
 
-    private Predicate<? super Item> hasSynonym(String labelOrSynonym) {
-        return item -> {
-            MetadataKey key = new MetadataKey(SYNONYMS_NAMESPACE, item.getName());
-            Metadata md = metadataRegistry.get(key);
-            if (md != null) {
-                String[] synonyms = md.getValue().split(",");
-                for (String synonym : synonyms) {
-                    if (synonym.equalsIgnoreCase(labelOrSynonym)) {
-                        return true;
-                    }
-                }
+    private Set<Item> getMembers(Collection<Item> locationItems) {
+        Set<Item> items = new HashSet<>();
+        for (Item locationItem : locationItems) {
+            if (locationItem instanceof GroupItem gItem) {
+                items.addAll(gItem
+                        .getMembers(SemanticsPredicates.isA(Point.class).or(SemanticsPredicates.isA(Equipment.class))));
             }
-            return false;
-        };
+        }
+        return items;
+    }
+
+    private void addLocationItem(String name, List<Item> locationItems) {
+        LocationEntry entry = locations.get(name);
+        if (entry != null) {
+            locationItems.add(entry.item());
+        }
     }
 
     @Override
     public @Nullable Class<? extends Tag> getByLabel(String tagLabel, Locale locale) {
-        Optional<SemanticTag> tag = semanticTagRegistry.getAll().stream()
-                .filter(t -> t.localized(locale).getLabel().equalsIgnoreCase(tagLabel))
-                .sorted(Comparator.comparing(SemanticTag::getUID)).findFirst();
-        return tag.isPresent() ? semanticTagRegistry.getTagClassById(tag.get().getUID()) : null;
+        String uid = getTagIndex(locale).uidsByLabel().get(tagLabel.toLowerCase(locale));
+        return uid != null ? semanticTagRegistry.getTagClassById(uid) : null;
     }
 
     @Override
     public List<Class<? extends Tag>> getByLabelOrSynonym(String tagLabelOrSynonym, Locale locale) {
-        List<SemanticTag> tags = semanticTagRegistry.getAll().stream()
-                .filter(t -> getLabelAndSynonyms(t, locale).contains(tagLabelOrSynonym.toLowerCase(locale)))
-                .sorted(Comparator.comparing(SemanticTag::getUID)).toList();
+        List<String> uids = getTagIndex(locale).uidsByLabelOrSynonym().getOrDefault(
+                tagLabelOrSynonym.toLowerCase(locale), List.of());
         List<Class<? extends Tag>> tagList = new ArrayList<>();
-        tags.forEach(t -> {
-            Class<? extends Tag> tag = semanticTagRegistry.getTagClassById(t.getUID());
+        uids.forEach(uid -> {
+            Class<? extends Tag> tag = semanticTagRegistry.getTagClassById(uid);
             if (tag != null) {
                 tagList.add(tag);
             }
@@ -146,6 +192,24 @@ public class SemanticsServiceImpl implements SemanticsService {
         return tagList;
     }
 
+    private TagIndex getTagIndex(Locale locale) {
+        return tagIndexes.computeIfAbsent(locale, this::buildTagIndex);
+    }
+
+    private TagIndex buildTagIndex(Locale locale) {
+        Map<String, List<String>> uidsByLabelOrSynonym = new HashMap<>();
+        Map<String, String> uidsByLabel = new HashMap<>();
+        List<SemanticTag> tags = semanticTagRegistry.getAll().stream()
+                .sorted(Comparator.comparing(SemanticTag::getUID)).toList();
+        for (SemanticTag tag : tags) {
+            uidsByLabel.putIfAbsent(tag.localized(locale).getLabel().toLowerCase(locale), tag.getUID());
+            for (String labelOrSynonym : getLabelAndSynonyms(tag, locale)) {
+                uidsByLabelOrSynonym.computeIfAbsent(labelOrSynonym, k -> new ArrayList<>()).add(tag.getUID());
+            }
+        }
+        return new TagIndex(uidsByLabelOrSynonym, uidsByLabel);
+    }
+
     @Override
     public List<String> getLabelAndSynonyms(Class<? extends Tag> tagClass, Locale locale) {
         SemanticTag tag = semanticTagRegistry.get(SemanticTagRegistryImpl.buildId(tagClass));
@@ -158,4 +222,167 @@ public class SemanticsServiceImpl implements SemanticsService {
         Stream<String> synonyms = localizedTag.getSynonyms().stream();
         return Stream.concat(label, synonyms).map(s -> s.toLowerCase(locale)).distinct().toList();
     }
+
+    // labels and synonyms of items are compared ignoring case
+    private static String normalize(String labelOrSynonym) {
+        return labelOrSynonym.toLowerCase(Locale.ROOT);
+    }
+
+    private void buildIndex() {
+        if (!indexed) {
+            itemRegistry.getAll().forEach(this::indexItem);
+            metadataRegistry.getAll().forEach(this::indexSynonyms);
+            indexed = true;
+        }
+    }
+
+    private void invalidateIndex() {
+        synchronized (indexLock) {
+            indexed = false;
+            locations.clear();
+            locationsByType.clear();
+            locationsByLabel.clear();
+            itemsBySynonym.clear();
+            synonymsByItem.clear();
+        }
+    }
+
+    private void indexItem(Item item) {
+        Class<? extends Tag> type = SemanticTags.getSemanticType(item);
+        if (type == null || !Location.class.isAssignableFrom(type)) {
+            return;
+        }
+        String label = item.getLabel();
+        LocationEntry entry = new LocationEntry(item, type, label == null ? null : normalize(label));
+        removeItem(item.getName());
+        locations.put(item.getName(), entry);
+        locationsByType.computeIfAbsent(type, t -> new HashSet<>()).add(item.getName());
+        String key = entry.label();
+        if (key != null) {
+            locationsByLabel.computeIfAbsent(key, k -> new HashSet<>()).add(item.getName());
+        }
+    }
+
+    private void removeItem(String itemName) {
+        LocationEntry entry = locations.remove(itemName);
+        if (entry != null) {
+            removeFromIndex(locationsByType, entry.type(), itemName);
+            String key = entry.label();
+            if (key != null) {
+                removeFromIndex(locationsByLabel, key, itemName);
+            }
+        }
+    }
+
+    private void indexSynonyms(Metadata metadata) {
+        if (SYNONYMS_NAMESPACE.equals(metadata.getUID().getNamespace())) {
+            String itemName = metadata.getUID().getItemName();
+            removeSynonyms(itemName);
+            List<String> synonyms = Stream.of(metadata.getValue().split(",")).map(SemanticsServiceImpl::normalize)
+                    .distinct().toList();
+            synonyms.forEach(synonym -> itemsBySynonym.computeIfAbsent(synonym, k -> new HashSet<>()).add(itemName));
+            synonymsByItem.put(itemName, synonyms);
+        }
+    }
+
+    private void removeSynonyms(String itemName) {
+        List<String> synonyms = synonymsByItem.remove(itemName);
+        if (synonyms != null) {
+            synonyms.forEach(synonym -> removeFromIndex(itemsBySynonym, synonym, itemName));
+        }
+    }
+
+    private static <K> void removeFromIndex(Map<K, Set<String>> index, K key, String itemName) {
+        Set<String> names = index.get(key);
+        if (names != null) {
+            names.remove(itemName);
+            if (names.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private class ItemRegistryListener implements ItemRegistryChangeListener {
+
+        @Override
+        public void added(Item element) {
+            synchronized (indexLock) {
+                if (indexed) {
+                    indexItem(element);
+                }
+            }
+        }
+
+        @Override
+        public void removed(Item element) {
+            synchronized (indexLock) {
+                removeItem(element.getName());
+            }
+        }
+
+        @Override
+        public void updated(Item oldElement, Item element) {
+            synchronized (indexLock) {
+                removeItem(oldElement.getName());
+                if (indexed) {
+                    indexItem(element);
+                }
+            }
+        }
+
+        @Override
+        public void allItemsChanged(Collection<String> oldItemNames) {
+            invalidateIndex();
+        }
+    }
+
+    private class MetadataRegistryListener implements RegistryChangeListener<Metadata> {
+
+        @Override
+        public void added(Metadata element) {
+            synchronized (indexLock) {
+                if (indexed) {
+                    indexSynonyms(element);
+                }
+            }
+        }
+
+        @Override
+        public void removed(Metadata element) {
+            if (SYNONYMS_NAMESPACE.equals(element.getUID().getNamespace())) {
+                synchronized (indexLock) {
+                    removeSynonyms(element.getUID().getItemName());
+                }
+            }
+        }
+
+        @Override
+        public void updated(Metadata oldElement, Metadata element) {
+            added(element);
+        }
+    }
+
+    private class SemanticTagRegistryListener implements RegistryChangeListener<SemanticTag> {
+
+        @Override
+        public void added(SemanticTag element) {
+            tagsChanged();
+        }
+
+        @Override
+        public void removed(SemanticTag element) {
+            tagsChanged();
+        }
+
+        @Override
+        public void updated(SemanticTag oldElement, SemanticTag element) {
+            tagsChanged();
+        }
+
+        // the semantic types of items depend on the available tags
+        private void tagsChanged() {
+            tagIndexes.clear();
+            invalidateIndex();
+        }
+    }
 }
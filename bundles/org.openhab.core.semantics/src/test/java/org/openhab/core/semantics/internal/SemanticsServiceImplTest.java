@@ -13,25 +13,28 @@
 package org.openhab.core.semantics.internal;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
-import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.i18n.UnitProvider;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.items.ItemRegistryChangeListener;
+import org.openhab.core.items.Metadata;
+import org.openhab.core.items.MetadataKey;
 import org.openhab.core.items.MetadataRegistry;
 import org.openhab.core.library.CoreItemFactory;
 import org.openhab.core.semantics.Location;
@@ -101,9 +104,7 @@ public class SemanticsServiceImplTest {
 
     @Test
     public void testGetItemsInLocation() throws Exception {
-        when(itemRegistryMock.stream()).thenReturn(Stream.of(locationItem, equipmentItem, pointItem))
-                .thenReturn(Stream.of(locationItem, equipmentItem, pointItem))
-                .thenReturn(Stream.of(locationItem, equipmentItem, pointItem));
+        when(itemRegistryMock.getAll()).thenReturn(List.of(locationItem, equipmentItem, pointItem));
 
         Set<Item> items = service.getItemsInLocation((Class<? extends Location>) bathroomTagClass);
         assertEquals(1, items.size());
@@ -119,13 +120,8 @@ public class SemanticsServiceImplTest {
 
     @Test
     public void testGetItemsInLocationByString() throws Exception {
-        when(itemRegistryMock.stream()).thenReturn(Stream.of(locationItem, equipmentItem, pointItem))
-                .thenReturn(Stream.of(locationItem, equipmentItem, pointItem))
-                .thenReturn(Stream.of(locationItem, equipmentItem, pointItem))
-                .thenReturn(Stream.of(locationItem, equipmentItem, pointItem))
-                .thenReturn(Stream.of(locationItem, equipmentItem, pointItem))
-                .thenReturn(Stream.of(locationItem, equipmentItem, pointItem));
-        when(metadataRegistryMock.get(any())).thenReturn(null);
+        when(itemRegistryMock.getAll()).thenReturn(List.of(locationItem, equipmentItem, pointItem));
+        when(metadataRegistryMock.getAll()).thenReturn(List.of());
 
         // Label of a location group item
         Set<Item> items = service.getItemsInLocation("joe's room", Locale.ENGLISH);
@@ -156,6 +152,66 @@ public class SemanticsServiceImplTest {
         assertTrue(items.isEmpty());
     }
 
+    @Test
+    public void testGetItemsInLocationBySynonym() throws Exception {
+        when(itemRegistryMock.getAll()).thenReturn(List.of(locationItem, equipmentItem, pointItem));
+        when(metadataRegistryMock.getAll()).thenReturn(List.of(
+                new Metadata(new MetadataKey("synonyms", locationItem.getName()), "Joe's Bath,Joe's Place", null),
+                new Metadata(new MetadataKey("synonyms", pointItem.getName()), "Temperature", null)));
+
+        Set<Item> items = service.getItemsInLocation("JOE'S PLACE", Locale.ENGLISH);
+        assertEquals(Set.of(pointItem), items);
+
+        // synonym of an item which is not a location
+        items = service.getItemsInLocation("temperature", Locale.ENGLISH);
+        assertTrue(items.isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testIndexIsUpdatedOnRegistryChanges() throws Exception {
+        when(itemRegistryMock.getAll()).thenReturn(List.of(locationItem, equipmentItem, pointItem));
+        when(metadataRegistryMock.getAll()).thenReturn(List.of());
+        service.activate();
+        ArgumentCaptor<ItemRegistryChangeListener> itemListener = ArgumentCaptor
+                .forClass(ItemRegistryChangeListener.class);
+        verify(itemRegistryMock).addRegistryChangeListener(itemListener.capture());
+        ArgumentCaptor<RegistryChangeListener<Metadata>> metadataListener = ArgumentCaptor
+                .forClass(RegistryChangeListener.class);
+        verify(metadataRegistryMock).addRegistryChangeListener(metadataListener.capture());
+
+        assertEquals(Set.of(pointItem), service.getItemsInLocation("Joe's Room", Locale.ENGLISH));
+
+        GroupItem livingRoomItem = new GroupItem("TestLivingRoom");
+        livingRoomItem.addTag("LivingRoom");
+        livingRoomItem.setLabel("Lounge");
+        livingRoomItem.addMember(equipmentItem);
+        itemListener.getValue().added(livingRoomItem);
+        assertEquals(Set.of(equipmentItem), service.getItemsInLocation("lounge", Locale.ENGLISH));
+        assertEquals(Set.of(equipmentItem),
+                service.getItemsInLocation((Class<? extends Location>) livingRoomTagClass));
+        assertEquals(Set.of(pointItem, equipmentItem),
+                service.getItemsInLocation((Class<? extends Location>) roomTagClass));
+
+        GroupItem renamedItem = new GroupItem(locationItem.getName());
+        renamedItem.addTag("Bathroom");
+        renamedItem.setLabel("Bathroom upstairs");
+        renamedItem.addMember(pointItem);
+        itemListener.getValue().updated(locationItem, renamedItem);
+        assertTrue(service.getItemsInLocation("Joe's Room", Locale.ENGLISH).isEmpty());
+        assertEquals(Set.of(pointItem), service.getItemsInLocation("bathroom upstairs", Locale.ENGLISH));
+
+        Metadata synonyms = new Metadata(new MetadataKey("synonyms", livingRoomItem.getName()), "Salon", null);
+        metadataListener.getValue().added(synonyms);
+        assertEquals(Set.of(equipmentItem), service.getItemsInLocation("salon", Locale.ENGLISH));
+        metadataListener.getValue().removed(synonyms);
+        assertTrue(service.getItemsInLocation("salon", Locale.ENGLISH).isEmpty());
+
+        itemListener.getValue().removed(livingRoomItem);
+        assertTrue(service.getItemsInLocation("lounge", Locale.ENGLISH).isEmpty());
+        assertEquals(Set.of(pointItem), service.getItemsInLocation((Class<? extends Location>) roomTagClass));
+    }
+
     @Test
     public void testGetLabelAndSynonyms() {
         List<String> result = service.getLabelAndSynonyms(bathroomTagClass, Locale.ENGLISH);
@@ -21,6 +21,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -64,6 +65,7 @@ import com.google.gson.JsonSyntaxException;
  * @author Sami Salonen - ordered inner and outer serialization of Maps,
  *         Sets and properties of Configuration
  * @author Jörg Sautter - use a scheduled thread pool
+ * @author openHAB Core Team - Commit bulk operations at once
  */
 @NonNullByDefault
 public class JsonStorage<T> implements Storage<T> {
@@ -169,6 +171,37 @@ public class JsonStorage<T> implements Storage<T> {
         return deserialize(previousValue, null);
     }
 
+    @Override
+    public Map<String, T> putAll(Map<String, T> entries) {
+        Map<String, T> previousValues = new HashMap<>();
+        entries.forEach((key, value) -> {
+            StorageEntry val = new StorageEntry(value.getClass().getName(), entityMapper.toJsonTree(value));
+            T previousValue = deserialize(map.put(key, val), null);
+            if (previousValue != null) {
+                previousValues.put(key, previousValue);
+            }
+        });
+        if (!entries.isEmpty()) {
+            deferredCommit();
+        }
+        return previousValues;
+    }
+
+    @Override
+    public Map<String, T> removeAll(Collection<String> keys) {
+        Map<String, T> removedValues = new HashMap<>();
+        for (String key : keys) {
+            T removedValue = deserialize(map.remove(key), null);
+            if (removedValue != null) {
+                removedValues.put(key, removedValue);
+            }
+        }
+        if (!keys.isEmpty()) {
+            deferredCommit();
+        }
+        return removedValues;
+    }
+
     @Override
     public @Nullable T remove(String key) {
         StorageEntry removedElement = map.remove(key);
@@ -44,6 +44,7 @@ import com.google.gson.reflect.TypeToken;
  *
  * @author Stefan Triller - Initial contribution
  * @author Samie Salonen - test for ensuring ordering of keys in json
+ * @author openHAB Core Team - test for bulk operations
  */
 @NonNullByDefault
 public class JsonStorageTest extends JavaTest {
@@ -212,6 +213,23 @@ public class JsonStorageTest extends JavaTest {
                         .keySet().toArray());
     }
 
+    @Test
+    public void testBulkOperations() {
+        objectStorage.put("DummyObject", new DummyObject());
+
+        Map<String, DummyObject> previousValues = objectStorage
+                .putAll(Map.of("DummyObject", new DummyObject(), "DummyObject2", new DummyObject()));
+        assertEquals(Set.of("DummyObject"), previousValues.keySet());
+        assertEquals(Set.of("DummyObject", "DummyObject2"), Set.copyOf(objectStorage.getKeys()));
+
+        Map<String, DummyObject> removedValues = objectStorage.removeAll(List.of("DummyObject2", "Unknown"));
+        assertEquals(Set.of("DummyObject2"), removedValues.keySet());
+        assertEquals(Set.of("DummyObject"), Set.copyOf(objectStorage.getKeys()));
+
+        persistAndReadAgain();
+        assertEquals(Set.of("DummyObject"), Set.copyOf(objectStorage.getKeys()));
+    }
+
     private static class DummyObject {
 
         // For the test here we use Linked variants of Map and Set which preserve the insertion order
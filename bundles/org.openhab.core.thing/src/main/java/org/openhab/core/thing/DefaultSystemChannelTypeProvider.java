@@ -19,6 +19,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -50,6 +52,7 @@ import org.osgi.service.component.annotations.Reference;
  * @author Christoph Weitkamp - Added support for translation
  * @author Stefan Triller - Added more system channels
  * @author Christoph Weitkamp - factored out common i18n aspects into ThingTypeI18nLocalizationService
+ * @author openHAB Core Team - Look up channel types by UID
  */
 @NonNullByDefault
 @Component
@@ -406,6 +409,9 @@ public class DefaultSystemChannelTypeProvider implements ChannelTypeProvider {
             SYSTEM_BAROMETRIC_PRESSURE, SYSTEM_ELECTRIC_POWER, SYSTEM_ELECTRIC_CURRENT, SYSTEM_ELECTRIC_VOLTAGE,
             SYSTEM_ELECTRICAL_ENERGY);
 
+    private static final Map<ChannelTypeUID, ChannelType> CHANNEL_TYPES_BY_UID = CHANNEL_TYPES.stream()
+            .collect(Collectors.toUnmodifiableMap(ChannelType::getUID, Function.identity()));
+
     private final Map<LocalizedKey, ChannelType> localizedChannelTypeCache = new ConcurrentHashMap<>();
 
     private final ChannelTypeI18nLocalizationService channelTypeI18nLocalizationService;
@@ -422,27 +428,20 @@ public class DefaultSystemChannelTypeProvider implements ChannelTypeProvider {
     @Override
     public Collection<ChannelType> getChannelTypes(@Nullable Locale locale) {
         final List<ChannelType> allChannelTypes = new ArrayList<>();
-        final Bundle bundle = bundleResolver.resolveBundle(DefaultSystemChannelTypeProvider.class);
 
         for (final ChannelType channelType : CHANNEL_TYPES) {
-            allChannelTypes.add(createLocalizedChannelType(bundle, channelType, locale));
+            allChannelTypes.add(createLocalizedChannelType(channelType, locale));
         }
         return allChannelTypes;
     }
 
     @Override
     public @Nullable ChannelType getChannelType(ChannelTypeUID channelTypeUID, @Nullable Locale locale) {
-        final Bundle bundle = bundleResolver.resolveBundle(DefaultSystemChannelTypeProvider.class);
-
-        for (final ChannelType channelType : CHANNEL_TYPES) {
-            if (channelTypeUID.equals(channelType.getUID())) {
-                return createLocalizedChannelType(bundle, channelType, locale);
-            }
-        }
-        return null;
+        final ChannelType channelType = CHANNEL_TYPES_BY_UID.get(channelTypeUID);
+        return channelType != null ? createLocalizedChannelType(channelType, locale) : null;
     }
 
-    private ChannelType createLocalizedChannelType(Bundle bundle, ChannelType channelType, @Nullable Locale locale) {
+    private ChannelType createLocalizedChannelType(ChannelType channelType, @Nullable Locale locale) {
         LocalizedKey localizedKey = new LocalizedKey(channelType.getUID(),
                 locale != null ? locale.toLanguageTag() : null);
 
@@ -451,6 +450,7 @@ public class DefaultSystemChannelTypeProvider implements ChannelTypeProvider {
             return cachedEntry;
         }
 
+        final Bundle bundle = bundleResolver.resolveBundle(DefaultSystemChannelTypeProvider.class);
         ChannelType localizedChannelType = channelTypeI18nLocalizationService.createLocalizedChannelType(bundle,
                 channelType, locale);
         localizedChannelTypeCache.put(localizedKey, localizedChannelType);
@@ -12,7 +12,10 @@
  */
 package org.openhab.core.thing.binding;
 
+import java.util.concurrent.Semaphore;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.binding.builder.BridgeBuilder;
@@ -26,10 +29,14 @@ import org.openhab.core.thing.binding.builder.BridgeBuilder;
  *
  * @author Dennis Nobel - Initial contribution
  * @author Stefan Bußweiler - Added implementation of BridgeHandler interface
+ * @author openHAB Core Team - Added limit for concurrent polls of child things
  */
 @NonNullByDefault
 public abstract class BaseBridgeHandler extends BaseThingHandler implements BridgeHandler {
 
+    private final Object childPollingPermitsLock = new Object();
+    private @Nullable Semaphore childPollingPermits;
+
     /**
      * @see BaseThingHandler
      */
@@ -37,6 +44,33 @@ public abstract class BaseBridgeHandler extends BaseThingHandler implements Brid
         super(bridge);
     }
 
+    /**
+     * Returns the maximum number of {@link PollingJob}s of the things of this bridge which may run at the same time,
+     * e.g. because the bridge only handles a limited number of requests at once.
+     * <p>
+     * Can be overridden by subclasses, the default is no limit.
+     *
+     * @return the maximum number of concurrent polls, or 0 for no limit
+     */
+    protected int getMaxConcurrentChildPolls() {
+        return 0;
+    }
+
+    @Nullable
+    Semaphore getChildPollingPermits() {
+        synchronized (childPollingPermitsLock) {
+            Semaphore permits = childPollingPermits;
+            if (permits == null) {
+                int maxConcurrentPolls = getMaxConcurrentChildPolls();
+                if (maxConcurrentPolls > 0) {
+                    permits = new Semaphore(maxConcurrentPolls);
+                    childPollingPermits = permits;
+                }
+            }
+            return permits;
+        }
+    }
+
     @Override
     public Bridge getThing() {
         return (Bridge) super.getThing();
@@ -12,12 +12,14 @@
  */
 package org.openhab.core.thing.binding;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -62,6 +64,7 @@ import org.slf4j.LoggerFactory;
  * @author Kai Kreuzer - Refactored isLinked method to not use deprecated functions anymore
  * @author Christoph Weitkamp - Moved OSGI ServiceTracker from BaseThingHandler to ThingHandlerCallback
  * @author Jan N. Klug - added time series support
+ * @author openHAB Core Team - added polling jobs
  */
 @NonNullByDefault
 public abstract class BaseThingHandler implements ThingHandler {
@@ -85,6 +88,56 @@ public abstract class BaseThingHandler implements ThingHandler {
         this.thing = thing;
     }
 
+    /**
+     * Schedules a task polling the device of this thing periodically on the {@link #scheduler}.
+     * <p>
+     * In contrast to scheduling the task directly, the first run is shifted by a phase derived from the thing UID, so
+     * that the polling of many things started at the same time is spread over the interval. While the thing is
+     * {@link ThingStatus#OFFLINE}, the interval is increased gradually. If the bridge of the thing is a
+     * {@link BaseBridgeHandler} limiting the number of concurrent polls of its things, a run is deferred while the
+     * limit is reached. Exceptions thrown by the task are logged and do not stop the job.
+     * <p>
+     * The job should be cancelled when the handler is disposed, otherwise it is cancelled on its next run.
+     *
+     * @param task the task polling the device
+     * @param initialDelay the delay before the first run, to which the phase is added
+     * @param interval the interval between two runs
+     * @return the scheduled job
+     */
+    protected PollingJob schedulePolling(Runnable task, Duration initialDelay, Duration interval) {
+        PollingJob job = new PollingJob(this, task, interval, scheduler, System::currentTimeMillis);
+        job.start(initialDelay);
+        return job;
+    }
+
+    /**
+     * Schedules a task polling the device of this thing periodically, see
+     * {@link #schedulePolling(Runnable, Duration, Duration)}.
+     *
+     * @param task the task polling the device
+     * @param interval the interval between two runs
+     * @return the scheduled job
+     */
+    protected PollingJob schedulePolling(Runnable task, Duration interval) {
+        return schedulePolling(task, Duration.ZERO, interval);
+    }
+
+    /**
+     * Returns the permits limiting the concurrent polls of the things of the bridge of this thing, if any.
+     */
+    @Nullable
+    Semaphore getPollingPermits() {
+        ThingUID bridgeUID = thing.getBridgeUID();
+        ThingHandlerCallback callback = this.callback;
+        if (bridgeUID == null || callback == null) {
+            return null;
+        }
+        Bridge bridge = callback.getBridge(bridgeUID);
+        return bridge != null && bridge.getHandler() instanceof BaseBridgeHandler bridgeHandler
+                ? bridgeHandler.getChildPollingPermits()
+                : null;
+    }
+
     @Override
     public void handleRemoval() {
         // can be overridden by subclasses
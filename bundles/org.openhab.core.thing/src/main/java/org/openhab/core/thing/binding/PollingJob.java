@@ -0,0 +1,187 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.thing.binding;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.thing.ThingStatus;
+import org.openhab.core.thing.ThingUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link PollingJob} periodically runs a polling task of a {@link BaseThingHandler}, see
+ * {@link BaseThingHandler#schedulePolling(Runnable, Duration, Duration)}.
+ * <p>
+ * The job runs at a fixed rate. If a run takes longer than the interval, it is counted as overrun and the missed runs
+ * are skipped, so that the job keeps its phase. While the thing is {@link ThingStatus#OFFLINE}, the interval is doubled
+ * with every run up to {@value #MAX_BACKOFF_FACTOR} times the configured interval.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+public final class PollingJob {
+
+    static final int MAX_BACKOFF_FACTOR = 16;
+    static final long MAX_JITTER_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    static final long PERMIT_RETRY_MILLIS = 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(PollingJob.class);
+
+    private final BaseThingHandler handler;
+    private final Runnable task;
+    private final long intervalMillis;
+    private final ScheduledExecutorService scheduler;
+    private final LongSupplier clock;
+
+    private final Object lock = new Object();
+    private @Nullable ScheduledFuture<?> future;
+    private boolean cancelled;
+    private long plannedRunTime;
+    private int backoffFactor = 1;
+
+    private final AtomicLong runCount = new AtomicLong();
+    private final AtomicLong overrunCount = new AtomicLong();
+    private volatile long lastRunMillis;
+
+    PollingJob(BaseThingHandler handler, Runnable task, Duration interval, ScheduledExecutorService scheduler,
+            LongSupplier clock) {
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("The polling interval must be positive");
+        }
+        this.handler = handler;
+        this.task = task;
+        this.intervalMillis = interval.toMillis();
+        this.scheduler = scheduler;
+        this.clock = clock;
+    }
+
+    /**
+     * Schedules the first run after the initial delay and a phase derived from the {@link ThingUID}, which is less
+     * than the interval and at most one minute.
+     */
+    void start(Duration initialDelay) {
+        ThingUID thingUID = handler.getThing().getUID();
+        long phase = Math.floorMod(thingUID.hashCode(), Math.min(intervalMillis, MAX_JITTER_MILLIS));
+        synchronized (lock) {
+            plannedRunTime = clock.getAsLong() + initialDelay.toMillis() + phase;
+            schedule(plannedRunTime);
+        }
+    }
+
+    private void schedule(long time) {
+        synchronized (lock) {
+            if (!cancelled) {
+                future = scheduler.schedule(this::run, Math.max(0, time - clock.getAsLong()), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void run() {
+        ThingUID thingUID = handler.getThing().getUID();
+        if (handler.getCallback() == null) {
+            logger.debug("Cancelling polling job of thing '{}' because its handler was disposed", thingUID);
+            cancel();
+            return;
+        }
+
+        Semaphore permits = handler.getPollingPermits();
+        if (permits != null && !permits.tryAcquire()) {
+            logger.trace("Deferring polling job of thing '{}' because its bridge is busy", thingUID);
+            schedule(clock.getAsLong() + Math.min(PERMIT_RETRY_MILLIS, intervalMillis));
+            return;
+        }
+
+        long start = clock.getAsLong();
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            logger.warn("Polling job of thing '{}' failed: {}", thingUID, e.getMessage(), e);
+        } finally {
+            if (permits != null) {
+                permits.release();
+            }
+        }
+        long end = clock.getAsLong();
+        lastRunMillis = end - start;
+        runCount.incrementAndGet();
+
+        if (handler.getThing().getStatus() == ThingStatus.OFFLINE) {
+            backoffFactor = Math.min(backoffFactor * 2, MAX_BACKOFF_FACTOR);
+        } else {
+            backoffFactor = 1;
+        }
+
+        long nextRunTime = plannedRunTime + intervalMillis * backoffFactor;
+        if (nextRunTime <= end) {
+            long overruns = overrunCount.incrementAndGet();
+            logger.debug("Polling job of thing '{}' took {} ms, which is longer than its interval ({} overruns)",
+                    thingUID, lastRunMillis, overruns);
+            nextRunTime += ((end - nextRunTime) / intervalMillis + 1) * intervalMillis;
+        }
+        plannedRunTime = nextRunTime;
+        schedule(nextRunTime);
+    }
+
+    /**
+     * Cancels this job. A currently running poll is not interrupted.
+     */
+    public void cancel() {
+        synchronized (lock) {
+            cancelled = true;
+            ScheduledFuture<?> future = this.future;
+            if (future != null) {
+                future.cancel(false);
+                this.future = null;
+            }
+        }
+    }
+
+    /**
+     * @return true if this job was cancelled
+     */
+    public boolean isCancelled() {
+        synchronized (lock) {
+            return cancelled;
+        }
+    }
+
+    /**
+     * @return the number of completed runs
+     */
+    public long getRunCount() {
+        return runCount.get();
+    }
+
+    /**
+     * @return the number of runs which took longer than the interval
+     */
+    public long getOverrunCount() {
+        return overrunCount.get();
+    }
+
+    /**
+     * @return the duration of the last completed run
+     */
+    public Duration getLastRunDuration() {
+        return Duration.ofMillis(lastRunMillis);
+    }
+}
@@ -21,6 +21,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -30,6 +31,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.cache.ExpiringCacheMap;
 import org.openhab.core.common.AbstractUID;
+import org.openhab.core.common.LatencyRecorder;
 import org.openhab.core.common.SafeCaller;
 import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.events.Event;
@@ -41,6 +43,8 @@ import org.openhab.core.items.ItemRegistry;
 import org.openhab.core.items.ItemStateConverter;
 import org.openhab.core.items.ItemUtil;
 import org.openhab.core.items.events.AbstractItemRegistryEvent;
+import org.openhab.core.items.events.CommandTrace;
+import org.openhab.core.items.events.CommandTrace.Hop;
 import org.openhab.core.items.events.GroupStateUpdatedEvent;
 import org.openhab.core.items.events.ItemCommandEvent;
 import org.openhab.core.items.events.ItemStateUpdatedEvent;
@@ -93,6 +97,8 @@ import org.slf4j.LoggerFactory;
  *
  * @author Simon Kaufmann - Initial contribution factored out of ThingManger
  * @author Jan N. Klug - Added time series support
+ * @author openHAB Core Team - Record latencies with an optional {@link LatencyRecorder}
+ * @author openHAB Core Team - Stamp the trace of sampled commands
  */
 @NonNullByDefault
 @Component(service = { EventSubscriber.class, CommunicationManager.class }, immediate = true)
@@ -132,7 +138,14 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
     private final SafeCaller safeCaller;
     private final ThingRegistry thingRegistry;
 
+    private volatile @Nullable LatencyRecorder latencyRecorder;
+
+    // the trace of the command, which is currently passed through a profile to a thing handler
+    private final ThreadLocal<@Nullable CommandTrace> currentTrace = new ThreadLocal<>();
+
     private final ExpiringCacheMap<Integer, Profile> profileSafeCallCache = new ExpiringCacheMap<>(CACHE_EXPIRATION);
+    private final ExpiringCacheMap<Integer, BiConsumer<Command, @Nullable CommandTrace>> commandCallCache = new ExpiringCacheMap<>(
+            CACHE_EXPIRATION);
 
     @Activate
     public CommunicationManager(final @Reference AutoUpdateManager autoUpdateManager,
@@ -223,7 +236,7 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
 
     private ProfileCallback createCallback(ItemChannelLink link) {
         return new ProfileCallbackImpl(eventPublisher, safeCaller, itemStateConverter, link, thingRegistry::get,
-                this::getItem, this::toAcceptedCommand);
+                this::getItem, this::toAcceptedCommand, () -> latencyRecorder, currentTrace::get);
     }
 
     private @Nullable ProfileTypeUID determineProfileTypeUID(ItemChannelLink link, Item item, @Nullable Thing thing) {
@@ -330,13 +343,21 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
         final String itemName = commandEvent.getItemName();
         final Command command = commandEvent.getItemCommand();
         final Item item = getItem(itemName);
+        final CommandTrace trace = commandEvent.getTrace();
+        if (trace != null) {
+            trace.stamp(Hop.RECEIVE);
+        }
 
         if (item != null) {
             autoUpdateManager.receiveCommand(commandEvent, item);
         }
+        if (trace != null) {
+            trace.stamp(Hop.AUTOUPDATE);
+        }
 
         handleEvent(itemName, command, commandEvent.getSource(), acceptedCommandTypeMap::get,
-                this::applyProfileForCommand);
+                (profile, thing, convertedCommand) -> applyProfileForCommand(profile, thing, convertedCommand,
+                        trace));
     }
 
     private void receiveUpdate(ItemStateUpdatedEvent updateEvent) {
@@ -365,23 +386,45 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
         }
     }
 
-    private void applyProfileForCommand(Profile profile, Thing thing, Command convertedCommand) {
+    @SuppressWarnings("unchecked")
+    private void applyProfileForCommand(Profile profile, Thing thing, Command convertedCommand,
+            @Nullable CommandTrace trace) {
         if (profile instanceof StateProfile stateProfile) {
             int key = Objects.hash("COMMAND", profile, thing);
-            Profile p = profileSafeCallCache.putIfAbsentAndGet(key,
-                    () -> safeCaller.create(stateProfile, StateProfile.class) //
+            BiConsumer<Command, @Nullable CommandTrace> p = commandCallCache.putIfAbsentAndGet(key,
+                    () -> safeCaller.create(commandCall(stateProfile), BiConsumer.class) //
                             .withAsync() //
                             .withIdentifier(thing) //
                             .withTimeout(THINGHANDLER_EVENT_TIMEOUT) //
                             .build());
-            if (p instanceof StateProfile profileP) {
-                profileP.onCommandFromItem(convertedCommand);
+            if (p != null) {
+                p.accept(convertedCommand, trace);
             } else {
-                throw new IllegalStateException("ExpiringCache didn't provide a StateProfile instance!");
+                throw new IllegalStateException("ExpiringCache didn't provide a command call instance!");
             }
         }
     }
 
+    /**
+     * Creates the call of a profile for a command. The trace of the command is passed with the call, so that it is
+     * available as the current trace on the thread calling the profile and the thing handler.
+     */
+    private BiConsumer<Command, @Nullable CommandTrace> commandCall(StateProfile stateProfile) {
+        return (command, trace) -> {
+            if (trace == null) {
+                stateProfile.onCommandFromItem(command);
+                return;
+            }
+            currentTrace.set(trace);
+            try {
+                trace.stamp(Hop.PROFILE);
+                stateProfile.onCommandFromItem(command);
+            } finally {
+                currentTrace.remove();
+            }
+        };
+    }
+
     private <T extends Type> void handleEvent(String itemName, T type, @Nullable String source,
             Function<@Nullable String, @Nullable List<Class<? extends T>>> acceptedTypesFunction,
             ProfileAction<T> action) {
@@ -595,6 +638,17 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
         profileAdvisors.remove(profileAdvisor);
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setLatencyRecorder(LatencyRecorder latencyRecorder) {
+        this.latencyRecorder = latencyRecorder;
+    }
+
+    protected void unsetLatencyRecorder(LatencyRecorder latencyRecorder) {
+        if (this.latencyRecorder == latencyRecorder) {
+            this.latencyRecorder = null;
+        }
+    }
+
     @Reference(cardinality = ReferenceCardinality.AT_LEAST_ONE, policy = ReferencePolicy.DYNAMIC)
     protected void addItemFactory(ItemFactory itemFactory) {
         itemFactories.add(itemFactory);
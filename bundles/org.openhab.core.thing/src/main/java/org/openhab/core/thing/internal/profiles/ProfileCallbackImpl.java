@@ -13,13 +13,19 @@
 package org.openhab.core.thing.internal.profiles;
 
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.LatencyRecorder;
+import org.openhab.core.common.LatencyRecorder.Operation;
 import org.openhab.core.common.SafeCaller;
+import org.openhab.core.common.SafeCallerBuilder;
 import org.openhab.core.events.EventPublisher;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemStateConverter;
+import org.openhab.core.items.events.CommandTrace;
+import org.openhab.core.items.events.CommandTrace.Hop;
 import org.openhab.core.items.events.ItemEventFactory;
 import org.openhab.core.library.items.StringItem;
 import org.openhab.core.library.types.StringType;
@@ -42,6 +48,8 @@ import org.slf4j.LoggerFactory;
  * {@link ProfileCallback} implementation.
  *
  * @author Simon Kaufmann - Initial contribution
+ * @author openHAB Core Team - Record the latency of command handling
+ * @author openHAB Core Team - Stamp the command trace around the handler call
  */
 @NonNullByDefault
 public class ProfileCallbackImpl implements ProfileCallback {
@@ -55,11 +63,22 @@ public class ProfileCallbackImpl implements ProfileCallback {
     private final SafeCaller safeCaller;
     private final ItemStateConverter itemStateConverter;
     private final AcceptedTypeConverter acceptedTypeConverter;
+    private final Supplier<@Nullable LatencyRecorder> latencyRecorderSupplier;
+    private final Supplier<@Nullable CommandTrace> commandTraceSupplier;
 
     public ProfileCallbackImpl(EventPublisher eventPublisher, SafeCaller safeCaller,
             ItemStateConverter itemStateConverter, ItemChannelLink link,
             Function<ThingUID, @Nullable Thing> thingProvider, Function<String, @Nullable Item> itemProvider,
             AcceptedTypeConverter acceptedTypeConverter) {
+        this(eventPublisher, safeCaller, itemStateConverter, link, thingProvider, itemProvider, acceptedTypeConverter,
+                () -> null, () -> null);
+    }
+
+    public ProfileCallbackImpl(EventPublisher eventPublisher, SafeCaller safeCaller,
+            ItemStateConverter itemStateConverter, ItemChannelLink link,
+            Function<ThingUID, @Nullable Thing> thingProvider, Function<String, @Nullable Item> itemProvider,
+            AcceptedTypeConverter acceptedTypeConverter, Supplier<@Nullable LatencyRecorder> latencyRecorderSupplier,
+            Supplier<@Nullable CommandTrace> commandTraceSupplier) {
         this.eventPublisher = eventPublisher;
         this.safeCaller = safeCaller;
         this.itemStateConverter = itemStateConverter;
@@ -67,6 +86,8 @@ public class ProfileCallbackImpl implements ProfileCallback {
         this.thingProvider = thingProvider;
         this.itemProvider = itemProvider;
         this.acceptedTypeConverter = acceptedTypeConverter;
+        this.latencyRecorderSupplier = latencyRecorderSupplier;
+        this.commandTraceSupplier = commandTraceSupplier;
     }
 
     @Override
@@ -74,6 +95,13 @@ public class ProfileCallbackImpl implements ProfileCallback {
         return link;
     }
 
+    private <T> SafeCallerBuilder<T> withTimeout(SafeCallerBuilder<T> builder, ThingHandler handler) {
+        return builder.withTimeout(CommunicationManager.THINGHANDLER_EVENT_TIMEOUT).onTimeout(() -> {
+            logger.warn("Handler for thing '{}' takes more than {}ms for handling a command",
+                    handler.getThing().getUID(), CommunicationManager.THINGHANDLER_EVENT_TIMEOUT);
+        });
+    }
+
     @Override
     public void handleCommand(Command command) {
         Thing thing = thingProvider.apply(link.getLinkedUID().getThingUID());
@@ -87,12 +115,34 @@ public class ProfileCallbackImpl implements ProfileCallback {
                     Command convertedCommand = acceptedTypeConverter.toAcceptedCommand(command, channel,
                             itemProvider.apply(link.getItemName()));
                     if (convertedCommand != null) {
-                        safeCaller.create(handler, ThingHandler.class)
-                                .withTimeout(CommunicationManager.THINGHANDLER_EVENT_TIMEOUT).onTimeout(() -> {
-                                    logger.warn("Handler for thing '{}' takes more than {}ms for handling a command",
-                                            handler.getThing().getUID(),
-                                            CommunicationManager.THINGHANDLER_EVENT_TIMEOUT);
-                                }).build().handleCommand(link.getLinkedUID(), command);
+                        CommandTrace trace = commandTraceSupplier.get();
+                        if (trace != null) {
+                            trace.stamp(Hop.HANDLER_ENTER);
+                        }
+                        LatencyRecorder latencyRecorder = latencyRecorderSupplier.get();
+                        if (latencyRecorder == null && trace == null) {
+                            withTimeout(safeCaller.create(handler, ThingHandler.class), handler).build()
+                                    .handleCommand(link.getLinkedUID(), command);
+                        } else {
+                            // measured within the call, so that calls exceeding the timeout are recorded completely
+                            String bindingId = thing.getUID().getBindingId();
+                            Runnable timedCall = () -> {
+                                long start = System.nanoTime();
+                                try {
+                                    handler.handleCommand(link.getLinkedUID(), command);
+                                } finally {
+                                    if (latencyRecorder != null) {
+                                        latencyRecorder.record(Operation.THING_HANDLE_COMMAND, bindingId,
+                                                System.nanoTime() - start);
+                                    }
+                                    if (trace != null) {
+                                        trace.stamp(Hop.HANDLER_EXIT);
+                                    }
+                                }
+                            };
+                            withTimeout(safeCaller.create(timedCall, Runnable.class).withIdentifier(handler), handler)
+                                    .build().run();
+                        }
                     } else {
                         logger.debug(
                                 "Not delegating command '{}' for item '{}' to handler for channel '{}', "
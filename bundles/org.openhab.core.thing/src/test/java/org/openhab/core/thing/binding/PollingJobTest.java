@@ -0,0 +1,225 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.thing.binding;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.thing.Bridge;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingStatus;
+import org.openhab.core.thing.ThingStatusDetail;
+import org.openhab.core.thing.ThingTypeUID;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.binding.builder.BridgeBuilder;
+import org.openhab.core.thing.binding.builder.ThingBuilder;
+import org.openhab.core.thing.binding.builder.ThingStatusInfoBuilder;
+import org.openhab.core.types.Command;
+
+/**
+ * @author openHAB Core Team - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class PollingJobTest {
+
+    private static final ThingTypeUID THING_TYPE_UID = new ThingTypeUID("test", "test");
+    private static final ThingUID BRIDGE_UID = new ThingUID(THING_TYPE_UID, "bridge");
+    private static final Duration INTERVAL = Duration.ofSeconds(10);
+
+    private @Mock @NonNullByDefault({}) ScheduledExecutorService schedulerMock;
+    private @Mock @NonNullByDefault({}) ThingHandlerCallback callbackMock;
+
+    private final List<Runnable> scheduledRuns = new ArrayList<>();
+    private final List<Long> scheduledDelays = new ArrayList<>();
+    private long time = 1_000_000;
+
+    private @NonNullByDefault({}) Thing thing;
+    private @NonNullByDefault({}) TestThingHandler handler;
+
+    private static class TestThingHandler extends BaseThingHandler {
+        public TestThingHandler(Thing thing) {
+            super(thing);
+        }
+
+        @Override
+        public void initialize() {
+        }
+
+        @Override
+        public void handleCommand(ChannelUID channelUID, Command command) {
+        }
+    }
+
+    private static class TestBridgeHandler extends BaseBridgeHandler {
+        public TestBridgeHandler(Bridge bridge) {
+            super(bridge);
+        }
+
+        @Override
+        public void initialize() {
+        }
+
+        @Override
+        public void handleCommand(ChannelUID channelUID, Command command) {
+        }
+
+        @Override
+        protected int getMaxConcurrentChildPolls() {
+            return 1;
+        }
+    }
+
+    @BeforeEach
+    public void setup() {
+        when(schedulerMock.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS)))
+                .thenAnswer(invocation -> {
+                    scheduledRuns.add(invocation.getArgument(0));
+                    scheduledDelays.add(invocation.getArgument(1));
+                    return mock(ScheduledFuture.class);
+                });
+        thing = ThingBuilder.create(THING_TYPE_UID, "thing").withBridge(BRIDGE_UID).build();
+        setStatus(ThingStatus.ONLINE);
+        handler = new TestThingHandler(thing);
+        handler.setCallback(callbackMock);
+    }
+
+    private void setStatus(ThingStatus status) {
+        thing.setStatusInfo(ThingStatusInfoBuilder.create(status, ThingStatusDetail.NONE).build());
+    }
+
+    private PollingJob startJob(Runnable task) {
+        PollingJob job = new PollingJob(handler, task, INTERVAL, schedulerMock, () -> time);
+        job.start(Duration.ZERO);
+        return job;
+    }
+
+    private long runScheduled() {
+        long delay = scheduledDelays.get(scheduledDelays.size() - 1);
+        time += delay;
+        scheduledRuns.get(scheduledRuns.size() - 1).run();
+        return scheduledDelays.get(scheduledDelays.size() - 1);
+    }
+
+    @Test
+    public void testFirstRunIsShiftedByPhaseOfThing() {
+        startJob(() -> {
+        });
+
+        long phase = Math.floorMod(thing.getUID().hashCode(), INTERVAL.toMillis());
+        assertEquals(List.of(phase), scheduledDelays);
+    }
+
+    @Test
+    public void testRunsAtFixedRate() {
+        PollingJob job = startJob(() -> time += 2000);
+
+        assertEquals(INTERVAL.toMillis() - 2000, runScheduled());
+        assertEquals(INTERVAL.toMillis() - 2000, runScheduled());
+        assertEquals(2, job.getRunCount());
+        assertEquals(0, job.getOverrunCount());
+        assertEquals(Duration.ofSeconds(2), job.getLastRunDuration());
+    }
+
+    @Test
+    public void testOverrunSkipsMissedRuns() {
+        PollingJob job = startJob(() -> time += 25_000);
+
+        // the run took 2.5 intervals, the next run keeps the phase
+        assertEquals(5000, runScheduled());
+        assertEquals(1, job.getOverrunCount());
+    }
+
+    @Test
+    public void testBackoffWhileOffline() {
+        setStatus(ThingStatus.OFFLINE);
+        PollingJob job = startJob(() -> {
+        });
+
+        assertEquals(20_000, runScheduled());
+        assertEquals(40_000, runScheduled());
+        assertEquals(80_000, runScheduled());
+        assertEquals(160_000, runScheduled());
+        assertEquals(160_000, runScheduled());
+
+        setStatus(ThingStatus.ONLINE);
+        assertEquals(10_000, runScheduled());
+        assertEquals(6, job.getRunCount());
+    }
+
+    @Test
+    public void testExceptionDoesNotStopJob() {
+        PollingJob job = startJob(() -> {
+            throw new IllegalStateException("test");
+        });
+
+        assertEquals(10_000, runScheduled());
+        assertEquals(10_000, runScheduled());
+        assertEquals(2, job.getRunCount());
+    }
+
+    @Test
+    public void testJobIsCancelledAfterDispose() {
+        List<Long> runs = new ArrayList<>();
+        PollingJob job = startJob(() -> runs.add(time));
+
+        handler.setCallback(null);
+        runScheduled();
+
+        assertTrue(job.isCancelled());
+        assertTrue(runs.isEmpty());
+        assertEquals(1, scheduledRuns.size());
+    }
+
+    @Test
+    public void testRunIsDeferredWhileBridgeLimitIsReached() {
+        Bridge bridge = BridgeBuilder.create(THING_TYPE_UID, BRIDGE_UID).build();
+        TestBridgeHandler bridgeHandler = new TestBridgeHandler(bridge);
+        bridge.setHandler(bridgeHandler);
+        when(callbackMock.getBridge(BRIDGE_UID)).thenReturn(bridge);
+
+        List<Long> runs = new ArrayList<>();
+        PollingJob job = startJob(() -> runs.add(time));
+
+        Semaphore permits = bridgeHandler.getChildPollingPermits();
+        assertNotNull(permits);
+        assertTrue(permits.tryAcquire());
+        assertEquals(PollingJob.PERMIT_RETRY_MILLIS, runScheduled());
+        assertTrue(runs.isEmpty());
+
+        permits.release();
+        runScheduled();
+        assertEquals(1, runs.size());
+        assertEquals(1, job.getRunCount());
+        assertEquals(1, permits.availablePermits());
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.thing.internal.profiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.common.LatencyRecorder;
+import org.openhab.core.common.LatencyRecorder.Operation;
+import org.openhab.core.common.SafeCaller;
+import org.openhab.core.common.SafeCallerBuilder;
+import org.openhab.core.events.EventPublisher;
+import org.openhab.core.items.ItemStateConverter;
+import org.openhab.core.items.events.CommandTrace;
+import org.openhab.core.items.events.CommandTrace.Hop;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingStatus;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.binding.ThingHandler;
+import org.openhab.core.thing.link.ItemChannelLink;
+
+/**
+ * Tests the command handling of the {@link ProfileCallbackImpl}.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ProfileCallbackImplTest {
+
+    private static final ThingUID THING_UID = new ThingUID("binding:type:thing");
+    private static final ChannelUID CHANNEL_UID = new ChannelUID(THING_UID, "channel");
+
+    private @Mock @NonNullByDefault({}) EventPublisher eventPublisher;
+    private @Mock @NonNullByDefault({}) ItemStateConverter itemStateConverter;
+    private @Mock @NonNullByDefault({}) SafeCaller safeCaller;
+    private @Mock @NonNullByDefault({}) Thing thing;
+    private @Mock @NonNullByDefault({}) ThingHandler handler;
+    private @Mock @NonNullByDefault({}) LatencyRecorder latencyRecorder;
+
+    private final CountDownLatch handlerRelease = new CountDownLatch(1);
+    private final CountDownLatch traceCompleted = new CountDownLatch(1);
+
+    @BeforeEach
+    public void setup() {
+        when(thing.getUID()).thenReturn(THING_UID);
+        when(thing.getHandler()).thenReturn(handler);
+        when(thing.getStatus()).thenReturn(ThingStatus.ONLINE);
+        doAnswer(invocation -> handlerRelease.await(10, TimeUnit.SECONDS)).when(handler).handleCommand(any(), any());
+
+        // the safe caller gives up immediately, as if the handler exceeded the timeout
+        when(safeCaller.create(any(), any())).thenAnswer(invocation -> {
+            Object target = invocation.getArgument(0);
+            Class<?> interfaceType = invocation.getArgument(1);
+            SafeCallerBuilder<?> builder = mock(SafeCallerBuilder.class, Answers.RETURNS_SELF);
+            doReturn(Proxy.newProxyInstance(interfaceType.getClassLoader(), new Class<?>[] { interfaceType },
+                    (proxy, method, args) -> {
+                        new Thread(() -> {
+                            try {
+                                method.invoke(target, args);
+                            } catch (ReflectiveOperationException e) {
+                                throw new IllegalStateException(e);
+                            }
+                        }).start();
+                        return null;
+                    })).when(builder).build();
+            return builder;
+        });
+    }
+
+    private ProfileCallbackImpl createCallback(@Nullable LatencyRecorder latencyRecorder, CommandTrace trace) {
+        return new ProfileCallbackImpl(eventPublisher, safeCaller, itemStateConverter,
+                new ItemChannelLink("item", CHANNEL_UID), thingUID -> thing, itemName -> null,
+                (command, channel, item) -> command, () -> latencyRecorder, () -> trace);
+    }
+
+    @Test
+    public void testHandlerExitIsStampedWhenTheTimedOutHandlerReturns() throws InterruptedException {
+        CommandTrace trace = new CommandTrace("item", t -> traceCompleted.countDown());
+        ProfileCallbackImpl callback = createCallback(latencyRecorder, trace);
+
+        callback.handleCommand(OnOffType.ON);
+
+        assertTrue(trace.isStamped(Hop.HANDLER_ENTER));
+        assertFalse(trace.isStamped(Hop.HANDLER_EXIT));
+        verify(latencyRecorder, never()).record(any(), anyString(), anyLong());
+
+        handlerRelease.countDown();
+        assertTrue(traceCompleted.await(10, TimeUnit.SECONDS));
+        verify(latencyRecorder, timeout(TimeUnit.SECONDS.toMillis(10))).record(eq(Operation.THING_HANDLE_COMMAND),
+                eq("binding"), anyLong());
+    }
+
+    @Test
+    public void testHandlerExitIsStampedWithoutLatencyRecorder() throws InterruptedException {
+        CommandTrace trace = new CommandTrace("item", t -> traceCompleted.countDown());
+        ProfileCallbackImpl callback = createCallback(null, trace);
+
+        callback.handleCommand(OnOffType.ON);
+
+        assertFalse(trace.isStamped(Hop.HANDLER_EXIT));
+        handlerRelease.countDown();
+        assertTrue(traceCompleted.await(10, TimeUnit.SECONDS));
+        verify(handler).handleCommand(CHANNEL_UID, OnOffType.ON);
+    }
+}
@@ -15,6 +15,7 @@ package org.openhab.core.voice.text;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -57,6 +58,7 @@ import org.slf4j.LoggerFactory;
  * @author Kai Kreuzer - Improved error handling
  * @author Miguel Álvarez - Reduce collisions on exact match and use item synonyms
  * @author Miguel Álvarez - Reduce collisions using dialog location
+ * @author openHAB Core Team - Index rules by first token and items by label tokens
  */
 @NonNullByDefault
 public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInterpreter {
@@ -116,8 +118,9 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
     private final Logger logger = LoggerFactory.getLogger(AbstractRuleBasedInterpreter.class);
 
     private final Map<Locale, List<Rule>> languageRules = new HashMap<>();
+    private final Map<Locale, RuleIndex> ruleIndexes = new HashMap<>();
     private final Map<Locale, Set<String>> allItemTokens = new HashMap<>();
-    private final Map<Locale, Map<Item, ItemInterpretationMetadata>> itemTokens = new HashMap<>();
+    private final Map<Locale, ItemIndex> itemIndexes = new HashMap<>();
 
     private final ItemRegistry itemRegistry;
     private final EventPublisher eventPublisher;
@@ -188,8 +191,8 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
     public String interpret(Locale locale, String text, @Nullable DialogContext dialogContext)
             throws InterpretationException {
         ResourceBundle language = ResourceBundle.getBundle(LANGUAGE_SUPPORT, locale);
-        Rule[] rules = getRules(locale);
-        if (rules.length == 0) {
+        RuleIndex ruleIndex = getRuleIndex(locale);
+        if (ruleIndex.getRules().length == 0) {
             throw new InterpretationException(
                     locale.getDisplayLanguage(Locale.ENGLISH) + " is not supported at the moment.");
         }
@@ -201,7 +204,7 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
 
         InterpretationResult lastResult = null;
         String locationItem = dialogContext != null ? dialogContext.locationItem() : null;
-        for (Rule rule : rules) {
+        for (Rule rule : ruleIndex.getCandidates(tokens.head())) {
             if ((result = rule.execute(language, tokens, locationItem)).isSuccess()) {
                 return result.getResponse();
             } else {
@@ -218,8 +221,9 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
 
     private void invalidate() {
         allItemTokens.clear();
-        itemTokens.clear();
+        itemIndexes.clear();
         languageRules.clear();
+        ruleIndexes.clear();
     }
 
     /**
@@ -253,16 +257,21 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
      * @return the list of identifier token sets per item
      */
     Map<Item, ItemInterpretationMetadata> getItemTokens(Locale locale) {
-        Map<Item, ItemInterpretationMetadata> localeTokens = itemTokens.get(locale);
-        if (localeTokens == null) {
-            itemTokens.put(locale, localeTokens = new HashMap<>());
+        return getItemIndex(locale).metadata;
+    }
+
+    private ItemIndex getItemIndex(Locale locale) {
+        ItemIndex index = itemIndexes.get(locale);
+        if (index == null) {
+            Map<Item, ItemInterpretationMetadata> localeTokens = new HashMap<>();
             for (Item item : itemRegistry.getItems()) {
                 if (item.getGroupNames().isEmpty()) {
                     addItem(locale, localeTokens, new ArrayList<>(), item, new ArrayList<>());
                 }
             }
+            itemIndexes.put(locale, index = new ItemIndex(localeTokens));
         }
-        return localeTokens;
+        return index;
     }
 
     private String[] getItemSynonyms(Item item) {
@@ -342,6 +351,15 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
         return tag(VALUE, star(new ExpressionIdentifier(this, stopper)));
     }
 
+    private RuleIndex getRuleIndex(Locale locale) {
+        RuleIndex ruleIndex = ruleIndexes.get(locale);
+        if (ruleIndex == null) {
+            ruleIndex = new RuleIndex(getRules(locale));
+            ruleIndexes.put(locale, ruleIndex);
+        }
+        return ruleIndex;
+    }
+
     private @Nullable List<@NonNull Rule> getLanguageRules(@Nullable Locale locale) {
         if (!languageRules.containsKey(locale)) {
             createRules(locale);
@@ -387,6 +405,8 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
     protected void addRules(Locale locale, Rule... rules) {
         List<Rule> ruleSet = languageRules.computeIfAbsent(locale, k -> new ArrayList<>());
         ruleSet.addAll(Arrays.asList(rules));
+        // rules of the same language are shared between locales
+        ruleIndexes.clear();
     }
 
     /**
@@ -820,9 +840,11 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
      */
     protected String executeCustom(ResourceBundle language, ItemCommandSupplier itemCommandSupplier,
             Rule.InterpretationContext context) throws InterpretationException {
-        Map<Item, ItemInterpretationMetadata> itemsMap = getItemTokens(language.getLocale());
-        Set<Entry<Item, ItemInterpretationMetadata>> compatibleItemEntries = itemsMap.entrySet().stream() //
-                .filter(itemEntry -> context.itemFilter().filterItem(itemEntry.getKey(), metadataRegistry)) //
+        ItemIndex itemIndex = getItemIndex(language.getLocale());
+        Set<Entry<Item, ItemInterpretationMetadata>> compatibleItemEntries = itemIndex
+                .getCandidates(context.itemFilter(), List.of()).stream() //
+                .filter(item -> context.itemFilter().filterItem(item, metadataRegistry)) //
+                .map(item -> Map.entry(item, itemIndex.metadata.get(item))) //
                 .collect(Collectors.toSet());
         if (compatibleItemEntries.isEmpty()) {
             throw new InterpretationException(language.getString(NO_OBJECTS));
@@ -897,10 +919,15 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
         Map<Item, ItemInterpretationMetadata> itemsData = new HashMap<>();
         Map<Item, ItemInterpretationMetadata> exactMatchItemsData = new HashMap<>();
         Map<Item, ItemInterpretationMetadata> exactMatchOnTargetItemsData = new HashMap<>();
-        Map<Item, ItemInterpretationMetadata> map = getItemTokens(language.getLocale());
-        for (Entry<Item, ItemInterpretationMetadata> entry : map.entrySet()) {
-            Item item = entry.getKey();
-            ItemInterpretationMetadata interpretationMetadata = entry.getValue();
+        ItemIndex itemIndex = getItemIndex(language.getLocale());
+        List<String> lowercaseLabelFragments = Arrays.stream(labelFragments)
+                .map(lf -> lf.toLowerCase(language.getLocale())).toList();
+        // only items having all the fragments among their label tokens can match
+        for (Item item : itemIndex.getCandidates(context.itemFilter(), lowercaseLabelFragments)) {
+            ItemInterpretationMetadata interpretationMetadata = itemIndex.metadata.get(item);
+            if (interpretationMetadata == null) {
+                continue;
+            }
             if (!context.itemFilter().filterItem(item, metadataRegistry)) {
                 logger.trace("Item {} discarded, not allowed for this rule", item.getName());
                 continue;
@@ -909,8 +936,6 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
                 boolean exactMatch = false;
                 boolean exactMatchOnTarget = false;
                 logger.trace("Checking tokens {} against the item tokens {}", labelFragments, itemLabelFragmentsPath);
-                List<String> lowercaseLabelFragments = Arrays.stream(labelFragments)
-                        .map(lf -> lf.toLowerCase(language.getLocale())).toList();
                 List<String> unmatchedFragments = new ArrayList<>(lowercaseLabelFragments);
                 if (itemLabelFragmentsPath.get(itemLabelFragmentsPath.size() - 1).equals(lowercaseLabelFragments)) {
                     exactMatch = true;
@@ -1495,6 +1520,53 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
         }
     }
 
+    /**
+     * The interpretation metadata of all items, indexed by item name and by the tokens of their label paths.
+     */
+    private static class ItemIndex {
+        final Map<Item, ItemInterpretationMetadata> metadata;
+        final Map<String, Item> itemsByName = new HashMap<>();
+        final Map<String, Set<Item>> itemsByToken = new HashMap<>();
+
+        ItemIndex(Map<Item, ItemInterpretationMetadata> metadata) {
+            this.metadata = metadata;
+            metadata.forEach((item, itemMetadata) -> {
+                itemsByName.put(item.getName(), item);
+                for (List<List<String>> path : itemMetadata.pathToItem) {
+                    for (List<String> labelTokens : path) {
+                        for (String token : labelTokens) {
+                            itemsByToken.computeIfAbsent(token, t -> new HashSet<>()).add(item);
+                        }
+                    }
+                }
+            });
+        }
+
+        /**
+         * Returns a superset of the items allowed by the filter whose label paths contain all the given tokens.
+         */
+        Collection<Item> getCandidates(ItemFilter itemFilter, List<String> tokens) {
+            if (!itemFilter.itemNames().isEmpty()) {
+                List<Item> items = new ArrayList<>();
+                for (String itemName : itemFilter.itemNames()) {
+                    Item item = itemsByName.get(itemName);
+                    if (item != null) {
+                        items.add(item);
+                    }
+                }
+                return items;
+            }
+            Collection<Item> candidates = metadata.keySet();
+            for (String token : tokens) {
+                Set<Item> items = itemsByToken.getOrDefault(token, Set.of());
+                if (items.size() < candidates.size()) {
+                    candidates = items;
+                }
+            }
+            return candidates;
+        }
+    }
+
     protected interface ItemCommandSupplier {
         @Nullable
         Command getItemCommand(Item item);
@@ -21,9 +21,20 @@ import java.util.Set;
  * Base class for all expressions.
  *
  * @author Tilman Kamp - Initial contribution
+ * @author openHAB Core Team - Added the first tokens for the rule index
  */
 public abstract class Expression {
 
+    /**
+     * The tokens an input can start with to be matched by an expression.
+     *
+     * @param tokens the possible first tokens
+     * @param any whether the expression can also match inputs starting with any other token
+     * @param empty whether the expression can match without consuming any token
+     */
+    record FirstTokens(Set<String> tokens, boolean any, boolean empty) {
+    }
+
     Expression() {
     }
 
@@ -38,6 +49,15 @@ public abstract class Expression {
 
     abstract boolean collectFirsts(ResourceBundle language, Set<String> firsts);
 
+    /**
+     * Returns the tokens an input can start with to be matched by this expression. In contrast to
+     * {@link #collectFirsts(ResourceBundle, Set)} this does not depend on the language or on the current item tokens,
+     * so the result can be used to index the rules of an interpreter.
+     *
+     * @return the possible first tokens
+     */
+    abstract FirstTokens getFirstTokens();
+
     Set<String> getFirsts(ResourceBundle language) {
         Set<String> firsts = new HashSet<>();
         collectFirsts(language, firsts);
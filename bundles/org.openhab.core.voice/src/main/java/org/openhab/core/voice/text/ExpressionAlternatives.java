@@ -13,6 +13,7 @@
 package org.openhab.core.voice.text;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.ResourceBundle;
 import java.util.Set;
@@ -21,6 +22,7 @@ import java.util.Set;
  * Expression that successfully parses, if one of the given alternative expressions matches. This class is immutable.
  *
  * @author Tilman Kamp - Initial contribution
+ * @author openHAB Core Team - Added the first tokens for the rule index
  */
 final class ExpressionAlternatives extends Expression {
 
@@ -67,6 +69,20 @@ final class ExpressionAlternatives extends Expression {
         return blocking;
     }
 
+    @Override
+    FirstTokens getFirstTokens() {
+        Set<String> tokens = new HashSet<>();
+        boolean any = false;
+        boolean empty = false;
+        for (Expression e : subExpressions) {
+            FirstTokens first = e.getFirstTokens();
+            tokens.addAll(first.tokens());
+            any |= first.any();
+            empty |= first.empty();
+        }
+        return new FirstTokens(tokens, any, empty);
+    }
+
     @Override
     public String toString() {
         String s = null;
@@ -22,6 +22,7 @@ import java.util.Set;
  * is immutable.
  *
  * @author Tilman Kamp - Initial contribution
+ * @author openHAB Core Team - Added the first tokens for the rule index
  */
 public final class ExpressionCardinality extends Expression {
 
@@ -76,6 +77,12 @@ public final class ExpressionCardinality extends Expression {
         return subExpression.collectFirsts(language, firsts) || atLeastOne;
     }
 
+    @Override
+    FirstTokens getFirstTokens() {
+        FirstTokens first = subExpression.getFirstTokens();
+        return new FirstTokens(first.tokens(), first.any(), first.empty() || !atLeastOne);
+    }
+
     @Override
     public String toString() {
         return "cardinal(" + atLeastOne + ", " + atMostOne + "' " + subExpression.toString() + ")";
@@ -20,6 +20,7 @@ import java.util.Set;
  * Expression that successfully parses, if a thing identifier token is found. This class is immutable.
  *
  * @author Tilman Kamp - Initial contribution
+ * @author openHAB Core Team - Added the first tokens for the rule index
  */
 public final class ExpressionIdentifier extends Expression {
 
@@ -70,6 +71,12 @@ public final class ExpressionIdentifier extends Expression {
         return true;
     }
 
+    @Override
+    FirstTokens getFirstTokens() {
+        // item names are not known in advance, so any token is accepted
+        return new FirstTokens(Set.of(), true, false);
+    }
+
     @Override
     public String toString() {
         return "identifier(stop=" + stopper + ")";
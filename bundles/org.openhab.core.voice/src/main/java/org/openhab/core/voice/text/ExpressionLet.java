@@ -21,6 +21,7 @@ import java.util.Set;
  * This class is immutable.
  *
  * @author Tilman Kamp - Initial contribution
+ * @author openHAB Core Team - Added the first tokens for the rule index
  */
 public final class ExpressionLet extends Expression {
 
@@ -96,6 +97,11 @@ public final class ExpressionLet extends Expression {
         return subExpression.collectFirsts(language, firsts);
     }
 
+    @Override
+    FirstTokens getFirstTokens() {
+        return subExpression.getFirstTokens();
+    }
+
     @Override
     public String toString() {
         return "let(\"" + name + "\", " + subExpression.toString() + ", \"" + value + "\", \"" + tag + "\")";
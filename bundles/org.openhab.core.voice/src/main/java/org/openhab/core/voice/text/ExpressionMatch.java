@@ -19,6 +19,7 @@ import java.util.Set;
  * Expression that successfully parses, if a given string constant is found. This class is immutable.
  *
  * @author Tilman Kamp - Initial contribution
+ * @author openHAB Core Team - Added the first tokens for the rule index
  */
 public final class ExpressionMatch extends Expression {
 
@@ -53,6 +54,11 @@ public final class ExpressionMatch extends Expression {
         return true;
     }
 
+    @Override
+    FirstTokens getFirstTokens() {
+        return new FirstTokens(Set.of(pattern), false, false);
+    }
+
     @Override
     public String toString() {
         return "match(\"" + pattern + "\")";
@@ -13,6 +13,7 @@
 package org.openhab.core.voice.text;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.ResourceBundle;
 import java.util.Set;
@@ -21,6 +22,7 @@ import java.util.Set;
  * Expression that successfully parses, if a sequence of given expressions is matching. This class is immutable.
  *
  * @author Tilman Kamp - Initial contribution
+ * @author openHAB Core Team - Added the first tokens for the rule index
  */
 public final class ExpressionSequence extends Expression {
 
@@ -77,6 +79,21 @@ public final class ExpressionSequence extends Expression {
         return blocking;
     }
 
+    @Override
+    FirstTokens getFirstTokens() {
+        Set<String> tokens = new HashSet<>();
+        boolean any = false;
+        for (Expression e : subExpressions) {
+            FirstTokens first = e.getFirstTokens();
+            tokens.addAll(first.tokens());
+            any |= first.any();
+            if (!first.empty()) {
+                return new FirstTokens(tokens, any, false);
+            }
+        }
+        return new FirstTokens(tokens, any, true);
+    }
+
     @Override
     public String toString() {
         String s = null;
@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.voice.text;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.voice.text.Expression.FirstTokens;
+
+/**
+ * Index of the {@link Rule}s of an interpreter by the first token of the input they can match.
+ *
+ * Most rules start with a fixed set of words (e.g. "turn" or "switch"), so only a few of them have to be parsed for a
+ * given input. Rules which can start with any token (e.g. with an item name) are candidates for every input. The
+ * candidates keep the order of the rules, so the match priority is not changed.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+final class RuleIndex {
+
+    private final Rule[] rules;
+    private final Map<String, Rule[]> rulesByFirstToken = new HashMap<>();
+    private final Rule[] unrestrictedRules;
+
+    /**
+     * Creates the index.
+     *
+     * @param rules rules in descending match priority order
+     */
+    RuleIndex(Rule[] rules) {
+        this.rules = rules;
+        List<@Nullable Set<String>> firstTokens = new ArrayList<>(rules.length);
+        Set<String> allFirstTokens = new HashSet<>();
+        List<Rule> unrestricted = new ArrayList<>();
+        for (Rule rule : rules) {
+            FirstTokens first = rule.getExpression().getFirstTokens();
+            if (first.any() || first.empty()) {
+                firstTokens.add(null);
+                unrestricted.add(rule);
+            } else {
+                firstTokens.add(first.tokens());
+                allFirstTokens.addAll(first.tokens());
+            }
+        }
+        unrestrictedRules = unrestricted.toArray(new Rule[0]);
+        for (String token : allFirstTokens) {
+            List<Rule> candidates = new ArrayList<>();
+            for (int i = 0; i < rules.length; i++) {
+                Set<String> tokens = firstTokens.get(i);
+                if (tokens == null || tokens.contains(token)) {
+                    candidates.add(rules[i]);
+                }
+            }
+            rulesByFirstToken.put(token, candidates.toArray(new Rule[0]));
+        }
+    }
+
+    /**
+     * @return all rules in descending match priority order
+     */
+    Rule[] getRules() {
+        return rules;
+    }
+
+    /**
+     * Returns the rules that can match an input starting with the given token.
+     *
+     * @param firstToken the first token of the input
+     * @return candidate rules in descending match priority order
+     */
+    Rule[] getCandidates(@Nullable String firstToken) {
+        Rule[] candidates = firstToken == null ? null : rulesByFirstToken.get(firstToken);
+        return candidates != null ? candidates : unrestrictedRules;
+    }
+}
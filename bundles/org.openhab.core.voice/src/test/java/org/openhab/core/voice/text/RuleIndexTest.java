@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.voice.text;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ResourceBundle;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+public class RuleIndexTest {
+
+    private static Rule rule(Expression expression) {
+        return new Rule(expression, AbstractRuleBasedInterpreter.ItemFilter.all(), false, false) {
+            @Override
+            public InterpretationResult interpretAST(ResourceBundle language, ASTNode node,
+                    InterpretationContext context) {
+                return InterpretationResult.SEMANTIC_ERROR;
+            }
+        };
+    }
+
+    private static Expression match(String pattern) {
+        return new ExpressionMatch(pattern);
+    }
+
+    @Test
+    public void testRulesAreIndexedByFirstToken() {
+        Rule turn = rule(new ExpressionSequence(match("turn"), match("on")));
+        Rule switchOrSet = rule(new ExpressionSequence(new ExpressionAlternatives(match("switch"), match("set")),
+                match("off")));
+        Rule optionalPrefix = rule(new ExpressionSequence(new ExpressionCardinality(match("please"), false, true),
+                match("turn"), match("off")));
+        RuleIndex index = new RuleIndex(new Rule[] { turn, switchOrSet, optionalPrefix });
+
+        assertArrayEquals(new Rule[] { turn, optionalPrefix }, index.getCandidates("turn"));
+        assertArrayEquals(new Rule[] { switchOrSet }, index.getCandidates("set"));
+        assertArrayEquals(new Rule[] { optionalPrefix }, index.getCandidates("please"));
+        assertArrayEquals(new Rule[0], index.getCandidates("off"));
+        assertArrayEquals(new Rule[0], index.getCandidates(null));
+    }
+
+    @Test
+    public void testUnrestrictedRulesAreAlwaysCandidates() {
+        Rule turn = rule(new ExpressionSequence(match("turn"), match("on")));
+        Rule identifier = rule(new ExpressionSequence(new ExpressionIdentifier(null), match("on")));
+        Rule optional = rule(new ExpressionCardinality(match("maybe"), false, false));
+        Rule let = rule(new ExpressionLet("cmd", match("stop")));
+        RuleIndex index = new RuleIndex(new Rule[] { identifier, turn, optional, let });
+
+        assertArrayEquals(new Rule[] { identifier, turn, optional }, index.getCandidates("turn"));
+        assertArrayEquals(new Rule[] { identifier, optional, let }, index.getCandidates("stop"));
+        assertArrayEquals(new Rule[] { identifier, optional }, index.getCandidates("other"));
+        assertEquals(4, index.getRules().length);
+    }
+}
@@ -14,10 +14,18 @@ package org.openhab.core.cache;
 
 import java.lang.ref.SoftReference;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * This is a simple expiring and reloading cache implementation.
@@ -25,18 +33,34 @@ import org.eclipse.jdt.annotation.Nullable;
  * There must be provided an action in order to retrieve/calculate the value. This action will be called only if the
  * answer from the last calculation is not valid anymore, i.e. if it is expired.
  *
+ * By default, {@link #getValue()} blocks while the action is called. A cache created with a refresh-ahead duration
+ * instead serves the stale value while a single refresh runs in the background. Callers only wait if there is no
+ * value at all, and then share the result of a single call of the action.
+ *
  * @author Christoph Weitkamp - Initial contribution
  * @author Martin van Wingerden - Add Duration constructor
+ * @author openHAB Core Team - Add stale-while-revalidate mode
  *
  * @param <V> the type of the value
  */
 @NonNullByDefault
 public class ExpiringCache<V> {
+
+    /**
+     * The name of the shared thread pool the background refreshes run on, if no executor is given.
+     */
+    public static final String THREAD_POOL_NAME = "cache";
+
+    private final Logger logger = LoggerFactory.getLogger(ExpiringCache.class);
+
     private final long expiry;
     private final Supplier<@Nullable V> action;
+    private final long refreshAhead;
+    private final @Nullable Executor executor;
+    private final AtomicReference<@Nullable CompletableFuture<@Nullable V>> runningRefresh = new AtomicReference<>();
 
-    private SoftReference<@Nullable V> value = new SoftReference<>(null);
-    private long expiresAt;
+    private volatile SoftReference<@Nullable V> value = new SoftReference<>(null);
+    private volatile long expiresAt;
 
     /**
      * Create a new instance.
@@ -51,6 +75,45 @@ public class ExpiringCache<V> {
         }
         this.expiry = expiry.toNanos();
         this.action = action;
+        this.refreshAhead = 0;
+        this.executor = null;
+    }
+
+    /**
+     * Create a new instance, which serves the stale value while the value is refreshed in the background.
+     *
+     * @param expiry the duration for how long the value stays valid
+     * @param action the action to retrieve/calculate the value
+     * @param refreshAhead the duration before the expiry, in which a background refresh is already started, or
+     *            {@link Duration#ZERO} to refresh only expired values
+     * @param executor the executor the background refreshes run on
+     * @throws IllegalArgumentException For an expire {@code value <=0} or a negative refresh-ahead duration.
+     */
+    public ExpiringCache(Duration expiry, Supplier<@Nullable V> action, Duration refreshAhead, Executor executor) {
+        if (expiry.isNegative() || expiry.isZero()) {
+            throw new IllegalArgumentException("Cache expire time must be greater than 0");
+        }
+        if (refreshAhead.isNegative()) {
+            throw new IllegalArgumentException("Cache refresh-ahead time must not be negative");
+        }
+        this.expiry = expiry.toNanos();
+        this.action = action;
+        this.refreshAhead = Math.min(refreshAhead.toNanos(), this.expiry);
+        this.executor = executor;
+    }
+
+    /**
+     * Create a new instance, which serves the stale value while the value is refreshed in the background on the
+     * shared {@value #THREAD_POOL_NAME} thread pool.
+     *
+     * @param expiry the duration for how long the value stays valid
+     * @param action the action to retrieve/calculate the value
+     * @param refreshAhead the duration before the expiry, in which a background refresh is already started, or
+     *            {@link Duration#ZERO} to refresh only expired values
+     * @throws IllegalArgumentException For an expire {@code value <=0} or a negative refresh-ahead duration.
+     */
+    public ExpiringCache(Duration expiry, Supplier<@Nullable V> action, Duration refreshAhead) {
+        this(expiry, action, refreshAhead, ThreadPoolManager.getPool(THREAD_POOL_NAME));
     }
 
     /**
@@ -65,15 +128,84 @@ public class ExpiringCache<V> {
 
     /**
      * Returns the value - possibly from the cache, if it is still valid.
+     *
+     * <p>
+     * In stale-while-revalidate mode, an expired value is returned as well and refreshed in the background.
      */
-    public synchronized @Nullable V getValue() {
+    public @Nullable V getValue() {
+        Executor executor = this.executor;
+        if (executor == null) {
+            synchronized (this) {
+                V cachedValue = value.get();
+                if (cachedValue == null || isExpired()) {
+                    return refreshValue();
+                }
+                return cachedValue;
+            }
+        }
+
         V cachedValue = value.get();
-        if (cachedValue == null || isExpired()) {
-            return refreshValue();
+        if (cachedValue == null) {
+            return loadValue();
+        }
+        if (expiresAt - refreshAhead < System.nanoTime()) {
+            refreshInBackground(executor);
         }
         return cachedValue;
     }
 
+    /**
+     * Loads the value if there is none, waiting for a refresh which is already running.
+     */
+    private @Nullable V loadValue() {
+        CompletableFuture<@Nullable V> refresh = new CompletableFuture<>();
+        CompletableFuture<@Nullable V> running = runningRefresh.compareAndExchange(null, refresh);
+        if (running == null) {
+            return refresh(refresh);
+        }
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void refreshInBackground(Executor executor) {
+        CompletableFuture<@Nullable V> refresh = new CompletableFuture<>();
+        if (runningRefresh.compareAndSet(null, refresh)) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        refresh(refresh);
+                    } catch (RuntimeException e) {
+                        logger.debug("Refreshing the cached value failed, keeping the stale value: {}",
+                                e.getMessage());
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                runningRefresh.set(null);
+                refresh.completeExceptionally(e);
+            }
+        }
+    }
+
+    private @Nullable V refresh(CompletableFuture<@Nullable V> refresh) {
+        try {
+            V freshValue = action.get();
+            putValue(freshValue);
+            runningRefresh.set(null);
+            refresh.complete(freshValue);
+            return freshValue;
+        } catch (RuntimeException | Error e) {
+            runningRefresh.set(null);
+            refresh.completeExceptionally(e);
+            throw e;
+        }
+    }
+
     /**
      * Puts a new value into the cache.
      *
@@ -13,16 +13,24 @@
 package org.openhab.core.cache;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,8 +38,14 @@ import org.slf4j.LoggerFactory;
  * This is a simple expiring and reloading multiple key-value-pair cache implementation. The value expires after the
  * specified duration has passed since the item was created, or the most recent replacement of the value.
  *
+ * If the cache map is created with a refresh-ahead duration, the actions are added as {@link ExpiringCache}s in
+ * stale-while-revalidate mode, i.e. expired values are served while they are refreshed in the background, and
+ * {@link #refreshAll()} refreshes the values in parallel. Otherwise, the values are retrieved one after another while
+ * holding the lock of the cache map, so the actions are never called concurrently by the cache map.
+ *
  * @author Christoph Weitkamp - Initial contribution
  * @author Martin van Wingerden - Added constructor accepting Duration and putIfAbsentAndGet
+ * @author openHAB Core Team - Added stale-while-revalidate mode and parallel refresh
  *
  * @param <K> the type of the key
  * @param <V> the type of the value
@@ -42,6 +56,9 @@ public class ExpiringCacheMap<K, V> {
     private final Logger logger = LoggerFactory.getLogger(ExpiringCacheMap.class);
 
     private final long expiry;
+    private final @Nullable Duration refreshAhead;
+    // only set in stale-while-revalidate mode
+    private final @Nullable Executor executor;
     private final ConcurrentMap<K, ExpiringCache<@Nullable V>> items;
 
     /**
@@ -60,9 +77,62 @@ public class ExpiringCacheMap<K, V> {
      */
     public ExpiringCacheMap(long expiry) {
         this.expiry = expiry;
+        this.refreshAhead = null;
+        this.executor = null;
         this.items = new ConcurrentHashMap<>();
     }
 
+    /**
+     * Creates a new instance, which serves stale values while they are refreshed in the background.
+     *
+     * @param expiry the duration for how long the value stays valid
+     * @param refreshAhead the duration before the expiry, in which a background refresh is already started, or
+     *            {@link Duration#ZERO} to refresh only expired values
+     * @param executor the executor the refreshes run on
+     * @throws IllegalArgumentException For a negative refresh-ahead duration.
+     */
+    public ExpiringCacheMap(Duration expiry, Duration refreshAhead, Executor executor) {
+        if (refreshAhead.isNegative()) {
+            throw new IllegalArgumentException("Cache refresh-ahead time must not be negative");
+        }
+        this.expiry = expiry.toMillis();
+        this.refreshAhead = refreshAhead;
+        this.executor = executor;
+        this.items = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Creates a new instance, which serves stale values while they are refreshed in the background on the shared
+     * {@value ExpiringCache#THREAD_POOL_NAME} thread pool.
+     *
+     * @param expiry the duration for how long the value stays valid
+     * @param refreshAhead the duration before the expiry, in which a background refresh is already started, or
+     *            {@link Duration#ZERO} to refresh only expired values
+     * @throws IllegalArgumentException For a negative refresh-ahead duration.
+     */
+    public ExpiringCacheMap(Duration expiry, Duration refreshAhead) {
+        this(expiry, refreshAhead, ThreadPoolManager.getPool(ExpiringCache.THREAD_POOL_NAME));
+    }
+
+    private <T> ExpiringCache<T> createCache(Supplier<T> action) {
+        Duration refreshAhead = this.refreshAhead;
+        Executor executor = this.executor;
+        return refreshAhead == null || executor == null ? new ExpiringCache<>(expiry, action)
+                : new ExpiringCache<>(Duration.ofMillis(expiry), action, refreshAhead, executor);
+    }
+
+    /**
+     * Calls the given action while holding the lock of the cache map, unless it is in stale-while-revalidate mode.
+     */
+    private <T> T withLock(Supplier<T> action) {
+        if (executor != null) {
+            return action.get();
+        }
+        synchronized (this) {
+            return action.get();
+        }
+    }
+
     /**
      * Creates an {@link ExpiringCache} and adds it to the cache.
      *
@@ -70,7 +140,7 @@ public class ExpiringCacheMap<K, V> {
      * @param action the action for the item to be associated with the specified key to retrieve/calculate the value
      */
     public void put(K key, Supplier<@Nullable V> action) {
-        put(key, new ExpiringCache<>(expiry, action));
+        put(key, createCache(action));
     }
 
     /**
@@ -109,7 +179,7 @@ public class ExpiringCacheMap<K, V> {
      * @return the (cached) value for the specified key
      */
     public @Nullable V putIfAbsentAndGet(K key, Supplier<V> action) {
-        return putIfAbsentAndGet(key, new ExpiringCache<>(expiry, action));
+        return putIfAbsentAndGet(key, createCache(action));
     }
 
     /**
@@ -200,12 +270,14 @@ public class ExpiringCacheMap<K, V> {
      *
      * @return the collection of all values
      */
-    public synchronized Collection<@Nullable V> values() {
-        final Collection<@Nullable V> values = new LinkedList<>();
-        for (final ExpiringCache<@Nullable V> item : items.values()) {
-            values.add(item.getValue());
-        }
-        return values;
+    public Collection<@Nullable V> values() {
+        return withLock(() -> {
+            final Collection<@Nullable V> values = new LinkedList<>();
+            for (final ExpiringCache<@Nullable V> item : items.values()) {
+                values.add(item.getValue());
+            }
+            return values;
+        });
     }
 
     /**
@@ -237,26 +309,92 @@ public class ExpiringCacheMap<K, V> {
      * @return the value associated with the given key, or null if there is no cached value for the given key
      */
     @SuppressWarnings({ "null", "unused" })
-    public synchronized @Nullable V refresh(K key) {
-        final ExpiringCache<@Nullable V> item = items.get(key);
-        if (item == null) {
-            logger.debug("No item for key '{}' found", key);
-            return null;
-        } else {
-            return item.refreshValue();
-        }
+    public @Nullable V refresh(K key) {
+        return withLock(() -> {
+            final ExpiringCache<@Nullable V> item = items.get(key);
+            if (item == null) {
+                logger.debug("No item for key '{}' found", key);
+                return null;
+            } else {
+                return item.refreshValue();
+            }
+        });
     }
 
     /**
      * Refreshes and returns a collection of all new values in the cache.
      *
+     * <p>
+     * In stale-while-revalidate mode, the values are refreshed in parallel. The calling thread refreshes the values
+     * itself, which have not been started by the executor yet, so it never waits for queued refreshes.
+     *
      * @return the collection of all values
      */
-    public synchronized Collection<@Nullable V> refreshAll() {
-        final Collection<@Nullable V> values = new LinkedList<>();
+    public Collection<@Nullable V> refreshAll() {
+        Executor executor = this.executor;
+        if (executor == null) {
+            synchronized (this) {
+                final Collection<@Nullable V> values = new LinkedList<>();
+                for (final ExpiringCache<@Nullable V> item : items.values()) {
+                    values.add(item.refreshValue());
+                }
+                return values;
+            }
+        }
+
+        final List<RefreshTask<@Nullable V>> tasks = new ArrayList<>();
         for (final ExpiringCache<@Nullable V> item : items.values()) {
-            values.add(item.refreshValue());
+            tasks.add(new RefreshTask<>(item));
+        }
+        if (tasks.isEmpty()) {
+            return new LinkedList<>();
+        }
+        // the last value is refreshed by the calling thread
+        for (int i = 0; i < tasks.size() - 1; i++) {
+            try {
+                executor.execute(tasks.get(i));
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+        tasks.get(tasks.size() - 1).run();
+        final Collection<@Nullable V> values = new LinkedList<>();
+        for (final RefreshTask<@Nullable V> task : tasks) {
+            values.add(task.join());
         }
         return values;
     }
+
+    private static class RefreshTask<V> implements Runnable {
+        private final ExpiringCache<V> item;
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+
+        RefreshTask(ExpiringCache<V> item) {
+            this.item = item;
+        }
+
+        @Override
+        public void run() {
+            if (started.compareAndSet(false, true)) {
+                try {
+                    result.complete(item.refreshValue());
+                } catch (RuntimeException | Error e) {
+                    result.completeExceptionally(e);
+                }
+            }
+        }
+
+        V join() {
+            run();
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
 }
@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.common;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A {@link LatencyRecorder} is notified about the duration of frequent core operations, e.g. to provide them as
+ * metrics. The core services only measure durations if a {@link LatencyRecorder} service is registered.
+ * <p>
+ * Implementations are called on hot paths of the event bus and must return quickly and must not block.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+public interface LatencyRecorder {
+
+    /**
+     * The measured operations and the meaning of their tag.
+     */
+    enum Operation {
+        /** The time an event waited in the queue of an event subscriber, tagged with the subscriber class. */
+        EVENT_QUEUE_WAIT,
+        /** The creation of an event by its event factory, tagged with the event type. */
+        EVENT_DESERIALIZATION,
+        /** The handling of an event by an event subscriber, tagged with the subscriber class. */
+        EVENT_DISPATCH,
+        /** The handling of a command by a thing handler, tagged with the binding id. */
+        THING_HANDLE_COMMAND,
+        /** The storage of an item state by a persistence service, tagged with the service id. */
+        PERSISTENCE_STORE,
+        /** The run of a rule, tagged with the rule UID. */
+        RULE_RUN
+    }
+
+    /**
+     * Records the duration of an operation.
+     *
+     * @param operation the measured operation
+     * @param tag the tag of the operation, see {@link Operation}
+     * @param durationNanos the duration in nanoseconds
+     */
+    void record(Operation operation, String tag, long durationNanos);
+}
@@ -12,7 +12,12 @@
  */
 package org.openhab.core.common.registry;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 
 import org.eclipse.jdt.annotation.NonNull;
@@ -34,6 +39,7 @@ import org.slf4j.LoggerFactory;
  * {@link DefaultAbstractManagedProvider} can be used as base class.
  *
  * @author Dennis Nobel - Initial contribution
+ * @author openHAB Core Team - Added bulk operations
  *
  * @param <E>
  *            type of the element
@@ -67,6 +73,35 @@ public abstract class AbstractManagedProvider<@NonNull E extends Identifiable<K>
         logger.debug("Added new element {} to {}.", keyAsString, this.getClass().getSimpleName());
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The elements are stored with a single storage commit and the listeners are notified once. No element is added
+     * if one of them already exists.
+     *
+     * @throws IllegalArgumentException if an element with the same UID already exists or is added twice
+     */
+    @Override
+    public void addAll(Collection<E> elements) {
+        Map<String, PE> persistableElements = new LinkedHashMap<>();
+        for (E element : elements) {
+            String keyAsString = getKeyAsString(element);
+            if (storage.get(keyAsString) != null || persistableElements.containsKey(keyAsString)) {
+                throw new IllegalArgumentException(
+                        "Cannot add elements, because an element with same UID (" + keyAsString + ") already exists.");
+            }
+            persistableElements.put(keyAsString, toPersistableElement(element));
+        }
+        if (persistableElements.isEmpty()) {
+            return;
+        }
+
+        storage.putAll(persistableElements);
+        notifyListenersAboutAddedElements(List.copyOf(elements));
+        logger.debug("Added {} new elements to {}.", persistableElements.size(), this.getClass().getSimpleName());
+    }
+
     @Override
     public Collection<E> getAll() {
         return (Collection<E>) storage.getKeys().stream().map(this::getElement).filter(Objects::nonNull).toList();
@@ -125,6 +160,79 @@ public abstract class AbstractManagedProvider<@NonNull E extends Identifiable<K>
         return null;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The elements are stored with a single storage commit and the listeners are notified once. If an element is
+     * contained more than once, the last one is stored.
+     */
+    @Override
+    public Collection<E> updateAll(Collection<E> elements) {
+        Map<String, E> updatedElements = new LinkedHashMap<>();
+        for (E element : elements) {
+            String key = getKeyAsString(element);
+            if (storage.get(key) != null) {
+                updatedElements.put(key, element);
+            } else {
+                logger.warn("Could not update element with key {} in {}, because it does not exist.", key,
+                        this.getClass().getSimpleName());
+            }
+        }
+        if (updatedElements.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, PE> persistableElements = new LinkedHashMap<>();
+        updatedElements.forEach((key, element) -> persistableElements.put(key, toPersistableElement(element)));
+        Map<String, PE> previousElements = storage.putAll(persistableElements);
+
+        List<E> oldElements = new ArrayList<>();
+        List<Entry<E, E>> changes = new ArrayList<>();
+        updatedElements.forEach((key, element) -> {
+            PE persistableElement = previousElements.get(key);
+            @Nullable
+            E oldElement = persistableElement != null ? toElement(key, persistableElement) : null;
+            if (oldElement == null) {
+                oldElement = element;
+            }
+            oldElements.add(oldElement);
+            changes.add(Map.entry(oldElement, element));
+        });
+        notifyListenersAboutUpdatedElements(changes);
+        logger.debug("Updated {} elements in {}.", changes.size(), this.getClass().getSimpleName());
+        return oldElements;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The elements are removed with a single storage commit and the listeners are notified once.
+     */
+    @Override
+    public Collection<E> removeAll(Collection<K> keys) {
+        List<String> keysAsString = keys.stream().map(this::keyToString).distinct().toList();
+        Map<String, PE> persistableElements = storage.removeAll(keysAsString);
+
+        List<E> removedElements = new ArrayList<>();
+        for (String keyAsString : keysAsString) {
+            PE persistableElement = persistableElements.get(keyAsString);
+            if (persistableElement != null) {
+                @Nullable
+                E element = toElement(keyAsString, persistableElement);
+                if (element != null) {
+                    removedElements.add(element);
+                }
+            }
+        }
+        if (!removedElements.isEmpty()) {
+            notifyListenersAboutRemovedElements(removedElements);
+            logger.debug("Removed {} elements from {}.", removedElements.size(), this.getClass().getSimpleName());
+        }
+        return removedElements;
+    }
+
     private String getKeyAsString(E element) {
         return keyToString(element.getUID());
     }
@@ -12,8 +12,11 @@
  */
 package org.openhab.core.common.registry;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map.Entry;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -26,6 +29,7 @@ import org.slf4j.LoggerFactory;
  * and notification of listeners.
  *
  * @author Dennis Nobel - Initial contribution
+ * @author openHAB Core Team - Added bulk notifications
  *
  * @param <E>
  *            type of the provided elements
@@ -90,4 +94,30 @@ public abstract class AbstractProvider<@NonNull E> implements Provider<E> {
     protected void notifyListenersAboutUpdatedElement(E oldElement, E element) {
         notifyListeners(oldElement, element, EventType.UPDATED);
     }
+
+    private void notifyListenersInBulk(EventType eventType, Consumer<ProviderChangeListener<E>> notification) {
+        for (ProviderChangeListener<E> listener : this.listeners) {
+            try {
+                notification.accept(listener);
+            } catch (Exception ex) {
+                logger.error("Could not inform the listener '{}' about the '{}' events!: {}", listener,
+                        eventType.name(), ex.getMessage(), ex);
+            }
+        }
+    }
+
+    protected void notifyListenersAboutAddedElements(Collection<E> elements) {
+        notifyListenersInBulk(EventType.ADDED, listener -> listener.addedAll(this, elements));
+    }
+
+    protected void notifyListenersAboutRemovedElements(Collection<E> elements) {
+        notifyListenersInBulk(EventType.REMOVED, listener -> listener.removedAll(this, elements));
+    }
+
+    /**
+     * @param elements the updated elements, each mapped from the old element to the updated element
+     */
+    protected void notifyListenersAboutUpdatedElements(Collection<Entry<E, E>> elements) {
+        notifyListenersInBulk(EventType.UPDATED, listener -> listener.updatedAll(this, elements));
+    }
 }
@@ -12,15 +12,22 @@
  */
 package org.openhab.core.common.registry;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiConsumer;
@@ -51,6 +58,9 @@ import org.slf4j.LoggerFactory;
  * @author Hilbrand Bouwkamp - Made protected fields private and added new methods to give access.
  * @author Markus Rathgeb - Use separate collections to improve performance
  * @author Chris Jackson - Ensure managed provider is only unset by current provider
+ * @author openHAB Core Team - Track revisions of the registry content
+ * @author openHAB Core Team - Lock-free reads from snapshots, keyed provider elements
+ * @author openHAB Core Team - Added bulk operations
  *
  * @param <E> type of the element
  * @param <K> type of the key
@@ -66,18 +76,37 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
         UPDATED
     }
 
+    /**
+     * The number of changes kept for {@link #getChangedKeysSince(long)}.
+     */
+    static final int MAX_CHANGE_LOG_SIZE = 1000;
+
+    private record Change<K>(long revision, K key) {
+    }
+
+    private record Snapshot<E>(long revision, Collection<E> elements) {
+    }
+
     private final Logger logger = LoggerFactory.getLogger(AbstractRegistry.class);
 
     private final @Nullable Class<P> providerClazz;
     private @Nullable CompletableFuture<ServiceTracker<P, P>> providerTrackerFuture;
 
+    /*
+     * All modifications are done while holding the write lock. The elements are read without locking from the
+     * concurrent identifierToElement map and from an immutable snapshot, which is rebuilt on the first read after a
+     * modification.
+     */
     private final ReentrantReadWriteLock elementLock = new ReentrantReadWriteLock();
     private final ReentrantReadWriteLock.ReadLock elementReadLock = elementLock.readLock();
     private final ReentrantReadWriteLock.WriteLock elementWriteLock = elementLock.writeLock();
-    private final Map<Provider<E>, Collection<E>> providerToElements = new HashMap<>();
-    private final Map<E, Provider<E>> elementToProvider = new HashMap<>();
-    private final Map<K, E> identifierToElement = new HashMap<>();
-    private final Set<E> elements = new HashSet<>();
+    private final Map<Provider<E>, Map<K, E>> providerToElements = new HashMap<>();
+    private final Map<K, Entry<Provider<E>, E>> identifierToElement = new ConcurrentHashMap<>();
+    private volatile @Nullable Snapshot<E> snapshot;
+
+    // the revisions start with a value derived from the current time, so they do not repeat after a restart
+    private volatile long revision = System.currentTimeMillis() * 1000;
+    private final Deque<Change<K>> changeLog = new ArrayDeque<>();
 
     private final Collection<RegistryChangeListener<E>> listeners = new CopyOnWriteArraySet<>();
 
@@ -160,7 +189,7 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
     public void added(Provider<E> provider, E element) {
         elementWriteLock.lock();
         try {
-            final Collection<E> providerElements = providerToElements.get(provider);
+            final Map<K, E> providerElements = providerToElements.get(provider);
             if (providerElements == null) {
                 logger.debug("Cannot add \"{}\" with key \"{}\". Provider \"{}\" unknown.",
                         element.getClass().getSimpleName(), element.getUID(), provider.getClass().getSimpleName());
@@ -175,6 +204,36 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
         notifyListenersAboutAddedElement(element);
     }
 
+    /**
+     * Handles several elements that have been added by a provider.
+     *
+     * <p>
+     * The elements are added while holding the write lock only once and the listeners are notified about all added
+     * elements afterwards. Subclasses that override {@link #added(Provider, Identifiable)} have to override this
+     * method as well.
+     */
+    @Override
+    public void addedAll(Provider<E> provider, Collection<E> elements) {
+        final List<E> addedElements = new ArrayList<>(elements.size());
+        elementWriteLock.lock();
+        try {
+            final Map<K, E> providerElements = providerToElements.get(provider);
+            if (providerElements == null) {
+                logger.debug("Cannot add {} elements. Provider \"{}\" unknown.", elements.size(),
+                        provider.getClass().getSimpleName());
+                return;
+            }
+            for (E element : elements) {
+                if (added(provider, element, providerElements)) {
+                    addedElements.add(element);
+                }
+            }
+        } finally {
+            elementWriteLock.unlock();
+        }
+        notifyListenersAboutAddedElements(addedElements);
+    }
+
     /**
      * Handle an element that has been added for a provider.
      *
@@ -183,19 +242,16 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
      *
      * @param provider the provider that provides the element
      * @param element the element that has been added
-     * @param providerElements the collection that holds the elements of the provider
+     * @param providerElements the map that holds the elements of the provider by their key
      * @return indication if the element has been added
      */
-    private boolean added(Provider<E> provider, E element, Collection<E> providerElements) {
+    private boolean added(Provider<E> provider, E element, Map<K, E> providerElements) {
         final K uid = element.getUID();
-        @Nullable
-        E existingElement = identifierToElement.get(uid);
-        if (existingElement != null) {
-            Provider<E> existingElementProvider = elementToProvider.get(existingElement);
+        final @Nullable Entry<Provider<E>, E> existingEntry = identifierToElement.get(uid);
+        if (existingEntry != null) {
             logger.debug(
                     "Cannot add \"{}\" with key \"{}\". It exists already from provider \"{}\"! Failed to add a second with the same UID from provider \"{}\"!",
-                    element.getClass().getSimpleName(), uid,
-                    existingElementProvider != null ? existingElementProvider.getClass().getSimpleName() : null,
+                    element.getClass().getSimpleName(), uid, existingEntry.getKey().getClass().getSimpleName(),
                     provider.getClass().getSimpleName());
             return false;
         }
@@ -206,10 +262,9 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
                     ex.getMessage(), ex);
             return false;
         }
-        identifierToElement.put(element.getUID(), element);
-        elementToProvider.put(element, provider);
-        providerElements.add(element);
-        elements.add(element);
+        identifierToElement.put(uid, Map.entry(provider, element));
+        providerElements.put(uid, element);
+        recordChange(uid);
         return true;
     }
 
@@ -218,14 +273,24 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
         listeners.add(listener);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The returned collection is an immutable snapshot, which is shared by all callers until the registry is modified.
+     */
     @Override
     public Collection<E> getAll() {
-        elementReadLock.lock();
-        try {
-            return new HashSet<>(elements);
-        } finally {
-            elementReadLock.unlock();
+        final long revision = this.revision;
+        Snapshot<E> snapshot = this.snapshot;
+        if (snapshot == null || snapshot.revision() != revision) {
+            // all changes up to the read revision are visible in the concurrent map
+            final Set<E> elements = new HashSet<>(identifierToElement.size() * 4 / 3 + 1);
+            identifierToElement.values().forEach(entry -> elements.add(entry.getValue()));
+            snapshot = new Snapshot<>(revision, Collections.unmodifiableSet(elements));
+            this.snapshot = snapshot;
         }
+        return snapshot.elements();
     }
 
     @Override
@@ -238,41 +303,83 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
         final @Nullable E existingElement;
         elementWriteLock.lock();
         try {
-            // The given "element" might not be the live instance but loaded from storage.
-            // Use the identifier to operate on the "real" element.
-            final K uid = element.getUID();
-            existingElement = identifierToElement.get(uid);
-            if (existingElement == null) {
-                logger.debug("Cannot remove \"{}\" with key \"{}\" from provider \"{}\" because it does not exist!",
-                        element.getClass().getSimpleName(), uid, provider.getClass().getSimpleName());
-                return;
-            }
-            Provider<E> elementProvider = elementToProvider.get(existingElement);
-            if (elementProvider != null && !elementProvider.equals(provider)) {
-                logger.error(
-                        "Provider '{}' is not allowed to remove element '{}' with key '{}' from the registry because it was added by provider '{}'.",
-                        provider.getClass().getSimpleName(), element.getClass().getSimpleName(), uid,
-                        elementProvider.getClass().getSimpleName());
-                return;
-            }
-            try {
-                onRemoveElement(existingElement);
-            } catch (final RuntimeException ex) {
-                logger.warn("Cannot remove \"{}\" with key \"{}\": {}", element.getClass().getSimpleName(), uid,
-                        ex.getMessage(), ex);
-                return;
-            }
-            identifierToElement.remove(uid);
-            elementToProvider.remove(existingElement);
-            Collection<E> providerElements = providerToElements.get(provider);
-            if (providerElements != null) {
-                providerElements.remove(existingElement);
+            existingElement = removeElement(provider, element);
+        } finally {
+            elementWriteLock.unlock();
+        }
+        if (existingElement != null) {
+            notifyListenersAboutRemovedElement(existingElement);
+        }
+    }
+
+    /**
+     * Handles several elements that have been removed by a provider.
+     *
+     * <p>
+     * The elements are removed while holding the write lock only once and the listeners are notified about all
+     * removed elements afterwards. Subclasses that override {@link #removed(Provider, Identifiable)} have to override
+     * this method as well.
+     */
+    @Override
+    public void removedAll(Provider<E> provider, Collection<E> elements) {
+        final List<E> removedElements = new ArrayList<>(elements.size());
+        elementWriteLock.lock();
+        try {
+            for (E element : elements) {
+                final @Nullable E existingElement = removeElement(provider, element);
+                if (existingElement != null) {
+                    removedElements.add(existingElement);
+                }
             }
-            elements.remove(existingElement);
         } finally {
             elementWriteLock.unlock();
         }
-        notifyListenersAboutRemovedElement(existingElement);
+        notifyListenersAboutRemovedElements(removedElements);
+    }
+
+    /**
+     * Handle an element that has been removed by a provider.
+     *
+     * <p>
+     * This method must only be called if the write lock for elements has been locked!
+     *
+     * @param provider the provider that provided the element
+     * @param element the element that has been removed
+     * @return the removed element as held by the registry, or null if the element has not been removed
+     */
+    private @Nullable E removeElement(Provider<E> provider, E element) {
+        // The given "element" might not be the live instance but loaded from storage.
+        // Use the identifier to operate on the "real" element.
+        final K uid = element.getUID();
+        final @Nullable Entry<Provider<E>, E> existingEntry = identifierToElement.get(uid);
+        if (existingEntry == null) {
+            logger.debug("Cannot remove \"{}\" with key \"{}\" from provider \"{}\" because it does not exist!",
+                    element.getClass().getSimpleName(), uid, provider.getClass().getSimpleName());
+            return null;
+        }
+        final E existingElement = existingEntry.getValue();
+        final Provider<E> elementProvider = existingEntry.getKey();
+        if (!elementProvider.equals(provider)) {
+            logger.error(
+                    "Provider '{}' is not allowed to remove element '{}' with key '{}' from the registry because it was added by provider '{}'.",
+                    provider.getClass().getSimpleName(), element.getClass().getSimpleName(), uid,
+                    elementProvider.getClass().getSimpleName());
+            return null;
+        }
+        try {
+            onRemoveElement(existingElement);
+        } catch (final RuntimeException ex) {
+            logger.warn("Cannot remove \"{}\" with key \"{}\": {}", element.getClass().getSimpleName(), uid,
+                    ex.getMessage(), ex);
+            return null;
+        }
+        identifierToElement.remove(uid);
+        final Map<K, E> providerElements = providerToElements.get(provider);
+        if (providerElements != null) {
+            providerElements.remove(uid);
+        }
+        recordChange(uid);
+        return existingElement;
     }
 
     @Override
@@ -282,59 +389,139 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
 
     @Override
     public void updated(Provider<E> provider, E oldElement, E element) {
+        final boolean updated;
+        elementWriteLock.lock();
+        try {
+            updated = updateElement(provider, oldElement, element);
+        } finally {
+            elementWriteLock.unlock();
+        }
+        if (updated) {
+            notifyListenersAboutUpdatedElement(oldElement, element);
+        }
+    }
+
+    /**
+     * Handles several elements that have been updated by a provider.
+     *
+     * <p>
+     * The elements are updated while holding the write lock only once and the listeners are notified about all
+     * updated elements afterwards. Subclasses that override {@link #updated(Provider, Identifiable, Identifiable)}
+     * have to override this method as well.
+     */
+    @Override
+    public void updatedAll(Provider<E> provider, Collection<Entry<E, E>> elements) {
+        final List<Entry<E, E>> updatedElements = new ArrayList<>(elements.size());
+        elementWriteLock.lock();
+        try {
+            for (Entry<E, E> element : elements) {
+                if (updateElement(provider, element.getKey(), element.getValue())) {
+                    updatedElements.add(element);
+                }
+            }
+        } finally {
+            elementWriteLock.unlock();
+        }
+        notifyListenersAboutUpdatedElements(updatedElements);
+    }
+
+    /**
+     * Handle an element that has been updated by a provider.
+     *
+     * <p>
+     * This method must only be called if the write lock for elements has been locked!
+     *
+     * @param provider the provider that provides the element
+     * @param oldElement the element before the update, as given by the provider
+     * @param element the updated element
+     * @return indication if the element has been updated
+     */
+    private boolean updateElement(Provider<E> provider, E oldElement, E element) {
         final K uidOld = oldElement.getUID();
         final K uid = element.getUID();
         if (!uidOld.equals(uid)) {
             logger.debug("Received update event for elements that UID differ (old: \"{}\", new: \"{}\"). Ignore event.",
                     uidOld, uid);
-            return;
+            return false;
         }
 
-        final @Nullable E existingElement;
-        elementWriteLock.lock();
+        // The given "element" might not be the live instance but loaded from storage.
+        // Use the identifier to operate on the "real" element.
+        final @Nullable Entry<Provider<E>, E> existingEntry = identifierToElement.get(uid);
+        if (existingEntry == null) {
+            logger.debug("Cannot update \"{}\" with key \"{}\" for provider \"{}\" because it does not exist!",
+                    element.getClass().getSimpleName(), uid, provider.getClass().getSimpleName());
+            return false;
+        }
         try {
-            // The given "element" might not be the live instance but loaded from storage.
-            // Use the identifier to operate on the "real" element.
-            existingElement = identifierToElement.get(uid);
-            if (existingElement == null) {
-                logger.debug("Cannot update \"{}\" with key \"{}\" for provider \"{}\" because it does not exist!",
-                        element.getClass().getSimpleName(), uid, provider.getClass().getSimpleName());
-                return;
-            }
-            try {
-                beforeUpdateElement(existingElement);
-                onUpdateElement(oldElement, element);
-            } catch (final RuntimeException ex) {
-                logger.warn("Cannot update \"{}\" with key \"{}\": {}", element.getClass().getSimpleName(), uid,
-                        ex.getMessage(), ex);
-                return;
-            }
-            identifierToElement.put(uid, element);
-            elementToProvider.remove(existingElement);
-            elementToProvider.put(element, provider);
-            final Collection<E> providerElements = providerToElements.get(provider);
-            if (providerElements != null) {
-                providerElements.remove(existingElement);
-                providerElements.add(element);
-            }
-            elements.remove(existingElement);
-            elements.add(element);
-        } finally {
-            elementWriteLock.unlock();
+            beforeUpdateElement(existingEntry.getValue());
+            onUpdateElement(oldElement, element);
+        } catch (final RuntimeException ex) {
+            logger.warn("Cannot update \"{}\" with key \"{}\": {}", element.getClass().getSimpleName(), uid,
+                    ex.getMessage(), ex);
+            return false;
+        }
+        identifierToElement.put(uid, Map.entry(provider, element));
+        final Map<K, E> providerElements = providerToElements.get(provider);
+        if (providerElements != null) {
+            providerElements.put(uid, element);
+        }
+        recordChange(uid);
+        return true;
+    }
+
+    /**
+     * Increments the revision and records the key of the changed element. This invalidates the snapshot returned by
+     * {@link #getAll()}, so it must be called after the element maps have been modified.
+     *
+     * <p>
+     * This method must only be called if the write lock for elements has been locked!
+     *
+     * @param key the key of the added, updated or removed element
+     */
+    private void recordChange(K key) {
+        long revision = this.revision + 1;
+        this.revision = revision;
+        changeLog.addLast(new Change<>(revision, key));
+        if (changeLog.size() > MAX_CHANGE_LOG_SIZE) {
+            changeLog.removeFirst();
         }
-        notifyListenersAboutUpdatedElement(oldElement, element);
     }
 
     @Override
-    public @Nullable E get(K key) {
+    public long getRevision() {
+        return revision;
+    }
+
+    @Override
+    public @Nullable Set<K> getChangedKeysSince(long revision) {
         elementReadLock.lock();
         try {
-            return identifierToElement.get(key);
+            Change<K> oldestChange = changeLog.peekFirst();
+            long oldestKnownRevision = oldestChange == null ? this.revision : oldestChange.revision() - 1;
+            if (revision < oldestKnownRevision || revision > this.revision) {
+                return null;
+            }
+            Set<K> keys = new HashSet<>();
+            for (Iterator<Change<K>> iterator = changeLog.descendingIterator(); iterator.hasNext();) {
+                Change<K> change = iterator.next();
+                if (change.revision() <= revision) {
+                    break;
+                }
+                keys.add(change.key());
+            }
+            return keys;
         } finally {
             elementReadLock.unlock();
         }
     }
 
+    @Override
+    public @Nullable E get(K key) {
+        final @Nullable Entry<Provider<E>, E> entry = identifierToElement.get(key);
+        return entry == null ? null : entry.getValue();
+    }
+
     /**
      * This method retrieves an Entry with the provider and the element for the key from the registry.
      *
@@ -342,14 +529,7 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
      * @return provider and element entry or null if no element was found
      */
     protected @Nullable Entry<Provider<E>, E> getValueAndProvider(K key) {
-        elementReadLock.lock();
-        try {
-            final @Nullable E element = identifierToElement.get(key);
-            final Provider<E> provider = elementToProvider.get(element);
-            return element == null || provider == null ? null : Map.entry(provider, element);
-        } finally {
-            elementReadLock.unlock();
-        }
+        return identifierToElement.get(key);
     }
 
     @Override
@@ -370,6 +550,44 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
                 .remove(key);
     }
 
+    /**
+     * Adds several elements to the managed provider at once.
+     *
+     * @param elements the elements to add
+     * @throws IllegalStateException if no managed provider is available
+     * @see ManagedProvider#addAll(Collection)
+     */
+    public void addAll(Collection<E> elements) {
+        managedProvider.orElseThrow(() -> new IllegalStateException("ManagedProvider is not available"))
+                .addAll(elements);
+    }
+
+    /**
+     * Updates several elements of the managed provider at once.
+     *
+     * @param elements the elements to update
+     * @return the old elements of the elements which have been updated
+     * @throws IllegalStateException if no managed provider is available
+     * @see ManagedProvider#updateAll(Collection)
+     */
+    public Collection<E> updateAll(Collection<E> elements) {
+        return managedProvider.orElseThrow(() -> new IllegalStateException("ManagedProvider is not available"))
+                .updateAll(elements);
+    }
+
+    /**
+     * Removes several elements from the managed provider at once.
+     *
+     * @param keys the keys of the elements to remove
+     * @return the elements which have been removed
+     * @throws IllegalStateException if no managed provider is available
+     * @see ManagedProvider#removeAll(Collection)
+     */
+    public Collection<E> removeAll(Collection<K> keys) {
+        return managedProvider.orElseThrow(() -> new IllegalStateException("ManagedProvider is not available"))
+                .removeAll(keys);
+    }
+
     protected void notifyListeners(E element, EventType eventType) {
         for (RegistryChangeListener<E> listener : this.listeners) {
             try {
@@ -419,6 +637,39 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
         notifyListeners(oldElement, element, EventType.UPDATED);
     }
 
+    /**
+     * Notifies the listeners about several elements that have been added in bulk. Subclasses can override this
+     * method to inform about all elements at once, by default each element is passed to
+     * {@link #notifyListenersAboutAddedElement(Identifiable)}.
+     *
+     * @param elements the added elements
+     */
+    protected void notifyListenersAboutAddedElements(Collection<E> elements) {
+        elements.forEach(this::notifyListenersAboutAddedElement);
+    }
+
+    /**
+     * Notifies the listeners about several elements that have been removed in bulk. Subclasses can override this
+     * method to inform about all elements at once, by default each element is passed to
+     * {@link #notifyListenersAboutRemovedElement(Identifiable)}.
+     *
+     * @param elements the removed elements
+     */
+    protected void notifyListenersAboutRemovedElements(Collection<E> elements) {
+        elements.forEach(this::notifyListenersAboutRemovedElement);
+    }
+
+    /**
+     * Notifies the listeners about several elements that have been updated in bulk. Subclasses can override this
+     * method to inform about all elements at once, by default each element is passed to
+     * {@link #notifyListenersAboutUpdatedElement(Identifiable, Identifiable)}.
+     *
+     * @param elements the updated elements, each as an entry of the old and the new element
+     */
+    protected void notifyListenersAboutUpdatedElements(Collection<Entry<E, E>> elements) {
+        elements.forEach(element -> notifyListenersAboutUpdatedElement(element.getKey(), element.getValue()));
+    }
+
     protected void addProvider(Provider<E> provider) {
         final Collection<E> elementsOfAddedProvider = provider.getAll();
         final Collection<E> elementsAdded = new HashSet<>(elementsOfAddedProvider.size());
@@ -430,7 +681,7 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
                 return;
             }
             provider.addProviderChangeListener(this);
-            final HashSet<E> providerElements = new HashSet<>();
+            final Map<K, E> providerElements = new HashMap<>();
             providerToElements.put(provider, providerElements);
             for (E element : elementsOfAddedProvider) {
                 if (added(provider, element, providerElements)) {
@@ -456,13 +707,8 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
      * @return provider or null if no provider was found
      */
     protected @Nullable Provider<E> getProvider(K key) {
-        elementReadLock.lock();
-        try {
-            final @Nullable E element = identifierToElement.get(key);
-            return element == null ? null : elementToProvider.get(element);
-        } finally {
-            elementReadLock.unlock();
-        }
+        final @Nullable Entry<Provider<E>, E> entry = identifierToElement.get(key);
+        return entry == null ? null : entry.getKey();
     }
 
     /**
@@ -472,12 +718,8 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
      * @return provider or null if no provider was found
      */
     public @Nullable Provider<E> getProvider(E element) {
-        elementReadLock.lock();
-        try {
-            return elementToProvider.get(element);
-        } finally {
-            elementReadLock.unlock();
-        }
+        final @Nullable Entry<Provider<E>, E> entry = identifierToElement.get(element.getUID());
+        return entry == null || !entry.getValue().equals(element) ? null : entry.getKey();
     }
 
     /**
@@ -497,9 +739,9 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
     protected void forEach(Provider<E> provider, Consumer<E> consumer) {
         elementReadLock.lock();
         try {
-            final Collection<E> providerElements = providerToElements.get(provider);
+            final Map<K, E> providerElements = providerToElements.get(provider);
             if (providerElements != null) {
-                providerElements.forEach(consumer);
+                providerElements.values().forEach(consumer);
             }
         } finally {
             elementReadLock.unlock();
@@ -510,22 +752,12 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
      * This method traverses over all elements in the registry and calls the consumer with each element.
      *
      * <p>
-     * The traversal over the elements is done while holding a lock for the respective internal collections.
-     * If you use this method, please ensure not execution time consuming stuff as it will block any other usage of that
-     * collections.
-     * You should also not call third party code that could e.g. access the registry itself again. This could lead to a
-     * dead lock and hard finding bugs.
-     * The {@link #getAll()} and {@link #stream()} method will operate on a copy and so no lock is hold.
+     * The traversal is done over the snapshot returned by {@link #getAll()}, so no lock is held.
      *
      * @param consumer function to call with element
      */
     protected void forEach(Consumer<E> consumer) {
-        elementReadLock.lock();
-        try {
-            elements.forEach(consumer);
-        } finally {
-            elementReadLock.unlock();
-        }
+        getAll().forEach(consumer);
     }
 
     /**
@@ -533,25 +765,13 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
      * element as the first parameter and the element as the second argument.
      *
      * <p>
-     * The traversal over the elements is done while holding a lock for the respective internal collections.
-     * If you use this method, please ensure not execution time consuming stuff as it will block any other usage of that
-     * collections.
-     * You should also not call third party code that could e.g. access the registry itself again. This could lead to a
-     * dead lock and hard finding bugs.
-     * The {@link #getAll()} and {@link #stream()} method will operate on a copy and so no lock is hold.
+     * The traversal is done without holding a lock. It is weakly consistent, i.e. it reflects the elements at some
+     * point at or since the start of the traversal.
      *
      * @param consumer function to call with the provider and element
      */
     protected void forEach(BiConsumer<Provider<E>, E> consumer) {
-        elementReadLock.lock();
-        try {
-            for (final Entry<Provider<E>, Collection<E>> providerEntries : providerToElements.entrySet()) {
-                final Provider<E> provider = providerEntries.getKey();
-                providerEntries.getValue().forEach(element -> consumer.accept(provider, element));
-            }
-        } finally {
-            elementReadLock.unlock();
-        }
+        identifierToElement.values().forEach(entry -> consumer.accept(entry.getKey(), entry.getValue()));
     }
 
     protected Optional<ManagedProvider<E, K>> getManagedProvider() {
@@ -633,13 +853,13 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
         final Collection<E> removedElements = new LinkedList<>();
         elementWriteLock.lock();
         try {
-            final Collection<E> providerElements = providerToElements.remove(provider);
+            final Map<K, E> providerElements = providerToElements.remove(provider);
             if (providerElements == null) {
                 logger.warn("Cannot remove provider \"{}\" because it is unknown.",
                         provider.getClass().getSimpleName());
                 return;
             }
-            for (final E element : providerElements) {
+            for (final E element : providerElements.values()) {
                 try {
                     onRemoveElement(element);
                 } catch (final RuntimeException ex) {
@@ -649,9 +869,8 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
                             ex.getMessage(), ex);
                 }
                 removedElements.add(element);
-                elements.remove(element);
-                elementToProvider.remove(element);
                 identifierToElement.remove(element.getUID());
+                recordChange(element.getUID());
             }
         } finally {
             elementWriteLock.unlock();
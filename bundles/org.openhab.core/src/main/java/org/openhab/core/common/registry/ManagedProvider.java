@@ -12,6 +12,10 @@
  */
 package org.openhab.core.common.registry;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -21,6 +25,7 @@ import org.eclipse.jdt.annotation.Nullable;
  * add, remove and update elements at runtime.
  *
  * @author Dennis Nobel - Initial contribution
+ * @author openHAB Core Team - Added bulk operations
  *
  * @param <E>
  *            type of the element
@@ -66,4 +71,56 @@ public interface ManagedProvider<@NonNull E extends Identifiable<K>, @NonNull K>
      */
     @Nullable
     E get(K key);
+
+    /**
+     * Adds several elements at once.
+     *
+     * <p>
+     * The default implementation adds the elements one by one.
+     *
+     * @param elements elements to be added
+     */
+    default void addAll(Collection<E> elements) {
+        elements.forEach(this::add);
+    }
+
+    /**
+     * Updates several elements at once. Elements which do not exist are not added.
+     *
+     * <p>
+     * The default implementation updates the elements one by one.
+     *
+     * @param elements elements to be updated
+     * @return the old elements of the elements which have been updated
+     */
+    default Collection<E> updateAll(Collection<E> elements) {
+        List<E> oldElements = new ArrayList<>();
+        for (E element : elements) {
+            E oldElement = update(element);
+            if (oldElement != null) {
+                oldElements.add(oldElement);
+            }
+        }
+        return oldElements;
+    }
+
+    /**
+     * Removes several elements at once.
+     *
+     * <p>
+     * The default implementation removes the elements one by one.
+     *
+     * @param keys keys of the elements that should be removed
+     * @return the elements which have been removed
+     */
+    default Collection<E> removeAll(Collection<K> keys) {
+        List<E> removedElements = new ArrayList<>();
+        for (K key : keys) {
+            E removedElement = remove(key);
+            if (removedElement != null) {
+                removedElements.add(removedElement);
+            }
+        }
+        return removedElements;
+    }
 }
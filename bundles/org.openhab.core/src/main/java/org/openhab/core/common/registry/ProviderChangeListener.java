@@ -12,6 +12,9 @@
  */
 package org.openhab.core.common.registry;
 
+import java.util.Collection;
+import java.util.Map.Entry;
+
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
@@ -21,6 +24,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
  * every added {@link Provider}.
  *
  * @author Dennis Nobel - Initial contribution
+ * @author openHAB Core Team - Added bulk notifications
  *
  * @param <E> type of the element from the provider
  */
@@ -50,4 +54,43 @@ public interface ProviderChangeListener<@NonNull E> {
      * @param element the element that has been updated
      */
     void updated(Provider<E> provider, E oldelement, E element);
+
+    /**
+     * Notifies the listener that several elements have been added at once.
+     *
+     * <p>
+     * The default implementation calls {@link #added(Provider, Object)} for each element.
+     *
+     * @param provider the provider that provides the elements
+     * @param elements the elements that have been added
+     */
+    default void addedAll(Provider<E> provider, Collection<E> elements) {
+        elements.forEach(element -> added(provider, element));
+    }
+
+    /**
+     * Notifies the listener that several elements have been removed at once.
+     *
+     * <p>
+     * The default implementation calls {@link #removed(Provider, Object)} for each element.
+     *
+     * @param provider the provider that provides the elements
+     * @param elements the elements that have been removed
+     */
+    default void removedAll(Provider<E> provider, Collection<E> elements) {
+        elements.forEach(element -> removed(provider, element));
+    }
+
+    /**
+     * Notifies the listener that several elements have been updated at once.
+     *
+     * <p>
+     * The default implementation calls {@link #updated(Provider, Object, Object)} for each element.
+     *
+     * @param provider the provider that provides the elements
+     * @param elements the updated elements, each mapped from the old element to the updated element
+     */
+    default void updatedAll(Provider<E> provider, Collection<Entry<E, E>> elements) {
+        elements.forEach(element -> updated(provider, element.getKey(), element.getValue()));
+    }
 }
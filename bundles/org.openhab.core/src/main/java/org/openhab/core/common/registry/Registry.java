@@ -13,6 +13,7 @@
 package org.openhab.core.common.registry;
 
 import java.util.Collection;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNull;
@@ -26,6 +27,7 @@ import org.eclipse.jdt.annotation.Nullable;
  * @author Dennis Nobel - Initial contribution
  * @author Victor Toni - provide elements as {@link Stream}
  * @author Kai Kreuzer - added null annotations
+ * @author openHAB Core Team - Added revisions
  *
  * @param <E> type of the elements in the registry
  */
@@ -62,6 +64,28 @@ public interface Registry<@NonNull E extends Identifiable<K>, @NonNull K> {
     @Nullable
     E get(K key);
 
+    /**
+     * Returns the current revision of the registry content. The revision is increased whenever an element is added,
+     * updated or removed, so it can be used to detect changes without comparing the elements.
+     *
+     * @return the current revision or a negative value if the registry does not track revisions
+     */
+    default long getRevision() {
+        return -1;
+    }
+
+    /**
+     * Returns the keys of all elements which have been added, updated or removed after the given revision.
+     *
+     * @param revision a revision previously returned by {@link #getRevision()}
+     * @return the keys of the changed elements or null if the changes since the given revision are not known
+     *         (anymore), e.g. because the revision is too old, stems from a previous instance of the registry or the
+     *         registry does not track revisions
+     */
+    default @Nullable Set<K> getChangedKeysSince(long revision) {
+        return null;
+    }
+
     /**
      * Removes a {@link RegistryChangeListener} from the registry.
      *
@@ -25,14 +25,20 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.LatencyRecorder;
+import org.openhab.core.common.LatencyRecorder.Operation;
 import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.events.Event;
 import org.openhab.core.events.EventFactory;
 import org.openhab.core.events.EventFilter;
 import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.items.events.CommandTrace;
+import org.openhab.core.items.events.CommandTrace.Hop;
+import org.openhab.core.items.events.ItemCommandEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,6 +46,7 @@ import org.slf4j.LoggerFactory;
  * Handle openHAB events encapsulated by OSGi events.
  *
  * @author Markus Rathgeb - Initial contribution
+ * @author openHAB Core Team - Record latencies
  */
 @NonNullByDefault
 public class EventHandler implements AutoCloseable {
@@ -51,6 +58,7 @@ public class EventHandler implements AutoCloseable {
 
     private final Map<String, Set<EventSubscriber>> typedEventSubscribers;
     private final Map<String, EventFactory> typedEventFactories;
+    private final Supplier<@Nullable LatencyRecorder> latencyRecorderSupplier;
 
     private final Map<Class<? extends EventSubscriber>, ExecutorRecord> executors = new HashMap<>();
     private final ScheduledExecutorService watcher;
@@ -63,8 +71,22 @@ public class EventHandler implements AutoCloseable {
      */
     public EventHandler(final Map<String, Set<EventSubscriber>> typedEventSubscribers,
             final Map<String, EventFactory> typedEventFactories) {
+        this(typedEventSubscribers, typedEventFactories, () -> null);
+    }
+
+    /**
+     * Create a new event handler.
+     *
+     * @param typedEventSubscribers the event subscribers indexed by the event type
+     * @param typedEventFactories the event factories indexed by the event type
+     * @param latencyRecorderSupplier supplies the {@link LatencyRecorder} the latencies are recorded with, if any
+     */
+    public EventHandler(final Map<String, Set<EventSubscriber>> typedEventSubscribers,
+            final Map<String, EventFactory> typedEventFactories,
+            final Supplier<@Nullable LatencyRecorder> latencyRecorderSupplier) {
         this.typedEventSubscribers = typedEventSubscribers;
         this.typedEventFactories = typedEventFactories;
+        this.latencyRecorderSupplier = latencyRecorderSupplier;
         watcher = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("eventwatcher"));
     }
 
@@ -87,12 +109,14 @@ public class EventHandler implements AutoCloseable {
         Object payloadObj = osgiEvent.getProperty("payload");
         Object topicObj = osgiEvent.getProperty("topic");
         Object sourceObj = osgiEvent.getProperty("source");
+        Object traceObj = osgiEvent.getProperty("trace");
 
         if (typeObj instanceof String typeStr && payloadObj instanceof String payloadStr
                 && topicObj instanceof String topicStr) {
             String sourceStr = (sourceObj instanceof String s) ? s : null;
             if (!typeStr.isEmpty() && !payloadStr.isEmpty() && !topicStr.isEmpty()) {
-                handleEvent(typeStr, payloadStr, topicStr, sourceStr);
+                handleEvent(typeStr, payloadStr, topicStr, sourceStr,
+                        traceObj instanceof CommandTrace trace ? trace : null);
             }
         } else {
             logger.error(
@@ -102,7 +126,7 @@ public class EventHandler implements AutoCloseable {
     }
 
     private void handleEvent(final String type, final String payload, final String topic,
-            final @Nullable String source) {
+            final @Nullable String source, final @Nullable CommandTrace trace) {
         final EventFactory eventFactory = typedEventFactories.get(type);
         if (eventFactory == null) {
             logger.debug("Could not find an Event Factory for the event type '{}'.", type);
@@ -114,12 +138,17 @@ public class EventHandler implements AutoCloseable {
             return;
         }
 
-        final Event event = createEvent(eventFactory, type, payload, topic, source);
+        final LatencyRecorder latencyRecorder = latencyRecorderSupplier.get();
+        Event event = createEvent(eventFactory, type, payload, topic, source, latencyRecorder);
         if (event == null) {
             return;
         }
+        if (trace != null && event instanceof ItemCommandEvent commandEvent) {
+            event = commandEvent.withTrace(trace);
+            trace.stamp(Hop.DEQUEUE);
+        }
 
-        dispatchEvent(eventSubscribers, event);
+        dispatchEvent(eventSubscribers, event, latencyRecorder);
     }
 
     private Set<EventSubscriber> getEventSubscribers(String eventType) {
@@ -137,9 +166,15 @@ public class EventHandler implements AutoCloseable {
     }
 
     private @Nullable Event createEvent(final EventFactory eventFactory, final String type, final String payload,
-            final String topic, final @Nullable String source) {
+            final String topic, final @Nullable String source, final @Nullable LatencyRecorder latencyRecorder) {
         try {
-            return eventFactory.createEvent(type, topic, payload, source);
+            if (latencyRecorder == null) {
+                return eventFactory.createEvent(type, topic, payload, source);
+            }
+            long start = System.nanoTime();
+            Event event = eventFactory.createEvent(type, topic, payload, source);
+            latencyRecorder.record(Operation.EVENT_DESERIALIZATION, type, System.nanoTime() - start);
+            return event;
         } catch (final Exception ex) {
             logger.warn(
                     "Creation of event failed, because one of the registered event factories has thrown an exception: {}",
@@ -148,7 +183,8 @@ public class EventHandler implements AutoCloseable {
         }
     }
 
-    private synchronized void dispatchEvent(final Set<EventSubscriber> eventSubscribers, final Event event) {
+    private synchronized void dispatchEvent(final Set<EventSubscriber> eventSubscribers, final Event event,
+            final @Nullable LatencyRecorder latencyRecorder) {
         for (final EventSubscriber eventSubscriber : eventSubscribers) {
             EventFilter filter = eventSubscriber.getEventFilter();
             if (filter == null || filter.apply(event)) {
@@ -160,7 +196,9 @@ public class EventHandler implements AutoCloseable {
                     logger.warn("The queue for a subscriber of type '{}' exceeds {} elements. System may be unstable.",
                             eventSubscriber.getClass(), EVENT_QUEUE_WARN_LIMIT);
                 }
+                long enqueueTime = latencyRecorder == null ? 0 : System.nanoTime();
                 CompletableFuture.runAsync(() -> {
+                    long start = latencyRecorder == null ? 0 : System.nanoTime();
                     ScheduledFuture<?> logTimeout = watcher.schedule(
                             () -> logger.warn("Dispatching event to subscriber '{}' takes more than {}ms.",
                                     eventSubscriber, EVENTSUBSCRIBER_EVENTHANDLING_MAX_MS),
@@ -172,6 +210,11 @@ public class EventHandler implements AutoCloseable {
                                 EventSubscriber.class.getName(), ex.getMessage(), ex);
                     }
                     logTimeout.cancel(false);
+                    if (latencyRecorder != null) {
+                        String subscriberName = eventSubscriber.getClass().getName();
+                        latencyRecorder.record(Operation.EVENT_QUEUE_WAIT, subscriberName, start - enqueueTime);
+                        latencyRecorder.record(Operation.EVENT_DISPATCH, subscriberName, System.nanoTime() - start);
+                    }
                 }, executorRecord.executor).thenRun(executorRecord.count::decrementAndGet);
             } else {
                 logger.trace("Skip event subscriber ({}) because of its filter.", eventSubscriber.getClass());
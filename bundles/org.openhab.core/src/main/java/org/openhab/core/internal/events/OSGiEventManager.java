@@ -17,6 +17,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 
+import org.openhab.core.common.LatencyRecorder;
 import org.openhab.core.events.Event;
 import org.openhab.core.events.EventFactory;
 import org.openhab.core.events.EventSubscriber;
@@ -38,6 +39,7 @@ import org.osgi.service.event.EventHandler;
  *
  * @author Stefan Bußweiler - Initial contribution
  * @author Markus Rathgeb - Return on received events as fast as possible (handle event in another thread)
+ * @author openHAB Core Team - Record latencies with an optional {@link LatencyRecorder}
  */
 @Component(immediate = true, property = { "event.topics:String=openhab" })
 public class OSGiEventManager implements EventHandler {
@@ -49,9 +51,11 @@ public class OSGiEventManager implements EventHandler {
 
     private ThreadedEventHandler eventHandler;
 
+    private volatile LatencyRecorder latencyRecorder;
+
     @Activate
     protected void activate(ComponentContext componentContext) {
-        eventHandler = new ThreadedEventHandler(typedEventSubscribers, typedEventFactories);
+        eventHandler = new ThreadedEventHandler(typedEventSubscribers, typedEventFactories, () -> latencyRecorder);
         eventHandler.open();
     }
 
@@ -111,6 +115,17 @@ public class OSGiEventManager implements EventHandler {
         }
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setLatencyRecorder(LatencyRecorder latencyRecorder) {
+        this.latencyRecorder = latencyRecorder;
+    }
+
+    protected void unsetLatencyRecorder(LatencyRecorder latencyRecorder) {
+        if (this.latencyRecorder == latencyRecorder) {
+            this.latencyRecorder = null;
+        }
+    }
+
     @Override
     public void handleEvent(org.osgi.service.event.Event osgiEvent) {
         eventHandler.handleEvent(osgiEvent);
@@ -15,11 +15,18 @@ package org.openhab.core.internal.events;
 import java.util.Dictionary;
 import java.util.Hashtable;
 
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.events.Event;
 import org.openhab.core.events.EventPublisher;
+import org.openhab.core.items.events.CommandTrace;
+import org.openhab.core.items.events.CommandTrace.Hop;
+import org.openhab.core.items.events.CommandTracer;
+import org.openhab.core.items.events.ItemCommandEvent;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.osgi.service.event.EventAdmin;
 
 /**
@@ -30,17 +37,30 @@ import org.osgi.service.event.EventAdmin;
  *
  * @author Stefan Bußweiler - Initial contribution
  * @author Simon Kaufmann - separated from OSGiEventManager
+ * @author openHAB Core Team - Added command trace
  */
 @Component
 public class OSGiEventPublisher implements EventPublisher {
 
     private final EventAdmin osgiEventAdmin;
+    private volatile @Nullable CommandTracer commandTracer;
 
     @Activate
     public OSGiEventPublisher(final @Reference EventAdmin eventAdmin) {
         this.osgiEventAdmin = eventAdmin;
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setCommandTracer(CommandTracer commandTracer) {
+        this.commandTracer = commandTracer;
+    }
+
+    protected void unsetCommandTracer(CommandTracer commandTracer) {
+        if (this.commandTracer == commandTracer) {
+            this.commandTracer = null;
+        }
+    }
+
     @Override
     public void post(final Event event) throws IllegalArgumentException, IllegalStateException {
         EventAdmin eventAdmin = this.osgiEventAdmin;
@@ -59,6 +79,13 @@ public class OSGiEventPublisher implements EventPublisher {
             if (source != null) {
                 properties.put("source", source);
             }
+            if (event instanceof ItemCommandEvent commandEvent) {
+                CommandTrace trace = startTrace(commandEvent);
+                if (trace != null) {
+                    trace.stamp(Hop.PUBLISH);
+                    properties.put("trace", trace);
+                }
+            }
             eventAdmin.postEvent(new org.osgi.service.event.Event("openhab", properties));
         } catch (Exception e) {
             throw new IllegalStateException("Cannot post the event via the event bus. Error message: " + e.getMessage(),
@@ -66,6 +93,17 @@ public class OSGiEventPublisher implements EventPublisher {
         }
     }
 
+    private @Nullable CommandTrace startTrace(ItemCommandEvent event) {
+        CommandTrace trace = event.getTrace();
+        if (trace == null) {
+            CommandTracer commandTracer = this.commandTracer;
+            if (commandTracer != null) {
+                trace = commandTracer.startTrace(event);
+            }
+        }
+        return trace;
+    }
+
     private void assertValidArgument(Event event) throws IllegalArgumentException {
         String errorMsg = "The %s of the 'event' argument must not be null or empty.";
         String value;
@@ -19,8 +19,11 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.LatencyRecorder;
 import org.openhab.core.events.EventFactory;
 import org.openhab.core.events.EventSubscriber;
 import org.osgi.service.event.Event;
@@ -48,11 +51,14 @@ public class ThreadedEventHandler implements Closeable {
      *
      * @param typedEventSubscribers the event subscribers
      * @param typedEventFactories the event factories indexed by the event type
+     * @param latencyRecorderSupplier supplies the {@link LatencyRecorder} the latencies are recorded with, if any
      */
     ThreadedEventHandler(Map<String, Set<EventSubscriber>> typedEventSubscribers,
-            final Map<String, EventFactory> typedEventFactories) {
+            final Map<String, EventFactory> typedEventFactories,
+            final Supplier<@Nullable LatencyRecorder> latencyRecorderSupplier) {
         thread = new Thread(() -> {
-            try (EventHandler worker = new EventHandler(typedEventSubscribers, typedEventFactories)) {
+            try (EventHandler worker = new EventHandler(typedEventSubscribers, typedEventFactories,
+                    latencyRecorderSupplier)) {
                 while (running.get()) {
                     try {
                         logger.trace("wait for event");
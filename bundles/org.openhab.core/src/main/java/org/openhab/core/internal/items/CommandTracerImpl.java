@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.items;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.events.CommandTrace;
+import org.openhab.core.items.events.CommandTrace.Hop;
+import org.openhab.core.items.events.CommandTraceStatistics;
+import org.openhab.core.items.events.CommandTracer;
+import org.openhab.core.items.events.ItemCommandEvent;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implementation of the {@link CommandTracer}, which traces every n-th command. The sample rate is configured with the
+ * {@value #CONFIG_SAMPLE_RATE} property, 0 (the default) disables the tracing.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = CommandTracer.class, configurationPid = "org.openhab.commandtrace")
+public class CommandTracerImpl implements CommandTracer {
+
+    static final String CONFIG_SAMPLE_RATE = "sampleRate";
+    static final int DEFAULT_SAMPLE_RATE = 0;
+
+    private static final Hop[] HOPS = Hop.values();
+
+    private final Logger logger = LoggerFactory.getLogger(CommandTracerImpl.class);
+
+    private final AtomicLong commandCount = new AtomicLong();
+    private final Map<String, Latency> latencies;
+
+    private volatile int sampleRate = DEFAULT_SAMPLE_RATE;
+
+    @Activate
+    public CommandTracerImpl(@Nullable Map<String, Object> properties) {
+        Map<String, Latency> latencies = new LinkedHashMap<>();
+        for (int i = 1; i < HOPS.length; i++) {
+            latencies.put(HOPS[i].name(), new Latency());
+        }
+        latencies.put(CommandTraceStatistics.TOTAL, new Latency());
+        this.latencies = latencies;
+        modified(properties);
+    }
+
+    @Modified
+    public void modified(@Nullable Map<String, Object> properties) {
+        Object value = properties == null ? null : properties.get(CONFIG_SAMPLE_RATE);
+        int sampleRate = DEFAULT_SAMPLE_RATE;
+        if (value != null) {
+            try {
+                sampleRate = Math.max(0, Integer.parseInt(value.toString().trim()));
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid sample rate '{}' for command tracing, using {}", value, DEFAULT_SAMPLE_RATE);
+            }
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public @Nullable CommandTrace startTrace(ItemCommandEvent event) {
+        int sampleRate = this.sampleRate;
+        if (sampleRate <= 0 || commandCount.getAndIncrement() % sampleRate != 0) {
+            return null;
+        }
+        return new CommandTrace(event.getItemName(), this::traceCompleted);
+    }
+
+    private void traceCompleted(CommandTrace trace) {
+        if (!trace.isStamped(Hop.PUBLISH)) {
+            return;
+        }
+        long publish = trace.getStamp(Hop.PUBLISH);
+        long previous = publish;
+        for (int i = 1; i < HOPS.length; i++) {
+            if (trace.isStamped(HOPS[i])) {
+                long stamp = trace.getStamp(HOPS[i]);
+                Latency latency = latencies.get(HOPS[i].name());
+                if (latency != null) {
+                    latency.add(stamp - previous);
+                }
+                previous = stamp;
+            }
+        }
+        Latency total = latencies.get(CommandTraceStatistics.TOTAL);
+        if (total != null) {
+            total.add(previous - publish);
+        }
+        logger.trace("Command to item '{}' took {} ms from publishing to the return of the thing handler",
+                trace.getItemName(), (previous - publish) / 1_000_000.0);
+    }
+
+    @Override
+    public List<CommandTraceStatistics> getStatistics() {
+        List<CommandTraceStatistics> statistics = new ArrayList<>();
+        latencies.forEach((hop, latency) -> statistics.add(latency.toStatistics(hop)));
+        return statistics;
+    }
+
+    @Override
+    public void resetStatistics() {
+        latencies.values().forEach(Latency::reset);
+    }
+
+    private static class Latency {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void add(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        void reset() {
+            count.reset();
+            totalNanos.reset();
+            maxNanos.reset();
+        }
+
+        CommandTraceStatistics toStatistics(String hop) {
+            long count = this.count.sum();
+            double averageMillis = count == 0 ? 0 : totalNanos.sum() / 1_000_000.0 / count;
+            return new CommandTraceStatistics(hop, count, averageMillis, maxNanos.get() / 1_000_000.0);
+        }
+    }
+}
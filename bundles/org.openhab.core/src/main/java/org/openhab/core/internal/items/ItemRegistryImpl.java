@@ -59,6 +59,7 @@ import org.slf4j.LoggerFactory;
  *
  * @author Kai Kreuzer - Initial contribution
  * @author Stefan Bußweiler - Migration to new event mechanism
+ * @author openHAB Core Team - Apply the registry hooks to bulk changes
  */
 @NonNullByDefault
 @Component(immediate = true)
@@ -392,6 +393,16 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
         super.added(provider, element);
     }
 
+    @Override
+    public void addedAll(Provider<Item> provider, Collection<Item> elements) {
+        for (Item element : elements) {
+            for (RegistryHook<Item> registryHook : registryHooks) {
+                registryHook.beforeAdding(element);
+            }
+        }
+        super.addedAll(provider, elements);
+    }
+
     @Override
     protected void addProvider(Provider<Item> provider) {
         for (Item element : provider.getAll()) {
@@ -415,6 +426,21 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
         }
     }
 
+    @Override
+    public void removedAll(Provider<Item> provider, Collection<Item> elements) {
+        super.removedAll(provider, elements);
+        for (Item element : elements) {
+            for (RegistryHook<Item> registryHook : registryHooks) {
+                registryHook.afterRemoving(element);
+            }
+            if (provider instanceof ManagedItemProvider) {
+                // remove our metadata for that item
+                logger.debug("Item {} was removed, trying to clean up corresponding metadata", element.getUID());
+                metadataRegistry.removeItemMetadata(element.getName());
+            }
+        }
+    }
+
     @Override
     protected void removeProvider(Provider<Item> provider) {
         super.removeProvider(provider);
@@ -17,6 +17,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -49,6 +50,7 @@ import org.slf4j.LoggerFactory;
  * @author Thomas Eichstaedt-Engelen - Initial contribution
  * @author Kai Kreuzer - improved return values
  * @author Alex Tugarev - added tags
+ * @author openHAB Core Team - Added bulk operations
  */
 @NonNullByDefault
 @Component(immediate = true, service = { ItemProvider.class, ManagedItemProvider.class })
@@ -93,6 +95,31 @@ public class ManagedItemProvider extends AbstractManagedProvider<Item, String, P
         return super.remove(key);
     }
 
+    @Override
+    public Collection<Item> removeAll(Collection<String> keys) {
+        Set<String> removedNames = new HashSet<>(keys);
+        List<GroupItem> removedGroups = removedNames.stream().map(this::get)
+                .filter(GroupItem.class::isInstance).map(GroupItem.class::cast).toList();
+        // members of several removed groups are updated only once
+        Map<String, Item> updatedMembers = new LinkedHashMap<>();
+        if (!removedGroups.isEmpty()) {
+            Collection<Item> allItems = getAll();
+            for (GroupItem groupItem : removedGroups) {
+                for (Item member : getMembers(groupItem, allItems)) {
+                    if (member instanceof GenericItem item && !removedNames.contains(item.getName())) {
+                        item.removeGroupName(groupItem.getUID());
+                        updatedMembers.put(item.getName(), item);
+                    }
+                }
+            }
+        }
+        if (!updatedMembers.isEmpty()) {
+            updateAll(updatedMembers.values());
+        }
+
+        return super.removeAll(keys);
+    }
+
     /**
      * Removes an item and its member if recursive flag is set to true.
      *
@@ -123,6 +150,16 @@ public class ManagedItemProvider extends AbstractManagedProvider<Item, String, P
         super.add(element);
     }
 
+    @Override
+    public void addAll(Collection<Item> elements) {
+        for (Item element : elements) {
+            if (!ItemUtil.isValidItemName(element.getName())) {
+                throw new IllegalArgumentException("The item name '" + element.getName() + "' is invalid.");
+            }
+        }
+        super.addAll(elements);
+    }
+
     private List<String> getMemberNamesRecursively(GroupItem groupItem, Collection<Item> allItems) {
         List<String> memberNames = new ArrayList<>();
         for (Item item : allItems) {
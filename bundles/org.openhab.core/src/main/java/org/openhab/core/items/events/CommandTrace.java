@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.items.events;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A {@link CommandTrace} is carried by a sampled {@link ItemCommandEvent} and records when the command passed the
+ * {@link Hop}s on its way from the event publisher to the thing handler.
+ * <p>
+ * Each hop is stamped only once, further stamps of the same hop (e.g. if the command is forwarded to multiple
+ * channels) are ignored. The trace is completed when {@link Hop#HANDLER_EXIT} is stamped.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+public class CommandTrace {
+
+    /**
+     * The hops of a command, in the order they are passed.
+     */
+    public enum Hop {
+        /** The command event was posted to the event bus. */
+        PUBLISH,
+        /** The command event was taken from the event bus queue and deserialized. */
+        DEQUEUE,
+        /** The command event was received by the subscriber forwarding it to the thing handlers. */
+        RECEIVE,
+        /** The auto update of the item state was handled. */
+        AUTOUPDATE,
+        /** The profile of the item channel link started processing the command. */
+        PROFILE,
+        /** The thing handler was called. */
+        HANDLER_ENTER,
+        /** The thing handler returned. */
+        HANDLER_EXIT
+    }
+
+    private final String itemName;
+    private final long origin = System.nanoTime();
+    // offsets from the origin plus one, 0 marks a hop as not stamped
+    private final AtomicLongArray stamps = new AtomicLongArray(Hop.values().length);
+    private final Consumer<CommandTrace> completionListener;
+
+    /**
+     * Creates a new trace.
+     *
+     * @param itemName the name of the item the command is sent to
+     * @param completionListener notified when the trace is completed
+     */
+    public CommandTrace(String itemName, Consumer<CommandTrace> completionListener) {
+        this.itemName = itemName;
+        this.completionListener = completionListener;
+    }
+
+    /**
+     * @return the name of the item the command is sent to
+     */
+    public String getItemName() {
+        return itemName;
+    }
+
+    /**
+     * Records that the command passed the given hop now, if the hop has not been stamped yet.
+     *
+     * @param hop the passed hop
+     */
+    public void stamp(Hop hop) {
+        long offset = System.nanoTime() - origin + 1;
+        if (stamps.compareAndSet(hop.ordinal(), 0, offset) && hop == Hop.HANDLER_EXIT) {
+            completionListener.accept(this);
+        }
+    }
+
+    /**
+     * Checks if the command passed the given hop.
+     *
+     * @param hop the hop
+     * @return true if the hop has been stamped
+     */
+    public boolean isStamped(Hop hop) {
+        return stamps.get(hop.ordinal()) != 0;
+    }
+
+    /**
+     * Gets the time the command passed the given hop.
+     *
+     * @param hop the hop
+     * @return the time in nanoseconds as given by {@link System#nanoTime()}, only meaningful if
+     *         {@link #isStamped(Hop)} returns true
+     */
+    public long getStamp(Hop hop) {
+        return origin + stamps.get(hop.ordinal()) - 1;
+    }
+}
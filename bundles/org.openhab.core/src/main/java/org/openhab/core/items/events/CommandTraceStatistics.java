@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.items.events;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link CommandTraceStatistics} contain the aggregated latency of one hop of the traced commands, i.e. the time
+ * between the previous stamped hop and this hop, or the total latency from publishing the command to the return of the
+ * thing handler.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+public class CommandTraceStatistics {
+
+    /** The name used for the total latency */
+    public static final String TOTAL = "TOTAL";
+
+    private final String hop;
+    private final long count;
+    private final double averageMillis;
+    private final double maxMillis;
+
+    public CommandTraceStatistics(String hop, long count, double averageMillis, double maxMillis) {
+        this.hop = hop;
+        this.count = count;
+        this.averageMillis = averageMillis;
+        this.maxMillis = maxMillis;
+    }
+
+    /**
+     * @return the name of the {@link CommandTrace.Hop} or {@link #TOTAL}
+     */
+    public String getHop() {
+        return hop;
+    }
+
+    /**
+     * @return the number of traced commands which passed the hop
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the average latency in milliseconds
+     */
+    public double getAverageMillis() {
+        return averageMillis;
+    }
+
+    /**
+     * @return the maximum latency in milliseconds
+     */
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.items.events;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link CommandTracer} samples {@link ItemCommandEvent}s for tracing and aggregates the latencies of the
+ * completed {@link CommandTrace}s hop by hop.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+public interface CommandTracer {
+
+    /**
+     * Starts a trace for the given command event, if it is sampled.
+     *
+     * @param event the command event which is about to be published
+     * @return the new trace or null if the event is not sampled
+     */
+    @Nullable
+    CommandTrace startTrace(ItemCommandEvent event);
+
+    /**
+     * Gets the aggregated latencies of all completed traces since the last reset.
+     *
+     * @return the statistics of the hops in the order they are passed, followed by the total latency
+     */
+    List<CommandTraceStatistics> getStatistics();
+
+    /**
+     * Resets the aggregated latencies.
+     */
+    void resetStatistics();
+}
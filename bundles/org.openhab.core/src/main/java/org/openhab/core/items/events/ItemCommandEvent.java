@@ -21,6 +21,7 @@ import org.openhab.core.types.Command;
  * Command events must be created with the {@link ItemEventFactory}.
  *
  * @author Stefan Bußweiler - Initial contribution
+ * @author openHAB Core Team - Added command trace
  */
 @NonNullByDefault
 public class ItemCommandEvent extends ItemEvent {
@@ -32,6 +33,8 @@ public class ItemCommandEvent extends ItemEvent {
 
     private final Command command;
 
+    private final @Nullable CommandTrace trace;
+
     /**
      * Constructs a new item command event object.
      *
@@ -43,8 +46,14 @@ public class ItemCommandEvent extends ItemEvent {
      */
     protected ItemCommandEvent(String topic, String payload, String itemName, Command command,
             @Nullable String source) {
+        this(topic, payload, itemName, command, source, null);
+    }
+
+    private ItemCommandEvent(String topic, String payload, String itemName, Command command, @Nullable String source,
+            @Nullable CommandTrace trace) {
         super(topic, payload, itemName, source);
         this.command = command;
+        this.trace = trace;
     }
 
     @Override
@@ -61,6 +70,26 @@ public class ItemCommandEvent extends ItemEvent {
         return command;
     }
 
+    /**
+     * Gets the trace of this command, if it has been sampled by the {@link CommandTracer}.
+     *
+     * @return the trace or null
+     */
+    public @Nullable CommandTrace getTrace() {
+        return trace;
+    }
+
+    /**
+     * Creates a copy of this event carrying the given trace. The trace is not part of the payload, it is attached by
+     * the event bus.
+     *
+     * @param trace the trace
+     * @return the traced event
+     */
+    public ItemCommandEvent withTrace(CommandTrace trace) {
+        return new ItemCommandEvent(getTopic(), getPayload(), itemName, command, getSource(), trace);
+    }
+
     @Override
     public String toString() {
         return String.format("Item '%s' received command %s", itemName, command);
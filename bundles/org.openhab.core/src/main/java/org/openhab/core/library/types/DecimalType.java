@@ -55,6 +55,12 @@ public class DecimalType extends Number implements PrimitiveType, State, Command
             this.value = type.toBigDecimal();
         } else if (value instanceof HSBType type) {
             this.value = type.toBigDecimal();
+        } else if (value.getClass() == BigDecimal.class) {
+            // BigDecimal is immutable, and the string representation would result in an identical instance
+            this.value = (BigDecimal) value;
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short
+                || value instanceof Byte) {
+            this.value = BigDecimal.valueOf(value.longValue());
         } else {
             this.value = new BigDecimal(value.toString());
         }
@@ -14,6 +14,7 @@ package org.openhab.core.storage;
 
 import java.util.AbstractMap;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -26,6 +27,7 @@ import org.eclipse.jdt.annotation.Nullable;
  *
  * @author Thomas Eichstaedt-Engelen - Initial contribution
  * @author Kai Kreuzer - improved return values
+ * @author openHAB Core Team - Added bulk operations
  */
 @NonNullByDefault
 public interface Storage<T> {
@@ -49,6 +51,40 @@ public interface Storage<T> {
     @Nullable
     T remove(String key);
 
+    /**
+     * Puts several key-value mappings into this storage. Implementations should persist the changes at once.
+     *
+     * @param entries the keys and values to add
+     * @return the previous values of the replaced keys
+     */
+    default Map<String, T> putAll(Map<String, T> entries) {
+        Map<String, T> previousValues = new HashMap<>();
+        entries.forEach((key, value) -> {
+            T previousValue = put(key, value);
+            if (previousValue != null) {
+                previousValues.put(key, previousValue);
+            }
+        });
+        return previousValues;
+    }
+
+    /**
+     * Removes several mappings from this storage. Implementations should persist the changes at once.
+     *
+     * @param keys the keys of the mappings to remove
+     * @return the removed values of the existing keys
+     */
+    default Map<String, T> removeAll(Collection<String> keys) {
+        Map<String, T> removedValues = new HashMap<>();
+        for (String key : keys) {
+            T removedValue = remove(key);
+            if (removedValue != null) {
+                removedValues.put(key, removedValue);
+            }
+        }
+        return removedValues;
+    }
+
     /**
      * Checks if the storage contains a key.
      *
@@ -15,12 +15,20 @@ package org.openhab.core.cache;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -33,6 +41,7 @@ import org.junit.jupiter.api.Test;
  *
  * @author Christoph Weitkamp - Initial contribution
  * @author Martin van Wingerden - Added tests for putIfAbsentAndGet
+ * @author openHAB Core Team - Added tests for the stale-while-revalidate mode and parallel refresh
  */
 @NonNullByDefault
 public class ExpiringCacheMapTest {
@@ -231,4 +240,76 @@ public class ExpiringCacheMapTest {
         String value1 = subject.get(FIRST_TEST_KEY);
         assertNull(value1);
     }
+
+    @Test
+    public void testStaleWhileRevalidate() throws InterruptedException {
+        List<Runnable> tasks = new ArrayList<>();
+        subject = new ExpiringCacheMap<>(Duration.ofMillis(100), Duration.ZERO, tasks::add);
+        subject.put(FIRST_TEST_KEY, CACHE_ACTION);
+
+        String value1 = subject.get(FIRST_TEST_KEY);
+        Thread.sleep(150);
+        assertEquals(value1, subject.get(FIRST_TEST_KEY));
+        assertEquals(1, tasks.size());
+
+        tasks.remove(0).run();
+        assertNotEquals(value1, subject.get(FIRST_TEST_KEY));
+    }
+
+    @Test
+    public void testRefreshAllRunsInParallel() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // both refreshes must run at the same time to pass the latch
+            CountDownLatch latch = new CountDownLatch(2);
+            Supplier<@Nullable String> action = () -> {
+                latch.countDown();
+                try {
+                    return latch.await(5, TimeUnit.SECONDS) ? RESPONSE_1 : RESPONSE_2;
+                } catch (InterruptedException e) {
+                    return null;
+                }
+            };
+            subject = new ExpiringCacheMap<>(Duration.ofMillis(CACHE_EXPIRY), Duration.ZERO, executor);
+            subject.put(FIRST_TEST_KEY, new ExpiringCache<>(CACHE_EXPIRY, action));
+            subject.put(SECOND_TEST_KEY, new ExpiringCache<>(CACHE_EXPIRY, action));
+
+            assertEquals(List.of(RESPONSE_1, RESPONSE_1), List.copyOf(subject.refreshAll()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testActionsAreNotCalledConcurrentlyByDefault() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Supplier<@Nullable String> action = () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return RESPONSE_1;
+        };
+        subject.put(FIRST_TEST_KEY, action);
+        subject.put(SECOND_TEST_KEY, action);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> refreshAll = executor.submit(() -> subject.refreshAll());
+            Future<?> values = executor.submit(() -> {
+                subject.invalidateAll();
+                return subject.values();
+            });
+            assertEquals(List.of(RESPONSE_1, RESPONSE_1), List.copyOf(subject.refreshAll()));
+            refreshAll.get(5, TimeUnit.SECONDS);
+            values.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, maxRunning.get());
+    }
 }
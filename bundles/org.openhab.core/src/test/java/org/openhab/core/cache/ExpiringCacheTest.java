@@ -15,8 +15,13 @@ package org.openhab.core.cache;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -28,6 +33,7 @@ import org.junit.jupiter.api.Test;
  * Test class for the {@link ExpiringCache} class.
  *
  * @author Christoph Weitkamp - Initial contribution
+ * @author openHAB Core Team - Added tests for the stale-while-revalidate mode
  */
 @NonNullByDefault
 public class ExpiringCacheTest {
@@ -104,4 +110,74 @@ public class ExpiringCacheTest {
         String value2 = subject.refreshValue();
         assertNotEquals(value1, value2);
     }
+
+    @Test
+    public void testStaleValueIsServedWhileRefreshing() throws InterruptedException {
+        List<Runnable> tasks = new ArrayList<>();
+        Executor executor = tasks::add;
+        AtomicInteger calls = new AtomicInteger();
+        ExpiringCache<String> cache = new ExpiringCache<>(Duration.ofMillis(100), () -> "v" + calls.incrementAndGet(),
+                Duration.ZERO, executor);
+
+        // the first value is loaded synchronously
+        assertEquals("v1", cache.getValue());
+        assertTrue(tasks.isEmpty());
+
+        Thread.sleep(150);
+        assertEquals("v1", cache.getValue());
+        assertEquals("v1", cache.getValue());
+        // only a single refresh is started
+        assertEquals(1, tasks.size());
+        assertEquals(1, calls.get());
+
+        tasks.remove(0).run();
+        assertEquals("v2", cache.getValue());
+        assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    public void testRefreshAhead() {
+        List<Runnable> tasks = new ArrayList<>();
+        Executor executor = tasks::add;
+        AtomicInteger calls = new AtomicInteger();
+        ExpiringCache<String> cache = new ExpiringCache<>(Duration.ofSeconds(10), () -> "v" + calls.incrementAndGet(),
+                Duration.ofSeconds(10), executor);
+
+        assertEquals("v1", cache.getValue());
+        assertFalse(cache.isExpired());
+        // the value is within the refresh-ahead duration, so it is refreshed before it expires
+        assertEquals("v1", cache.getValue());
+        assertEquals(1, tasks.size());
+
+        tasks.remove(0).run();
+        assertEquals("v2", cache.getValue());
+    }
+
+    @Test
+    public void testFailedBackgroundRefreshKeepsStaleValue() throws InterruptedException {
+        List<Runnable> tasks = new ArrayList<>();
+        Executor executor = tasks::add;
+        AtomicInteger calls = new AtomicInteger();
+        ExpiringCache<String> cache = new ExpiringCache<>(Duration.ofMillis(100), () -> {
+            if (calls.incrementAndGet() > 1) {
+                throw new IllegalStateException("unavailable");
+            }
+            return "v1";
+        }, Duration.ZERO, executor);
+
+        assertEquals("v1", cache.getValue());
+        Thread.sleep(150);
+        assertEquals("v1", cache.getValue());
+        tasks.remove(0).run();
+
+        assertEquals("v1", cache.getValue());
+        // the next access starts a new refresh
+        assertEquals(1, tasks.size());
+    }
+
+    @Test
+    public void testIllegalRefreshAhead() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ExpiringCache<>(Duration.ofSeconds(1), CACHE_ACTION, Duration.ofSeconds(-1), Runnable::run));
+    }
 }
@@ -0,0 +1,269 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.common.registry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the revisions, the snapshots and the bulk operations of the {@link AbstractRegistry}.
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+public class AbstractRegistryTest {
+
+    private static class TestElement implements Identifiable<String> {
+        private final String uid;
+
+        TestElement(String uid) {
+            this.uid = uid;
+        }
+
+        @Override
+        public String getUID() {
+            return uid;
+        }
+    }
+
+    private static class TestProvider extends AbstractProvider<TestElement> {
+        @Override
+        public Collection<TestElement> getAll() {
+            return List.of(new TestElement("initial"));
+        }
+
+        void add(TestElement element) {
+            notifyListenersAboutAddedElement(element);
+        }
+
+        void remove(TestElement element) {
+            notifyListenersAboutRemovedElement(element);
+        }
+
+        void update(TestElement oldElement, TestElement element) {
+            notifyListenersAboutUpdatedElement(oldElement, element);
+        }
+
+        void addAll(Collection<TestElement> elements) {
+            notifyListenersAboutAddedElements(elements);
+        }
+
+        void removeAll(Collection<TestElement> elements) {
+            notifyListenersAboutRemovedElements(elements);
+        }
+
+        void updateAll(Collection<Entry<TestElement, TestElement>> elements) {
+            notifyListenersAboutUpdatedElements(elements);
+        }
+    }
+
+    private static class TestRegistry extends AbstractRegistry<TestElement, String, TestProvider> {
+        TestRegistry() {
+            super(null);
+        }
+    }
+
+    private final TestRegistry registry = new TestRegistry();
+    private final TestProvider provider = new TestProvider();
+
+    @BeforeEach
+    public void setup() {
+        registry.addProvider(provider);
+    }
+
+    @Test
+    public void testRevisionIsIncreasedOnChanges() {
+        long revision = registry.getRevision();
+
+        provider.add(new TestElement("a"));
+        assertEquals(revision + 1, registry.getRevision());
+
+        provider.update(new TestElement("a"), new TestElement("a"));
+        assertEquals(revision + 2, registry.getRevision());
+
+        provider.remove(new TestElement("a"));
+        assertEquals(revision + 3, registry.getRevision());
+    }
+
+    @Test
+    public void testRevisionIsNotIncreasedIfNothingChanged() {
+        long revision = registry.getRevision();
+
+        provider.add(new TestElement("initial"));
+        provider.remove(new TestElement("unknown"));
+        provider.update(new TestElement("unknown"), new TestElement("unknown"));
+
+        assertEquals(revision, registry.getRevision());
+    }
+
+    @Test
+    public void testChangedKeysSince() {
+        long revision = registry.getRevision();
+        assertEquals(Set.of(), registry.getChangedKeysSince(revision));
+
+        provider.add(new TestElement("a"));
+        provider.add(new TestElement("b"));
+        long revisionAfterB = registry.getRevision();
+        provider.remove(new TestElement("a"));
+        provider.update(new TestElement("initial"), new TestElement("initial"));
+
+        assertEquals(Set.of("a", "b", "initial"), registry.getChangedKeysSince(revision));
+        assertEquals(Set.of("a", "initial"), registry.getChangedKeysSince(revisionAfterB));
+        assertEquals(Set.of(), registry.getChangedKeysSince(registry.getRevision()));
+    }
+
+    @Test
+    public void testChangedKeysSinceUnknownRevision() {
+        long revision = registry.getRevision();
+
+        assertNull(registry.getChangedKeysSince(revision + 1));
+
+        for (int i = 0; i < AbstractRegistry.MAX_CHANGE_LOG_SIZE; i++) {
+            provider.add(new TestElement("element" + i));
+        }
+        assertNotNull(registry.getChangedKeysSince(revision));
+
+        provider.add(new TestElement("overflow"));
+        assertNull(registry.getChangedKeysSince(revision));
+        Set<String> keys = registry.getChangedKeysSince(revision + 1);
+        assertNotNull(keys);
+        assertEquals(AbstractRegistry.MAX_CHANGE_LOG_SIZE, keys.size());
+    }
+
+    @Test
+    public void testRemovedProviderIsRecorded() {
+        long revision = registry.getRevision();
+
+        registry.removeProvider(provider);
+
+        assertEquals(Set.of("initial"), registry.getChangedKeysSince(revision));
+        assertEquals(revision + 1, registry.getRevision());
+    }
+
+    @Test
+    public void testSnapshotIsSharedUntilChanged() {
+        Collection<TestElement> snapshot = registry.getAll();
+        assertSame(snapshot, registry.getAll());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(new TestElement("a")));
+
+        TestElement a = new TestElement("a");
+        provider.add(a);
+        Collection<TestElement> snapshotWithA = registry.getAll();
+        assertNotSame(snapshot, snapshotWithA);
+        assertEquals(1, snapshot.size());
+        assertEquals(2, snapshotWithA.size());
+        assertTrue(snapshotWithA.contains(a));
+
+        TestElement updatedA = new TestElement("a");
+        provider.update(a, updatedA);
+        assertTrue(registry.getAll().contains(updatedA));
+        assertFalse(registry.getAll().contains(a));
+        assertSame(updatedA, registry.get("a"));
+
+        provider.remove(updatedA);
+        assertEquals(1, registry.getAll().size());
+        assertNull(registry.get("a"));
+    }
+
+    @Test
+    public void testProviderOfElement() {
+        TestElement a = new TestElement("a");
+        provider.add(a);
+
+        assertSame(provider, registry.getProvider(a));
+        assertSame(provider, registry.getProvider("a"));
+        assertNull(registry.getProvider(new TestElement("a")));
+        assertNull(registry.getProvider("unknown"));
+
+        registry.removeProvider(provider);
+        assertNull(registry.getProvider(a));
+        assertEquals(0, registry.getAll().size());
+    }
+
+    @Test
+    public void testBulkNotifications() {
+        List<String> events = new ArrayList<>();
+        registry.addRegistryChangeListener(new RegistryChangeListener<>() {
+            @Override
+            public void added(TestElement element) {
+                events.add("added " + element.getUID());
+            }
+
+            @Override
+            public void removed(TestElement element) {
+                events.add("removed " + element.getUID());
+            }
+
+            @Override
+            public void updated(TestElement oldElement, TestElement element) {
+                events.add("updated " + element.getUID());
+            }
+        });
+        long revision = registry.getRevision();
+
+        TestElement a = new TestElement("a");
+        TestElement b = new TestElement("b");
+        provider.addAll(List.of(a, b, new TestElement("initial")));
+        assertEquals(List.of("added a", "added b"), events);
+        assertEquals(revision + 2, registry.getRevision());
+
+        TestElement updatedA = new TestElement("a");
+        provider.updateAll(List.of(Map.entry(a, updatedA), Map.entry(new TestElement("c"), new TestElement("c"))));
+        assertEquals(List.of("added a", "added b", "updated a"), events);
+        assertSame(updatedA, registry.get("a"));
+
+        provider.removeAll(List.of(updatedA, b));
+        assertEquals(List.of("added a", "added b", "updated a", "removed a", "removed b"), events);
+        assertEquals(Set.of("a", "b"), registry.getChangedKeysSince(revision));
+        assertEquals(1, registry.getAll().size());
+    }
+
+    @Test
+    public void testBulkChangesAreAppliedBeforeNotifyingListeners() {
+        List<Integer> sizes = new ArrayList<>();
+        registry.addRegistryChangeListener(new RegistryChangeListener<>() {
+            @Override
+            public void added(TestElement element) {
+                sizes.add(registry.getAll().size());
+            }
+
+            @Override
+            public void removed(TestElement element) {
+                sizes.add(registry.getAll().size());
+            }
+
+            @Override
+            public void updated(TestElement oldElement, TestElement element) {
+                sizes.add(registry.getAll().size());
+            }
+        });
+
+        TestElement a = new TestElement("a");
+        TestElement b = new TestElement("b");
+        provider.addAll(List.of(a, b));
+        assertEquals(List.of(3, 3), sizes);
+
+        provider.removeAll(List.of(a, b));
+        assertEquals(List.of(3, 3, 1, 1), sizes);
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.items;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.items.events.CommandTrace;
+import org.openhab.core.items.events.CommandTrace.Hop;
+import org.openhab.core.items.events.CommandTraceStatistics;
+import org.openhab.core.items.events.ItemCommandEvent;
+import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.library.types.OnOffType;
+
+/**
+ * The {@link CommandTracerImplTest} contains tests for the {@link CommandTracerImpl}
+ *
+ * @author openHAB Core Team - Initial contribution
+ */
+@NonNullByDefault
+public class CommandTracerImplTest {
+
+    private static final ItemCommandEvent EVENT = ItemEventFactory.createCommandEvent("item", OnOffType.ON);
+
+    @Test
+    public void everyNthCommandIsSampled() {
+        CommandTracerImpl commandTracer = new CommandTracerImpl(Map.of(CommandTracerImpl.CONFIG_SAMPLE_RATE, "3"));
+
+        assertNotNull(commandTracer.startTrace(EVENT));
+        assertNull(commandTracer.startTrace(EVENT));
+        assertNull(commandTracer.startTrace(EVENT));
+        assertNotNull(commandTracer.startTrace(EVENT));
+    }
+
+    @Test
+    public void samplingIsDisabledByDefault() {
+        CommandTracerImpl commandTracer = new CommandTracerImpl(null);
+
+        assertNull(commandTracer.startTrace(EVENT));
+    }
+
+    @Test
+    public void samplingCanBeDisabled() {
+        CommandTracerImpl commandTracer = new CommandTracerImpl(Map.of(CommandTracerImpl.CONFIG_SAMPLE_RATE, 1));
+        assertNotNull(commandTracer.startTrace(EVENT));
+
+        commandTracer.modified(Map.of(CommandTracerImpl.CONFIG_SAMPLE_RATE, 0));
+        assertNull(commandTracer.startTrace(EVENT));
+    }
+
+    @Test
+    public void tracedEventIsACopy() {
+        CommandTracerImpl commandTracer = new CommandTracerImpl(Map.of(CommandTracerImpl.CONFIG_SAMPLE_RATE, 1));
+        CommandTrace trace = commandTracer.startTrace(EVENT);
+        assertNotNull(trace);
+
+        ItemCommandEvent tracedEvent = EVENT.withTrace(trace);
+        assertNull(EVENT.getTrace());
+        assertSame(trace, tracedEvent.getTrace());
+        assertEquals(EVENT.getTopic(), tracedEvent.getTopic());
+        assertEquals(EVENT.getPayload(), tracedEvent.getPayload());
+        assertEquals(EVENT.getItemCommand(), tracedEvent.getItemCommand());
+    }
+
+    @Test
+    public void completedTracesAreAggregated() {
+        CommandTracerImpl commandTracer = new CommandTracerImpl(Map.of(CommandTracerImpl.CONFIG_SAMPLE_RATE, 1));
+
+        CommandTrace trace = commandTracer.startTrace(EVENT);
+        assertNotNull(trace);
+        trace.stamp(Hop.PUBLISH);
+        trace.stamp(Hop.DEQUEUE);
+        trace.stamp(Hop.RECEIVE);
+        trace.stamp(Hop.HANDLER_ENTER);
+        assertTrue(trace.isStamped(Hop.HANDLER_ENTER));
+        assertFalse(trace.isStamped(Hop.PROFILE));
+        assertTrue(trace.getStamp(Hop.HANDLER_ENTER) - trace.getStamp(Hop.PUBLISH) >= 0);
+        assertEquals(0, statistics(commandTracer, CommandTraceStatistics.TOTAL).getCount());
+
+        trace.stamp(Hop.HANDLER_EXIT);
+        // a second stamp of the same hop does not complete the trace again
+        trace.stamp(Hop.HANDLER_EXIT);
+
+        assertEquals(1, statistics(commandTracer, Hop.DEQUEUE.name()).getCount());
+        assertEquals(1, statistics(commandTracer, Hop.HANDLER_EXIT.name()).getCount());
+        assertEquals(0, statistics(commandTracer, Hop.PROFILE.name()).getCount());
+        CommandTraceStatistics total = statistics(commandTracer, CommandTraceStatistics.TOTAL);
+        assertEquals(1, total.getCount());
+        assertEquals(total.getAverageMillis(), total.getMaxMillis());
+        assertTrue(total.getMaxMillis() >= 0);
+
+        commandTracer.resetStatistics();
+        assertEquals(0, statistics(commandTracer, CommandTraceStatistics.TOTAL).getCount());
+    }
+
+    @Test
+    public void statisticsAreOrderedByHop() {
+        CommandTracerImpl commandTracer = new CommandTracerImpl(null);
+
+        List<String> hops = commandTracer.getStatistics().stream().map(CommandTraceStatistics::getHop).toList();
+        assertEquals(List.of("DEQUEUE", "RECEIVE", "AUTOUPDATE", "PROFILE", "HANDLER_ENTER", "HANDLER_EXIT",
+                CommandTraceStatistics.TOTAL), hops);
+    }
+
+    private CommandTraceStatistics statistics(CommandTracerImpl commandTracer, String hop) {
+        return commandTracer.getStatistics().stream().filter(statistics -> hop.equals(statistics.getHop()))
+                .findFirst().orElseThrow();
+    }
+}
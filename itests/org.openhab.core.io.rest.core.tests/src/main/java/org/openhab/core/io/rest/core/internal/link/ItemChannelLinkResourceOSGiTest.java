@@ -27,6 +27,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriBuilder;
@@ -79,6 +80,7 @@ public class ItemChannelLinkResourceOSGiTest extends JavaOSGiTest {
 
     private @Mock @NonNullByDefault({}) HttpHeaders httpHeadersMock;
     private @Mock @NonNullByDefault({}) ItemChannelLinkProvider itemChannelLinkProviderMock;
+    private @Mock @NonNullByDefault({}) Request requestMock;
     private @Mock @NonNullByDefault({}) UriBuilder uriBuilderMock;
     private @Mock @NonNullByDefault({}) UriInfo uriInfoMock;
 
@@ -116,7 +118,7 @@ public class ItemChannelLinkResourceOSGiTest extends JavaOSGiTest {
 
     @Test
     public void shouldReturnLinks() throws IOException {
-        Response response = itemChannelLinkResource.getAll(null, null);
+        Response response = itemChannelLinkResource.getAll(requestMock, null, null);
         List<String> itemNames = readItemNamesFromResponse(response);
         assertThat(itemNames, hasSize(3));
         assertThat(itemNames, hasItems(ITEM_NAME1, ITEM_NAME2, ITEM_NAME3));
@@ -124,7 +126,7 @@ public class ItemChannelLinkResourceOSGiTest extends JavaOSGiTest {
 
     @Test
     public void shouldFilterLinksByChannelUID() throws IOException {
-        Response response = itemChannelLinkResource.getAll(CHANNEL_UID1, null);
+        Response response = itemChannelLinkResource.getAll(requestMock, CHANNEL_UID1, null);
         List<String> itemNames = readItemNamesFromResponse(response);
         assertThat(itemNames, hasSize(1));
         assertThat(itemNames, hasItems(ITEM_NAME1));
@@ -132,7 +134,7 @@ public class ItemChannelLinkResourceOSGiTest extends JavaOSGiTest {
 
     @Test
     public void shouldFilterLinksByItemName() throws IOException {
-        Response response = itemChannelLinkResource.getAll(null, ITEM_NAME2);
+        Response response = itemChannelLinkResource.getAll(requestMock, null, ITEM_NAME2);
         List<String> itemNames = readItemNamesFromResponse(response);
         assertThat(itemNames, hasSize(1));
         assertThat(itemNames, hasItems(ITEM_NAME2));
@@ -155,7 +157,7 @@ public class ItemChannelLinkResourceOSGiTest extends JavaOSGiTest {
                 + "\", configuration:{}, editable:true, itemName:\"" + ITEM_NAME1 + "\"}");
         assertEquals(expected, result);
 
-        response = itemChannelLinkResource.getAll(CHANNEL_UID1, ITEM_NAME1);
+        response = itemChannelLinkResource.getAll(requestMock, CHANNEL_UID1, ITEM_NAME1);
         result = JsonParser.parseString(toString(response.getEntity()));
         expected = JsonParser.parseString("[{channelUID:\"" + CHANNEL_UID1
                 + "\", configuration:{}, editable:true, itemName:\"" + ITEM_NAME1 + "\"}]");
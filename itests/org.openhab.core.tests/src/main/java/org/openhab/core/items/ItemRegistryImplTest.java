@@ -56,6 +56,7 @@ import org.openhab.core.test.storage.VolatileStorageService;
  * @author Andre Fuechsel - extended with tag tests
  * @author Kai Kreuzer - added tests for all items changed cases
  * @author Sebastian Janzen - added test for getItemsByTag
+ * @author openHAB Core Team - added tests for bulk operations
  */
 @ExtendWith(MockitoExtension.class)
 @SuppressWarnings("null")
@@ -77,6 +78,7 @@ public class ItemRegistryImplTest extends JavaTest {
 
     private @Mock @NonNullByDefault({}) EventPublisher eventPublisherMock;
     private @Mock @NonNullByDefault({}) UnitProvider unitProviderMock;
+    private @Mock @NonNullByDefault({}) MetadataRegistry metadataRegistryMock;
 
     @BeforeEach
     public void beforeEach() {
@@ -101,7 +103,7 @@ public class ItemRegistryImplTest extends JavaTest {
         itemProvider.add(cameraItem4);
 
         // setup ItemRegistryImpl with necessary dependencies:
-        itemRegistry = new ItemRegistryImpl(mock(MetadataRegistry.class)) {
+        itemRegistry = new ItemRegistryImpl(metadataRegistryMock) {
             {
                 addProvider(itemProvider);
                 setManagedProvider(itemProvider);
@@ -319,6 +321,38 @@ public class ItemRegistryImplTest extends JavaTest {
         assertTrue(captor.getValue().getItem().tags.contains(OTHER_TAG));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBulkAddCallsRegistryHooks() {
+        RegistryHook<Item> registryHook = mock(RegistryHook.class);
+        itemRegistry.addRegistryHook(registryHook);
+
+        SwitchItem item1 = new SwitchItem("SomeSwitch1");
+        SwitchItem item2 = new SwitchItem("SomeSwitch2");
+        itemProvider.addAll(List.of(item1, item2));
+
+        verify(registryHook).beforeAdding(item1);
+        verify(registryHook).beforeAdding(item2);
+        verify(eventPublisherMock, times(2)).post(any(ItemAddedEvent.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBulkRemoveRemovesMetadata() {
+        RegistryHook<Item> registryHook = mock(RegistryHook.class);
+        itemRegistry.addRegistryHook(registryHook);
+
+        itemProvider.removeAll(List.of(CAMERA_ITEM_NAME1, CAMERA_ITEM_NAME2));
+
+        assertNull(itemRegistry.get(CAMERA_ITEM_NAME1));
+        assertNull(itemRegistry.get(CAMERA_ITEM_NAME2));
+        verify(metadataRegistryMock).removeItemMetadata(CAMERA_ITEM_NAME1);
+        verify(metadataRegistryMock).removeItemMetadata(CAMERA_ITEM_NAME2);
+        verify(metadataRegistryMock, never()).removeItemMetadata(CAMERA_ITEM_NAME3);
+        verify(registryHook, times(2)).afterRemoving(any(Item.class));
+        verify(eventPublisherMock, times(2)).post(any(ItemRemovedEvent.class));
+    }
+
     @Test
     public void assertThatAChangedItemStillHasAnEventPublisher() {
         // add new item